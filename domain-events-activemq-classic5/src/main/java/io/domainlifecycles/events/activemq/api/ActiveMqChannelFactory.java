@@ -57,7 +57,7 @@ public class ActiveMqChannelFactory extends AbstractMqChannelFactory {
     private String virtualTopicConsumerPrefix = "Consumer.";
 
     private final ConnectionFactory connectionFactory;
-    private long receiveTimeoutMs = 100;
+    private int publisherSessionPoolSize = 8;
 
     /**
      * Constructs a new ActiveMqChannelFactory with the provided ConnectionFactory and ObjectMapper.
@@ -98,7 +98,12 @@ public class ActiveMqChannelFactory extends AbstractMqChannelFactory {
      */
     @Override
     protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
-        return new ActiveMqDomainEventPublisher(connectionFactory, domainEventSerializer, virtualTopicPrefix);
+        return new ActiveMqDomainEventPublisher(
+            connectionFactory,
+            domainEventSerializer,
+            this.virtualTopicPrefix,
+            this.publisherSessionPoolSize
+        );
     }
 
     /**
@@ -125,7 +130,10 @@ public class ActiveMqChannelFactory extends AbstractMqChannelFactory {
             classProvider,
             this.virtualTopicConsumerPrefix,
             this.virtualTopicPrefix,
-            this.receiveTimeoutMs
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
         );
     }
 
@@ -166,11 +174,12 @@ public class ActiveMqChannelFactory extends AbstractMqChannelFactory {
     }
 
     /**
-     * Sets the receive timeout value in milliseconds for receiving messages.
+     * Sets the maximum number of sessions the publishers created by this factory use for concurrently
+     * publishing threads (default 8).
      *
-     * @param receiveTimeoutMs The timeout value in milliseconds for receiving messages.
+     * @param publisherSessionPoolSize The session pool size of the publishers.
      */
-    public void setReceiveTimeoutMs(long receiveTimeoutMs) {
-        this.receiveTimeoutMs = receiveTimeoutMs;
+    public void setPublisherSessionPoolSize(int publisherSessionPoolSize) {
+        this.publisherSessionPoolSize = publisherSessionPoolSize;
     }
 }
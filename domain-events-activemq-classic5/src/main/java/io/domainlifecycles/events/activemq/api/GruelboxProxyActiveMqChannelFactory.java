@@ -56,7 +56,7 @@ import java.util.Objects;
 public class GruelboxProxyActiveMqChannelFactory extends AbstractGruelboxProxyMqChannelFactory {
 
     private final ConnectionFactory connectionFactory;
-    private long receiveTimeoutMs = 100;
+    private int publisherSessionPoolSize = 8;
     private String virtualTopicPrefix = "VirtualTopic.";
     private String virtualTopicConsumerPrefix = "Consumer.";
 
@@ -161,7 +161,12 @@ public class GruelboxProxyActiveMqChannelFactory extends AbstractGruelboxProxyMq
      */
     @Override
     protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
-        return new ActiveMqDomainEventPublisher(connectionFactory, domainEventSerializer, this.virtualTopicPrefix);
+        return new ActiveMqDomainEventPublisher(
+            connectionFactory,
+            domainEventSerializer,
+            this.virtualTopicPrefix,
+            this.publisherSessionPoolSize
+        );
     }
 
     /**
@@ -183,19 +188,13 @@ public class GruelboxProxyActiveMqChannelFactory extends AbstractGruelboxProxyMq
             classProvider,
             this.virtualTopicConsumerPrefix,
             this.virtualTopicPrefix,
-            this.receiveTimeoutMs
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
         );
     }
 
-    /**
-     * Sets the receive timeout in milliseconds for the messaging channel.
-     *
-     * @param receiveTimeoutMs The receive timeout value to be set in milliseconds.
-     */
-    public void setReceiveTimeoutMs(long receiveTimeoutMs) {
-        this.receiveTimeoutMs = receiveTimeoutMs;
-    }
-
     /**
      * Sets the prefix for virtual topics.
      *
@@ -213,4 +212,14 @@ public class GruelboxProxyActiveMqChannelFactory extends AbstractGruelboxProxyMq
     public void setVirtualTopicConsumerPrefix(String virtualTopicConsumerPrefix) {
         this.virtualTopicConsumerPrefix = virtualTopicConsumerPrefix;
     }
+
+    /**
+     * Sets the maximum number of sessions the publishers created by this factory use for concurrently
+     * publishing threads (default 8).
+     *
+     * @param publisherSessionPoolSize The session pool size of the publishers.
+     */
+    public void setPublisherSessionPoolSize(int publisherSessionPoolSize) {
+        this.publisherSessionPoolSize = publisherSessionPoolSize;
+    }
 }
@@ -30,8 +30,13 @@ import io.domainlifecycles.access.classes.ClassProvider;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
 import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.events.mq.consume.AbstractMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.consume.MqConsumerBatchConfiguration;
+import io.domainlifecycles.events.mq.consume.MqConsumerThreadingConfiguration;
+import io.domainlifecycles.events.mq.consume.MqHandlerConcurrencyConfiguration;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.JMSException;
@@ -42,6 +47,7 @@ import jakarta.jms.TextMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -54,7 +60,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @author Mario Herb
  */
-public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<MessageConsumer, TextMessage> {
+public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<MessageConsumer, Message> {
 
     private static final Logger log = LoggerFactory.getLogger(ActiveMqDomainEventConsumer.class);
 
@@ -88,7 +94,95 @@ public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<M
                                        String virtualTopicConsumerPrefix,
                                        String virtualTopicPrefix,
                                        long receiveTimeoutMs) {
-        super(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider);
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, virtualTopicConsumerPrefix, virtualTopicPrefix, receiveTimeoutMs,
+            new MqConsumerThreadingConfiguration());
+    }
+
+    /**
+     * Constructor for creating an ActiveMqDomainEventConsumer with a threading configuration.
+     *
+     * @param connectionFactory The ConnectionFactory to establish the connection.
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param virtualTopicConsumerPrefix The prefix for virtual topic consumer.
+     * @param virtualTopicPrefix The prefix for virtual topic.
+     * @param receiveTimeoutMs The timeout in milliseconds for receiving messages.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     */
+    public ActiveMqDomainEventConsumer(ConnectionFactory connectionFactory,
+                                       DomainEventSerializer domainEventSerializer,
+                                       ExecutionContextDetector executionContextDetector,
+                                       ExecutionContextProcessor executionContextProcessor,
+                                       ClassProvider classProvider,
+                                       String virtualTopicConsumerPrefix,
+                                       String virtualTopicPrefix,
+                                       long receiveTimeoutMs,
+                                       MqConsumerThreadingConfiguration threadingConfiguration) {
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, virtualTopicConsumerPrefix, virtualTopicPrefix, receiveTimeoutMs, threadingConfiguration,
+            new MqConsumerBatchConfiguration());
+    }
+
+    /**
+     * Constructor for creating an ActiveMqDomainEventConsumer with a threading and batch configuration.
+     *
+     * @param connectionFactory The ConnectionFactory to establish the connection.
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param virtualTopicConsumerPrefix The prefix for virtual topic consumer.
+     * @param virtualTopicPrefix The prefix for virtual topic.
+     * @param receiveTimeoutMs The timeout in milliseconds for receiving messages.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     * @param batchConfiguration The batch configuration of the consumer.
+     */
+    public ActiveMqDomainEventConsumer(ConnectionFactory connectionFactory,
+                                       DomainEventSerializer domainEventSerializer,
+                                       ExecutionContextDetector executionContextDetector,
+                                       ExecutionContextProcessor executionContextProcessor,
+                                       ClassProvider classProvider,
+                                       String virtualTopicConsumerPrefix,
+                                       String virtualTopicPrefix,
+                                       long receiveTimeoutMs,
+                                       MqConsumerThreadingConfiguration threadingConfiguration,
+                                       MqConsumerBatchConfiguration batchConfiguration) {
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, virtualTopicConsumerPrefix, virtualTopicPrefix, receiveTimeoutMs, threadingConfiguration,
+            batchConfiguration, List.of());
+    }
+
+    /**
+     * Constructor for creating an ActiveMqDomainEventConsumer with threading, batch and handler concurrency configurations.
+     *
+     * @param connectionFactory The ConnectionFactory to establish the connection.
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param virtualTopicConsumerPrefix The prefix for virtual topic consumer.
+     * @param virtualTopicPrefix The prefix for virtual topic.
+     * @param receiveTimeoutMs The timeout in milliseconds for receiving messages.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     * @param batchConfiguration The batch configuration of the consumer.
+     * @param handlerConcurrencyConfigurations The concurrency configurations of handlers to be handled in parallel.
+     */
+    public ActiveMqDomainEventConsumer(ConnectionFactory connectionFactory,
+                                       DomainEventSerializer domainEventSerializer,
+                                       ExecutionContextDetector executionContextDetector,
+                                       ExecutionContextProcessor executionContextProcessor,
+                                       ClassProvider classProvider,
+                                       String virtualTopicConsumerPrefix,
+                                       String virtualTopicPrefix,
+                                       long receiveTimeoutMs,
+                                       MqConsumerThreadingConfiguration threadingConfiguration,
+                                       MqConsumerBatchConfiguration batchConfiguration,
+                                       List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        super(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            threadingConfiguration, batchConfiguration, handlerConcurrencyConfigurations);
         this.connectionFactory = Objects.requireNonNull(connectionFactory, "ConnectionFactory is required!");
         this.virtualTopicConsumerPrefix = Objects.requireNonNull(virtualTopicConsumerPrefix, "virtualTopicConsumerPrefix is required!");
         this.virtualTopicPrefix = Objects.requireNonNull(virtualTopicPrefix, "virtualTopicPrefix is required!");
@@ -148,17 +242,16 @@ public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<M
     }
 
     /**
-     * Consume a TextMessage from a given MessageConsumer with a timeout.
+     * Consume a Message from a given MessageConsumer with a timeout.
      *
      * @param messageConsumer The MessageConsumer to consume messages from.
-     * @return The consumed TextMessage, or null if consuming message fails.
+     * @return The consumed Message, or null if consuming message fails.
      */
     @Override
-    protected TextMessage consumeMessage(MessageConsumer messageConsumer) {
+    protected Message consumeMessage(MessageConsumer messageConsumer) {
         try {
             log.trace("Start consuming ");
-            Message message = messageConsumer.receive(receiveTimeoutMs);
-            return (TextMessage) message;
+            return messageConsumer.receive(receiveTimeoutMs);
         } catch (JMSException e) {
             log.error("Consuming message failed", e);
         }
@@ -166,29 +259,125 @@ public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<M
     }
 
     /**
-     * Acknowledges the TextMessage received from the message queue.
+     * {@inheritDoc}
+     */
+    @Override
+    protected Message consumeMessageNoWait(MessageConsumer messageConsumer) {
+        try {
+            return messageConsumer.receiveNoWait();
+        } catch (JMSException e) {
+            log.error("Consuming message failed", e);
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Message consumeMessage(MessageConsumer messageConsumer, long timeoutMs) {
+        try {
+            return messageConsumer.receive(timeoutMs);
+        } catch (JMSException e) {
+            log.error("Consuming message failed", e);
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DomainEventTraceContext traceContext(Message message) {
+        try {
+            var traceId = message.getStringProperty(DomainEventTraceContext.TRACE_ID_PROPERTY);
+            return traceId == null ? null : new DomainEventTraceContext(traceId);
+        } catch (JMSException e) {
+            log.warn("Reading trace context of message failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Acknowledges the Message received from the message queue.
      *
-     * @param textMessage The TextMessage to be acknowledged.
+     * @param message The Message to be acknowledged.
      */
     @Override
-    protected void acknowledge(TextMessage textMessage) {
+    protected void acknowledge(Message message) {
         try {
-            textMessage.acknowledge();
+            message.acknowledge();
         } catch (JMSException e) {
             log.error("Acknowledging message failed", e);
         }
     }
 
+    /**
+     * Acknowledges a batch with a single acknowledgement. In {@code CLIENT_ACKNOWLEDGE} mode acknowledging a message
+     * acknowledges all messages consumed by the session so far. Each consumer has its own session, so
+     * acknowledging the last message of a batch acknowledges the whole batch.
+     *
+     * @param messageConsumer The MessageConsumer the batch was received from.
+     * @param batch The handled messages.
+     */
+    @Override
+    protected void acknowledgeBatch(MessageConsumer messageConsumer, List<Message> batch) {
+        if (!batch.isEmpty()) {
+            acknowledge(batch.get(batch.size() - 1));
+        }
+    }
+
+    /**
+     * Acknowledgements are cumulative, each consumer has its own session in {@code CLIENT_ACKNOWLEDGE} mode.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean acknowledgesCumulatively() {
+        return true;
+    }
+
+    /**
+     * Acknowledging a message acknowledges all messages received by the session of the consumer,
+     * also the ones received after it.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean acknowledgesAllReceived() {
+        return true;
+    }
+
+    /**
+     * Recovers the session of the given consumer, so that all unacknowledged messages are redelivered.
+     *
+     * @param messageConsumer The MessageConsumer to recover.
+     * @return true, if the session was recovered
+     */
+    @Override
+    protected boolean recover(MessageConsumer messageConsumer) {
+        try {
+            sessions.get(messageConsumer).recover();
+            return true;
+        } catch (JMSException e) {
+            log.error("Recovering session failed", e);
+            return false;
+        }
+    }
+
     /**
      * Retrieves the message body from a TextMessage.
      *
-     * @param textMessage The TextMessage from which to retrieve the message body.
+     * @param message The Message from which to retrieve the message body.
      * @return The message body as a String.
      */
     @Override
-    protected String messageBody(TextMessage textMessage) {
+    protected String messageBody(Message message) {
         try {
-            return textMessage.getText();
+            if (message instanceof TextMessage textMessage) {
+                return textMessage.getText();
+            }
+            throw DLCEventsException.fail("Unsupported message type '%s'!", message.getClass().getName());
         } catch (JMSException e) {
             var msg = "Reading message body failed!";
             log.error(msg, e);
@@ -196,6 +385,29 @@ public class ActiveMqDomainEventConsumer extends AbstractMqDomainEventConsumer<M
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] binaryMessageBody(Message message) {
+        if (message instanceof BytesMessage bytesMessage) {
+            try {
+                return readBytes(bytesMessage);
+            } catch (JMSException e) {
+                var msg = "Reading binary message body failed!";
+                log.error(msg, e);
+                throw DLCEventsException.fail(msg,  e);
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readBytes(BytesMessage bytesMessage) throws JMSException {
+        var bytes = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(bytes);
+        return bytes;
+    }
+
     /**
      * Closes the connection to the Active MQ broker by closing the underlying JMS connection.
      * Logs informational messages before and after attempting to close the connection.
@@ -27,34 +27,45 @@
 package io.domainlifecycles.events.activemq.publish;
 
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.jakarta.jms.publish.JmsSessionPool;
 import io.domainlifecycles.events.mq.publish.AbstractMqDomainEventPublisher;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
-import jakarta.jms.DeliveryMode;
 import jakarta.jms.JMSException;
-import jakarta.jms.MessageProducer;
+import jakarta.jms.Message;
 import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
 import jakarta.jms.Topic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * ActiveMqDomainEventPublisher is a class that extends AbstractMqDomainEventPublisher and implements
  * the functionality to publish domain events to ActiveMQ virtual topics. It establishes a connection to ActiveMQ
- * server, creates a session, and sends messages to specified topics.
+ * server and sends messages to specified topics. JMS sessions are single-threaded, so publishing threads borrow
+ * sessions from a bounded pool, each caching its producers per topic. Asynchronous sends are configured on the
+ * ActiveMQ connection factory ({@code useAsyncSend}).
  *
  * @author Mario Herb
  */
 public class ActiveMqDomainEventPublisher extends AbstractMqDomainEventPublisher<Topic> {
 
     private static final Logger log = LoggerFactory.getLogger(ActiveMqDomainEventPublisher.class);
+    private static final int SESSION_POOL_SIZE_DEFAULT = 8;
+    private static final long SESSION_BORROW_TIMEOUT_MS = 30_000;
+
     private final ConnectionFactory connectionFactory;
     private Connection connection;
-    private Session session;
+    private JmsSessionPool sessionPool;
     private final String virtualTopicPrefix;
+    private final int sessionPoolSize;
 
     /**
      * Constructor for ActiveMqDomainEventPublisher.
@@ -67,15 +78,33 @@ public class ActiveMqDomainEventPublisher extends AbstractMqDomainEventPublisher
         ConnectionFactory connectionFactory,
         DomainEventSerializer domainEventSerializer,
         String virtualTopicPrefix
+    ) {
+        this(connectionFactory, domainEventSerializer, virtualTopicPrefix, SESSION_POOL_SIZE_DEFAULT);
+    }
+
+    /**
+     * Constructor for ActiveMqDomainEventPublisher.
+     *
+     * @param connectionFactory The ConnectionFactory to be used for creating connections to ActiveMQ.
+     * @param domainEventSerializer serialization and deserialization of events.
+     * @param virtualTopicPrefix Prefix for virtual topics.
+     * @param sessionPoolSize The maximum number of sessions used by concurrently publishing threads.
+     */
+    public ActiveMqDomainEventPublisher(
+        ConnectionFactory connectionFactory,
+        DomainEventSerializer domainEventSerializer,
+        String virtualTopicPrefix,
+        int sessionPoolSize
     ) {
         super(domainEventSerializer);
         this.connectionFactory = Objects.requireNonNull(connectionFactory, "ConnectionFactory is required!");
-        connect();
         this.virtualTopicPrefix = Objects.requireNonNull(virtualTopicPrefix, "virtualTopicPrefix is required!");
+        this.sessionPoolSize = sessionPoolSize;
+        connect();
     }
 
     /**
-     * Establishes a connection to the ActiveMQ broker by creating a session and starting the connection.
+     * Establishes a connection to the ActiveMQ broker by starting the connection and creating the session pool.
      * Any exceptions that occur during the connection process are logged and a DLCEventsException is thrown.
      */
     @Override
@@ -86,9 +115,8 @@ public class ActiveMqDomainEventPublisher extends AbstractMqDomainEventPublisher
             connection.setExceptionListener(e -> log.error(e.getMessage(), e));
             log.info("Starting connection");
             connection.start();
-            log.info("Creating session");
-            session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
-            log.info("Created session");
+            sessionPool = new JmsSessionPool(connection, sessionPoolSize, SESSION_BORROW_TIMEOUT_MS);
+            log.info("Created session pool of size {}", sessionPoolSize);
         } catch (JMSException e) {
             var msg = "ActiveMqDomainEventPublisher initialization failed";
             log.error(msg, e);
@@ -97,22 +125,22 @@ public class ActiveMqDomainEventPublisher extends AbstractMqDomainEventPublisher
     }
 
     /**
-     * Closes the connection and session used for ActiveMQ, if they are not already closed.
+     * Closes the connection and sessions used for ActiveMQ, if they are not already closed.
      * Any exceptions that occur during the closing process are logged.
      */
     @Override
     public void closeAll() {
         try {
-            log.info("Closing connection/session");
+            log.info("Closing connection/sessions");
+            if(sessionPool != null){
+                sessionPool.close();
+            }
             if(connection!= null){
                 connection.close();
             }
-            if(session != null){
-                session.close();
-            }
-            log.info("Closed connection/session");
+            log.info("Closed connection/sessions");
         } catch (JMSException e) {
-            log.error("Closing connection/session failed", e);
+            log.error("Closing connection/sessions failed", e);
         }
     }
 
@@ -124,43 +152,105 @@ public class ActiveMqDomainEventPublisher extends AbstractMqDomainEventPublisher
      */
     @Override
     protected Topic createTopic(String topicName) {
-        try {
-            return session.createTopic(this.virtualTopicPrefix + topicName.replaceAll("\\.", "-"));
-        } catch (JMSException e) {
-            throw DLCEventsException.fail("Creating topic '{}' failed!", topicName, e);
-        }
+        return withSession(
+            pooledSession -> pooledSession.session().createTopic(this.virtualTopicPrefix + topicName.replaceAll("\\.", "-")),
+            () -> String.format("Creating topic '%s' failed!", topicName)
+        );
     }
 
     /**
-     * Sends a message with the given body to the specified topic.
+     * Sends a message with the given body to the specified topic, using a pooled session and its cached producer.
      *
      * @param body the message body to be sent
      * @param topic the topic to which the message will be sent
      */
     @Override
     protected void sendMessageToTopic(String body, Topic topic) {
-        MessageProducer producer = null;
+        withSession(
+            pooledSession -> send(pooledSession, topic, createTextMessage(pooledSession.session(), body)),
+            () -> String.format("Publishing Message '%s' failed!", body)
+        );
+    }
+
+    /**
+     * Sends a BytesMessage with the given binary body to the specified topic, using a pooled session and its cached producer.
+     *
+     * @param body the binary message body to be sent
+     * @param topic the topic to which the message will be sent
+     */
+    @Override
+    protected void sendBytesToTopic(byte[] body, Topic topic) {
+        withSession(
+            pooledSession -> send(pooledSession, topic, createBytesMessage(pooledSession.session(), body)),
+            () -> String.format("Publishing binary Message of %d bytes failed!", body.length)
+        );
+    }
+
+    /**
+     * Sends all messages in order using a single pooled session and its cached producers.
+     *
+     * @param messages the messages to send
+     */
+    @Override
+    protected void sendMessagesToTopics(List<TopicMessage<Topic>> messages) {
+        withSession(
+            pooledSession -> {
+                for (var message : messages) {
+                    var jmsMessage = message.isBinary()
+                        ? createBytesMessage(pooledSession.session(), message.binaryBody())
+                        : createTextMessage(pooledSession.session(), message.body());
+                    send(pooledSession, message.topic(), jmsMessage);
+                }
+                return null;
+            },
+            () -> String.format("Publishing batch of %d messages failed!", messages.size())
+        );
+    }
+
+    private Void send(JmsSessionPool.PooledSession pooledSession, Topic topic, Message message) throws JMSException {
+        pooledSession.producer(topic).send(message);
+        return null;
+    }
+
+    private <T> T withSession(SessionAction<T> action, Supplier<String> failureMessage) {
+        JmsSessionPool.PooledSession pooledSession = null;
         try {
-            var textMessage = session.createTextMessage(body);
-            producer = session.createProducer(topic);
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-            producer.send(textMessage);
-            producer.close();
-        } catch (JMSException e) {
-            var msg = String.format("Publishing Message '%s' failed!", body);
+            pooledSession = sessionPool.borrow();
+            var result = action.apply(pooledSession);
+            sessionPool.release(pooledSession);
+            return result;
+        } catch (JMSException | RuntimeException e) {
+            if (pooledSession != null) {
+                sessionPool.invalidate(pooledSession);
+            }
+            var msg = failureMessage.get();
             log.error(msg, e);
             throw DLCEventsException.fail(msg, e);
-        } finally {
-            if (producer != null) {
-                try {
-                    producer.close();
-                } catch (JMSException e) {
-                    log.error("Closing producer failed", e);
-                }
-            }
         }
     }
 
+    private TextMessage createTextMessage(Session session, String body) throws JMSException {
+        var textMessage = session.createTextMessage(body);
+        propagateTraceContext(textMessage);
+        return textMessage;
+    }
+
+    private BytesMessage createBytesMessage(Session session, byte[] body) throws JMSException {
+        var bytesMessage = session.createBytesMessage();
+        bytesMessage.writeBytes(body);
+        propagateTraceContext(bytesMessage);
+        return bytesMessage;
+    }
 
+    private void propagateTraceContext(Message message) throws JMSException {
+        var traceContext = DomainEventTraceContext.current();
+        if (traceContext != null) {
+            message.setStringProperty(DomainEventTraceContext.TRACE_ID_PROPERTY, traceContext.traceId());
+        }
+    }
 
+    @FunctionalInterface
+    private interface SessionAction<T> {
+        T apply(JmsSessionPool.PooledSession pooledSession) throws JMSException;
+    }
 }
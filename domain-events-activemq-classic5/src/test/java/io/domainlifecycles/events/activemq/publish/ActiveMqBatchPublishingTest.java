@@ -0,0 +1,157 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.activemq.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.Connection;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the {@link ActiveMqDomainEventPublisher} sends batches in order across virtual topics,
+ * using an embedded broker and a wildcard subscription on all virtual topics.
+ */
+public class ActiveMqBatchPublishingTest {
+
+    private static final String VIRTUAL_TOPIC_PREFIX = "VirtualTopic.";
+    private static final long RECEIVE_TIMEOUT_MS = 5_000;
+
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+    private Connection consumerConnection;
+    private MessageConsumer consumer;
+    private ActiveMqDomainEventPublisher publisher;
+
+    @BeforeEach
+    public void init() throws Exception {
+        broker = new BrokerService();
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.addConnector("tcp://localhost:0");
+        broker.start();
+        connectionFactory = new ActiveMQConnectionFactory(
+            broker.getTransportConnectors().get(0).getPublishableConnectString()
+        );
+        consumerConnection = connectionFactory.createConnection();
+        consumerConnection.start();
+        var session = consumerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        consumer = session.createConsumer(session.createTopic(VIRTUAL_TOPIC_PREFIX + ">"));
+        publisher = new ActiveMqDomainEventPublisher(connectionFactory, new ToStringSerializer(), VIRTUAL_TOPIC_PREFIX);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        publisher.closeAll();
+        consumerConnection.close();
+        broker.stop();
+    }
+
+    @Test
+    public void testBatchReceivedInOrderAcrossTopics() throws Exception {
+        //given
+        var events = IntStream.range(0, 500)
+            .<DomainEvent>mapToObj(i -> i % 3 == 0 ? new AnEvent(i) : new AnotherEvent(i))
+            .toList();
+
+        //when
+        publisher.publishBatch(events);
+        var received = receive(events.size());
+
+        //then
+        assertThat(received).containsExactlyElementsOf(
+            events.stream().map(e -> topicName(e) + ":" + e).toList()
+        );
+    }
+
+    @Test
+    public void testConsecutiveBatchesReceivedInOrder() throws Exception {
+        //given
+        var first = IntStream.range(0, 50).<DomainEvent>mapToObj(AnEvent::new).toList();
+        var second = IntStream.range(50, 100).<DomainEvent>mapToObj(AnotherEvent::new).toList();
+
+        //when
+        publisher.publishBatch(first);
+        publisher.publish(new AnEvent(-1));
+        publisher.publishBatch(second);
+        var received = receive(first.size() + 1 + second.size());
+
+        //then
+        var expected = new ArrayList<String>();
+        first.forEach(e -> expected.add(topicName(e) + ":" + e));
+        expected.add(topicName(new AnEvent(-1)) + ":" + new AnEvent(-1));
+        second.forEach(e -> expected.add(topicName(e) + ":" + e));
+        assertThat(received).containsExactlyElementsOf(expected);
+    }
+
+    private List<String> receive(int count) throws Exception {
+        var received = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            var message = (TextMessage) consumer.receive(RECEIVE_TIMEOUT_MS);
+            if (message == null) {
+                break;
+            }
+            received.add(((Topic) message.getJMSDestination()).getTopicName() + ":" + message.getText());
+        }
+        return received;
+    }
+
+    private static String topicName(DomainEvent domainEvent) {
+        return VIRTUAL_TOPIC_PREFIX + domainEvent.getClass().getName().replaceAll("\\.", "-");
+    }
+
+    private record AnEvent(int number) implements DomainEvent {
+    }
+
+    private record AnotherEvent(int number) implements DomainEvent {
+    }
+
+    private static class ToStringSerializer implements DomainEventSerializer {
+
+        @Override
+        public String serialize(DomainEvent event) {
+            return event.toString();
+        }
+
+        @Override
+        public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
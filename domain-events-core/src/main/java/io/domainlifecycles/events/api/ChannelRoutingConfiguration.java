@@ -27,7 +27,11 @@
 package io.domainlifecycles.events.api;
 
 import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.publish.DomainEventPublisher;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -52,12 +56,34 @@ public final class ChannelRoutingConfiguration {
     }
 
     /**
-     * Passes a domain event to the appropriate channel for publishing.
+     * Passes a domain event to the appropriate channels for publishing.
      *
-     * @param domainEvent The domain event to be passed to the channel.
+     * @param domainEvent The domain event to be passed to the channels.
      */
     void passToChannel(DomainEvent domainEvent) {
-        var channel = publishingRouter.route(domainEvent);
-        channel.getPublishingConfiguration().domainEventPublisher().publish(domainEvent);
+        var channels = publishingRouter.routeAll(domainEvent);
+        for (var channel : channels) {
+            channel.getPublishingConfiguration().domainEventPublisher().publish(domainEvent);
+        }
+    }
+
+    /**
+     * Passes multiple domain events to the appropriate channels for publishing.
+     * The domain events are grouped per publisher, so that each publisher receives one batch
+     * containing its domain events in the original order.
+     *
+     * @param domainEvents The domain events to be passed to the channels.
+     */
+    void passToChannels(List<DomainEvent> domainEvents) {
+        var batches = new LinkedHashMap<DomainEventPublisher, List<DomainEvent>>();
+        for (var domainEvent : domainEvents) {
+            for (var channel : publishingRouter.routeAll(domainEvent)) {
+                batches.computeIfAbsent(
+                    channel.getPublishingConfiguration().domainEventPublisher(),
+                    p -> new ArrayList<>()
+                ).add(domainEvent);
+            }
+        }
+        batches.forEach(DomainEventPublisher::publishBatch);
     }
 }
@@ -29,21 +29,37 @@ package io.domainlifecycles.events.api;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.exception.DLCEventsException;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * The {@code DomainEventTypeBasedRouter} class is an implementation of the {@link PublishingRouter} interface
  * that routes domain events to the appropriate channel based on their event type.
+ * <p>
+ * Explicit routes may be defined for concrete domain event types as well as for their superclasses or interfaces.
+ * For a published domain event the route of the most specific type is used: first the event class itself and its
+ * superclasses (nearest first), then the interfaces implemented (nearest first). If no explicit route matches,
+ * the default channel is used. A route may target multiple channels (fan-out).
+ * <p>
+ * The routing configuration is held in an immutable snapshot, which is replaced atomically whenever a route is
+ * (re-)defined. The resolved channels are cached once per concrete domain event class for each snapshot, so routing
+ * is lock-free and does not contend with concurrent reconfiguration.
+ * <p>
+ * Routes and the default channel are defined by channel names, which are resolved to the channels known to the router
+ * when a domain event type is routed for the first time. Defining a route to an unknown channel name therefore does not
+ * fail, but routing a domain event to it does.
  *
  * @author Mario Herb
  */
 public class DomainEventTypeBasedRouter implements PublishingRouter{
 
-    private final Map<String, PublishingChannel> channelMap = new HashMap<>();
-    private final Map<String , String> eventTypeNameToChannelName = new HashMap<>();
-    private String defaultChannelName;
+    private final Map<String, PublishingChannel> channelMap;
+    private volatile RoutingTable routingTable;
 
     /**
      * The {@code DomainEventTypeBasedRouter} class is an implementation of the {@link PublishingRouter} interface
@@ -52,33 +68,69 @@ public class DomainEventTypeBasedRouter implements PublishingRouter{
      * @param channels the channel for which routing is applied
      */
     public DomainEventTypeBasedRouter(List<PublishingChannel> channels) {
-        channels.forEach(c -> channelMap.put(c.getName(), c));
+        var channelsByName = new HashMap<String, PublishingChannel>();
+        channels.forEach(c -> channelsByName.put(c.getName(), c));
+        this.channelMap = Collections.unmodifiableMap(channelsByName);
+        this.routingTable = new RoutingTable(channelMap, Collections.emptyMap(), null);
     }
 
     /**
+     * Returns the first channel the given domain event is routed to.
+     *
      * {@inheritDoc}
      */
     @Override
     public PublishingChannel route(DomainEvent domainEvent) {
-        var routedChannelName = eventTypeNameToChannelName.get(domainEvent.getClass().getName());
-        if(routedChannelName != null){
-            return channelMap.get(routedChannelName);
-        }else{
-            if(defaultChannelName != null){
-                return channelMap.get(defaultChannelName);
-            }
+        return routeAll(domainEvent).get(0);
+    }
+
+    /**
+     * Returns all channels the given domain event is routed to.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PublishingChannel> routeAll(DomainEvent domainEvent) {
+        var routedChannels = routingTable.resolvedChannels.get(domainEvent.getClass());
+        if(routedChannels.isEmpty()){
+            throw DLCEventsException.fail("No default channel defined and no routing configured for DomainEvent '%s'", domainEvent);
         }
-        throw DLCEventsException.fail("No default channel defined and no routing configured for DomainEvent '%s'", domainEvent);
+        return routedChannels;
     }
 
     /**
      * Defines an explicit route for a specific domain event type to a channel.
+     * The route also applies to all subtypes of the given domain event type, which have no more specific route defined.
      *
      * @param domainEventType The class representing the domain event type.
      * @param channelName The name of the channel to route the domain event to.
      */
     public void defineExplicitRoute(Class<? extends DomainEvent> domainEventType, String channelName){
-        eventTypeNameToChannelName.put(domainEventType.getName(), channelName);
+        defineExplicitRoute(domainEventType, List.of(Objects.requireNonNull(channelName, "A channel name is required!")));
+    }
+
+    /**
+     * Defines an explicit route for a specific domain event type to multiple channels.
+     * A domain event of that type is published to each of the given channels in the order specified.
+     * The route also applies to all subtypes of the given domain event type, which have no more specific route defined.
+     *
+     * @param domainEventType The class representing the domain event type.
+     * @param channelNames The names of the channels to route the domain event to.
+     */
+    public void defineExplicitRoute(Class<? extends DomainEvent> domainEventType, List<String> channelNames){
+        Objects.requireNonNull(domainEventType, "A DomainEvent type is required!");
+        if(channelNames == null || channelNames.isEmpty()){
+            throw DLCEventsException.fail("At least one channel name is required to define a route for '%s'", domainEventType.getName());
+        }
+        var routedChannelNames = channelNames.stream()
+            .map(channelName -> Objects.requireNonNull(channelName, "A channel name is required!"))
+            .distinct()
+            .toList();
+        synchronized (this) {
+            var routes = new HashMap<>(routingTable.routes);
+            routes.put(domainEventType.getName(), routedChannelNames);
+            routingTable = new RoutingTable(channelMap, routes, routingTable.defaultChannelName);
+        }
     }
 
     /**
@@ -88,7 +140,9 @@ public class DomainEventTypeBasedRouter implements PublishingRouter{
      *                    The specified channel will be used when no explicit route is defined for a domain event type.
      */
     public void defineDefaultChannel(String channelName){
-        this.defaultChannelName = channelName;
+        synchronized (this) {
+            routingTable = new RoutingTable(channelMap, routingTable.routes, channelName);
+        }
     }
 
     /**
@@ -97,16 +151,99 @@ public class DomainEventTypeBasedRouter implements PublishingRouter{
      * @return The name of the default channel.
      */
     public String getDefaultChannelName() {
-        return defaultChannelName;
+        return routingTable.defaultChannelName;
     }
 
     /**
      * Returns the routed channel name for the given domain event type.
+     * Only routes explicitly defined for exactly that type are considered. If multiple channels are defined
+     * for the type, the name of the first one is returned.
      *
      * @param domainEventType The class representing the domain event type.
      * @return The name of the channel to which the domain event will be routed.
      */
     public String getRoutedChannelName(Class<? extends DomainEvent> domainEventType){
-        return eventTypeNameToChannelName.get(domainEventType.getName());
+        var channels = routingTable.routes.get(domainEventType.getName());
+        return channels == null ? null : channels.get(0);
+    }
+
+    /**
+     * Returns the names of all channels the given domain event type is routed to,
+     * taking routes defined for its supertypes and the default channel into account.
+     *
+     * @param domainEventType The class representing the domain event type.
+     * @return The names of the channels to which the domain event will be routed, empty if no route applies.
+     */
+    public List<String> getRoutedChannelNames(Class<? extends DomainEvent> domainEventType){
+        return routingTable.resolve(domainEventType);
+    }
+
+    /**
+     * Immutable snapshot of the routing configuration. The channels resolved for a concrete domain event type
+     * are computed lazily once and cached per snapshot.
+     */
+    private static final class RoutingTable {
+
+        private final Map<String, PublishingChannel> channelMap;
+        private final Map<String, List<String>> routes;
+        private final String defaultChannelName;
+        private final ClassValue<List<PublishingChannel>> resolvedChannels = new ClassValue<>() {
+            @Override
+            protected List<PublishingChannel> computeValue(Class<?> type) {
+                return resolve(type).stream().map(RoutingTable.this::channelFor).toList();
+            }
+        };
+
+        private RoutingTable(Map<String, PublishingChannel> channelMap,
+                             Map<String, List<String>> routes,
+                             String defaultChannelName) {
+            this.channelMap = channelMap;
+            this.routes = Collections.unmodifiableMap(routes);
+            this.defaultChannelName = defaultChannelName;
+        }
+
+        private PublishingChannel channelFor(String channelName){
+            var channel = channelMap.get(channelName);
+            if(channel == null){
+                throw DLCEventsException.fail("No PublishingChannel named '%s' is known to the router!", channelName);
+            }
+            return channel;
+        }
+
+        private List<String> resolve(Class<?> type) {
+            if(!routes.isEmpty()){
+                for (var c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    var channels = routes.get(c.getName());
+                    if (channels != null) {
+                        return channels;
+                    }
+                }
+                var channels = resolveByInterfaces(type);
+                if (channels != null) {
+                    return channels;
+                }
+            }
+            return defaultChannelName == null ? List.of() : List.of(defaultChannelName);
+        }
+
+        private List<String> resolveByInterfaces(Class<?> type) {
+            var queue = new ArrayDeque<Class<?>>();
+            for (var c = type; c != null; c = c.getSuperclass()) {
+                queue.addAll(List.of(c.getInterfaces()));
+            }
+            var visited = new HashSet<Class<?>>();
+            while (!queue.isEmpty()) {
+                var i = queue.poll();
+                if (!visited.add(i)) {
+                    continue;
+                }
+                var channels = routes.get(i.getName());
+                if (channels != null) {
+                    return channels;
+                }
+                queue.addAll(List.of(i.getInterfaces()));
+            }
+            return null;
+        }
     }
 }
@@ -31,6 +31,9 @@ import io.domainlifecycles.events.exception.DLCEventsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * This class represents a utility for publishing domain events.
  * It could be used to publish {@link DomainEvent} instances directly from Domain Services or Aggregates
@@ -61,11 +64,31 @@ public class DomainEvents {
      * @throws DLCEventsException if the configuration is not initialized
      */
     public static void publish(DomainEvent domainEvent) {
-        log.info("DomainEvent provided to be published {}", domainEvent);
+        log.debug("DomainEvent provided to be published {}", domainEvent);
         if(channelConfiguration == null){
             throw DLCEventsException.fail("No ChannelRoutingConfiguration initialized!");
         }
         channelConfiguration.passToChannel(domainEvent);
     }
 
+    /**
+     * Publishes multiple domain events at once using the configured channels.
+     * The domain events are grouped by the channels they are routed to and passed to each channel as one batch,
+     * preserving their order.
+     * The method throws a DLCEventsException, if the ChannelRoutingConfiguration is not initialized.
+     *
+     * @param domainEvents the domain events to be published
+     * @throws DLCEventsException if the configuration is not initialized
+     */
+    public static void publishAll(Collection<? extends DomainEvent> domainEvents) {
+        if(domainEvents == null || domainEvents.isEmpty()){
+            return;
+        }
+        log.debug("{} DomainEvents provided to be published", domainEvents.size());
+        if(channelConfiguration == null){
+            throw DLCEventsException.fail("No ChannelRoutingConfiguration initialized!");
+        }
+        channelConfiguration.passToChannels(List.copyOf(domainEvents));
+    }
+
 }
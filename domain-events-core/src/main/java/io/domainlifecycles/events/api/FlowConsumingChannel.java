@@ -0,0 +1,51 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.api;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A ConsumingChannel, which additionally provides the consumed DomainEvents as a reactive stream
+ * ({@link java.util.concurrent.Flow}). Subscribers request DomainEvents according to their demand,
+ * so slow subscribers apply backpressure instead of being flooded.
+ *
+ * @author Mario Herb
+ */
+public interface FlowConsumingChannel extends ConsumingChannel {
+
+    /**
+     * Provides a Flow.Publisher emitting the consumed DomainEvents of the given type (including subtypes).
+     *
+     * @param domainEventType the type of the DomainEvents to be emitted
+     * @param subscriptionName the name identifying the subscription, for broker based channels it defines the
+     *                         name of the (durable) broker consumer
+     * @param <T> the DomainEvent type
+     * @return a Flow.Publisher for the given DomainEvent type
+     */
+    <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName);
+}
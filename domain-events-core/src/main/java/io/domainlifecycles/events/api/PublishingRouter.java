@@ -29,6 +29,8 @@ package io.domainlifecycles.events.api;
 
 import io.domainlifecycles.domain.types.DomainEvent;
 
+import java.util.List;
+
 /**
  * The {@code PublishingRouter} interface represents a router that routes domain events to a channel for publishing.
  * Content-based routing could be implemented by overriding this interface.
@@ -44,4 +46,16 @@ public interface PublishingRouter {
      * @return The channel to which the domain event is routed.
      */
     PublishingChannel route(DomainEvent domainEvent);
+
+    /**
+     * Routes the given domain event to all channels it should be published to.
+     * By default, this is the single channel returned by {@link #route(DomainEvent)}.
+     * Routers supporting fan-out to multiple channels should override this method.
+     *
+     * @param domainEvent The domain event to be routed.
+     * @return The channels to which the domain event is routed.
+     */
+    default List<PublishingChannel> routeAll(DomainEvent domainEvent) {
+        return List.of(route(domainEvent));
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.consume;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * The FlowDomainEventConsumer decorates a DomainEventConsumer and additionally emits every consumed DomainEvent
+ * to the {@link Flow.Publisher} instances created by {@link #flowPublisher(Class)}.
+ * <br>
+ * Each subscriber has a bounded buffer ({@link Flow#defaultBufferSize()}). If the buffer of a subscriber is full,
+ * because it requested fewer DomainEvents than were consumed, the consuming thread blocks until demand is signalled.
+ * That way slow subscribers throttle the DomainEvent processing instead of causing unbounded buffering.
+ *
+ * @author Mario Herb
+ */
+public final class FlowDomainEventConsumer implements DomainEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(FlowDomainEventConsumer.class);
+
+    private final DomainEventConsumer domainEventConsumer;
+    private final List<FlowRegistration<?>> registrations = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a FlowDomainEventConsumer decorating the given DomainEventConsumer.
+     *
+     * @param domainEventConsumer the DomainEventConsumer to be decorated
+     */
+    public FlowDomainEventConsumer(DomainEventConsumer domainEventConsumer) {
+        this.domainEventConsumer = Objects.requireNonNull(domainEventConsumer, "A DomainEventConsumer is required!");
+    }
+
+    /**
+     * Passes the DomainEvent to the decorated DomainEventConsumer and emits it to all subscribed
+     * Flow.Subscribers listening to its type.
+     *
+     * @param domainEvent The domain event to be handled
+     * @return The list of execution results of the decorated DomainEventConsumer
+     */
+    @Override
+    public List<ExecutionResult> consume(DomainEvent domainEvent) {
+        var results = domainEventConsumer.consume(domainEvent);
+        for (var registration : registrations) {
+            registration.emit(domainEvent);
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext executionContext) {
+        return domainEventConsumer.consume(domainEvent, executionContext);
+    }
+
+    /**
+     * Creates a new Flow.Publisher emitting all consumed DomainEvents of the given type (including subtypes).
+     *
+     * @param domainEventType the type of the DomainEvents to be emitted
+     * @param <T> the DomainEvent type
+     * @return a new Flow.Publisher
+     */
+    public <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType) {
+        Objects.requireNonNull(domainEventType, "A DomainEvent type is required!");
+        var publisher = new SubmissionPublisher<T>();
+        registrations.add(new FlowRegistration<>(domainEventType, publisher));
+        log.debug("Created Flow.Publisher for {}", domainEventType.getName());
+        return publisher;
+    }
+
+    /**
+     * Completes all Flow.Publishers created by this consumer, subscribers receive {@code onComplete}.
+     */
+    public void close() {
+        var closing = List.copyOf(registrations);
+        registrations.clear();
+        closing.forEach(r -> r.publisher().close());
+    }
+
+    private record FlowRegistration<T extends DomainEvent>(Class<T> domainEventType, SubmissionPublisher<T> publisher) {
+
+        void emit(DomainEvent domainEvent) {
+            if (domainEventType.isInstance(domainEvent) && publisher.hasSubscribers()) {
+                try {
+                    publisher.submit(domainEventType.cast(domainEvent));
+                } catch (IllegalStateException e) {
+                    log.debug("Flow.Publisher for {} already closed, {} not emitted", domainEventType.getName(), domainEvent);
+                }
+            }
+        }
+    }
+}
@@ -31,6 +31,8 @@ import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDet
 import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
 import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.instrumentation.EventsInstrumentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,18 +80,54 @@ public final class GeneralDomainEventConsumer implements DomainEventConsumer {
     @Override
     public List<ExecutionResult> consume(DomainEvent domainEvent) {
         log.debug("Received {}", domainEvent);
+        var instrumentation = EventsInstrumentation.current();
+        var instrumented = EventsInstrumentation.isEnabled();
+        var start = instrumented ? System.nanoTime() : 0L;
         var executionContexts = executionContextDetector.detectExecutionContexts(domainEvent);
-        if (executionContexts == null || executionContexts.isEmpty()) {
+        var count = executionContexts == null ? 0 : executionContexts.size();
+        if (instrumented) {
+            instrumentation.executionContextsDetected(domainEvent, count, System.nanoTime() - start);
+        }
+        if (count == 0) {
             log.debug("No execution contexts detected for {}", domainEvent);
             return Collections.emptyList();
         }
-        return executionContextProcessor.process(executionContexts);
+        var results = executionContextProcessor.process(executionContexts);
+        if (instrumented) {
+            instrumentation.domainEventConsumed(domainEvent, count, System.nanoTime() - start);
+        }
+        return results;
     }
 
+    /**
+     * Handles a received domain event for a single target handler only, by detecting the execution contexts
+     * and processing the one matching the given target execution context. The trace context of the target execution
+     * context, if any, is bound to the current thread while the handler is executed.
+     *
+     * @param domainEvent The domain event to be handled
+     * @param targetExecutionContext The target handler
+     * @return The execution result of the target handler
+     */
     @Override
     public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext targetExecutionContext) {
         log.debug("Received {}", domainEvent);
+        if (targetExecutionContext.traceId() == null) {
+            return consumeTarget(domainEvent, targetExecutionContext);
+        }
+        try (var scope = DomainEventTraceContext.open(new DomainEventTraceContext(targetExecutionContext.traceId()))) {
+            return consumeTarget(domainEvent, targetExecutionContext);
+        }
+    }
+
+    private ExecutionResult consumeTarget(DomainEvent domainEvent, TargetExecutionContext targetExecutionContext) {
+        var instrumentation = EventsInstrumentation.current();
+        var instrumented = EventsInstrumentation.isEnabled();
+        var start = instrumented ? System.nanoTime() : 0L;
         var executionContexts = executionContextDetector.detectExecutionContexts(domainEvent);
+        if (instrumented) {
+            instrumentation.executionContextsDetected(domainEvent,
+                executionContexts == null ? 0 : executionContexts.size(), System.nanoTime() - start);
+        }
         if (executionContexts == null || executionContexts.isEmpty()) {
             log.debug("No execution contexts detected for {}", domainEvent);
             return null;
@@ -105,6 +143,9 @@ public final class GeneralDomainEventConsumer implements DomainEventConsumer {
                 log.error(msg);
                 throw DLCEventsException.fail(msg);
             }
+            if (instrumented) {
+                instrumentation.domainEventConsumed(domainEvent, 1, System.nanoTime() - start);
+            }
             return results.get(0);
         }else{
             var msg = String.format("No execution context detectable for specified target execution context %s. Target context: %s", domainEvent, targetExecutionContext);
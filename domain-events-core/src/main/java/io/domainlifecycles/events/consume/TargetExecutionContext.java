@@ -26,26 +26,43 @@
 
 package io.domainlifecycles.events.consume;
 
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+
 import java.util.Objects;
 
 /**
  * The TargetExecutionContext is needed in cases where the consumer service should be known before
  * domain events are processed (Gruelbox).
+ * <br>
+ * It optionally carries the id of the {@link DomainEventTraceContext} the DomainEvent was published in,
+ * so that the trace survives the hop through an outbox.
  *
  * @param handlerTypeName   handler type name
  * @param handlerMethodName handler method name
+ * @param traceId           the trace id of the publishing thread, may be null
  *
  * @author Mario Herb
  */
-public record TargetExecutionContext(String handlerTypeName, String handlerMethodName) {
+public record TargetExecutionContext(String handlerTypeName, String handlerMethodName, String traceId) {
 
     /**
      * Constructor
      * @param handlerTypeName of the target event handler
      * @param handlerMethodName of the target event handler
+     * @param traceId the trace id of the publishing thread, may be null
      */
-    public TargetExecutionContext(String handlerTypeName, String handlerMethodName) {
+    public TargetExecutionContext(String handlerTypeName, String handlerMethodName, String traceId) {
         this.handlerTypeName = Objects.requireNonNull(handlerTypeName, "A handler type name is required!");
         this.handlerMethodName = Objects.requireNonNull(handlerMethodName, "A handler method name is required!");
+        this.traceId = traceId;
+    }
+
+    /**
+     * Constructor for a target execution context without trace id.
+     * @param handlerTypeName of the target event handler
+     * @param handlerMethodName of the target event handler
+     */
+    public TargetExecutionContext(String handlerTypeName, String handlerMethodName) {
+        this(handlerTypeName, handlerMethodName, null);
     }
 }
@@ -33,6 +33,7 @@ import io.domainlifecycles.events.consume.execution.detector.AggregateExecutionC
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
 import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.EventsInstrumentation;
 import io.domainlifecycles.reflect.JavaReflect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -143,7 +144,12 @@ public class ReflectiveHandlerExecutor implements HandlerExecutor {
                 );
             }
             if (success) {
+                var instrumented = EventsInstrumentation.isEnabled();
+                var start = instrumented ? System.nanoTime() : 0L;
                 aggregateExecutionContext.aggregateRepository().update(root);
+                if (instrumented) {
+                    EventsInstrumentation.current().aggregateUpdated(aggregateExecutionContext, System.nanoTime() - start);
+                }
                 log.debug("AggregateRoot '{}' with Id '{}' updated on repository",
                     root.getClass().getName(),
                     aggregateExecutionContext.domainEvent().targetId()
@@ -47,4 +47,17 @@ public interface TransactionalHandlerExecutor extends HandlerExecutor{
     default boolean createNewTransactionForHandling(ExecutionContext executionContext) {
         return true;
     }
+
+    /**
+     * Returns true if the transaction the current thread participates in was marked rollback-only, e.g. by a failed
+     * handler, which was executed within it instead of a new transaction. Work done within such a transaction
+     * is never committed.
+     * <p>
+     * Override this method, if the transactions used can be marked rollback-only.
+     *
+     * @return true if the current transaction is marked rollback-only, false otherwise or if there is no transaction.
+     */
+    default boolean isRollbackOnly() {
+        return false;
+    }
 }
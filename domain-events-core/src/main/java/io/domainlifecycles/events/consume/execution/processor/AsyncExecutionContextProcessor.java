@@ -29,6 +29,7 @@ package io.domainlifecycles.events.consume.execution.processor;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -87,11 +88,14 @@ public class AsyncExecutionContextProcessor extends SimpleExecutionContextProces
     public List<ExecutionResult> process(List<ExecutionContext> contextList) {
         log.debug("Going to process {}", contextList.stream().map(c -> c.toString()).collect(Collectors.joining(",")));
         List<Future<ExecutionResult>> futures;
+        var traceContext = DomainEventTraceContext.current();
         try {
             futures = executorService.invokeAll(contextList.stream().map(c -> new Callable<ExecutionResult>() {
                 @Override
                 public ExecutionResult call() throws Exception {
-                    return new ExecutionResult(c, handlerExecutor.execute(c));
+                    try (var scope = DomainEventTraceContext.open(traceContext)) {
+                        return execute(c);
+                    }
                 }
             }).toList());
 
@@ -28,6 +28,7 @@ package io.domainlifecycles.events.consume.execution.processor;
 
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
+import io.domainlifecycles.events.instrumentation.EventsInstrumentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +72,29 @@ public class SimpleExecutionContextProcessor implements ExecutionContextProcesso
     @Override
     public List<ExecutionResult> process(List<ExecutionContext> contextList) {
         log.debug("Processing detected execution contexts ({} instances)!", contextList.size());
-        return contextList.stream().map(
-            context -> new ExecutionResult(context, handlerExecutor.execute(context))).toList();
+        return contextList.stream().map(this::execute).toList();
+    }
+
+    /**
+     * Executes the handler of the given execution context and reports it to the registered
+     * {@link io.domainlifecycles.events.instrumentation.DomainEventInstrumentation}.
+     *
+     * @param context the execution context to be executed
+     * @return the execution result
+     */
+    protected ExecutionResult execute(ExecutionContext context) {
+        if (!EventsInstrumentation.isEnabled()) {
+            return new ExecutionResult(context, handlerExecutor.execute(context));
+        }
+        var instrumentation = EventsInstrumentation.current();
+        instrumentation.handlerStarted(context);
+        var start = System.nanoTime();
+        var success = false;
+        try {
+            success = handlerExecutor.execute(context);
+        } finally {
+            instrumentation.handlerFinished(context, success, System.nanoTime() - start);
+        }
+        return new ExecutionResult(context, success);
     }
 }
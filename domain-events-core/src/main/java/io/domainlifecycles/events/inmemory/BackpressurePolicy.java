@@ -0,0 +1,51 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+/**
+ * Defines how a {@link RingBufferDomainEventPublisher} reacts, if a DomainEvent is published
+ * while its ring buffer is full.
+ *
+ * @author Mario Herb
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * The publishing thread waits until a slot in the ring buffer becomes available.
+     */
+    BLOCK,
+
+    /**
+     * The oldest DomainEvent in the ring buffer is discarded to make room for the published one.
+     * Discarded DomainEvents are not delivered to any handler.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The publishing thread consumes the DomainEvent itself (synchronously), bypassing the ring buffer.
+     */
+    CALLER_RUNS
+}
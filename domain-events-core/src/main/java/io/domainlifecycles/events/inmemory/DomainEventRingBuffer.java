@@ -0,0 +1,200 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free multi-producer/multi-consumer ring buffer for DomainEvents.
+ * All slots are preallocated, each slot carries a sequence number that signals whether it is free to be written
+ * or ready to be read (see D. Vyukov's bounded MPMC queue).
+ * <br>
+ * Additionally, the time each DomainEvent spent in the buffer is tracked to provide a consumer lag metric and the
+ * {@link DomainEventTraceContext} of the publishing thread is handed over to the consuming thread.
+ *
+ * @author Mario Herb
+ */
+final class DomainEventRingBuffer {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final DomainEvent[] events;
+    private final long[] publishedNanos;
+    private final DomainEventTraceContext[] traceContexts;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    private volatile long lastLagNanos;
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    DomainEventRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(requestedCapacity);
+        if (capacity < requestedCapacity) {
+            capacity = capacity << 1;
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.events = new DomainEvent[capacity];
+        this.publishedNanos = new long[capacity];
+        this.traceContexts = new DomainEventTraceContext[capacity];
+    }
+
+    /**
+     * Tries to put the given DomainEvent into the buffer.
+     *
+     * @param domainEvent the DomainEvent to be added
+     * @return false, if the buffer is full
+     */
+    boolean offer(DomainEvent domainEvent) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events[index] = domainEvent;
+                    publishedNanos[index] = System.nanoTime();
+                    traceContexts[index] = DomainEventTraceContext.current();
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest DomainEvent from the buffer.
+     *
+     * @param target receives the DomainEvent and the trace context it was published with
+     * @param recordLag true, if the time the DomainEvent waited in the buffer should be recorded
+     * @return false, if the buffer is empty
+     */
+    boolean poll(Polled target, boolean recordLag) {
+        long position = claimHead();
+        if (position < 0) {
+            return false;
+        }
+        int index = (int) (position & mask);
+        target.domainEvent = events[index];
+        target.traceContext = traceContexts[index];
+        var published = publishedNanos[index];
+        release(index, position);
+        if (recordLag) {
+            recordLag(System.nanoTime() - published);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the oldest DomainEvent from the buffer without handing it over to a {@link Polled} holder,
+     * so that dropping DomainEvents from a full buffer does not allocate.
+     *
+     * @return the dropped DomainEvent, null if the buffer is empty
+     */
+    DomainEvent dropOldest() {
+        long position = claimHead();
+        if (position < 0) {
+            return null;
+        }
+        int index = (int) (position & mask);
+        var droppedEvent = events[index];
+        release(index, position);
+        return droppedEvent;
+    }
+
+    private long claimHead() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return -1;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    private void release(int index, long position) {
+        events[index] = null;
+        traceContexts[index] = null;
+        sequences.set(index, position + mask + 1);
+    }
+
+    private void recordLag(long lag) {
+        lastLagNanos = lag;
+        long max = maxLagNanos.get();
+        while (lag > max && !maxLagNanos.compareAndSet(max, lag)) {
+            max = maxLagNanos.get();
+        }
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    long size() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    long lastLagNanos() {
+        return lastLagNanos;
+    }
+
+    long maxLagNanos() {
+        return maxLagNanos.get();
+    }
+
+    /**
+     * Receives a DomainEvent taken from the buffer, reused to avoid allocations.
+     */
+    static final class Polled {
+        DomainEvent domainEvent;
+        DomainEventTraceContext traceContext;
+    }
+}
@@ -28,9 +28,9 @@ package io.domainlifecycles.events.inmemory;
 
 import io.domainlifecycles.events.api.ChannelFactory;
 import io.domainlifecycles.events.api.ConsumingOnlyChannel;
-import io.domainlifecycles.events.api.ProcessingChannel;
 import io.domainlifecycles.events.api.PublishingOnlyChannel;
 import io.domainlifecycles.events.consume.DomainEventConsumer;
+import io.domainlifecycles.events.consume.FlowDomainEventConsumer;
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
 import io.domainlifecycles.events.consume.execution.handler.ReflectiveHandlerExecutor;
 import io.domainlifecycles.events.exception.DLCEventsException;
@@ -96,16 +96,42 @@ public class InMemoryChannelFactory implements ChannelFactory {
     /**
      * Creates a new ProcessingChannel for processing domain events.
      *
+     * The consumed domain events are also provided as a reactive stream (see {@link InMemoryProcessingChannel#flowPublisher(Class, String)}).
+     *
      * @param channelName The name of the channel.
      * @return The created ProcessingChannel instance.
      */
     @Override
-    public ProcessingChannel processingChannel(String channelName) {
+    public InMemoryProcessingChannel processingChannel(String channelName) {
 
         var consumingConfiguration = consumingConfiguration();
-        var publishingConfiguration = publishingConfiguration(consumingConfiguration.domainEventConsumer());
+        var flowDomainEventConsumer = new FlowDomainEventConsumer(consumingConfiguration.domainEventConsumer());
+        var publishingConfiguration = publishingConfiguration(flowDomainEventConsumer);
+
+        return new InMemoryProcessingChannel(channelName, publishingConfiguration , consumingConfiguration, flowDomainEventConsumer);
+    }
 
-        return new ProcessingChannel(channelName, publishingConfiguration , consumingConfiguration);
+    /**
+     * Creates a new ProcessingChannel, which hands published domain events over to a preallocated ring buffer.
+     * The ring buffer is drained by the consumer threads defined in the given configuration, so the
+     * {@code executorThreads} of this factory are not used for this channel.
+     *
+     * @param channelName The name of the channel.
+     * @param ringBufferConfiguration The configuration of the ring buffer.
+     * @return The created channel, which must be closed on shutdown.
+     */
+    public InMemoryRingBufferProcessingChannel ringBufferProcessingChannel(String channelName, RingBufferConfiguration ringBufferConfiguration) {
+        var consumingConfiguration = new InMemoryConsumingConfigurationFactory().consumeSync(
+            this.serviceProvider,
+            useHandlerExecutor()
+        );
+        var flowDomainEventConsumer = new FlowDomainEventConsumer(consumingConfiguration.domainEventConsumer());
+        var publisher = new RingBufferDomainEventPublisher(
+            channelName,
+            flowDomainEventConsumer,
+            ringBufferConfiguration
+        );
+        return new InMemoryRingBufferProcessingChannel(channelName, publisher, consumingConfiguration, flowDomainEventConsumer);
     }
 
     private InMemoryConsumingConfiguration consumingConfiguration(){
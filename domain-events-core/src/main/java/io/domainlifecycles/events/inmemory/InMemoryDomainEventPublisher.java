@@ -32,6 +32,7 @@ import io.domainlifecycles.events.publish.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -66,4 +67,15 @@ public final class InMemoryDomainEventPublisher implements DomainEventPublisher
         log.debug("Passing DomainEvent {} through to DomainEventConsumer directly", domainEvent);
         domainEventConsumer.consume(domainEvent);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        log.debug("Passing {} DomainEvents through to DomainEventConsumer directly", domainEvents.size());
+        for (var domainEvent : domainEvents) {
+            domainEventConsumer.consume(domainEvent);
+        }
+    }
 }
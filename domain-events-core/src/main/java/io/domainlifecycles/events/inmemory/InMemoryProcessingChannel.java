@@ -0,0 +1,74 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.api.CloseableChannel;
+import io.domainlifecycles.events.api.FlowConsumingChannel;
+import io.domainlifecycles.events.api.ProcessingChannel;
+import io.domainlifecycles.events.api.PublishingConfiguration;
+import io.domainlifecycles.events.consume.FlowDomainEventConsumer;
+
+import java.util.concurrent.Flow;
+
+/**
+ * An in-memory ProcessingChannel, which additionally provides its consumed DomainEvents as a reactive stream.
+ * Closing the channel completes all Flow.Subscribers.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryProcessingChannel extends ProcessingChannel implements FlowConsumingChannel, CloseableChannel {
+
+    private final FlowDomainEventConsumer flowDomainEventConsumer;
+
+    InMemoryProcessingChannel(
+        String name,
+        PublishingConfiguration publishingConfiguration,
+        InMemoryConsumingConfiguration consumingConfiguration,
+        FlowDomainEventConsumer flowDomainEventConsumer
+    ) {
+        super(name, publishingConfiguration, consumingConfiguration);
+        this.flowDomainEventConsumer = flowDomainEventConsumer;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * The subscription name is not relevant for in-memory processing.
+     */
+    @Override
+    public <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName) {
+        return flowDomainEventConsumer.flowPublisher(domainEventType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        flowDomainEventConsumer.close();
+    }
+}
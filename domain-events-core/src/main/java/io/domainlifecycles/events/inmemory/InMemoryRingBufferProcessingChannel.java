@@ -0,0 +1,68 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+import io.domainlifecycles.events.consume.FlowDomainEventConsumer;
+
+/**
+ * An in-memory ProcessingChannel handing published DomainEvents over to a ring buffer,
+ * which is drained by dedicated consumer threads (see {@link RingBufferDomainEventPublisher}).
+ * The channel must be closed to drain the ring buffer and stop the consumer threads.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryRingBufferProcessingChannel extends InMemoryProcessingChannel {
+
+    private final RingBufferDomainEventPublisher ringBufferDomainEventPublisher;
+
+    InMemoryRingBufferProcessingChannel(
+        String name,
+        RingBufferDomainEventPublisher ringBufferDomainEventPublisher,
+        InMemoryConsumingConfiguration consumingConfiguration,
+        FlowDomainEventConsumer flowDomainEventConsumer
+    ) {
+        super(name, new InMemoryPublishingConfiguration(ringBufferDomainEventPublisher), consumingConfiguration, flowDomainEventConsumer);
+        this.ringBufferDomainEventPublisher = ringBufferDomainEventPublisher;
+    }
+
+    /**
+     * Provides a snapshot of the current ring buffer metrics of this channel.
+     *
+     * @return the current metrics
+     */
+    public RingBufferMetrics metrics() {
+        return ringBufferDomainEventPublisher.metrics();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        ringBufferDomainEventPublisher.close();
+        super.close();
+    }
+}
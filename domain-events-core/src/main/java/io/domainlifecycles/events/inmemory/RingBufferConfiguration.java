@@ -0,0 +1,102 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.util.Objects;
+
+/**
+ * Represents the configuration of a ring buffer based, non-blocking in-memory channel
+ * (see {@link RingBufferDomainEventPublisher}).
+ *
+ * @author Mario Herb
+ */
+public class RingBufferConfiguration {
+
+    private static final int CAPACITY_DEFAULT = 1024;
+    private static final int CONSUMER_THREADS_DEFAULT = 1;
+    private static final BackpressurePolicy BACKPRESSURE_POLICY_DEFAULT = BackpressurePolicy.BLOCK;
+
+    private final int capacity;
+    private final int consumerThreads;
+    private final BackpressurePolicy backpressurePolicy;
+
+    /**
+     * Initializes a new RingBufferConfiguration.
+     *
+     * @param capacity the number of preallocated ring buffer slots, rounded up to the next power of two
+     * @param consumerThreads the number of threads draining the ring buffer. DomainEvents are consumed in publishing
+     *                        order only if a single consumer thread is used.
+     * @param backpressurePolicy defines the behaviour when publishing to a full ring buffer
+     */
+    public RingBufferConfiguration(int capacity, int consumerThreads, BackpressurePolicy backpressurePolicy) {
+        if(capacity < 2 || capacity > (1 << 30)){
+            throw DLCEventsException.fail("The ring buffer capacity must be between 2 and 2^30, but was %d!", capacity);
+        }
+        if(consumerThreads < 1){
+            throw DLCEventsException.fail("At least one consumer thread is required, but %d were configured!", consumerThreads);
+        }
+        this.capacity = capacity;
+        this.consumerThreads = consumerThreads;
+        this.backpressurePolicy = Objects.requireNonNull(backpressurePolicy, "A BackpressurePolicy is required!");
+    }
+
+    /**
+     * Initializes a new RingBufferConfiguration with default values
+     * (1024 slots, one consumer thread, {@link BackpressurePolicy#BLOCK}).
+     */
+    public RingBufferConfiguration() {
+        this(CAPACITY_DEFAULT, CONSUMER_THREADS_DEFAULT, BACKPRESSURE_POLICY_DEFAULT);
+    }
+
+    /**
+     * Retrieves the configured capacity of the ring buffer.
+     *
+     * @return the configured number of ring buffer slots
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the number of threads draining the ring buffer.
+     *
+     * @return the number of consumer threads
+     */
+    public int getConsumerThreads() {
+        return consumerThreads;
+    }
+
+    /**
+     * Retrieves the policy applied when publishing to a full ring buffer.
+     *
+     * @return the backpressure policy
+     */
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.DomainEventConsumer;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.publish.DomainEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The RingBufferDomainEventPublisher hands DomainEvents over to a preallocated, lock-free ring buffer,
+ * which is drained by a fixed number of dedicated consumer threads passing them to a DomainEventConsumer.
+ * <br>
+ * Publishing does not acquire any locks and does not allocate per event, so the publishing thread is decoupled from
+ * the DomainEvent handling. If the ring buffer is full, the configured {@link BackpressurePolicy} applies.
+ * Using a single consumer thread, DomainEvents are consumed in publishing order.
+ * <br>
+ * Be aware that message loss or ghost events are possible.
+ *
+ * @author Mario Herb
+ */
+public final class RingBufferDomainEventPublisher implements DomainEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferDomainEventPublisher.class);
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    private final DomainEventConsumer domainEventConsumer;
+    private final BackpressurePolicy backpressurePolicy;
+    private final DomainEventRingBuffer ringBuffer;
+    private final Worker[] workers;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    private final AtomicInteger activePublishers = new AtomicInteger();
+    private volatile boolean closed;
+    private volatile boolean sealed;
+
+    /**
+     * Initializes a new RingBufferDomainEventPublisher and starts its consumer threads.
+     *
+     * @param name the name used for the consumer threads (typically the channel name)
+     * @param domainEventConsumer the consumer the DomainEvents are passed to
+     * @param configuration the ring buffer configuration
+     */
+    public RingBufferDomainEventPublisher(
+        String name,
+        DomainEventConsumer domainEventConsumer,
+        RingBufferConfiguration configuration
+    ) {
+        Objects.requireNonNull(name, "A name is required!");
+        this.domainEventConsumer = Objects.requireNonNull(domainEventConsumer, "A DomainEventConsumer is required!");
+        Objects.requireNonNull(configuration, "A RingBufferConfiguration is required!");
+        this.backpressurePolicy = configuration.getBackpressurePolicy();
+        this.ringBuffer = new DomainEventRingBuffer(configuration.getCapacity());
+        this.workers = new Worker[configuration.getConsumerThreads()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker("dlc-ringbuffer-" + name + "-" + i);
+        }
+        for (var worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(DomainEvent domainEvent) {
+        Objects.requireNonNull(domainEvent, "A DomainEvent is required!");
+        activePublishers.incrementAndGet();
+        try {
+            if (closed) {
+                throw DLCEventsException.fail("Publishing DomainEvent '%s' failed, the ring buffer is already closed!", domainEvent);
+            }
+            log.debug("Handing DomainEvent {} over to ring buffer", domainEvent);
+            offer(domainEvent);
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        activePublishers.incrementAndGet();
+        try {
+            if (closed) {
+                throw DLCEventsException.fail("Publishing %d DomainEvents failed, the ring buffer is already closed!", domainEvents.size());
+            }
+            log.debug("Handing {} DomainEvents over to ring buffer", domainEvents.size());
+            for (var domainEvent : domainEvents) {
+                offer(Objects.requireNonNull(domainEvent, "A DomainEvent is required!"));
+            }
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    private void offer(DomainEvent domainEvent) {
+        while (!ringBuffer.offer(domainEvent)) {
+            switch (backpressurePolicy) {
+                case BLOCK -> {
+                    if (closed) {
+                        throw DLCEventsException.fail("Publishing DomainEvent '%s' failed, the ring buffer was closed while waiting!", domainEvent);
+                    }
+                    signal();
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                case DROP_OLDEST -> {
+                    var droppedEvent = ringBuffer.dropOldest();
+                    if (droppedEvent != null) {
+                        dropped.increment();
+                        log.warn("Ring buffer full, dropped DomainEvent {}", droppedEvent);
+                    }
+                }
+                case CALLER_RUNS -> {
+                    callerRuns.increment();
+                    log.debug("Ring buffer full, consuming DomainEvent {} in publishing thread", domainEvent);
+                    try {
+                        domainEventConsumer.consume(domainEvent);
+                    } catch (Throwable t) {
+                        failed.increment();
+                        throw t;
+                    }
+                    return;
+                }
+            }
+        }
+        published.increment();
+        signal();
+    }
+
+    private void signal() {
+        for (var worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops accepting DomainEvents, waits until all DomainEvents remaining in the ring buffer are consumed
+     * and terminates the consumer threads.
+     * <br>
+     * Publishing calls, that passed the closed check before, are awaited first. So every DomainEvent
+     * accepted by {@link #publish(DomainEvent)} is consumed before the consumer threads terminate.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        var deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MS;
+        while (activePublishers.get() > 0 && System.currentTimeMillis() < deadline) {
+            signal();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        if (activePublishers.get() > 0) {
+            log.warn("Publishing threads still active after {} ms, closing ring buffer anyway!", CLOSE_TIMEOUT_MS);
+        }
+        sealed = true;
+        for (var worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        for (var worker : workers) {
+            try {
+                worker.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (worker.thread.isAlive()) {
+                log.warn("Ring buffer consumer thread '{}' did not terminate within {} ms!", worker.thread.getName(), CLOSE_TIMEOUT_MS);
+            }
+        }
+    }
+
+    /**
+     * Provides a snapshot of the current ring buffer metrics.
+     *
+     * @return the current metrics
+     */
+    public RingBufferMetrics metrics() {
+        return new RingBufferMetrics(
+            ringBuffer.capacity(),
+            ringBuffer.size(),
+            published.sum(),
+            consumed.sum(),
+            failed.sum(),
+            dropped.sum(),
+            callerRuns.sum(),
+            ringBuffer.lastLagNanos(),
+            ringBuffer.maxLagNanos()
+        );
+    }
+
+    private final class Worker implements Runnable {
+
+        private final Thread thread;
+        private final DomainEventRingBuffer.Polled polled = new DomainEventRingBuffer.Polled();
+        private volatile boolean parked;
+
+        private Worker(String threadName) {
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                if (ringBuffer.poll(polled, true)) {
+                    idle = 0;
+                    consume(polled.domainEvent, polled.traceContext);
+                    polled.domainEvent = null;
+                    polled.traceContext = null;
+                } else if (sealed && ringBuffer.isEmpty()) {
+                    return;
+                } else if (idle < IDLE_SPINS) {
+                    idle++;
+                    Thread.onSpinWait();
+                } else {
+                    parked = true;
+                    if (ringBuffer.isEmpty() && !sealed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    parked = false;
+                }
+            }
+        }
+
+        private void consume(DomainEvent domainEvent, DomainEventTraceContext traceContext) {
+            try (var scope = DomainEventTraceContext.open(traceContext)) {
+                domainEventConsumer.consume(domainEvent);
+                consumed.increment();
+            } catch (Throwable t) {
+                failed.increment();
+                log.error("Consuming DomainEvent {} from ring buffer failed!", domainEvent, t);
+            }
+        }
+    }
+}
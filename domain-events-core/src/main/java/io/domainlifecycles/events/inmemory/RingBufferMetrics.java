@@ -0,0 +1,55 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.inmemory;
+
+/**
+ * A snapshot of the metrics of a {@link RingBufferDomainEventPublisher}.
+ *
+ * @param capacity      the number of ring buffer slots
+ * @param queueDepth    the number of DomainEvents currently waiting in the ring buffer
+ * @param published     the number of DomainEvents put into the ring buffer
+ * @param consumed      the number of DomainEvents taken from the ring buffer by the consumer threads
+ * @param failed        the number of DomainEvents whose consumption failed with an exception, including those
+ *                      consumed by the publishing thread due to {@link BackpressurePolicy#CALLER_RUNS}
+ * @param dropped       the number of DomainEvents discarded by {@link BackpressurePolicy#DROP_OLDEST}
+ * @param callerRuns    the number of DomainEvents consumed by the publishing thread due to {@link BackpressurePolicy#CALLER_RUNS}
+ * @param lastLagNanos  the time the most recently consumed DomainEvent waited in the ring buffer, in nanoseconds
+ * @param maxLagNanos   the maximum time a DomainEvent waited in the ring buffer, in nanoseconds
+ *
+ * @author Mario Herb
+ */
+public record RingBufferMetrics(
+    int capacity,
+    long queueDepth,
+    long published,
+    long consumed,
+    long failed,
+    long dropped,
+    long callerRuns,
+    long lastLagNanos,
+    long maxLagNanos
+) {
+}
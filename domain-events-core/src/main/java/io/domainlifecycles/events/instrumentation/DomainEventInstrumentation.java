@@ -0,0 +1,95 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.instrumentation;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+
+/**
+ * Service provider interface for instrumenting the DomainEvent dispatching, e.g. to record timers, counters or
+ * in-flight gauges per DomainEvent type and handler with a metrics library.
+ * <br>
+ * All methods are called synchronously on the dispatching threads and must therefore be cheap and must not throw.
+ * Every method has a no-op default, so implementations only override what they need.
+ * An instrumentation is activated by {@link EventsInstrumentation#register(DomainEventInstrumentation)}.
+ *
+ * @author Mario Herb
+ */
+public interface DomainEventInstrumentation {
+
+    /**
+     * An instrumentation doing nothing. It is active by default.
+     */
+    DomainEventInstrumentation NOOP = new DomainEventInstrumentation() {
+    };
+
+    /**
+     * Called after the execution contexts (handlers) for a consumed DomainEvent were detected.
+     *
+     * @param domainEvent the consumed DomainEvent
+     * @param executionContextCount the number of detected execution contexts
+     * @param durationNanos the time the detection took
+     */
+    default void executionContextsDetected(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+    }
+
+    /**
+     * Called before a handler is executed.
+     *
+     * @param executionContext describes the handler and the DomainEvent
+     */
+    default void handlerStarted(ExecutionContext executionContext) {
+    }
+
+    /**
+     * Called after a handler was executed (successfully or not).
+     *
+     * @param executionContext describes the handler and the DomainEvent
+     * @param success true, if the handler was executed successfully
+     * @param durationNanos the time the handler execution took
+     */
+    default void handlerFinished(ExecutionContext executionContext, boolean success, long durationNanos) {
+    }
+
+    /**
+     * Called after an AggregateRoot was updated on its repository, after one of its handlers was executed.
+     *
+     * @param executionContext describes the handler and the DomainEvent
+     * @param durationNanos the time the update took
+     */
+    default void aggregateUpdated(ExecutionContext executionContext, long durationNanos) {
+    }
+
+    /**
+     * Called after a DomainEvent was consumed, i.e. all its handlers were executed.
+     *
+     * @param domainEvent the consumed DomainEvent
+     * @param executionContextCount the number of executed handlers
+     * @param durationNanos the time the whole consumption took
+     */
+    default void domainEventConsumed(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.instrumentation;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A lightweight trace context bound to the current thread. It is propagated by DLC along the DomainEvent dispatching,
+ * across asynchronous handler execution, the in-memory ring buffer handoff and message broker hops
+ * (as message property {@link #TRACE_ID_PROPERTY}), so that instrumentations can correlate handler executions
+ * with the command that published the DomainEvent.
+ * <br>
+ * DLC never starts a trace on its own, it only propagates a trace context opened by the application.
+ *
+ * @param traceId the id identifying the trace
+ *
+ * @author Mario Herb
+ */
+public record DomainEventTraceContext(String traceId) {
+
+    /**
+     * The name of the message property carrying the trace id over message broker hops.
+     */
+    public static final String TRACE_ID_PROPERTY = "dlcTraceId";
+
+    private static final ThreadLocal<DomainEventTraceContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Initializes a new trace context.
+     *
+     * @param traceId the id identifying the trace
+     */
+    public DomainEventTraceContext {
+        Objects.requireNonNull(traceId, "A traceId is required!");
+    }
+
+    /**
+     * Creates a trace context with a random trace id.
+     *
+     * @return a new trace context
+     */
+    public static DomainEventTraceContext newTrace() {
+        return new DomainEventTraceContext(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Retrieves the trace context bound to the current thread.
+     *
+     * @return the current trace context or null
+     */
+    public static DomainEventTraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the given trace context to the current thread until the returned scope is closed.
+     * Closing the scope restores the previously bound trace context.
+     *
+     * @param traceContext the trace context to be bound, null unbinds the current one
+     * @return the scope to be closed
+     */
+    public static Scope open(DomainEventTraceContext traceContext) {
+        var previous = CURRENT.get();
+        if (traceContext == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(traceContext);
+        }
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * The scope of a bound trace context.
+     */
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Restores the previously bound trace context.
+         */
+        @Override
+        void close();
+    }
+}
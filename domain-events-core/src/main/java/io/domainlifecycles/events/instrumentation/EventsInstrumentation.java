@@ -0,0 +1,77 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.instrumentation;
+
+import java.util.Objects;
+
+/**
+ * Holds the {@link DomainEventInstrumentation} used by the DomainEvent dispatching.
+ * By default {@link DomainEventInstrumentation#NOOP} is active.
+ *
+ * @author Mario Herb
+ */
+public final class EventsInstrumentation {
+
+    private static volatile DomainEventInstrumentation instrumentation = DomainEventInstrumentation.NOOP;
+
+    private EventsInstrumentation() {
+    }
+
+    /**
+     * Registers the DomainEventInstrumentation to be used.
+     *
+     * @param domainEventInstrumentation the instrumentation to be used
+     */
+    public static void register(DomainEventInstrumentation domainEventInstrumentation) {
+        instrumentation = Objects.requireNonNull(domainEventInstrumentation, "A DomainEventInstrumentation is required!");
+    }
+
+    /**
+     * Resets the instrumentation to {@link DomainEventInstrumentation#NOOP}.
+     */
+    public static void reset() {
+        instrumentation = DomainEventInstrumentation.NOOP;
+    }
+
+    /**
+     * Retrieves the active DomainEventInstrumentation.
+     *
+     * @return the active instrumentation
+     */
+    public static DomainEventInstrumentation current() {
+        return instrumentation;
+    }
+
+    /**
+     * Checks, if an instrumentation other than the no-op default is active.
+     * Used to avoid measuring durations if nobody records them.
+     *
+     * @return true, if an instrumentation is registered
+     */
+    public static boolean isEnabled() {
+        return instrumentation != DomainEventInstrumentation.NOOP;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.instrumentation;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A DomainEventInstrumentation keeping execution statistics per DomainEvent type and handler in memory.
+ * It can be used directly to find slow handlers, or as a template for an adapter to a metrics library.
+ *
+ * @author Mario Herb
+ */
+public class StatisticsDomainEventInstrumentation implements DomainEventInstrumentation {
+
+    private final Map<HandlerKey, Counters> handlerCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counters> detectionCounters = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executionContextsDetected(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+        detectionCounters.computeIfAbsent(domainEvent.getClass().getName(), k -> new Counters())
+            .record(true, durationNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlerStarted(ExecutionContext executionContext) {
+        counters(executionContext).inFlight.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlerFinished(ExecutionContext executionContext, boolean success, long durationNanos) {
+        var counters = counters(executionContext);
+        counters.inFlight.decrementAndGet();
+        counters.record(success, durationNanos);
+    }
+
+    private Counters counters(ExecutionContext executionContext) {
+        return handlerCounters.computeIfAbsent(
+            new HandlerKey(
+                executionContext.domainEvent().getClass().getName(),
+                executionContext.handlerTypeName(),
+                executionContext.handlerMethodName()
+            ),
+            k -> new Counters()
+        );
+    }
+
+    /**
+     * Provides the statistics of all handlers executed so far, the handlers with the highest total execution time first.
+     *
+     * @return the handler statistics
+     */
+    public List<HandlerStatistics> handlerStatistics() {
+        return handlerCounters.entrySet().stream()
+            .map(e -> new HandlerStatistics(
+                e.getKey().domainEventTypeName(),
+                e.getKey().handlerTypeName(),
+                e.getKey().handlerMethodName(),
+                e.getValue().executions.sum(),
+                e.getValue().failures.sum(),
+                e.getValue().inFlight.get(),
+                e.getValue().totalNanos.sum(),
+                e.getValue().maxNanos.get()
+            ))
+            .sorted(Comparator.comparingLong(HandlerStatistics::totalNanos).reversed())
+            .toList();
+    }
+
+    /**
+     * Provides the total time spent on detecting the handlers per DomainEvent type.
+     *
+     * @return the detection time in nanoseconds per DomainEvent type name
+     */
+    public Map<String, Long> detectionNanos() {
+        return detectionCounters.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().totalNanos.sum()));
+    }
+
+    /**
+     * Execution statistics of a handler for a DomainEvent type.
+     *
+     * @param domainEventTypeName the full qualified name of the DomainEvent type
+     * @param handlerTypeName the full qualified name of the handler type
+     * @param handlerMethodName the name of the handler method
+     * @param executions the number of executions
+     * @param failures the number of failed executions
+     * @param inFlight the number of currently running executions
+     * @param totalNanos the total execution time
+     * @param maxNanos the maximum execution time
+     */
+    public record HandlerStatistics(
+        String domainEventTypeName,
+        String handlerTypeName,
+        String handlerMethodName,
+        long executions,
+        long failures,
+        long inFlight,
+        long totalNanos,
+        long maxNanos
+    ) {
+    }
+
+    private record HandlerKey(String domainEventTypeName, String handlerTypeName, String handlerMethodName) {
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private void record(boolean success, long durationNanos) {
+            executions.increment();
+            if (!success) {
+                failures.increment();
+            }
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+        }
+    }
+}
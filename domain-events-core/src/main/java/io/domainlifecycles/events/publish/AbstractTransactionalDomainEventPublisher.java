@@ -28,6 +28,8 @@ package io.domainlifecycles.events.publish;
 
 import io.domainlifecycles.domain.types.DomainEvent;
 
+import java.util.List;
+
 /**
  * An abstract class that serves as a base for implementing transactional domain event publishers.
  * Subclasses must implement the 'send' method to handle the actual sending of domain events.
@@ -43,4 +45,14 @@ public abstract class AbstractTransactionalDomainEventPublisher implements Domai
      */
     abstract protected void send(DomainEvent domainEvent);
 
+    /**
+     * Sends the given DomainEvents in specific transaction phase, preserving their order.
+     * By default, each DomainEvent is sent separately.
+     *
+     * @param domainEvents the DomainEvents to be sent
+     */
+    protected void sendBatch(List<DomainEvent> domainEvents) {
+        domainEvents.forEach(this::send);
+    }
+
 }
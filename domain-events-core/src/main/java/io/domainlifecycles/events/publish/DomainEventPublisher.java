@@ -28,6 +28,8 @@ package io.domainlifecycles.events.publish;
 
 import io.domainlifecycles.domain.types.DomainEvent;
 
+import java.util.List;
+
 /**
  * The central interface for a domain publisher.
  * Implementing this interfaces can enable different technical
@@ -43,4 +45,16 @@ public interface DomainEventPublisher {
      * @param domainEvent being published
      */
      void publish(DomainEvent domainEvent);
+
+    /**
+     * Publish multiple domainEvents with the underlying technical event bus, preserving their order.
+     * By default, each DomainEvent is published separately.
+     * Implementations should override this method, if the underlying event bus
+     * can handle multiple DomainEvents more efficiently at once (e.g. one transaction or one send sequence).
+     *
+     * @param domainEvents being published
+     */
+    default void publishBatch(List<DomainEvent> domainEvents) {
+        domainEvents.forEach(this::publish);
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.serialize;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+
+import java.util.Base64;
+
+/**
+ * A byte-oriented variant of the {@link DomainEventSerializer}, e.g. for compact binary encodings like Smile or CBOR.
+ * <p>
+ * Transports supporting binary payloads (like the MQ integrations sending JMS {@code BytesMessage}s) use
+ * {@link #serializeToBytes(DomainEvent)} and {@link #deserializeFromBytes(byte[], Class)} directly.
+ * Transports only supporting text (like an outbox table) fall back to the String based methods, which by default
+ * Base64 encode the binary representation. Therefore, a pure binary serializer cannot read text payloads written by
+ * a text serializer (e.g. JSON messages of publishers not yet switched). Use a
+ * {@link TextFallbackBinaryDomainEventSerializer} to accept both during a rollout.
+ *
+ * @author Mario Herb
+ */
+public interface BinaryDomainEventSerializer extends DomainEventSerializer {
+
+    /**
+     * Serializes a given {@link DomainEvent} into its binary representation.
+     *
+     * @param event the {@code DomainEvent} to be serialized; must not be null
+     * @return the binary representation of the provided {@code DomainEvent}
+     */
+    byte[] serializeToBytes(DomainEvent event);
+
+    /**
+     * Deserializes the provided binary representation of a {@link DomainEvent} into an instance
+     * of the specified domain event type.
+     *
+     * @param serializedEvent the binary representation of a {@code DomainEvent}; must not be null
+     * @param eventType the target class type of the domain event to deserialize into; must not be null
+     * @return an instance of the deserialized {@code DomainEvent} of the specified type
+     */
+    DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> eventType);
+
+    /**
+     * Serializes a given {@link DomainEvent} into the Base64 encoded String of its binary representation.
+     *
+     * @param event the {@code DomainEvent} to be serialized; must not be null
+     * @return the Base64 encoded binary representation of the provided {@code DomainEvent}
+     */
+    @Override
+    default String serialize(DomainEvent event) {
+        return Base64.getEncoder().encodeToString(serializeToBytes(event));
+    }
+
+    /**
+     * Deserializes the Base64 encoded binary representation of a {@link DomainEvent}.
+     *
+     * @param serializedEvent the Base64 encoded binary representation of a {@code DomainEvent}; must not be null
+     * @param eventType the target class type of the domain event to deserialize into; must not be null
+     * @return an instance of the deserialized {@code DomainEvent} of the specified type
+     */
+    @Override
+    default DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+        return deserializeFromBytes(Base64.getDecoder().decode(serializedEvent), eventType);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+
+import java.util.Objects;
+
+/**
+ * A {@link BinaryDomainEventSerializer} combining a binary serializer with a text serializer.
+ * <p>
+ * Binary payloads (e.g. JMS {@code BytesMessage}s) are handled by the binary serializer, text payloads
+ * (e.g. JMS {@code TextMessage}s or outbox rows) by the text serializer. Configured on the consuming side, it accepts
+ * text messages of publishers still using the text serializer as well as binary messages of publishers already
+ * switched to the binary serializer, so that publishers can be switched one by one. Configured on the publishing side,
+ * messages are sent binary, whereas text-only transports keep storing the text representation (instead of Base64
+ * encoded binary payloads).
+ *
+ * @author Mario Herb
+ */
+public class TextFallbackBinaryDomainEventSerializer implements BinaryDomainEventSerializer {
+
+    private final DomainEventSerializer textSerializer;
+    private final BinaryDomainEventSerializer binarySerializer;
+
+    /**
+     * Creates a serializer using the given serializers for text and binary payloads.
+     *
+     * @param textSerializer the serializer for text payloads, e.g. a JSON based serializer
+     * @param binarySerializer the serializer for binary payloads, e.g. a Smile or CBOR based serializer
+     */
+    public TextFallbackBinaryDomainEventSerializer(DomainEventSerializer textSerializer,
+                                                   BinaryDomainEventSerializer binarySerializer) {
+        this.textSerializer = Objects.requireNonNull(textSerializer, "A textSerializer is required!");
+        this.binarySerializer = Objects.requireNonNull(binarySerializer, "A binarySerializer is required!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serializeToBytes(DomainEvent event) {
+        return binarySerializer.serializeToBytes(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> eventType) {
+        return binarySerializer.deserializeFromBytes(serializedEvent, eventType);
+    }
+
+    /**
+     * Serializes the given {@link DomainEvent} by the text serializer.
+     *
+     * @param event the {@code DomainEvent} to be serialized; must not be null
+     * @return the text representation of the provided {@code DomainEvent}
+     */
+    @Override
+    public String serialize(DomainEvent event) {
+        return textSerializer.serialize(event);
+    }
+
+    /**
+     * Deserializes the given text representation by the text serializer.
+     *
+     * @param serializedEvent the text representation of a {@code DomainEvent}; must not be null
+     * @param eventType the target class type of the domain event to deserialize into; must not be null
+     * @return an instance of the deserialized {@code DomainEvent} of the specified type
+     */
+    @Override
+    public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+        return textSerializer.deserialize(serializedEvent, eventType);
+    }
+}
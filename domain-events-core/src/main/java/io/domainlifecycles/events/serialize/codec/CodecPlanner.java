@@ -0,0 +1,275 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize.codec;
+
+import io.domainlifecycles.mirror.api.AssertedContainableTypeMirror;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.api.DomainType;
+import io.domainlifecycles.mirror.api.DomainTypeMirror;
+import io.domainlifecycles.mirror.api.FieldMirror;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Builds {@link ObjectCodec}s based on the {@link Domain} mirror.
+ * <p>
+ * All reflective work (resolving field types, getters, setters and constructors) happens here, once per type.
+ * Types which cannot be encoded positionally (e.g. containing entity references, maps, arrays, streams,
+ * recursive value objects or types without a suitable constructor) are reported as unsupported.
+ *
+ * @author Mario Herb
+ */
+final class CodecPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(CodecPlanner.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final Map<Class<?>, ObjectCodec> objectCodecs = new HashMap<>();
+    private final Set<Class<?>> inProgress = new HashSet<>();
+
+    /**
+     * @param type the type to plan
+     * @return the plan for the given mirrored type or an empty Optional, if the type cannot be encoded positionally
+     */
+    synchronized Optional<ObjectCodec> plan(Class<?> type) {
+        try {
+            return Optional.of(objectCodec(type));
+        } catch (UnsupportedTypeException e) {
+            log.debug("No positional codec plan for '{}': {}", type.getName(), e.getMessage());
+            return Optional.empty();
+        } finally {
+            inProgress.clear();
+        }
+    }
+
+    private ObjectCodec objectCodec(Class<?> type) {
+        var cached = objectCodecs.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        if (!inProgress.add(type)) {
+            throw new UnsupportedTypeException("recursive type " + type.getName());
+        }
+        DomainTypeMirror mirror = Domain.<DomainTypeMirror>typeMirror(type.getName())
+            .orElseThrow(() -> new UnsupportedTypeException("no mirror for " + type.getName()));
+        if (mirror.isAbstract() || type.isInterface()) {
+            throw new UnsupportedTypeException("abstract type " + type.getName());
+        }
+        var fieldMirrors = mirror.getAllFields().stream()
+            .filter(f -> !f.isStatic())
+            .toList();
+        // the value of an Identity is mandatory, so Identities are written as their bare value
+        var identity = mirror.getDomainType() == DomainType.IDENTITY;
+        var size = fieldMirrors.size();
+        var names = new String[size];
+        var fields = new Field[size];
+        var getters = new MethodHandle[size];
+        var codecs = new ValueCodec[size];
+        for (int i = 0; i < size; i++) {
+            var fieldMirror = fieldMirrors.get(i);
+            names[i] = fieldMirror.getName();
+            fields[i] = javaField(type, fieldMirror);
+            getters[i] = unreflect(fields[i], true);
+            codecs[i] = fieldCodec(fields[i], fieldMirror.getType(), identity);
+        }
+        var codec = instantiation(type, names, fields, getters, codecs);
+        objectCodecs.put(type, codec);
+        inProgress.remove(type);
+        return codec;
+    }
+
+    private ObjectCodec instantiation(Class<?> type,
+                                      String[] names,
+                                      Field[] fields,
+                                      MethodHandle[] getters,
+                                      ValueCodec[] codecs) {
+        var fieldTypes = Arrays.stream(fields).map(Field::getType).toArray(Class<?>[]::new);
+        if (type.isRecord()) {
+            var components = type.getRecordComponents();
+            var componentNames = Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new);
+            var componentTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            if (!Arrays.equals(componentNames, names)) {
+                throw new UnsupportedTypeException("record components differ from mirrored fields of " + type.getName());
+            }
+            return new ObjectCodec(type, names, getters, codecs, constructor(type, componentTypes), null);
+        }
+        for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+            if (Arrays.equals(candidate.getParameterTypes(), fieldTypes) && fieldTypes.length > 0
+                && unambiguous(candidate, names, fieldTypes)) {
+                return new ObjectCodec(type, names, getters, codecs, constructor(type, fieldTypes), null);
+            }
+        }
+        var setters = new MethodHandle[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            if (Modifier.isFinal(fields[i].getModifiers())) {
+                throw new UnsupportedTypeException("no constructor taking all fields of " + type.getName());
+            }
+            setters[i] = unreflect(fields[i], false);
+        }
+        return new ObjectCodec(type, names, getters, codecs, constructor(type), setters);
+    }
+
+    /**
+     * A constructor matching the field types positionally is only used, if its parameter names are known to
+     * match the field names or if all field types are distinct, so that values cannot be mixed up.
+     */
+    private static boolean unambiguous(Constructor<?> constructor, String[] names, Class<?>[] fieldTypes) {
+        var parameters = constructor.getParameters();
+        if (parameters.length > 0 && parameters[0].isNamePresent()) {
+            var parameterNames = Arrays.stream(parameters).map(Parameter::getName).toArray(String[]::new);
+            return Arrays.equals(parameterNames, names);
+        }
+        return new HashSet<>(Arrays.asList(fieldTypes)).size() == fieldTypes.length;
+    }
+
+    private ValueCodec fieldCodec(Field field, AssertedContainableTypeMirror typeMirror, boolean required) {
+        var fieldType = field.getType();
+        if (typeMirror.hasStreamContainer() || (typeMirror.isArray() && fieldType != byte[].class)) {
+            throw new UnsupportedTypeException("unsupported container of field " + field);
+        }
+        if (typeMirror.hasOptionalContainer()) {
+            return ValueCodecs.nullable(ValueCodecs.optional(valueCodec(elementType(field), typeMirror)));
+        }
+        if (typeMirror.hasListContainer()
+            || (typeMirror.hasCollectionContainer() && !typeMirror.hasSetContainer())) {
+            if (!fieldType.isAssignableFrom(ArrayList.class)) {
+                throw new UnsupportedTypeException("unsupported list type of field " + field);
+            }
+            return ValueCodecs.nullable(ValueCodecs.list(valueCodec(elementType(field), typeMirror)));
+        }
+        if (typeMirror.hasSetContainer()) {
+            if (!fieldType.isAssignableFrom(LinkedHashSet.class)) {
+                throw new UnsupportedTypeException("unsupported set type of field " + field);
+            }
+            return ValueCodecs.nullable(ValueCodecs.set(valueCodec(elementType(field), typeMirror)));
+        }
+        var codec = valueCodec(fieldType, typeMirror);
+        if (fieldType.isPrimitive()) {
+            return codec;
+        }
+        return required ? ValueCodecs.required(codec, field) : ValueCodecs.nullable(codec);
+    }
+
+    private ValueCodec valueCodec(Class<?> type, AssertedContainableTypeMirror typeMirror) {
+        if (type.isEnum()) {
+            return ValueCodecs.forEnum(type);
+        }
+        return switch (typeMirror.getDomainType()) {
+            case IDENTITY, VALUE_OBJECT -> objectCodec(type);
+            case NON_DOMAIN -> {
+                var scalar = ValueCodecs.scalar(type);
+                if (scalar == null) {
+                    throw new UnsupportedTypeException("unsupported type " + type.getName());
+                }
+                yield scalar;
+            }
+            default -> throw new UnsupportedTypeException(
+                "unsupported " + typeMirror.getDomainType() + " " + type.getName());
+        };
+    }
+
+    private static Class<?> elementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> elementClass) {
+                return elementClass;
+            }
+            if (argument instanceof ParameterizedType parameterizedArgument
+                && parameterizedArgument.getRawType() instanceof Class<?> rawClass) {
+                return rawClass;
+            }
+        }
+        throw new UnsupportedTypeException("unresolved element type of field " + field);
+    }
+
+    private static Field javaField(Class<?> type, FieldMirror fieldMirror) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (current.getName().equals(fieldMirror.getDeclaredByTypeName())) {
+                try {
+                    return current.getDeclaredField(fieldMirror.getName());
+                } catch (NoSuchFieldException e) {
+                    break;
+                }
+            }
+        }
+        throw new UnsupportedTypeException("no field " + fieldMirror.getName() + " in " + type.getName());
+    }
+
+    private MethodHandle unreflect(Field field, boolean getter) {
+        try {
+            field.setAccessible(true);
+            return getter
+                ? lookup.unreflectGetter(field).asType(GETTER_TYPE)
+                : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new UnsupportedTypeException("inaccessible field " + field);
+        }
+    }
+
+    private MethodHandle constructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            var constructor = type.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return lookup.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new UnsupportedTypeException("no accessible constructor of " + type.getName());
+        }
+    }
+
+    private static final class UnsupportedTypeException extends RuntimeException {
+
+        UnsupportedTypeException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
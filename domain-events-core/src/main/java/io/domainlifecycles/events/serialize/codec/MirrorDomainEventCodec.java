@@ -0,0 +1,187 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize.codec;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.api.DomainEventMirror;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact, schema based {@link BinaryDomainEventSerializer}, driven by the {@link Domain} mirror.
+ * <p>
+ * For each {@link DomainEvent} type a positional codec plan is compiled once (either eagerly by
+ * {@link #precompile()} or lazily on first use). Field values are written in mirror field order without field names,
+ * Identities are written as their bare value, ValueObjects as their field values, and all accessors are resolved
+ * {@link java.lang.invoke.MethodHandle}s. No reflection happens per message.
+ * <p>
+ * Each payload carries a fingerprint of the wire layout of its event type. Decoding a payload written with a
+ * different layout fails fast with a {@link DLCEventsException}, so producers and consumers need to be deployed
+ * with compatible event types.
+ * <p>
+ * DomainEvent types, which cannot be encoded positionally (e.g. referencing entities or containing maps or
+ * arrays), are transparently encoded by the given fallback serializer.
+ *
+ * @author Mario Herb
+ */
+public class MirrorDomainEventCodec implements BinaryDomainEventSerializer {
+
+    private static final byte FORMAT_FALLBACK = 0;
+    private static final byte FORMAT_PLAN = 1;
+
+    private final DomainEventSerializer fallbackSerializer;
+    private final CodecPlanner planner = new CodecPlanner();
+    private final Map<Class<?>, Optional<ObjectCodec>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * @param fallbackSerializer the serializer used for all DomainEvent types, which cannot be encoded positionally
+     */
+    public MirrorDomainEventCodec(DomainEventSerializer fallbackSerializer) {
+        this.fallbackSerializer = Objects.requireNonNull(fallbackSerializer, "A fallbackSerializer is required!");
+    }
+
+    /**
+     * Compiles the codec plans of all mirrored DomainEvent types, to avoid planning on first use.
+     *
+     * @return the number of DomainEvent types, which are encoded positionally
+     */
+    public int precompile() {
+        var classLoader = MirrorDomainEventCodec.class.getClassLoader();
+        int planned = 0;
+        for (DomainEventMirror eventMirror : Domain.getDomainMirror().getAllDomainEventMirrors()) {
+            if (eventMirror.isAbstract()) {
+                continue;
+            }
+            try {
+                var eventType = Class.forName(eventMirror.getTypeName(), false, classLoader);
+                if (planFor(eventType).isPresent()) {
+                    planned++;
+                }
+            } catch (ClassNotFoundException e) {
+                throw DLCEventsException.fail("DomainEvent class '%s' not found!", e, eventMirror.getTypeName());
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * @param eventType the DomainEvent type
+     * @return true, if the given DomainEvent type is encoded positionally, false if the fallback serializer is used
+     */
+    public boolean isPositional(Class<? extends DomainEvent> eventType) {
+        return planFor(eventType).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serializeToBytes(DomainEvent event) {
+        var plan = planFor(event.getClass());
+        var bytes = new ByteArrayOutputStream(128);
+        try (var out = new DataOutputStream(bytes)) {
+            if (plan.isPresent()) {
+                out.writeByte(FORMAT_PLAN);
+                out.writeInt(plan.get().fingerprint());
+                plan.get().write(out, event);
+            } else {
+                out.writeByte(FORMAT_FALLBACK);
+                out.write(fallbackBytes(event));
+            }
+        } catch (IOException e) {
+            throw DLCEventsException.fail("Serializing DomainEvent '%s' failed!", e, event);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> eventType) {
+        if (serializedEvent.length == 0) {
+            throw DLCEventsException.fail("Empty payload for DomainEvent '%s'!", eventType.getName());
+        }
+        if (serializedEvent[0] == FORMAT_FALLBACK) {
+            return fallbackEvent(Arrays.copyOfRange(serializedEvent, 1, serializedEvent.length), eventType);
+        }
+        if (serializedEvent[0] != FORMAT_PLAN) {
+            throw DLCEventsException.fail("Unknown payload format '%s' for DomainEvent '%s'!",
+                serializedEvent[0], eventType.getName());
+        }
+        var plan = planFor(eventType).orElseThrow(() -> DLCEventsException.fail(
+            "DomainEvent '%s' was encoded positionally, but cannot be decoded positionally!", eventType.getName()));
+        try (var in = new DataInputStream(
+            new ByteArrayInputStream(serializedEvent, 1, serializedEvent.length - 1))) {
+            var fingerprint = in.readInt();
+            if (fingerprint != plan.fingerprint()) {
+                throw DLCEventsException.fail(
+                    "Schema fingerprint mismatch for DomainEvent '%s': payload %s, local %s (%s)!",
+                    eventType.getName(), fingerprint, plan.fingerprint(), plan.schema());
+            }
+            return (DomainEvent) plan.read(in);
+        } catch (IOException e) {
+            throw DLCEventsException.fail("Deserializing DomainEvent '%s' failed!", e, eventType.getName());
+        }
+    }
+
+    private Optional<ObjectCodec> planFor(Class<?> eventType) {
+        var plan = plans.get(eventType);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(eventType, planner::plan);
+        }
+        return plan;
+    }
+
+    private byte[] fallbackBytes(DomainEvent event) {
+        if (fallbackSerializer instanceof BinaryDomainEventSerializer binarySerializer) {
+            return binarySerializer.serializeToBytes(event);
+        }
+        return fallbackSerializer.serialize(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private DomainEvent fallbackEvent(byte[] bytes, Class<? extends DomainEvent> eventType) {
+        if (fallbackSerializer instanceof BinaryDomainEventSerializer binarySerializer) {
+            return binarySerializer.deserializeFromBytes(bytes, eventType);
+        }
+        return fallbackSerializer.deserialize(new String(bytes, StandardCharsets.UTF_8), eventType);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize.codec;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The precompiled positional plan of a DomainEvent, ValueObject or Identity type.
+ * <p>
+ * Field values are read by {@link MethodHandle}s resolved once when the plan is built, and written in
+ * mirror field order without any field names. Instances are created either by a constructor taking all fields
+ * or by a no-args constructor followed by field setters.
+ *
+ * @author Mario Herb
+ */
+final class ObjectCodec implements ValueCodec {
+
+    private final Class<?> type;
+    private final MethodHandle[] getters;
+    private final ValueCodec[] codecs;
+    private final MethodHandle constructor;
+    private final MethodHandle[] setters;
+    private final String schema;
+    private final int fingerprint;
+
+    /**
+     * @param type the encoded type
+     * @param fieldNames the names of the encoded fields
+     * @param getters the getters of the encoded fields, of type {@code (Object)Object}
+     * @param codecs the codecs of the encoded fields
+     * @param constructor the constructor of type {@code (Object[])Object}, either taking all field values
+     *                    in field order, or no values at all, if setters are provided
+     * @param setters the setters of type {@code (Object,Object)void}, or null if the constructor takes all fields
+     */
+    ObjectCodec(Class<?> type,
+                String[] fieldNames,
+                MethodHandle[] getters,
+                ValueCodec[] codecs,
+                MethodHandle constructor,
+                MethodHandle[] setters) {
+        this.type = type;
+        this.getters = getters;
+        this.codecs = codecs;
+        this.constructor = constructor;
+        this.setters = setters;
+        var schemaBuilder = new StringBuilder(type.getName()).append('{');
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (i > 0) {
+                schemaBuilder.append(',');
+            }
+            schemaBuilder.append(fieldNames[i]).append(':').append(codecs[i].schema());
+        }
+        this.schema = schemaBuilder.append('}').toString();
+        var crc = new CRC32();
+        crc.update(schema.getBytes(StandardCharsets.UTF_8));
+        this.fingerprint = (int) crc.getValue();
+    }
+
+    @Override
+    public void write(DataOutput out, Object value) throws IOException {
+        for (int i = 0; i < getters.length; i++) {
+            Object fieldValue;
+            try {
+                fieldValue = (Object) getters[i].invokeExact(value);
+            } catch (Throwable t) {
+                throw DLCEventsException.fail("Reading field value of '%s' failed!", t, type.getName());
+            }
+            codecs[i].write(out, fieldValue);
+        }
+    }
+
+    @Override
+    public Object read(DataInput in) throws IOException {
+        var values = new Object[codecs.length];
+        for (int i = 0; i < codecs.length; i++) {
+            values[i] = codecs[i].read(in);
+        }
+        try {
+            if (setters == null) {
+                return (Object) constructor.invokeExact(values);
+            }
+            var instance = (Object) constructor.invokeExact(new Object[0]);
+            for (int i = 0; i < setters.length; i++) {
+                setters[i].invokeExact(instance, values[i]);
+            }
+            return instance;
+        } catch (Throwable t) {
+            throw DLCEventsException.fail("Instantiating '%s' failed!", t, type.getName());
+        }
+    }
+
+    @Override
+    public String schema() {
+        return schema;
+    }
+
+    /**
+     * @return the CRC32 checksum of the {@link #schema()}, identifying the wire layout of the encoded type
+     */
+    int fingerprint() {
+        return fingerprint;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads values of a single Java type in the compact positional format of the
+ * {@link MirrorDomainEventCodec}.
+ *
+ * @author Mario Herb
+ */
+interface ValueCodec {
+
+    /**
+     * Writes the given value.
+     *
+     * @param out the output to write to
+     * @param value the value to write, only null for codecs created by {@link ValueCodecs#nullable(ValueCodec)}
+     * @throws IOException if writing fails
+     */
+    void write(DataOutput out, Object value) throws IOException;
+
+    /**
+     * Reads a value, previously written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in the input to read from
+     * @return the value read
+     * @throws IOException if reading fails
+     */
+    Object read(DataInput in) throws IOException;
+
+    /**
+     * @return a stable description of the encoded type, which contributes to the schema fingerprint
+     */
+    String schema();
+}
@@ -0,0 +1,307 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.serialize.codec;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Factory for the {@link ValueCodec}s of scalar types and containers, used by the {@link MirrorDomainEventCodec}.
+ *
+ * @author Mario Herb
+ */
+final class ValueCodecs {
+
+    private static final Map<Class<?>, ValueCodec> SCALARS;
+
+    static {
+        var scalars = new HashMap<Class<?>, ValueCodec>();
+        register(scalars, "boolean", (out, v) -> out.writeBoolean((Boolean) v), DataInput::readBoolean, boolean.class, Boolean.class);
+        register(scalars, "byte", (out, v) -> out.writeByte((Byte) v), DataInput::readByte, byte.class, Byte.class);
+        register(scalars, "short", (out, v) -> out.writeShort((Short) v), DataInput::readShort, short.class, Short.class);
+        register(scalars, "char", (out, v) -> out.writeChar((Character) v), DataInput::readChar, char.class, Character.class);
+        register(scalars, "int", (out, v) -> out.writeInt((Integer) v), DataInput::readInt, int.class, Integer.class);
+        register(scalars, "long", (out, v) -> out.writeLong((Long) v), DataInput::readLong, long.class, Long.class);
+        register(scalars, "float", (out, v) -> out.writeFloat((Float) v), DataInput::readFloat, float.class, Float.class);
+        register(scalars, "double", (out, v) -> out.writeDouble((Double) v), DataInput::readDouble, double.class, Double.class);
+        register(scalars, "string", (out, v) -> writeString(out, (String) v), ValueCodecs::readString, String.class);
+        register(scalars, "bytes", (out, v) -> writeBytes(out, (byte[]) v), ValueCodecs::readBytes, byte[].class);
+        register(scalars, "uuid", (out, v) -> {
+            var uuid = (UUID) v;
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }, in -> new UUID(in.readLong(), in.readLong()), UUID.class);
+        register(scalars, "bigint", (out, v) -> writeBytes(out, ((BigInteger) v).toByteArray()),
+            in -> new BigInteger(readBytes(in)), BigInteger.class);
+        register(scalars, "decimal", (out, v) -> {
+            var decimal = (BigDecimal) v;
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        }, in -> {
+            var scale = in.readInt();
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        }, BigDecimal.class);
+        register(scalars, "instant", (out, v) -> {
+            var instant = (Instant) v;
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }, in -> Instant.ofEpochSecond(in.readLong(), in.readInt()), Instant.class);
+        register(scalars, "duration", (out, v) -> {
+            var duration = (Duration) v;
+            out.writeLong(duration.getSeconds());
+            out.writeInt(duration.getNano());
+        }, in -> Duration.ofSeconds(in.readLong(), in.readInt()), Duration.class);
+        register(scalars, "date", (out, v) -> out.writeLong(((LocalDate) v).toEpochDay()),
+            in -> LocalDate.ofEpochDay(in.readLong()), LocalDate.class);
+        register(scalars, "time", (out, v) -> out.writeLong(((LocalTime) v).toNanoOfDay()),
+            in -> LocalTime.ofNanoOfDay(in.readLong()), LocalTime.class);
+        register(scalars, "datetime", (out, v) -> writeDateTime(out, (LocalDateTime) v),
+            ValueCodecs::readDateTime, LocalDateTime.class);
+        register(scalars, "offsetdatetime", (out, v) -> {
+            var dateTime = (OffsetDateTime) v;
+            writeDateTime(out, dateTime.toLocalDateTime());
+            out.writeInt(dateTime.getOffset().getTotalSeconds());
+        }, in -> OffsetDateTime.of(readDateTime(in), ZoneOffset.ofTotalSeconds(in.readInt())), OffsetDateTime.class);
+        register(scalars, "zoneddatetime", (out, v) -> {
+            var dateTime = (ZonedDateTime) v;
+            writeDateTime(out, dateTime.toLocalDateTime());
+            out.writeInt(dateTime.getOffset().getTotalSeconds());
+            writeString(out, dateTime.getZone().getId());
+        }, in -> {
+            var localDateTime = readDateTime(in);
+            var offset = ZoneOffset.ofTotalSeconds(in.readInt());
+            return ZonedDateTime.ofLocal(localDateTime, ZoneId.of(readString(in)), offset);
+        }, ZonedDateTime.class);
+        SCALARS = Collections.unmodifiableMap(scalars);
+    }
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * @param type the type to encode
+     * @return the codec for the given scalar type or null, if the type is not a supported scalar type
+     */
+    static ValueCodec scalar(Class<?> type) {
+        return SCALARS.get(type);
+    }
+
+    /**
+     * @param enumType the enum type to encode
+     * @return a codec, which writes enum constants by name
+     */
+    static ValueCodec forEnum(Class<?> enumType) {
+        var constants = new HashMap<String, Object>();
+        for (Object constant : enumType.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+        return new SimpleCodec("enum:" + enumType.getName(),
+            (out, v) -> writeString(out, ((Enum<?>) v).name()),
+            in -> {
+                var name = readString(in);
+                var constant = constants.get(name);
+                if (constant == null) {
+                    throw new IOException("Unknown constant '" + name + "' of enum " + enumType.getName());
+                }
+                return constant;
+            });
+    }
+
+    /**
+     * @param codec the codec of the non-null values
+     * @return a codec prefixing each value with a presence flag
+     */
+    static ValueCodec nullable(ValueCodec codec) {
+        return new SimpleCodec("?" + codec.schema(),
+            (out, v) -> {
+                out.writeBoolean(v != null);
+                if (v != null) {
+                    codec.write(out, v);
+                }
+            },
+            in -> in.readBoolean() ? codec.read(in) : null);
+    }
+
+    /**
+     * @param codec the codec of the values
+     * @param field the field, which must not be null
+     * @return a codec writing values without presence flag, failing for null values
+     */
+    static ValueCodec required(ValueCodec codec, Field field) {
+        return new SimpleCodec(codec.schema(),
+            (out, v) -> {
+                if (v == null) {
+                    throw DLCEventsException.fail("Required field '%s' of '%s' is null!",
+                        field.getName(), field.getDeclaringClass().getName());
+                }
+                codec.write(out, v);
+            },
+            codec::read);
+    }
+
+    /**
+     * @param codec the codec of the contained value
+     * @return a codec for {@link Optional} values
+     */
+    static ValueCodec optional(ValueCodec codec) {
+        var nullable = nullable(codec);
+        return new SimpleCodec("optional<" + codec.schema() + ">",
+            (out, v) -> nullable.write(out, ((Optional<?>) v).orElse(null)),
+            in -> Optional.ofNullable(nullable.read(in)));
+    }
+
+    /**
+     * @param codec the codec of the elements
+     * @return a codec for {@link List} values
+     */
+    static ValueCodec list(ValueCodec codec) {
+        var nullable = nullable(codec);
+        return new SimpleCodec("list<" + codec.schema() + ">",
+            (out, v) -> writeElements(out, (List<?>) v, nullable),
+            in -> {
+                var size = in.readInt();
+                var list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(nullable.read(in));
+                }
+                return list;
+            });
+    }
+
+    /**
+     * @param codec the codec of the elements
+     * @return a codec for {@link Set} values, preserving the iteration order of the encoded set
+     */
+    static ValueCodec set(ValueCodec codec) {
+        var nullable = nullable(codec);
+        return new SimpleCodec("set<" + codec.schema() + ">",
+            (out, v) -> writeElements(out, (Set<?>) v, nullable),
+            in -> {
+                var size = in.readInt();
+                var set = new LinkedHashSet<>(Math.max(16, (int) (size / .75f) + 1));
+                for (int i = 0; i < size; i++) {
+                    set.add(nullable.read(in));
+                }
+                return set;
+            });
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toLocalDate().toEpochDay());
+        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private static void writeElements(DataOutput out, Collection<?> elements, ValueCodec codec) throws IOException {
+        out.writeInt(elements.size());
+        for (Object element : elements) {
+            codec.write(out, element);
+        }
+    }
+
+    private static void register(Map<Class<?>, ValueCodec> scalars,
+                                 String schema,
+                                 Writer writer,
+                                 Reader reader,
+                                 Class<?>... types) {
+        var codec = new SimpleCodec(schema, writer, reader);
+        for (Class<?> type : types) {
+            scalars.put(type, codec);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutput out, Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Object read(DataInput in) throws IOException;
+    }
+
+    private record SimpleCodec(String schema, Writer writer, Reader reader) implements ValueCodec {
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            writer.write(out, value);
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            return reader.read(in);
+        }
+    }
+}
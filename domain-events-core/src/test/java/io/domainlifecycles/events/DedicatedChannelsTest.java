@@ -137,4 +137,21 @@ public class DedicatedChannelsTest {
         var root = repository.findById(new AnAggregate.AggregateId(1L)).orElseThrow();
         assertThat(root.received).contains(evt);
     }
+
+    @Test
+    public void testPublishAllAcrossChannels(){
+        //when
+        var evt1 = new ADomainEvent("TestBatch1");
+        var evt2 = new AnAggregateDomainEvent("TestBatch");
+        var evt3 = new ADomainEvent("TestBatch2");
+        DomainEvents.publishAll(List.of(evt1, evt2, evt3));
+        //then
+        assertThat(domainService.received).containsSubsequence(evt1, evt3);
+        assertThat(repository.received).containsSubsequence(evt1, evt3);
+        assertThat(applicationService.received).contains(evt1, evt3);
+        assertThat(queryHandler.received).contains(evt1, evt3);
+        assertThat(outboundService.received).contains(evt1, evt3);
+        var root = repository.findById(new AnAggregate.AggregateId(1L)).orElseThrow();
+        assertThat(root.received).contains(evt2);
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events;
+
+import io.domainlifecycles.events.api.ChannelRoutingConfiguration;
+import io.domainlifecycles.events.api.DomainEventTypeBasedRouter;
+import io.domainlifecycles.events.api.DomainEvents;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.domain.ADomainEvent;
+import io.domainlifecycles.events.domain.ADomainService;
+import io.domainlifecycles.events.domain.AQueryHandler;
+import io.domainlifecycles.events.domain.ARepository;
+import io.domainlifecycles.events.domain.AnApplicationService;
+import io.domainlifecycles.events.domain.AnOutboundService;
+import io.domainlifecycles.events.inmemory.InMemoryChannelFactory;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.instrumentation.EventsInstrumentation;
+import io.domainlifecycles.events.instrumentation.StatisticsDomainEventInstrumentation;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DomainEventInstrumentationTest {
+
+    private static final Queue<String> tracedHandlerIds = new ConcurrentLinkedQueue<>();
+    private static final StatisticsDomainEventInstrumentation instrumentation = new StatisticsDomainEventInstrumentation() {
+        @Override
+        public void handlerStarted(ExecutionContext executionContext) {
+            super.handlerStarted(executionContext);
+            var traceContext = DomainEventTraceContext.current();
+            if (traceContext != null) {
+                tracedHandlerIds.add(traceContext.traceId());
+            }
+        }
+    };
+
+    @BeforeAll
+    public static void init(){
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.domain"));
+
+        var services = new Services();
+        services.registerServiceKindInstance(new ADomainService());
+        services.registerServiceKindInstance(new ARepository());
+        services.registerServiceKindInstance(new AnApplicationService());
+        services.registerServiceKindInstance(new AQueryHandler());
+        services.registerServiceKindInstance(new AnOutboundService());
+
+        var inMemoryChannel = new InMemoryChannelFactory(services, 3).processingChannel("default");
+        var router = new DomainEventTypeBasedRouter(List.of(inMemoryChannel));
+        router.defineDefaultChannel("default");
+        new ChannelRoutingConfiguration(router);
+        EventsInstrumentation.register(instrumentation);
+    }
+
+    @AfterAll
+    public static void cleanUp(){
+        EventsInstrumentation.reset();
+    }
+
+    @Test
+    public void testHandlerStatisticsAndTracePropagation(){
+        //given
+        var traceContext = DomainEventTraceContext.newTrace();
+
+        //when
+        try (var scope = DomainEventTraceContext.open(traceContext)) {
+            DomainEvents.publish(new ADomainEvent("TestInstrumentation"));
+        }
+        DomainEvents.publish(new ADomainEvent("TestDomainServiceRollbackInstrumentation"));
+
+        //then
+        var statistics = instrumentation.handlerStatistics();
+        var domainServiceStatistics = statistics.stream()
+            .filter(s -> s.handlerTypeName().equals(ADomainService.class.getName()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(domainServiceStatistics.domainEventTypeName()).isEqualTo(ADomainEvent.class.getName());
+        assertThat(domainServiceStatistics.executions()).isEqualTo(2);
+        assertThat(domainServiceStatistics.failures()).isEqualTo(1);
+        assertThat(domainServiceStatistics.inFlight()).isZero();
+        assertThat(statistics).hasSize(5);
+        assertThat(instrumentation.detectionNanos()).containsKey(ADomainEvent.class.getName());
+        assertThat(tracedHandlerIds).hasSize(5).containsOnly(traceContext.traceId());
+        assertThat(DomainEventTraceContext.current()).isNull();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.api.DomainEventTypeBasedRouter;
+import io.domainlifecycles.events.api.PublishingChannel;
+import io.domainlifecycles.events.api.PublishingOnlyChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DomainEventTypeBasedRouterTest {
+
+    interface MarkerEvent extends DomainEvent {
+    }
+
+    interface SpecialMarkerEvent extends MarkerEvent {
+    }
+
+    static class BaseEvent implements DomainEvent {
+    }
+
+    static class SubEvent extends BaseEvent {
+    }
+
+    static class MarkedEvent implements SpecialMarkerEvent {
+    }
+
+    static class MarkedSubEvent extends SubEvent implements MarkerEvent {
+    }
+
+    static class OtherEvent implements DomainEvent {
+    }
+
+    private PublishingChannel first;
+    private PublishingChannel second;
+    private PublishingChannel third;
+    private DomainEventTypeBasedRouter router;
+
+    @BeforeEach
+    public void init(){
+        first = new PublishingOnlyChannel("first", () -> domainEvent -> {});
+        second = new PublishingOnlyChannel("second", () -> domainEvent -> {});
+        third = new PublishingOnlyChannel("third", () -> domainEvent -> {});
+        router = new DomainEventTypeBasedRouter(List.of(first, second, third));
+    }
+
+    @Test
+    public void testExplicitRouteExactType(){
+        router.defineExplicitRoute(BaseEvent.class, "first");
+        router.defineDefaultChannel("third");
+
+        assertThat(router.route(new BaseEvent())).isSameAs(first);
+        assertThat(router.route(new OtherEvent())).isSameAs(third);
+        assertThat(router.getRoutedChannelName(BaseEvent.class)).isEqualTo("first");
+        assertThat(router.getRoutedChannelName(SubEvent.class)).isNull();
+    }
+
+    @Test
+    public void testRouteResolvedBySuperclass(){
+        router.defineExplicitRoute(BaseEvent.class, "first");
+
+        assertThat(router.route(new SubEvent())).isSameAs(first);
+        assertThat(router.getRoutedChannelNames(SubEvent.class)).containsExactly("first");
+    }
+
+    @Test
+    public void testRouteResolvedByInterface(){
+        router.defineExplicitRoute(MarkerEvent.class, "second");
+
+        assertThat(router.route(new MarkedEvent())).isSameAs(second);
+    }
+
+    @Test
+    public void testSuperclassRouteTakesPrecedenceOverInterfaceRoute(){
+        router.defineExplicitRoute(MarkerEvent.class, "second");
+        router.defineExplicitRoute(SubEvent.class, "first");
+
+        assertThat(router.route(new MarkedSubEvent())).isSameAs(first);
+    }
+
+    @Test
+    public void testFanOutToMultipleChannels(){
+        router.defineExplicitRoute(BaseEvent.class, List.of("first", "third"));
+
+        assertThat(router.routeAll(new SubEvent())).containsExactly(first, third);
+        assertThat(router.route(new SubEvent())).isSameAs(first);
+    }
+
+    @Test
+    public void testRedefinedRouteReplacesCachedResolution(){
+        router.defineExplicitRoute(BaseEvent.class, "first");
+        assertThat(router.route(new SubEvent())).isSameAs(first);
+
+        router.defineExplicitRoute(SubEvent.class, "second");
+        assertThat(router.route(new SubEvent())).isSameAs(second);
+        assertThat(router.route(new BaseEvent())).isSameAs(first);
+    }
+
+    @Test
+    public void testNoRouteFails(){
+        assertThatThrownBy(() -> router.route(new OtherEvent()))
+            .hasMessageContaining("No default channel defined and no routing configured for DomainEvent");
+    }
+
+    @Test
+    public void testUnknownChannelFailsWhenRouted(){
+        router.defineExplicitRoute(BaseEvent.class, "unknown");
+        router.defineDefaultChannel("unknownDefault");
+
+        assertThat(router.getRoutedChannelName(BaseEvent.class)).isEqualTo("unknown");
+        assertThat(router.getDefaultChannelName()).isEqualTo("unknownDefault");
+        assertThatThrownBy(() -> router.route(new SubEvent()))
+            .hasMessageContaining("No PublishingChannel named 'unknown'");
+        assertThatThrownBy(() -> router.route(new OtherEvent()))
+            .hasMessageContaining("No PublishingChannel named 'unknownDefault'");
+    }
+
+    @Test
+    public void testRouteToUnknownChannelDoesNotAffectOtherRoutes(){
+        router.defineExplicitRoute(BaseEvent.class, "unknown");
+        router.defineDefaultChannel("third");
+
+        assertThat(router.route(new OtherEvent())).isSameAs(third);
+    }
+
+    @Test
+    public void testConcurrentRoutingWhileReconfiguring() throws Exception {
+        router.defineDefaultChannel("third");
+        var executor = Executors.newFixedThreadPool(4);
+        var running = new AtomicBoolean(true);
+        var failure = new AtomicReference<Throwable>();
+        var started = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                started.countDown();
+                while (running.get()) {
+                    try {
+                        assertThat(router.route(new SubEvent())).isIn(first, second, third);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            });
+        }
+        started.await();
+        for (int i = 0; i < 1000; i++) {
+            router.defineExplicitRoute(BaseEvent.class, i % 2 == 0 ? "first" : "second");
+        }
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isNull();
+        assertThat(router.route(new SubEvent())).isSameAs(second);
+    }
+}
@@ -39,6 +39,7 @@ import io.domainlifecycles.events.domain.AnApplicationService;
 import io.domainlifecycles.events.domain.AnOutboundService;
 import io.domainlifecycles.events.domain.UnreceivedDomainEvent;
 import io.domainlifecycles.events.inmemory.InMemoryChannelFactory;
+import io.domainlifecycles.events.inmemory.InMemoryProcessingChannel;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
 import io.domainlifecycles.services.Services;
@@ -46,6 +47,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -56,6 +62,7 @@ public class InMemoryChannelTest {
     private static AnApplicationService applicationService;
     private static AQueryHandler queryHandler;
     private static AnOutboundService outboundService;
+    private static InMemoryProcessingChannel inMemoryChannel;
 
     @BeforeAll
     public static void init(){
@@ -74,7 +81,7 @@ public class InMemoryChannelTest {
         services.registerServiceKindInstance(queryHandler);
         services.registerServiceKindInstance(outboundService);
 
-        var inMemoryChannel = new InMemoryChannelFactory(services).processingChannel("default");
+        inMemoryChannel = new InMemoryChannelFactory(services).processingChannel("default");
         var router = new DomainEventTypeBasedRouter(List.of(inMemoryChannel));
         router.defineDefaultChannel("default");
         new ChannelRoutingConfiguration(router);
@@ -133,4 +140,52 @@ public class InMemoryChannelTest {
         var root = repository.findById(new AnAggregate.AggregateId(1L)).orElseThrow();
         assertThat(root.received).contains(evt);
     }
+
+    @Test
+    public void testFlowPublisherRespectsDemand() throws InterruptedException {
+        //given
+        Queue<ADomainEvent> received = new ConcurrentLinkedQueue<>();
+        var subscription = new Flow.Subscription[1];
+        var firstReceived = new CountDownLatch(1);
+        var allReceived = new CountDownLatch(3);
+        inMemoryChannel.flowPublisher(ADomainEvent.class, "flowTest").subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ADomainEvent item) {
+                received.add(item);
+                firstReceived.countDown();
+                allReceived.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        //when
+        var evt1 = new ADomainEvent("TestFlow1");
+        var evt2 = new ADomainEvent("TestFlow2");
+        var evt3 = new ADomainEvent("TestFlow3");
+        DomainEvents.publish(evt1);
+        DomainEvents.publish(evt2);
+        DomainEvents.publish(evt3);
+        DomainEvents.publish(new UnreceivedDomainEvent("TestFlowOtherType"));
+
+        //then
+        assertThat(firstReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly(evt1);
+        subscription[0].request(2);
+        assertThat(allReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly(evt1, evt2, evt3);
+        subscription[0].cancel();
+    }
 }
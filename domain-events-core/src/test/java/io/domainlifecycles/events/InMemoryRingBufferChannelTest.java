@@ -0,0 +1,286 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.api.ChannelRoutingConfiguration;
+import io.domainlifecycles.events.api.DomainEventTypeBasedRouter;
+import io.domainlifecycles.events.api.DomainEvents;
+import io.domainlifecycles.events.consume.DomainEventConsumer;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
+import io.domainlifecycles.events.domain.ADomainEvent;
+import io.domainlifecycles.events.domain.ADomainService;
+import io.domainlifecycles.events.domain.AQueryHandler;
+import io.domainlifecycles.events.domain.ARepository;
+import io.domainlifecycles.events.domain.AnApplicationService;
+import io.domainlifecycles.events.domain.AnOutboundService;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.inmemory.BackpressurePolicy;
+import io.domainlifecycles.events.inmemory.InMemoryChannelFactory;
+import io.domainlifecycles.events.inmemory.RingBufferConfiguration;
+import io.domainlifecycles.events.inmemory.RingBufferDomainEventPublisher;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemoryRingBufferChannelTest {
+
+    @BeforeAll
+    public static void init(){
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.domain"));
+    }
+
+    @Test
+    public void testIntegrationDomainEventDrainedOnClose(){
+        //given
+        var domainService = new ADomainService();
+        var repository = new ARepository();
+        var applicationService = new AnApplicationService();
+        var queryHandler = new AQueryHandler();
+        var outboundService = new AnOutboundService();
+
+        var services = new Services();
+        services.registerServiceKindInstance(domainService);
+        services.registerServiceKindInstance(repository);
+        services.registerServiceKindInstance(applicationService);
+        services.registerServiceKindInstance(queryHandler);
+        services.registerServiceKindInstance(outboundService);
+
+        var channel = new InMemoryChannelFactory(services)
+            .ringBufferProcessingChannel("ringbuffer", new RingBufferConfiguration());
+        var router = new DomainEventTypeBasedRouter(List.of(channel));
+        router.defineDefaultChannel("ringbuffer");
+        new ChannelRoutingConfiguration(router);
+
+        //when
+        var events = IntStream.range(0, 100).mapToObj(i -> new ADomainEvent("Test" + i)).toList();
+        DomainEvents.publishAll(events);
+        channel.close();
+
+        //then
+        assertThat(repository.received).containsExactlyElementsOf(events);
+        assertThat(domainService.received).containsExactlyElementsOf(events);
+        assertThat(applicationService.received).containsExactlyElementsOf(events);
+        assertThat(queryHandler.received).containsExactlyElementsOf(events);
+        assertThat(outboundService.received).containsExactlyElementsOf(events);
+        var metrics = channel.metrics();
+        assertThat(metrics.published()).isEqualTo(100);
+        assertThat(metrics.consumed()).isEqualTo(100);
+        assertThat(metrics.queueDepth()).isZero();
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        //given
+        var consumer = new BlockingConsumer();
+        var publisher = new RingBufferDomainEventPublisher(
+            "drop", consumer, new RingBufferConfiguration(2, 1, BackpressurePolicy.DROP_OLDEST)
+        );
+        var events = IntStream.range(0, 4).mapToObj(i -> new ADomainEvent("Test" + i)).toList();
+
+        //when
+        publisher.publish(events.get(0));
+        assertThat(consumer.started.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publishBatch(new ArrayList<>(events.subList(1, 4)));
+        consumer.release.countDown();
+        publisher.close();
+
+        //then
+        assertThat(consumer.consumed).containsExactly(events.get(0), events.get(2), events.get(3));
+        assertThat(publisher.metrics().dropped()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCallerRuns() throws InterruptedException {
+        //given
+        var consumer = new BlockingConsumer();
+        var publisher = new RingBufferDomainEventPublisher(
+            "callerruns", consumer, new RingBufferConfiguration(2, 1, BackpressurePolicy.CALLER_RUNS)
+        );
+        var events = IntStream.range(0, 4).mapToObj(i -> new ADomainEvent("Test" + i)).toList();
+
+        //when
+        publisher.publish(events.get(0));
+        assertThat(consumer.started.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publishBatch(new ArrayList<>(events.subList(1, 4)));
+
+        //then
+        assertThat(consumer.consumed).containsExactly(events.get(3));
+        assertThat(publisher.metrics().callerRuns()).isEqualTo(1);
+        consumer.release.countDown();
+        publisher.close();
+        assertThat(consumer.consumed).containsExactlyInAnyOrderElementsOf(events);
+    }
+
+    @Test
+    public void testCallerRunsFailureIsCounted() throws InterruptedException {
+        //given
+        var consumer = new BlockingConsumer(true);
+        var publisher = new RingBufferDomainEventPublisher(
+            "callerrunsfailure", consumer, new RingBufferConfiguration(2, 1, BackpressurePolicy.CALLER_RUNS)
+        );
+        var events = IntStream.range(0, 4).mapToObj(i -> new ADomainEvent("Test" + i)).toList();
+        publisher.publish(events.get(0));
+        assertThat(consumer.started.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.publishBatch(new ArrayList<>(events.subList(1, 3)));
+
+        //when
+        assertThatThrownBy(() -> publisher.publish(events.get(3)))
+            .isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(publisher.metrics().callerRuns()).isEqualTo(1);
+        assertThat(publisher.metrics().failed()).isEqualTo(1);
+        consumer.release.countDown();
+        publisher.close();
+        assertThat(consumer.consumed).containsExactlyInAnyOrderElementsOf(events.subList(0, 3));
+        assertThat(publisher.metrics().failed()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPublishAfterCloseFails(){
+        //given
+        var publisher = new RingBufferDomainEventPublisher(
+            "closed", new BlockingConsumer(), new RingBufferConfiguration()
+        );
+        publisher.close();
+
+        //then
+        assertThatThrownBy(() -> publisher.publish(new ADomainEvent("Test")))
+            .isInstanceOf(DLCEventsException.class);
+    }
+
+    @Test
+    public void testEventsPublishedConcurrentlyWithCloseAreNotStranded() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            //given
+            var consumed = new ConcurrentLinkedQueue<DomainEvent>();
+            var publisher = new RingBufferDomainEventPublisher(
+                "closerace" + round, new CollectingConsumer(consumed), new RingBufferConfiguration(64, 2, BackpressurePolicy.BLOCK)
+            );
+            var accepted = new ConcurrentLinkedQueue<DomainEvent>();
+            var started = new CountDownLatch(4);
+            var publishers = new ArrayList<Thread>();
+            for (int p = 0; p < 4; p++) {
+                var prefix = "Round" + round + "-Publisher" + p + "-";
+                var thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; ; i++) {
+                        var event = new ADomainEvent(prefix + i);
+                        try {
+                            publisher.publish(event);
+                        } catch (DLCEventsException e) {
+                            return;
+                        }
+                        accepted.add(event);
+                    }
+                });
+                thread.start();
+                publishers.add(thread);
+            }
+
+            //when
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(5);
+            publisher.close();
+            for (var thread : publishers) {
+                thread.join(5_000);
+            }
+
+            //then
+            assertThat(consumed).containsExactlyInAnyOrderElementsOf(accepted);
+            assertThat(publisher.metrics().queueDepth()).isZero();
+        }
+    }
+
+    private record CollectingConsumer(Queue<DomainEvent> consumed) implements DomainEventConsumer {
+
+        @Override
+        public List<ExecutionResult> consume(DomainEvent domainEvent) {
+            consumed.add(domainEvent);
+            return List.of();
+        }
+
+        @Override
+        public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class BlockingConsumer implements DomainEventConsumer {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Queue<DomainEvent> consumed = new ConcurrentLinkedQueue<>();
+        private final boolean failInPublishingThread;
+
+        private BlockingConsumer() {
+            this(false);
+        }
+
+        private BlockingConsumer(boolean failInPublishingThread) {
+            this.failInPublishingThread = failInPublishingThread;
+        }
+
+        @Override
+        public List<ExecutionResult> consume(DomainEvent domainEvent) {
+            if (!Thread.currentThread().getName().startsWith("dlc-ringbuffer-")) {
+                if (failInPublishingThread) {
+                    throw new IllegalStateException("Consuming " + domainEvent + " failed");
+                }
+                consumed.add(domainEvent);
+                return List.of();
+            }
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumed.add(domainEvent);
+            return List.of();
+        }
+
+        @Override
+        public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
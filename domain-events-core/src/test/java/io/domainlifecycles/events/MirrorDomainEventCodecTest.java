@@ -0,0 +1,257 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.codec.AComplexDomainEvent;
+import io.domainlifecycles.events.codec.APrimitivesDomainEvent;
+import io.domainlifecycles.events.codec.AStatus;
+import io.domainlifecycles.events.codec.AnAddress;
+import io.domainlifecycles.events.codec.AnAmount;
+import io.domainlifecycles.events.codec.AnAmountDomainEvent;
+import io.domainlifecycles.events.codec.AnIdentity;
+import io.domainlifecycles.events.codec.AnIdentityDomainEvent;
+import io.domainlifecycles.events.domain.ADomainEvent;
+import io.domainlifecycles.events.domain.AnAggregateDomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import io.domainlifecycles.events.serialize.codec.MirrorDomainEventCodec;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MirrorDomainEventCodecTest {
+
+    private static final Map<String, DomainEvent> fallbackStore = new ConcurrentHashMap<>();
+
+    private static MirrorDomainEventCodec codec;
+
+    @BeforeAll
+    public static void init(){
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.domain", "io.domainlifecycles.events.codec"));
+        codec = new MirrorDomainEventCodec(new DomainEventSerializer() {
+            @Override
+            public String serialize(DomainEvent event) {
+                var key = "key-" + fallbackStore.size();
+                fallbackStore.put(key, event);
+                return key;
+            }
+
+            @Override
+            public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+                return fallbackStore.get(serializedEvent);
+            }
+        });
+    }
+
+    @Test
+    public void testPositionalRoundTrip() {
+        //given
+        var event = new ADomainEvent("Hello positional");
+
+        //when
+        var bytes = codec.serializeToBytes(event);
+        var deserialized = codec.deserializeFromBytes(bytes, ADomainEvent.class);
+
+        //then
+        assertThat(codec.isPositional(ADomainEvent.class)).isTrue();
+        assertThat(deserialized).isEqualTo(event);
+    }
+
+    @Test
+    public void testIdentityIsWrittenUnwrapped() {
+        //given
+        var event = new AnIdentityDomainEvent(new AnIdentity(UUID.randomUUID()));
+
+        //when
+        var bytes = codec.serializeToBytes(event);
+
+        //then
+        // format, fingerprint, presence flag and the 16 bytes of the UUID
+        assertThat(bytes).hasSize(1 + 4 + 1 + 16);
+        assertThat(codec.deserializeFromBytes(bytes, AnIdentityDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    public void testIdentityWithoutValueFails() {
+        //given
+        var event = new AnIdentityDomainEvent(new AnIdentity(null));
+
+        //then
+        assertThatThrownBy(() -> codec.serializeToBytes(event))
+            .isInstanceOf(DLCEventsException.class)
+            .hasMessageContaining("Required field 'value'");
+    }
+
+    @Test
+    public void testSingleValuedValueObjectIsWrittenWithoutFieldNames() {
+        //given
+        var event = new AnAmountDomainEvent(new AnAmount(new BigDecimal("12.50")));
+
+        //when
+        var bytes = codec.serializeToBytes(event);
+
+        //then
+        // format, fingerprint, presence flags of the ValueObject and its value, scale, length
+        // and the 2 bytes of the unscaled value 1250
+        assertThat(bytes).hasSize(1 + 4 + 1 + 1 + 4 + 4 + 2);
+        assertThat(codec.deserializeFromBytes(bytes, AnAmountDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    public void testContainersRoundTrip() {
+        //given
+        var relatedIds = new LinkedHashSet<AnIdentity>();
+        relatedIds.add(new AnIdentity(UUID.randomUUID()));
+        relatedIds.add(new AnIdentity(UUID.randomUUID()));
+        relatedIds.add(new AnIdentity(UUID.randomUUID()));
+        var event = new AComplexDomainEvent(
+            new AnIdentity(UUID.randomUUID()),
+            new AnAmount(new BigDecimal("-0.001")),
+            new AnAddress("Main Street", 42, new AnAmount(BigDecimal.TEN)),
+            List.of(new AnAmount(BigDecimal.ONE), new AnAmount(new BigDecimal("2.5"))),
+            relatedIds,
+            Arrays.asList("a", null, "ü€"),
+            Optional.of("a comment"),
+            Optional.of(new AnAmount(new BigDecimal("0.10"))),
+            7,
+            "",
+            Instant.ofEpochSecond(1_700_000_000L, 123_456_789),
+            LocalDate.of(2024, 2, 29),
+            AStatus.CLOSED
+        );
+
+        //when
+        var deserialized = (AComplexDomainEvent) codec.deserializeFromBytes(
+            codec.serializeToBytes(event), AComplexDomainEvent.class);
+
+        //then
+        assertThat(codec.isPositional(AComplexDomainEvent.class)).isTrue();
+        assertThat(deserialized).isEqualTo(event);
+        assertThat(deserialized.relatedIds()).containsExactlyElementsOf(relatedIds);
+        assertThat(deserialized.tags()).containsExactly("a", null, "ü€");
+    }
+
+    @Test
+    public void testNullsRoundTrip() {
+        //given
+        var event = new AComplexDomainEvent(
+            null,
+            null,
+            new AnAddress(null, 0, null),
+            null,
+            null,
+            List.of(),
+            Optional.empty(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+
+        //when
+        var deserialized = codec.deserializeFromBytes(codec.serializeToBytes(event), AComplexDomainEvent.class);
+
+        //then
+        assertThat(deserialized).isEqualTo(event);
+    }
+
+    @Test
+    public void testPrimitivesRoundTrip() {
+        //given
+        var minimum = new APrimitivesDomainEvent(false, Byte.MIN_VALUE, Short.MIN_VALUE, Character.MIN_VALUE,
+            Integer.MIN_VALUE, Long.MIN_VALUE, -Float.MAX_VALUE, Double.NEGATIVE_INFINITY);
+        var maximum = new APrimitivesDomainEvent(true, Byte.MAX_VALUE, Short.MAX_VALUE, Character.MAX_VALUE,
+            Integer.MAX_VALUE, Long.MAX_VALUE, Float.MIN_VALUE, Double.NaN);
+
+        //when
+        var minimumBytes = codec.serializeToBytes(minimum);
+        var maximumBytes = codec.serializeToBytes(maximum);
+
+        //then
+        // primitives are written without presence flags
+        assertThat(minimumBytes).hasSize(1 + 4 + 1 + 1 + 2 + 2 + 4 + 8 + 4 + 8);
+        assertThat(codec.deserializeFromBytes(minimumBytes, APrimitivesDomainEvent.class)).isEqualTo(minimum);
+        assertThat(codec.deserializeFromBytes(maximumBytes, APrimitivesDomainEvent.class)).isEqualTo(maximum);
+    }
+
+    @Test
+    public void testPrecompile() {
+        //when
+        var planned = codec.precompile();
+
+        //then
+        assertThat(planned).isGreaterThanOrEqualTo(2);
+        assertThat(codec.deserialize(codec.serialize(new AnAggregateDomainEvent("Base64")), AnAggregateDomainEvent.class))
+            .isEqualTo(new AnAggregateDomainEvent("Base64"));
+    }
+
+    @Test
+    public void testFallbackForUnmirroredEvent() {
+        //given
+        var event = new UnmirroredDomainEvent("Hello fallback");
+
+        //when
+        var deserialized = codec.deserializeFromBytes(codec.serializeToBytes(event), UnmirroredDomainEvent.class);
+
+        //then
+        assertThat(codec.isPositional(UnmirroredDomainEvent.class)).isFalse();
+        assertThat(deserialized).isEqualTo(event);
+    }
+
+    @Test
+    public void testSchemaMismatchFails() {
+        //given
+        var bytes = codec.serializeToBytes(new ADomainEvent("Hello mismatch"));
+        bytes[1] ^= 1;
+
+        //then
+        assertThatThrownBy(() -> codec.deserializeFromBytes(bytes, ADomainEvent.class))
+            .isInstanceOf(DLCEventsException.class)
+            .hasMessageContaining("fingerprint");
+    }
+
+    record UnmirroredDomainEvent(String message) implements DomainEvent {
+    }
+}
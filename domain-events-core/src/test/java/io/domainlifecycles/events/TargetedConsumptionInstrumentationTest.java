@@ -0,0 +1,122 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.GeneralDomainEventConsumer;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.MirrorBasedExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.handler.ReflectiveHandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.SimpleExecutionContextProcessor;
+import io.domainlifecycles.events.domain.ADomainEvent;
+import io.domainlifecycles.events.domain.ADomainService;
+import io.domainlifecycles.events.domain.AQueryHandler;
+import io.domainlifecycles.events.domain.ARepository;
+import io.domainlifecycles.events.domain.AnApplicationService;
+import io.domainlifecycles.events.domain.AnOutboundService;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.instrumentation.EventsInstrumentation;
+import io.domainlifecycles.events.instrumentation.StatisticsDomainEventInstrumentation;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TargetedConsumptionInstrumentationTest {
+
+    private static final Queue<String> tracedHandlerIds = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger consumed = new AtomicInteger();
+    private static final StatisticsDomainEventInstrumentation instrumentation = new StatisticsDomainEventInstrumentation() {
+        @Override
+        public void handlerStarted(ExecutionContext executionContext) {
+            super.handlerStarted(executionContext);
+            var traceContext = DomainEventTraceContext.current();
+            if (traceContext != null) {
+                tracedHandlerIds.add(traceContext.traceId());
+            }
+        }
+
+        @Override
+        public void domainEventConsumed(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+            consumed.addAndGet(executionContextCount);
+        }
+    };
+
+    private static GeneralDomainEventConsumer consumer;
+
+    @BeforeAll
+    public static void init(){
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.domain"));
+
+        var services = new Services();
+        services.registerServiceKindInstance(new ADomainService());
+        services.registerServiceKindInstance(new ARepository());
+        services.registerServiceKindInstance(new AnApplicationService());
+        services.registerServiceKindInstance(new AQueryHandler());
+        services.registerServiceKindInstance(new AnOutboundService());
+        consumer = new GeneralDomainEventConsumer(
+            new MirrorBasedExecutionContextDetector(services),
+            new SimpleExecutionContextProcessor(new ReflectiveHandlerExecutor())
+        );
+        EventsInstrumentation.register(instrumentation);
+    }
+
+    @AfterAll
+    public static void cleanUp(){
+        EventsInstrumentation.reset();
+    }
+
+    @Test
+    public void testTargetedConsumptionIsInstrumentedWithinTheCarriedTrace(){
+        //given
+        var target = new TargetExecutionContext(ADomainService.class.getName(), "onDomainEvent", "trace-4711");
+
+        //when
+        var result = consumer.consume(new ADomainEvent("TestTargetedInstrumentation"), target);
+
+        //then
+        assertThat(result.success()).isTrue();
+        var domainServiceStatistics = instrumentation.handlerStatistics().stream()
+            .filter(s -> s.handlerTypeName().equals(ADomainService.class.getName()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(domainServiceStatistics.executions()).isEqualTo(1);
+        assertThat(instrumentation.detectionNanos()).containsKey(ADomainEvent.class.getName());
+        assertThat(consumed).hasValue(1);
+        assertThat(tracedHandlerIds).containsExactly("trace-4711");
+        assertThat(DomainEventTraceContext.current()).isNull();
+    }
+}
@@ -53,6 +53,6 @@ public class GruelboxConsumingChannel extends ConsumingOnlyChannel implements Cl
     @Override
     public void close() {
         var config = (GruelboxConsumingConfiguration)super.getConsumingConfiguration();
-        config.getGruelboxPoller().getScheduler().shutdown();
+        config.getGruelboxPoller().close();
     }
 }
@@ -87,7 +87,11 @@ class GruelboxConsumingConfigurationFactory {
         var executionContextDetector = new MirrorBasedExecutionContextDetector(this.serviceProvider);
         var executionContextProcessor = new SimpleExecutionContextProcessor(handlerExecutor);
         var domainEventConsumer = new GeneralDomainEventConsumer(executionContextDetector, executionContextProcessor);
-        var gruelboxDomainEventDispatcher = new DirectGruelboxDomainEventDispatcher(domainEventConsumer);
+        var gruelboxDomainEventDispatcher = new DirectGruelboxDomainEventDispatcher(
+            domainEventConsumer,
+            transactionOutbox,
+            handlerExecutor instanceof TransactionalHandlerExecutor transactionalHandlerExecutor ? transactionalHandlerExecutor : null
+        );
         domainEventsInstantiator.registerGruelboxDomainEventDispatcher(gruelboxDomainEventDispatcher);
         return new GruelboxConsumingConfiguration(poller, gruelboxDomainEventDispatcher, handlerExecutor);
     }
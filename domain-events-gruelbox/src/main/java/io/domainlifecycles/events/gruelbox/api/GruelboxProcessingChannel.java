@@ -53,6 +53,6 @@ public class GruelboxProcessingChannel extends ProcessingChannel implements Clos
     @Override
     public void close() {
         var config = (GruelboxConsumingConfiguration)getConsumingConfiguration();
-        config.getGruelboxPoller().getScheduler().shutdown();
+        config.getGruelboxPoller().close();
     }
 }
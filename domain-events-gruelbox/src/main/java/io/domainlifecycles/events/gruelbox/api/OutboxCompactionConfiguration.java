@@ -0,0 +1,194 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.api;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the configuration for a compactor removing outdated entries from the transaction outbox table.
+ * <br>
+ * Three policies are supported, each one can be disabled:
+ * <ul>
+ *     <li>age: processed entries (idempotency records) older than the processed retention are deleted</li>
+ *     <li>status: blocked entries, whose last attempt is older than the blocked retention, are deleted</li>
+ *     <li>count: the oldest processed entries exceeding the maximum number of processed entries are deleted</li>
+ * </ul>
+ * Entries are deleted in batches, each in its own transaction. The batch size is reduced, when a batch takes longer
+ * than the maximum batch duration, so that the locks held on the outbox table are bounded.
+ *
+ * @author Mario Herb
+ */
+public class OutboxCompactionConfiguration {
+
+    private static final String TABLE_NAME_DEFAULT = "TXNO_OUTBOX";
+    private static final Duration PROCESSED_RETENTION_DEFAULT = Duration.ofDays(7);
+    private static final long MAX_PROCESSED_ENTRIES_DEFAULT = 0;
+    private static final int BATCH_SIZE_DEFAULT = 1000;
+    private static final Duration MAX_BATCH_DURATION_DEFAULT = Duration.ofMillis(200);
+    private static final Duration COMPACTION_PERIOD_DEFAULT = Duration.ofMinutes(1);
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final String tableName;
+    private final Duration processedRetention;
+    private final Duration blockedRetention;
+    private final long maxProcessedEntries;
+    private final int batchSize;
+    private final Duration maxBatchDuration;
+    private final Duration compactionPeriod;
+
+    /**
+     * Represents the configuration for an outbox compactor.
+     *
+     * @param tableName The name of the outbox table, optionally schema qualified.
+     * @param processedRetention The time processed entries are kept, null keeps them regardless of their age.
+     * @param blockedRetention The time blocked entries are kept after their last attempt, null keeps them until unblocked.
+     * @param maxProcessedEntries The maximum number of processed entries kept, 0 for no limit.
+     * @param batchSize The maximum number of entries deleted in one transaction.
+     * @param maxBatchDuration The duration a batch should not exceed, the batch size is adapted accordingly.
+     * @param compactionPeriod The interval between two compactions.
+     */
+    public OutboxCompactionConfiguration(
+        String tableName,
+        Duration processedRetention,
+        Duration blockedRetention,
+        long maxProcessedEntries,
+        int batchSize,
+        Duration maxBatchDuration,
+        Duration compactionPeriod
+    ) {
+        this.tableName = Objects.requireNonNull(tableName, "A tableName is required!");
+        if (!TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw DLCEventsException.fail("Invalid outbox table name '%s'!", tableName);
+        }
+        if (maxProcessedEntries < 0) {
+            throw DLCEventsException.fail("The maximum number of processed entries must not be negative, but was %d!", maxProcessedEntries);
+        }
+        if (batchSize < 1) {
+            throw DLCEventsException.fail("The batch size must be positive, but was %d!", batchSize);
+        }
+        this.maxBatchDuration = Objects.requireNonNull(maxBatchDuration, "A maxBatchDuration is required!");
+        this.compactionPeriod = Objects.requireNonNull(compactionPeriod, "A compactionPeriod is required!");
+        if (maxBatchDuration.isNegative() || maxBatchDuration.isZero()) {
+            throw DLCEventsException.fail("The maximum batch duration must be positive, but was %s!", maxBatchDuration);
+        }
+        if (compactionPeriod.isNegative() || compactionPeriod.isZero()) {
+            throw DLCEventsException.fail("The compaction period must be positive, but was %s!", compactionPeriod);
+        }
+        this.processedRetention = processedRetention;
+        this.blockedRetention = blockedRetention;
+        this.maxProcessedEntries = maxProcessedEntries;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Represents the configuration for a compactor of the default outbox table TXNO_OUTBOX,
+     * deleting batches of at most 1000 entries every minute.
+     *
+     * @param processedRetention The time processed entries are kept, null keeps them regardless of their age.
+     * @param blockedRetention The time blocked entries are kept after their last attempt, null keeps them until unblocked.
+     * @param maxProcessedEntries The maximum number of processed entries kept, 0 for no limit.
+     */
+    public OutboxCompactionConfiguration(Duration processedRetention, Duration blockedRetention, long maxProcessedEntries) {
+        this(TABLE_NAME_DEFAULT, processedRetention, blockedRetention, maxProcessedEntries, BATCH_SIZE_DEFAULT,
+            MAX_BATCH_DURATION_DEFAULT, COMPACTION_PERIOD_DEFAULT);
+    }
+
+    /**
+     * Represents the configuration for a compactor of the default outbox table TXNO_OUTBOX,
+     * deleting processed entries older than 7 days and keeping blocked entries.
+     */
+    public OutboxCompactionConfiguration() {
+        this(PROCESSED_RETENTION_DEFAULT, null, MAX_PROCESSED_ENTRIES_DEFAULT);
+    }
+
+    /**
+     * Retrieves the name of the outbox table.
+     *
+     * @return The name of the outbox table.
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Retrieves the time processed entries are kept.
+     *
+     * @return The processed retention, or null if processed entries are not deleted by age.
+     */
+    public Duration getProcessedRetention() {
+        return processedRetention;
+    }
+
+    /**
+     * Retrieves the time blocked entries are kept after their last attempt.
+     *
+     * @return The blocked retention, or null if blocked entries are not deleted.
+     */
+    public Duration getBlockedRetention() {
+        return blockedRetention;
+    }
+
+    /**
+     * Retrieves the maximum number of processed entries kept.
+     *
+     * @return The maximum number of processed entries, 0 for no limit.
+     */
+    public long getMaxProcessedEntries() {
+        return maxProcessedEntries;
+    }
+
+    /**
+     * Retrieves the maximum number of entries deleted in one transaction.
+     *
+     * @return The batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Retrieves the duration a batch should not exceed.
+     *
+     * @return The maximum batch duration.
+     */
+    public Duration getMaxBatchDuration() {
+        return maxBatchDuration;
+    }
+
+    /**
+     * Retrieves the interval between two compactions.
+     *
+     * @return The compaction period.
+     */
+    public Duration getCompactionPeriod() {
+        return compactionPeriod;
+    }
+}
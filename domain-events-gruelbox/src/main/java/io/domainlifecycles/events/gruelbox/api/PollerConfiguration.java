@@ -26,8 +26,15 @@
 
 package io.domainlifecycles.events.gruelbox.api;
 
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxPollerWakeUpListener;
+
 /**
  * Represents the configuration for a Poller polling the transaction outbox, to process the provided domain events.
+ * <br>
+ * The Poller flushes the outbox adaptively: as long as a flush finds work, it flushes again at once. When the outbox is
+ * idle, the polling period is doubled from the minimum up to the maximum period. A {@link GruelboxPollerWakeUpListener}
+ * registered on the TransactionOutbox lets the Poller flush right after new entries were committed.
  *
  * @author Mario Herb
  */
@@ -35,22 +42,77 @@ public class PollerConfiguration {
 
     private static final long CONSUMING_POLLER_DELAY_MS_DEFAULT = 3000;
     private static final long CONSUMING_POLLER_PERIOD_MS_DEFAULT = 1000;
+    private static final long CONSUMING_POLLER_MIN_PERIOD_MS_DEFAULT = 10;
+    private static final int CONSUMING_POLLER_FLUSH_WORKERS_DEFAULT = 1;
 
     private final long pollerDelayMs;
+    private final long pollerMinPeriodMs;
     private final long pollerPeriodMs;
+    private final int flushWorkers;
+    private final GruelboxPollerWakeUpListener wakeUpListener;
 
     /**
-     * Represents the configuration for a Poller controlling the time delay and period for polling.
+     * Represents the configuration for an adaptive Poller.
      *
      * @param pollerDelayMs The delay before the Poller starts polling, in milliseconds.
-     * @param pollerPeriodMs The interval between each poll operation, in milliseconds.
+     * @param pollerMinPeriodMs The interval between two polls after a poll found work, in milliseconds.
+     * @param pollerPeriodMs The maximum interval between two polls of an idle outbox, in milliseconds.
+     * @param flushWorkers The number of threads processing the entries of a flush in parallel.
+     * @param wakeUpListener The listener waking up the Poller after new outbox entries were committed, may be null.
      */
     public PollerConfiguration(
         long pollerDelayMs,
-        long pollerPeriodMs
+        long pollerMinPeriodMs,
+        long pollerPeriodMs,
+        int flushWorkers,
+        GruelboxPollerWakeUpListener wakeUpListener
     ) {
+        if (pollerMinPeriodMs < 1) {
+            throw DLCEventsException.fail("The minimum poller period must be positive, but was %d!", pollerMinPeriodMs);
+        }
+        if (pollerPeriodMs < pollerMinPeriodMs) {
+            throw DLCEventsException.fail("The poller period (%d) must not be less than the minimum poller period (%d)!",
+                pollerPeriodMs, pollerMinPeriodMs);
+        }
+        if (flushWorkers < 1) {
+            throw DLCEventsException.fail("At least one flush worker is required, but was %d!", flushWorkers);
+        }
         this.pollerDelayMs = pollerDelayMs;
+        this.pollerMinPeriodMs = pollerMinPeriodMs;
         this.pollerPeriodMs = pollerPeriodMs;
+        this.flushWorkers = flushWorkers;
+        this.wakeUpListener = wakeUpListener;
+    }
+
+    /**
+     * Represents the configuration for an adaptive Poller without wake-up listener.
+     *
+     * @param pollerDelayMs The delay before the Poller starts polling, in milliseconds.
+     * @param pollerMinPeriodMs The interval between two polls after a poll found work, in milliseconds.
+     * @param pollerPeriodMs The maximum interval between two polls of an idle outbox, in milliseconds.
+     * @param flushWorkers The number of threads processing the entries of a flush in parallel.
+     */
+    public PollerConfiguration(
+        long pollerDelayMs,
+        long pollerMinPeriodMs,
+        long pollerPeriodMs,
+        int flushWorkers
+    ) {
+        this(pollerDelayMs, pollerMinPeriodMs, pollerPeriodMs, flushWorkers, null);
+    }
+
+    /**
+     * Represents the configuration for a Poller controlling the time delay and period for polling.
+     *
+     * @param pollerDelayMs The delay before the Poller starts polling, in milliseconds.
+     * @param pollerPeriodMs The maximum interval between two polls of an idle outbox, in milliseconds.
+     */
+    public PollerConfiguration(
+        long pollerDelayMs,
+        long pollerPeriodMs
+    ) {
+        this(pollerDelayMs, Math.min(CONSUMING_POLLER_MIN_PERIOD_MS_DEFAULT, pollerPeriodMs), pollerPeriodMs,
+            CONSUMING_POLLER_FLUSH_WORKERS_DEFAULT, null);
     }
 
     /**
@@ -70,11 +132,38 @@ public class PollerConfiguration {
     }
 
     /**
-     * Retrieves the interval between each poll operation in milliseconds.
+     * Retrieves the interval between two polls after a poll found work, in milliseconds.
+     *
+     * @return The minimum interval between two polls, in milliseconds.
+     */
+    public long getPollerMinPeriodMs() {
+        return pollerMinPeriodMs;
+    }
+
+    /**
+     * Retrieves the maximum interval between two polls of an idle outbox, in milliseconds.
      *
-     * @return The interval between each poll operation, in milliseconds.
+     * @return The maximum interval between two polls, in milliseconds.
      */
     public long getPollerPeriodMs() {
         return pollerPeriodMs;
     }
+
+    /**
+     * Retrieves the number of threads processing the entries of a flush in parallel.
+     *
+     * @return The number of flush workers.
+     */
+    public int getFlushWorkers() {
+        return flushWorkers;
+    }
+
+    /**
+     * Retrieves the listener waking up the Poller after new outbox entries were committed.
+     *
+     * @return The wake-up listener or null, if not configured.
+     */
+    public GruelboxPollerWakeUpListener getWakeUpListener() {
+        return wakeUpListener;
+    }
 }
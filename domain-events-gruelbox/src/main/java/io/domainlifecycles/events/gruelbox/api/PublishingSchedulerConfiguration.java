@@ -31,6 +31,9 @@ import java.time.Duration;
 /**
  * Represents the configuration for the publishing scheduler,
  * providing settings for scheduling delay and ordering of domain events (if the processing is ordered by the given type).
+ * <br>
+ * If batched per domain event, a domain event with multiple handlers is written to the outbox once, as a single entry
+ * dispatching it to all of its handlers, instead of one entry per handler.
  *
  * @author Mario Herb
  */
@@ -38,9 +41,11 @@ public class PublishingSchedulerConfiguration {
 
     private static final Duration PUBLISHING_SCHEDULING_DELAY_DEFAULT = Duration.ZERO;
     private static final boolean PUBLISHING_ORDERED_BY_DOMAIN_EVENT_TYPE_DEFAULT = false;
+    private static final boolean PUBLISHING_BATCHED_PER_DOMAIN_EVENT_DEFAULT = false;
 
     private final Duration schedulingDelay;
     private final boolean orderedByDomainEventType;
+    private final boolean batchedPerDomainEvent;
 
     /**
      * Initializes a new instance of PublishingSchedulerConfiguration with the specified scheduling delay and ordering setting.
@@ -49,8 +54,20 @@ public class PublishingSchedulerConfiguration {
      * @param orderedByDomainEventType true if events should be ordered by domain event type, false otherwise
      */
     public PublishingSchedulerConfiguration(Duration schedulingDelay, boolean orderedByDomainEventType) {
+        this(schedulingDelay, orderedByDomainEventType, PUBLISHING_BATCHED_PER_DOMAIN_EVENT_DEFAULT);
+    }
+
+    /**
+     * Initializes a new instance of PublishingSchedulerConfiguration with the specified scheduling delay, ordering and batching setting.
+     *
+     * @param schedulingDelay the duration of the scheduling delay
+     * @param orderedByDomainEventType true if events should be ordered by domain event type, false otherwise
+     * @param batchedPerDomainEvent true if a single outbox entry should dispatch an event to all of its handlers, false otherwise
+     */
+    public PublishingSchedulerConfiguration(Duration schedulingDelay, boolean orderedByDomainEventType, boolean batchedPerDomainEvent) {
         this.schedulingDelay = schedulingDelay;
         this.orderedByDomainEventType = orderedByDomainEventType;
+        this.batchedPerDomainEvent = batchedPerDomainEvent;
     }
 
     /**
@@ -78,4 +95,13 @@ public class PublishingSchedulerConfiguration {
     public boolean isOrderedByDomainEventType() {
         return orderedByDomainEventType;
     }
+
+    /**
+     * Determines whether a domain event is written to the outbox as a single entry dispatching it to all of its handlers.
+     *
+     * @return true if batched per domain event, false otherwise
+     */
+    public boolean isBatchedPerDomainEvent() {
+        return batchedPerDomainEvent;
+    }
 }
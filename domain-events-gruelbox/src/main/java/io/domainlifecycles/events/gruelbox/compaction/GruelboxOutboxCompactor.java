@@ -0,0 +1,294 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.compaction;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.gruelbox.api.OutboxCompactionConfiguration;
+import io.domainlifecycles.events.gruelbox.idempotent.JdbcProcessedKeyStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The GruelboxOutboxCompactor removes outdated entries from the transaction outbox table periodically,
+ * according to the policies of an {@link OutboxCompactionConfiguration}.
+ * <br>
+ * Processed entries are kept by Gruelbox as idempotency records, blocked entries until they are unblocked.
+ * Both slow down the flush queries of the poller as the outbox table grows. Entries are deleted by their ids in batches,
+ * each batch in its own transaction. The batch size is halved when a batch exceeds the configured maximum batch duration
+ * and grown again up to the configured batch size, so that the polling transactions are not blocked for long.
+ * <br>
+ * Deleting processed entries ends their idempotency protection, so the processed retention should not be shorter than
+ * the time duplicates are expected. Optionally the keys of a {@link JdbcProcessedKeyStore} are removed with the same retention.
+ * <br>
+ * The compactions run on a single daemon thread, so that a compactor which is not closed does not keep the JVM alive.
+ * The metrics can be read at any time without waiting for a running compaction.
+ *
+ * @author Mario Herb
+ */
+public final class GruelboxOutboxCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(GruelboxOutboxCompactor.class);
+
+    private final DataSource dataSource;
+    private final OutboxCompactionConfiguration configuration;
+    private final JdbcProcessedKeyStore processedKeyStore;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        var thread = new Thread(r, "dlc-outbox-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long maxBatchNanos;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failedRuns = new AtomicLong();
+    private final AtomicLong deletedProcessed = new AtomicLong();
+    private final AtomicLong deletedBlocked = new AtomicLong();
+    private final AtomicLong deletedExceeding = new AtomicLong();
+    private final AtomicLong deletedProcessedKeys = new AtomicLong();
+    private volatile int batchSize;
+    private volatile long lastRunNanos;
+    private volatile long maxObservedBatchNanos;
+
+    /**
+     * Creates a compactor, which compacts the outbox table periodically.
+     *
+     * @param dataSource the DataSource of the database containing the outbox table
+     * @param configuration the compaction policies
+     * @param processedKeyStore the processed key store compacted with the processed retention, may be null
+     */
+    public GruelboxOutboxCompactor(DataSource dataSource,
+                                   OutboxCompactionConfiguration configuration,
+                                   JdbcProcessedKeyStore processedKeyStore) {
+        this.dataSource = Objects.requireNonNull(dataSource, "A DataSource is required!");
+        this.configuration = Objects.requireNonNull(configuration, "An OutboxCompactionConfiguration is required!");
+        this.processedKeyStore = processedKeyStore;
+        this.batchSize = configuration.getBatchSize();
+        this.maxBatchNanos = configuration.getMaxBatchDuration().toNanos();
+        var periodMs = configuration.getCompactionPeriod().toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactSafely, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a compactor, which compacts the outbox table periodically.
+     *
+     * @param dataSource the DataSource of the database containing the outbox table
+     * @param configuration the compaction policies
+     */
+    public GruelboxOutboxCompactor(DataSource dataSource, OutboxCompactionConfiguration configuration) {
+        this(dataSource, configuration, null);
+    }
+
+    private void compactSafely() {
+        try {
+            compact();
+        } catch (Throwable t) {
+            log.error("Error compacting transaction outbox", t);
+        }
+    }
+
+    /**
+     * Compacts the outbox table at once, according to all enabled policies.
+     *
+     * @return the metrics after the compaction
+     */
+    public synchronized OutboxCompactionMetrics compact() {
+        var start = System.nanoTime();
+        runs.incrementAndGet();
+        try {
+            var now = Instant.now();
+            var table = configuration.getTableName();
+            if (configuration.getProcessedRetention() != null) {
+                var threshold = Timestamp.from(now.minus(configuration.getProcessedRetention()));
+                deletedProcessed.addAndGet(deleteAll(
+                    "SELECT id FROM " + table + " WHERE processed = ? AND lastAttemptTime < ?",
+                    statement -> {
+                        statement.setBoolean(1, true);
+                        statement.setTimestamp(2, threshold);
+                    },
+                    Long.MAX_VALUE
+                ));
+                if (processedKeyStore != null) {
+                    deletedProcessedKeys.addAndGet(processedKeyStore.deleteProcessedBefore(threshold.toInstant()));
+                }
+            }
+            if (configuration.getBlockedRetention() != null) {
+                var threshold = Timestamp.from(now.minus(configuration.getBlockedRetention()));
+                deletedBlocked.addAndGet(deleteAll(
+                    "SELECT id FROM " + table + " WHERE blocked = ? AND processed = ? AND lastAttemptTime < ?",
+                    statement -> {
+                        statement.setBoolean(1, true);
+                        statement.setBoolean(2, false);
+                        statement.setTimestamp(3, threshold);
+                    },
+                    Long.MAX_VALUE
+                ));
+            }
+            if (configuration.getMaxProcessedEntries() > 0) {
+                var exceeding = countProcessed() - configuration.getMaxProcessedEntries();
+                if (exceeding > 0) {
+                    deletedExceeding.addAndGet(deleteAll(
+                        "SELECT id FROM " + table + " WHERE processed = ? ORDER BY lastAttemptTime",
+                        statement -> statement.setBoolean(1, true),
+                        exceeding
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            failedRuns.incrementAndGet();
+            throw DLCEventsException.fail("Compacting transaction outbox '%s' failed!", e, configuration.getTableName());
+        } catch (RuntimeException e) {
+            failedRuns.incrementAndGet();
+            throw e;
+        } finally {
+            lastRunNanos = System.nanoTime() - start;
+        }
+        log.debug("Compacted transaction outbox: {}", getMetrics());
+        return getMetrics();
+    }
+
+    private long countProcessed() throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM " + configuration.getTableName() + " WHERE processed = ?")) {
+            statement.setBoolean(1, true);
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private long deleteAll(String selectSql, ParameterSetter parameterSetter, long limit) throws SQLException {
+        long deleted = 0;
+        while (deleted < limit && !scheduler.isShutdown()) {
+            var count = deleteBatch(selectSql, parameterSetter, (int) Math.min(batchSize, limit - deleted));
+            if (count == 0) {
+                break;
+            }
+            deleted += count;
+        }
+        return deleted;
+    }
+
+    private int deleteBatch(String selectSql, ParameterSetter parameterSetter, int size) throws SQLException {
+        var start = System.nanoTime();
+        try (var connection = dataSource.getConnection()) {
+            var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                var ids = selectIds(connection, selectSql, parameterSetter, size);
+                if (!ids.isEmpty()) {
+                    try (var delete = connection.prepareStatement(
+                        "DELETE FROM " + configuration.getTableName() + " WHERE id = ?")) {
+                        for (var id : ids) {
+                            delete.setString(1, id);
+                            delete.addBatch();
+                        }
+                        delete.executeBatch();
+                    }
+                }
+                connection.commit();
+                adaptBatchSize(System.nanoTime() - start);
+                return ids.size();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private List<String> selectIds(Connection connection, String selectSql, ParameterSetter parameterSetter, int size) throws SQLException {
+        try (var select = connection.prepareStatement(selectSql)) {
+            parameterSetter.set(select);
+            select.setMaxRows(size);
+            try (var resultSet = select.executeQuery()) {
+                var ids = new ArrayList<String>(size);
+                while (resultSet.next()) {
+                    ids.add(resultSet.getString(1));
+                }
+                return ids;
+            }
+        }
+    }
+
+    private void adaptBatchSize(long batchNanos) {
+        maxObservedBatchNanos = Math.max(maxObservedBatchNanos, batchNanos);
+        if (batchNanos > maxBatchNanos) {
+            batchSize = Math.max(1, batchSize / 2);
+        } else if (batchNanos < maxBatchNanos / 2) {
+            batchSize = Math.min(configuration.getBatchSize(), batchSize * 2);
+        }
+    }
+
+    /**
+     * Retrieves a snapshot of the metrics of this compactor without waiting for a running compaction.
+     * The values are read one by one, so during a compaction they may reflect different batches of it.
+     *
+     * @return the metrics
+     */
+    public OutboxCompactionMetrics getMetrics() {
+        return new OutboxCompactionMetrics(
+            runs.get(),
+            failedRuns.get(),
+            deletedProcessed.get(),
+            deletedBlocked.get(),
+            deletedExceeding.get(),
+            deletedProcessedKeys.get(),
+            batchSize,
+            lastRunNanos,
+            maxObservedBatchNanos
+        );
+    }
+
+    /**
+     * Stops compacting and releases the thread of this compactor. A running batch is completed.
+     */
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.compaction;
+
+/**
+ * A snapshot of the metrics of a {@link GruelboxOutboxCompactor}.
+ *
+ * @param runs                   the number of compactions
+ * @param failedRuns             the number of compactions aborted by an exception
+ * @param deletedProcessed       the number of processed entries deleted by age
+ * @param deletedBlocked         the number of blocked entries deleted
+ * @param deletedExceeding       the number of processed entries deleted exceeding the maximum number of processed entries
+ * @param deletedProcessedKeys   the number of keys deleted from the processed key store
+ * @param batchSize              the current (adapted) batch size
+ * @param lastRunNanos           the duration of the most recent compaction, in nanoseconds
+ * @param maxBatchNanos          the maximum duration of a single delete batch, in nanoseconds
+ *
+ * @author Mario Herb
+ */
+public record OutboxCompactionMetrics(
+    long runs,
+    long failedRuns,
+    long deletedProcessed,
+    long deletedBlocked,
+    long deletedExceeding,
+    long deletedProcessedKeys,
+    int batchSize,
+    long lastRunNanos,
+    long maxBatchNanos
+) {
+}
@@ -26,11 +26,18 @@
 
 package io.domainlifecycles.events.gruelbox.dispatch;
 
+import com.gruelbox.transactionoutbox.TransactionOutbox;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.consume.DomainEventConsumer;
 import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.consume.execution.handler.TransactionalHandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
 import io.domainlifecycles.events.exception.DLCEventsException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -41,12 +48,21 @@ import java.util.Objects;
  * In other cases the outbox might be used as a proxy for a message queue. Then the dispatcher would
  * pass the domain events to the queue.
  *
+ * If a domain event is dispatched to multiple handlers by a single outbox entry and some of them fail, only the
+ * failed handlers are rescheduled as separate outbox entries, provided that the dispatcher knows the outbox and the
+ * entry is not ordered. Otherwise, the whole entry fails and is retried for all handlers.
+ * The whole entry also fails, if a failed handler was executed within the transaction processing the entry
+ * and marked it rollback-only, because the rescheduled entries would be rolled back together with the entry.
+ *
  * @author Mario Herb
  */
 public final class DirectGruelboxDomainEventDispatcher implements GruelboxDomainEventDispatcher{
 
-    private final DomainEventConsumer domainEventConsumer;
+    private static final Logger log = LoggerFactory.getLogger(DirectGruelboxDomainEventDispatcher.class);
 
+    private final DomainEventConsumer domainEventConsumer;
+    private final TransactionOutbox transactionOutbox;
+    private final TransactionalHandlerExecutor transactionalHandlerExecutor;
 
     /**
      * Creates a DirectGruelboxDomainEventDispatcher object.
@@ -56,7 +72,37 @@ public final class DirectGruelboxDomainEventDispatcher implements GruelboxDomain
      * @throws NullPointerException if domainEventConsumer is null.
      */
     public DirectGruelboxDomainEventDispatcher(DomainEventConsumer domainEventConsumer) {
+        this(domainEventConsumer, null);
+    }
+
+    /**
+     * Creates a DirectGruelboxDomainEventDispatcher object, which reschedules failed handlers of
+     * domain events dispatched to multiple handlers on the given outbox.
+     *
+     * @param domainEventConsumer The receiving domain event handler that will handle the dispatched domain events.
+     * @param transactionOutbox The outbox failed handlers are rescheduled on, may be null.
+     * @throws NullPointerException if domainEventConsumer is null.
+     */
+    public DirectGruelboxDomainEventDispatcher(DomainEventConsumer domainEventConsumer, TransactionOutbox transactionOutbox) {
+        this(domainEventConsumer, transactionOutbox, null);
+    }
+
+    /**
+     * Creates a DirectGruelboxDomainEventDispatcher object, which reschedules failed handlers of
+     * domain events dispatched to multiple handlers on the given outbox, unless the transaction processing the
+     * outbox entry was marked rollback-only.
+     *
+     * @param domainEventConsumer The receiving domain event handler that will handle the dispatched domain events.
+     * @param transactionOutbox The outbox failed handlers are rescheduled on, may be null.
+     * @param transactionalHandlerExecutor The executor of the handlers, which knows the state of the current transaction, may be null.
+     * @throws NullPointerException if domainEventConsumer is null.
+     */
+    public DirectGruelboxDomainEventDispatcher(DomainEventConsumer domainEventConsumer,
+                                               TransactionOutbox transactionOutbox,
+                                               TransactionalHandlerExecutor transactionalHandlerExecutor) {
         this.domainEventConsumer = Objects.requireNonNull(domainEventConsumer, "A DomainEventConsumer is required!");
+        this.transactionOutbox = transactionOutbox;
+        this.transactionalHandlerExecutor = transactionalHandlerExecutor;
     }
 
     /**
@@ -71,11 +117,46 @@ public final class DirectGruelboxDomainEventDispatcher implements GruelboxDomain
             var res = domainEventConsumer.consume(domainEvent, executionContext);
             if(!res.success()){
                 throw DLCEventsException.fail("Execution failed for domainEvent: "
-                    + domainEvent + "in executionContext: " + executionContext);
+                    + domainEvent + " in executionContext: " + executionContext);
             }
         }else{
             domainEventConsumer.consume(domainEvent);
         }
 
     }
+
+    /**
+     * Dispatches a domain event to multiple receiving domain event handlers. Failed handlers are rescheduled
+     * as separate outbox entries within the transaction processing the current entry, if possible.
+     *
+     * @param domainEvent The domain event to be dispatched
+     * @param targetExecutionContexts The execution contexts supplied to the outbox
+     * @param ordered true, if the outbox entry is processed in order with other entries
+     */
+    @Override
+    public void dispatchAll(DomainEvent domainEvent, List<TargetExecutionContext> targetExecutionContexts, boolean ordered) {
+        var failed = targetExecutionContexts.stream()
+            .filter(executionContext -> failed(domainEventConsumer.consume(domainEvent, executionContext)))
+            .toList();
+        if(failed.isEmpty()){
+            return;
+        }
+        if(transactionOutbox == null || ordered){
+            throw DLCEventsException.fail("Execution failed for domainEvent: "
+                + domainEvent + " in executionContexts: " + failed);
+        }
+        if(transactionalHandlerExecutor != null && transactionalHandlerExecutor.isRollbackOnly()){
+            throw DLCEventsException.fail("Execution failed for domainEvent: "
+                + domainEvent + " in executionContexts: " + failed
+                + ", the transaction processing it was marked rollback-only, so they cannot be rescheduled");
+        }
+        log.warn("Execution failed for domainEvent {} in executionContexts {}, rescheduling them", domainEvent, failed);
+        failed.forEach(executionContext -> transactionOutbox
+            .schedule(GruelboxDomainEventDispatcher.class)
+            .dispatch(domainEvent, executionContext));
+    }
+
+    private static boolean failed(ExecutionResult executionResult) {
+        return executionResult != null && !executionResult.success();
+    }
 }
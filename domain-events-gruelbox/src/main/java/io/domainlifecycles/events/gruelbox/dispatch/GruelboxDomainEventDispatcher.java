@@ -29,6 +29,8 @@ package io.domainlifecycles.events.gruelbox.dispatch;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.consume.TargetExecutionContext;
 
+import java.util.List;
+
 /**
  * The {@code GruelboxDomainEventDispatcher} interface defines a contract for classes
  * that dispatch domain events to receiving domain event handlers for processing, after they were polled
@@ -51,4 +53,17 @@ public interface GruelboxDomainEventDispatcher {
      * @param targetExecutionContext the target execution context detected
      */
     void dispatch(DomainEvent domainEvent, TargetExecutionContext targetExecutionContext);
+
+    /**
+     * Dispatches the given domain event to multiple domain event handlers. Used, if the event was written to the
+     * outbox as a single entry for all of its handlers.
+     * By default the event is dispatched to each handler in turn, a failing handler fails the whole entry.
+     *
+     * @param domainEvent the domain event to dispatch
+     * @param targetExecutionContexts the target execution contexts detected
+     * @param ordered true, if the outbox entry is processed in order with other entries
+     */
+    default void dispatchAll(DomainEvent domainEvent, List<TargetExecutionContext> targetExecutionContexts, boolean ordered) {
+        targetExecutionContexts.forEach(targetExecutionContext -> dispatch(domainEvent, targetExecutionContext));
+    }
 }
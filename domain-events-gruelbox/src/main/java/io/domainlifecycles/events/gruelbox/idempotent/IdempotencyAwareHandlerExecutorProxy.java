@@ -26,10 +26,12 @@
 
 package io.domainlifecycles.events.gruelbox.idempotent;
 
+import com.gruelbox.transactionoutbox.AlreadyScheduledException;
 import com.gruelbox.transactionoutbox.TransactionOutbox;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
 import io.domainlifecycles.events.consume.execution.handler.TransactionalHandlerExecutor;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +44,9 @@ import java.util.Optional;
  * It utilizes an underlying TransactionalHandlerExecutor to execute the handlers guaranteeing that each Domain Event
  * is processed only once for handler which was passed to the idempotency configuration.
  *
+ * Optionally the {@link ProcessedKeyStore} of the idempotency configuration rejects known duplicates before they are scheduled in the outbox,
+ * instead of relying on the unique request id constraint of the outbox table only.
+ *
  * @author Mario Herb
  */
 public class IdempotencyAwareHandlerExecutorProxy implements HandlerExecutor {
@@ -88,28 +93,39 @@ public class IdempotencyAwareHandlerExecutorProxy implements HandlerExecutor {
     protected boolean schedule(ExecutionContext executionContext,
                                IdempotencyConfigurationEntry config){
         log.debug("Idempotency configuration detected for {}", executionContext);
+        var uniqueRequestId = config.idempotencyFunction().uniqueIdentifier(executionContext.domainEvent()) +
+            "-" + config.handlerClass().getName() +
+            "-" + config.methodName();
+        var processedKeyStore = idempotencyConfiguration.getProcessedKeyStore();
+        var processedKey = processedKeyStore == null ? null : ProcessedKey.of(uniqueRequestId);
+        if(processedKey != null && processedKeyStore.isProcessed(processedKey)){
+            log.info("Idempotent scheduling skipped! Request '{}' was already scheduled.", uniqueRequestId);
+            return false;
+        }
         var scheduleBuilder = outbox.with();
         if(idempotencyConfiguration.isIdempotencyOrderedByDomainEventType()){
             scheduleBuilder.ordered(executionContext.domainEvent().getClass().getName());
         }
+        var traceContext = DomainEventTraceContext.current();
         try {
 
             scheduleBuilder.delayForAtLeast(idempotencyConfiguration.getIdempotencySchedulingDelay())
-                .uniqueRequestId(
-                    config.idempotencyFunction().uniqueIdentifier(executionContext.domainEvent()) +
-                        "-" + config.handlerClass().getName() +
-                        "-" + config.methodName())
+                .uniqueRequestId(uniqueRequestId)
                 .schedule(IdempotentExecutor.class)
                 .execute(
                     new IdempotentExecutionContext(
                         executionContext.handler().getClass(),
                         executionContext.handlerMethodName(),
-                        executionContext.domainEvent()
+                        executionContext.domainEvent(),
+                        traceContext == null ? null : traceContext.traceId()
                     )
                 );
         }catch (Throwable t){
             if(t.getCause() instanceof InvocationTargetException ite){
                 log.info("Idempotent scheduling failed! {}",ite.getTargetException().getMessage(), t);
+                if(processedKey != null && ite.getTargetException() instanceof AlreadyScheduledException){
+                    processedKeyStore.markProcessed(processedKey);
+                }
                 return false;
             }else{
                 log.error("Unknown scheduling error!", t);
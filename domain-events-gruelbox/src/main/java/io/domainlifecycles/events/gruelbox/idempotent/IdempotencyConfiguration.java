@@ -34,14 +34,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The IdempotencyConfiguration class represents the configuration settings for idempotency protection in a system.
  * It allows defining scheduling delays and ordering rules for scheduled idempotency protected handler executions.
+ * <br>
+ * The configuration entries are indexed by handler type, handler method and domain event type when they are added,
+ * so that looking up the entry for an execution context does not depend on the number of configured entries.
  *
  * @author Mario Herb
  */
@@ -52,19 +55,35 @@ public final class IdempotencyConfiguration {
     private static final Duration PUBLISHING_SCHEDULING_DELAY_DEFAULT = Duration.ZERO;
     private static final boolean PUBLISHING_ORDERED_BY_DOMAIN_EVENT_TYPE_DEFAULT = false;
 
-    private final List<IdempotencyConfigurationEntry> configurationEntries = new ArrayList<>();
+    private final Map<EntryKey, IdempotencyConfigurationEntry> configurationEntries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> aggregateTypeNamesByRepositoryType = new ConcurrentHashMap<>();
     private final Duration idempotencySchedulingDelay;
     private final boolean idempotencyOrderedByDomainEventType;
+    private final ProcessedKeyStore processedKeyStore;
 
     /**
      * New IdempotencyConfiguration
      *
      * @param idempotencySchedulingDelay Duration specifying the delay for idempotency scheduling
      * @param idempotencyOrderedByDomainEventType Boolean indicating if idempotency ordering is based on domain event type
+     * @param processedKeyStore store rejecting known duplicates before they are scheduled, may be null
      */
-    public IdempotencyConfiguration(Duration idempotencySchedulingDelay, boolean idempotencyOrderedByDomainEventType) {
+    public IdempotencyConfiguration(Duration idempotencySchedulingDelay,
+                                    boolean idempotencyOrderedByDomainEventType,
+                                    ProcessedKeyStore processedKeyStore) {
         this.idempotencySchedulingDelay = Objects.requireNonNull(idempotencySchedulingDelay, "idempotencySchedulingDelay is required!");
         this.idempotencyOrderedByDomainEventType = idempotencyOrderedByDomainEventType;
+        this.processedKeyStore = processedKeyStore;
+    }
+
+    /**
+     * New IdempotencyConfiguration
+     *
+     * @param idempotencySchedulingDelay Duration specifying the delay for idempotency scheduling
+     * @param idempotencyOrderedByDomainEventType Boolean indicating if idempotency ordering is based on domain event type
+     */
+    public IdempotencyConfiguration(Duration idempotencySchedulingDelay, boolean idempotencyOrderedByDomainEventType) {
+        this(idempotencySchedulingDelay, idempotencyOrderedByDomainEventType, null);
     }
 
     /**
@@ -85,7 +104,10 @@ public final class IdempotencyConfiguration {
             log.error(msg);
             throw new IllegalStateException(msg);
         }
-        configurationEntries.add(entry);
+        configurationEntries.putIfAbsent(
+            new EntryKey(entry.handlerClass().getName(), entry.methodName(), entry.domainEventClass().getName()),
+            entry
+        );
     }
 
     private boolean isDomainEventHandlerMethodWithExpectedName(IdempotencyConfigurationEntry entry){
@@ -109,22 +131,32 @@ public final class IdempotencyConfiguration {
      * @return An Optional containing the matching IdempotencyConfigurationEntry, or empty if no match is found.
      */
     public Optional<IdempotencyConfigurationEntry> idempotencyProtectionConfiguration(ExecutionContext executionContext){
-        return configurationEntries.stream().filter(cfg -> match(executionContext, cfg)).findFirst();
-
+        if(configurationEntries.isEmpty()){
+            return Optional.empty();
+        }
+        var key = key(executionContext);
+        return key == null ? Optional.empty() : Optional.ofNullable(configurationEntries.get(key));
     }
 
-    private boolean match(ExecutionContext executionContext, IdempotencyConfigurationEntry entry){
+    private EntryKey key(ExecutionContext executionContext){
         if(executionContext instanceof ServiceExecutionContext serviceExecutionContext){
-            return serviceExecutionContext.handler().getClass().getName().equals(entry.handlerClass().getName())
-                && serviceExecutionContext.handlerMethodName().equals(entry.methodName())
-                && serviceExecutionContext.domainEvent().getClass().getName().equals(entry.domainEventClass().getName());
+            return new EntryKey(
+                serviceExecutionContext.handler().getClass().getName(),
+                serviceExecutionContext.handlerMethodName(),
+                serviceExecutionContext.domainEvent().getClass().getName()
+            );
         }else if(executionContext instanceof AggregateExecutionContext<?,?> aggregateExecutionContext){
-            var aggregateMirror = Domain.repositoryMirrorFor(aggregateExecutionContext.aggregateRepository()).getManagedAggregate().orElseThrow();
-            return aggregateMirror.getTypeName().equals(entry.handlerClass().getName())
-                && aggregateExecutionContext.aggregateHandlerMethodName().equals(entry.methodName())
-                && aggregateExecutionContext.domainEvent().getClass().getName().equals(entry.domainEventClass().getName());
+            var aggregateTypeName = aggregateTypeNamesByRepositoryType.computeIfAbsent(
+                aggregateExecutionContext.aggregateRepository().getClass(),
+                repositoryType -> Domain.repositoryMirrorFor(aggregateExecutionContext.aggregateRepository()).getManagedAggregate().orElseThrow().getTypeName()
+            );
+            return new EntryKey(
+                aggregateTypeName,
+                aggregateExecutionContext.aggregateHandlerMethodName(),
+                aggregateExecutionContext.domainEvent().getClass().getName()
+            );
         }
-        return false;
+        return null;
     }
 
     /**
@@ -143,4 +175,16 @@ public final class IdempotencyConfiguration {
     public boolean isIdempotencyOrderedByDomainEventType() {
         return idempotencyOrderedByDomainEventType;
     }
+
+    /**
+     * Retrieves the store of keys of already scheduled idempotency protected handler executions.
+     *
+     * @return the ProcessedKeyStore, or null if duplicates are rejected by the outbox only
+     */
+    public ProcessedKeyStore getProcessedKeyStore() {
+        return processedKeyStore;
+    }
+
+    private record EntryKey(String handlerTypeName, String methodName, String domainEventTypeName) {
+    }
 }
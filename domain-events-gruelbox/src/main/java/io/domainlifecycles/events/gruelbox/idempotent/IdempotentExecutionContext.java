@@ -27,6 +27,7 @@
 package io.domainlifecycles.events.gruelbox.idempotent;
 
 import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 
 import java.util.Objects;
 
@@ -34,29 +35,46 @@ import java.util.Objects;
  * Represents the context for executing idempotent operations.
  * The context includes the class of the handler, the method name of the handler,
  * and the domain event associated with the operation.
+ * It optionally carries the id of the {@link DomainEventTraceContext} the operation was scheduled in,
+ * so that the trace can be continued when the operation is executed after the outbox hop.
  *
  * @param handlerClass The class of the handler for the operation.
  * @param handlerMethod The method name of the handler.
  * @param domainEvent The domain event associated with the operation.
+ * @param traceId The id of the trace the operation was scheduled in, {@code null} if none was open.
  *
  * @author Mario Herb
  */
 public record IdempotentExecutionContext(Class<?> handlerClass,
                                          String handlerMethod,
-                                         DomainEvent domainEvent) {
+                                         DomainEvent domainEvent,
+                                         String traceId) {
 
     /**
-     * Constructs a new IdempotentExecutionContext with the provided handler class, handler method, and domain event.
+     * Constructs a new IdempotentExecutionContext with the provided handler class, handler method, domain event
+     * and trace id.
      *
      * @param handlerClass The class of the handler.
      * @param handlerMethod The method name of the handler.
      * @param domainEvent The domain event associated with the operation.
+     * @param traceId The id of the trace the operation was scheduled in, may be {@code null}.
      */
-    public IdempotentExecutionContext(Class<?> handlerClass, String handlerMethod, DomainEvent domainEvent) {
+    public IdempotentExecutionContext(Class<?> handlerClass, String handlerMethod, DomainEvent domainEvent, String traceId) {
         this.handlerClass = Objects.requireNonNull(handlerClass, "handlerClass required!");
         this.handlerMethod = Objects.requireNonNull(handlerMethod, "handlerMethod required!");
         this.domainEvent = Objects.requireNonNull(domainEvent, "DomainEvent required!");
+        this.traceId = traceId;
+    }
 
+    /**
+     * Constructs a new IdempotentExecutionContext without trace id.
+     *
+     * @param handlerClass The class of the handler.
+     * @param handlerMethod The method name of the handler.
+     * @param domainEvent The domain event associated with the operation.
+     */
+    public IdempotentExecutionContext(Class<?> handlerClass, String handlerMethod, DomainEvent domainEvent) {
+        this(handlerClass, handlerMethod, domainEvent, null);
     }
 
 
@@ -32,6 +32,7 @@ import io.domainlifecycles.events.consume.execution.detector.AggregateExecutionC
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
 import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.services.api.ServiceProvider;
 
 /**
@@ -60,6 +61,7 @@ public class IdempotentExecutor {
      * This method retrieves the service instance based on the handler class,
      * creates an appropriate ExecutionContext based on the handler type,
      * and then executes the handler using the HandlerExecutor.
+     * If the context carries a trace id, the handler is executed within that {@link DomainEventTraceContext}.
      *
      * @param idempotentExecutionContext The context for executing the idempotent operation.
      */
@@ -72,7 +74,13 @@ public class IdempotentExecutor {
         }else{
             executionContext = new ServiceExecutionContext(service, idempotentExecutionContext.handlerClass().getName(), idempotentExecutionContext.handlerMethod(), idempotentExecutionContext.domainEvent());
         }
-        handlerExecutor.execute(executionContext);
+        if(idempotentExecutionContext.traceId() == null){
+            handlerExecutor.execute(executionContext);
+            return;
+        }
+        try (var scope = DomainEventTraceContext.open(new DomainEventTraceContext(idempotentExecutionContext.traceId()))) {
+            handlerExecutor.execute(executionContext);
+        }
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.idempotent;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded in-memory {@link ProcessedKeyStore}, evicting the least recently used keys and expiring keys older than
+ * the retention.
+ * <br>
+ * The retention should match the retention threshold of the outbox (7 days by default in Gruelbox): the outbox deletes
+ * processed entries after it, so that their idempotency protection ends. Evicted and expired keys are rejected by the
+ * outbox constraint again, as long as the outbox entry exists. A probabilistic filter (e.g. a Bloom filter) is not used
+ * on purpose: a false positive would drop a handler execution.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryProcessedKeyStore implements ProcessedKeyStore {
+
+    private static final int MAX_KEYS_DEFAULT = 100_000;
+    static final Duration RETENTION_DEFAULT = Duration.ofDays(7);
+
+    private final int maxKeys;
+    private final long retentionNanos;
+    private final Map<ProcessedKey, Long> keys;
+
+    /**
+     * Creates a store keeping at most the given number of keys for the given retention.
+     *
+     * @param maxKeys the maximum number of keys
+     * @param retention the time a key is kept after it was marked processed
+     */
+    public InMemoryProcessedKeyStore(int maxKeys, Duration retention) {
+        if (maxKeys < 1) {
+            throw DLCEventsException.fail("The maximum number of keys must be positive, but was %d!", maxKeys);
+        }
+        Objects.requireNonNull(retention, "A retention is required!");
+        if (retention.isNegative() || retention.isZero()) {
+            throw DLCEventsException.fail("The retention must be positive, but was %s!", retention);
+        }
+        this.maxKeys = maxKeys;
+        this.retentionNanos = retention.toNanos();
+        this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ProcessedKey, Long> eldest) {
+                return size() > InMemoryProcessedKeyStore.this.maxKeys;
+            }
+        };
+    }
+
+    /**
+     * Creates a store keeping at most the given number of keys for 7 days.
+     *
+     * @param maxKeys the maximum number of keys
+     */
+    public InMemoryProcessedKeyStore(int maxKeys) {
+        this(maxKeys, RETENTION_DEFAULT);
+    }
+
+    /**
+     * Creates a store keeping at most 100.000 keys for 7 days.
+     */
+    public InMemoryProcessedKeyStore() {
+        this(MAX_KEYS_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isProcessed(ProcessedKey key) {
+        var processedAt = keys.get(key);
+        if (processedAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - processedAt > retentionNanos) {
+            keys.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void markProcessed(ProcessedKey key) {
+        keys.put(key, System.nanoTime());
+    }
+
+    /**
+     * Adds a key marked processed at the given time, e.g. by another application instance.
+     *
+     * @param key the key of the handler execution
+     * @param processedAt the time the key was marked processed
+     */
+    synchronized void markProcessed(ProcessedKey key, Instant processedAt) {
+        keys.put(key, System.nanoTime() - Duration.between(processedAt, Instant.now()).toNanos());
+    }
+
+    /**
+     * @return the number of keys currently kept, including expired keys not removed yet
+     */
+    public synchronized int size() {
+        return keys.size();
+    }
+
+    /**
+     * @return the maximum number of keys kept
+     */
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * @return the time a key is kept after it was marked processed
+     */
+    public Duration getRetention() {
+        return Duration.ofNanos(retentionNanos);
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.idempotent;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ProcessedKeyStore} persisting the keys in a database table, shared by all application instances.
+ * Recently used keys are cached in memory, so that known duplicates are rejected without a database round-trip.
+ * <br>
+ * The table has to be created in advance, the DDL is shipped as {@value #DDL_RESOURCE}:
+ * <pre>{@code
+ * CREATE TABLE DLC_PROCESSED_KEYS (
+ *     PROCESSED_KEY BINARY(16) PRIMARY KEY,
+ *     PROCESSED_AT TIMESTAMP NOT NULL
+ * );
+ * CREATE INDEX IDX_DLC_PROCESSED_KEYS_AT ON DLC_PROCESSED_KEYS (PROCESSED_AT);
+ * }</pre>
+ * Keys are kept for the retention, which should match the retention threshold of the outbox (7 days by default in
+ * Gruelbox): the outbox deletes processed entries after it, so that their idempotency protection ends. Keys older than
+ * the retention are ignored and deleted by the store at most once per prune interval, when keys are marked processed.
+ * Alternatively they can be removed by {@link #deleteProcessedBefore(Instant)}, e.g. by the outbox compactor.
+ * Failing database accesses are logged only, as the outbox constraint still rejects duplicates.
+ *
+ * @author Mario Herb
+ */
+public class JdbcProcessedKeyStore implements ProcessedKeyStore {
+
+    /**
+     * The classpath resource containing the DDL of the default table DLC_PROCESSED_KEYS.
+     */
+    public static final String DDL_RESOURCE = "/io/domainlifecycles/events/gruelbox/idempotent/dlc_processed_keys.sql";
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcProcessedKeyStore.class);
+    private static final String TABLE_NAME_DEFAULT = "DLC_PROCESSED_KEYS";
+    private static final int CACHED_KEYS_DEFAULT = 10_000;
+    private static final Duration PRUNE_INTERVAL_DEFAULT = Duration.ofMinutes(10);
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final DataSource dataSource;
+    private final InMemoryProcessedKeyStore cache;
+    private final Duration retention;
+    private final long pruneIntervalNanos;
+    private final AtomicLong nextPruneNanos;
+    private final String selectSql;
+    private final String insertSql;
+    private final String refreshSql;
+    private final String deleteSql;
+
+    /**
+     * Creates a store using the given table.
+     *
+     * @param dataSource the DataSource of the database containing the table
+     * @param tableName the name of the table, optionally schema qualified
+     * @param cachedKeys the maximum number of keys cached in memory
+     * @param retention the time a key is kept after it was marked processed
+     * @param pruneInterval the minimum interval between two deletions of expired keys
+     */
+    public JdbcProcessedKeyStore(DataSource dataSource, String tableName, int cachedKeys, Duration retention,
+                                 Duration pruneInterval) {
+        this.dataSource = Objects.requireNonNull(dataSource, "A DataSource is required!");
+        Objects.requireNonNull(tableName, "A tableName is required!");
+        if (!TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw DLCEventsException.fail("Invalid table name '%s'!", tableName);
+        }
+        Objects.requireNonNull(pruneInterval, "A pruneInterval is required!");
+        if (pruneInterval.isNegative()) {
+            throw DLCEventsException.fail("The prune interval must not be negative, but was %s!", pruneInterval);
+        }
+        this.cache = new InMemoryProcessedKeyStore(cachedKeys, retention);
+        this.retention = retention;
+        this.pruneIntervalNanos = pruneInterval.toNanos();
+        this.nextPruneNanos = new AtomicLong(System.nanoTime());
+        this.selectSql = "SELECT PROCESSED_AT FROM " + tableName + " WHERE PROCESSED_KEY = ? AND PROCESSED_AT >= ?";
+        this.insertSql = "INSERT INTO " + tableName + " (PROCESSED_KEY, PROCESSED_AT) VALUES (?, ?)";
+        this.refreshSql = "UPDATE " + tableName + " SET PROCESSED_AT = ? WHERE PROCESSED_KEY = ? AND PROCESSED_AT < ?";
+        this.deleteSql = "DELETE FROM " + tableName + " WHERE PROCESSED_AT < ?";
+    }
+
+    /**
+     * Creates a store using the given table, deleting expired keys at most every 10 minutes.
+     *
+     * @param dataSource the DataSource of the database containing the table
+     * @param tableName the name of the table, optionally schema qualified
+     * @param cachedKeys the maximum number of keys cached in memory
+     * @param retention the time a key is kept after it was marked processed
+     */
+    public JdbcProcessedKeyStore(DataSource dataSource, String tableName, int cachedKeys, Duration retention) {
+        this(dataSource, tableName, cachedKeys, retention, PRUNE_INTERVAL_DEFAULT);
+    }
+
+    /**
+     * Creates a store using the given table, keeping keys for 7 days.
+     *
+     * @param dataSource the DataSource of the database containing the table
+     * @param tableName the name of the table, optionally schema qualified
+     * @param cachedKeys the maximum number of keys cached in memory
+     */
+    public JdbcProcessedKeyStore(DataSource dataSource, String tableName, int cachedKeys) {
+        this(dataSource, tableName, cachedKeys, InMemoryProcessedKeyStore.RETENTION_DEFAULT);
+    }
+
+    /**
+     * Creates a store using the table DLC_PROCESSED_KEYS, caching up to 10.000 keys in memory and keeping keys for
+     * 7 days.
+     *
+     * @param dataSource the DataSource of the database containing the table
+     */
+    public JdbcProcessedKeyStore(DataSource dataSource) {
+        this(dataSource, TABLE_NAME_DEFAULT, CACHED_KEYS_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isProcessed(ProcessedKey key) {
+        if (cache.isProcessed(key)) {
+            return true;
+        }
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(selectSql)) {
+            statement.setBytes(1, key.toBytes());
+            statement.setTimestamp(2, Timestamp.from(Instant.now().minus(retention)));
+            try (var resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    cache.markProcessed(key, resultSet.getTimestamp(1).toInstant());
+                    return true;
+                }
+                return false;
+            }
+        } catch (SQLException e) {
+            log.warn("Looking up processed key failed", e);
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markProcessed(ProcessedKey key) {
+        if (cache.isProcessed(key)) {
+            return;
+        }
+        var now = Instant.now();
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(insertSql)) {
+            statement.setBytes(1, key.toBytes());
+            statement.setTimestamp(2, Timestamp.from(now));
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            if (!isIntegrityConstraintViolation(e)) {
+                log.warn("Storing processed key failed", e);
+                return;
+            }
+            if (!refresh(key, now)) {
+                return;
+            }
+        }
+        cache.markProcessed(key);
+        pruneIfDue();
+    }
+
+    /**
+     * Restarts the retention of an expired key, which was not deleted yet.
+     */
+    private boolean refresh(ProcessedKey key, Instant now) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(refreshSql)) {
+            statement.setTimestamp(1, Timestamp.from(now));
+            statement.setBytes(2, key.toBytes());
+            statement.setTimestamp(3, Timestamp.from(now.minus(retention)));
+            statement.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            log.warn("Refreshing processed key failed", e);
+            return false;
+        }
+    }
+
+    private void pruneIfDue() {
+        var next = nextPruneNanos.get();
+        var now = System.nanoTime();
+        if (now - next < 0 || !nextPruneNanos.compareAndSet(next, now + pruneIntervalNanos)) {
+            return;
+        }
+        try {
+            var deleted = deleteExpired();
+            log.debug("Deleted {} expired processed keys", deleted);
+        } catch (DLCEventsException e) {
+            log.warn("Deleting expired processed keys failed", e);
+        }
+    }
+
+    /**
+     * Deletes all keys older than the retention.
+     *
+     * @return the number of deleted keys
+     */
+    public int deleteExpired() {
+        return deleteProcessedBefore(Instant.now().minus(retention));
+    }
+
+    /**
+     * Deletes all keys processed before the given time.
+     *
+     * @param time keys processed before are deleted
+     * @return the number of deleted keys
+     */
+    public int deleteProcessedBefore(Instant time) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(deleteSql)) {
+            statement.setTimestamp(1, Timestamp.from(time));
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw DLCEventsException.fail("Deleting processed keys failed!", e);
+        }
+    }
+
+    /**
+     * @return the time a key is kept after it was marked processed
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+}
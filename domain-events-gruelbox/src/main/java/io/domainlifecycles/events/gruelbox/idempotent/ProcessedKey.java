@@ -0,0 +1,79 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.idempotent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * A compact 128 bit key identifying an idempotency protected handler execution, derived from the unique request id
+ * of the outbox entry (domain event identifier, handler type and handler method).
+ *
+ * @param high the upper 64 bits of the key
+ * @param low the lower 64 bits of the key
+ *
+ * @author Mario Herb
+ */
+public record ProcessedKey(long high, long low) {
+
+    /**
+     * Derives the key from the unique request id of an outbox entry, using the first 128 bits of its SHA-256 hash.
+     *
+     * @param uniqueRequestId the unique request id
+     * @return the key
+     */
+    public static ProcessedKey of(String uniqueRequestId) {
+        Objects.requireNonNull(uniqueRequestId, "A uniqueRequestId is required!");
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(uniqueRequestId.getBytes(StandardCharsets.UTF_8));
+            return fromBytes(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported!", e);
+        }
+    }
+
+    /**
+     * Restores a key from its binary representation.
+     *
+     * @param bytes at least 16 bytes, the first 16 bytes are used
+     * @return the key
+     */
+    public static ProcessedKey fromBytes(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new ProcessedKey(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * @return the 16 byte binary representation of the key
+     */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(16).putLong(high).putLong(low).array();
+    }
+}
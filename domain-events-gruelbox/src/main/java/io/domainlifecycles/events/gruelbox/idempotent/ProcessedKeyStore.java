@@ -0,0 +1,56 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.idempotent;
+
+/**
+ * A store of keys of idempotency protected handler executions, which are known to be scheduled in the outbox already.
+ * <br>
+ * The {@link IdempotencyAwareHandlerExecutorProxy} checks the store before scheduling, so that known duplicates are
+ * rejected without an outbox insert failing on its unique request id constraint. The store is an optimization only:
+ * keys it does not know (anymore) are still rejected by the outbox. Keys must only be added, after the outbox entry
+ * was committed, e.g. by a {@link ProcessedKeyStoreListener}. Keys should expire with the retention threshold of the
+ * outbox, after which processed outbox entries are deleted and their idempotency protection ends.
+ *
+ * @author Mario Herb
+ */
+public interface ProcessedKeyStore {
+
+    /**
+     * Checks whether the key is known to be scheduled already.
+     *
+     * @param key the key of the handler execution
+     * @return true, if the key is known
+     */
+    boolean isProcessed(ProcessedKey key);
+
+    /**
+     * Adds the key of a committed outbox entry.
+     *
+     * @param key the key of the handler execution
+     */
+    void markProcessed(ProcessedKey key);
+}
@@ -0,0 +1,67 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.idempotent;
+
+import com.gruelbox.transactionoutbox.TransactionOutboxEntry;
+import com.gruelbox.transactionoutbox.TransactionOutboxListener;
+
+import java.util.Objects;
+
+/**
+ * A TransactionOutboxListener adding the keys of scheduled idempotency protected handler executions to a
+ * {@link ProcessedKeyStore}. Gruelbox notifies the listener after the transaction scheduling the entry was committed,
+ * so that keys of rolled back entries never get into the store.
+ * <br>
+ * The listener has to be registered on the TransactionOutbox, e.g. by {@code TransactionOutbox.builder().listener(listener)}.
+ *
+ * @author Mario Herb
+ */
+public class ProcessedKeyStoreListener implements TransactionOutboxListener {
+
+    private final ProcessedKeyStore processedKeyStore;
+
+    /**
+     * Creates a listener for the given store.
+     *
+     * @param processedKeyStore the store the keys are added to
+     */
+    public ProcessedKeyStoreListener(ProcessedKeyStore processedKeyStore) {
+        this.processedKeyStore = Objects.requireNonNull(processedKeyStore, "A ProcessedKeyStore is required!");
+    }
+
+    /**
+     * Adds the key of an entry scheduled with a unique request id to the store.
+     *
+     * @param entry the scheduled outbox entry
+     */
+    @Override
+    public void scheduled(TransactionOutboxEntry entry) {
+        if (entry.getUniqueRequestId() != null) {
+            processedKeyStore.markProcessed(ProcessedKey.of(entry.getUniqueRequestId()));
+        }
+    }
+}
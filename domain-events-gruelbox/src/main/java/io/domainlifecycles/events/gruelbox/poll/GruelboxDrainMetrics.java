@@ -0,0 +1,56 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.poll;
+
+/**
+ * A snapshot of the metrics of the outbox entries drained, as recorded by a {@link GruelboxDrainMetricsListener}.
+ *
+ * @param scheduled          the number of entries scheduled in this application instance
+ * @param drained            the number of entries processed successfully
+ * @param failed             the number of failed attempts to process an entry
+ * @param blocked            the number of entries blocked after too many failed attempts
+ * @param tracked            the number of entries scheduled in this application instance, which are tracked for
+ *                           measuring their lag: entries not processed by this instance yet and not evicted after the
+ *                           tracking horizon. It is not the number of pending entries of the outbox, as entries may be
+ *                           processed by other instances.
+ * @param drainRatePerSecond the number of entries processed successfully per second, averaged over the rate window
+ * @param lastLagNanos       the time the most recently drained entry waited since it was due, in nanoseconds
+ * @param maxLagNanos        the maximum time a drained entry waited since it was due, in nanoseconds
+ *
+ * @author Mario Herb
+ */
+public record GruelboxDrainMetrics(
+    long scheduled,
+    long drained,
+    long failed,
+    long blocked,
+    long tracked,
+    double drainRatePerSecond,
+    long lastLagNanos,
+    long maxLagNanos
+) {
+}
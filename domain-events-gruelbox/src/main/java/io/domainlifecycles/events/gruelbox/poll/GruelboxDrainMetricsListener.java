@@ -0,0 +1,221 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.poll;
+
+import com.gruelbox.transactionoutbox.TransactionOutboxEntry;
+import com.gruelbox.transactionoutbox.TransactionOutboxListener;
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A TransactionOutboxListener recording drain-rate and lag gauges of the outbox entries processed by the
+ * {@link GruelboxPoller}s, e.g. to size the number of flush workers.
+ * <br>
+ * The lag of an entry is the time between the entry becoming due and its successful processing. It is only known for
+ * entries scheduled in this application instance, which are tracked up to a maximum number of entries. Entries scheduled
+ * here may be processed by other instances, or deleted or unblocked outside of Gruelbox, without this listener being
+ * notified. Therefore tracked entries due longer ago than the tracking horizon are evicted, when the maximum number of
+ * tracked entries is reached and when the metrics are read. Choose a horizon above the expected maximum lag,
+ * as the lag of evicted entries is not recorded.
+ * <br>
+ * The listener has to be registered on the TransactionOutbox, e.g. by {@code TransactionOutbox.builder().listener(listener)}.
+ *
+ * @author Mario Herb
+ */
+public class GruelboxDrainMetricsListener implements TransactionOutboxListener {
+
+    private static final int MAX_TRACKED_ENTRIES_DEFAULT = 100_000;
+    private static final Duration RATE_WINDOW_DEFAULT = Duration.ofSeconds(10);
+    private static final Duration TRACKING_HORIZON_DEFAULT = Duration.ofHours(1);
+
+    private final int maxTrackedEntries;
+    private final int rateWindowSeconds;
+    private final Duration trackingHorizon;
+    private final Map<String, Instant> dueTimesById = new ConcurrentHashMap<>();
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final long[] drainedPerSecond;
+    private final long[] bucketSeconds;
+
+    /**
+     * Creates a listener.
+     *
+     * @param maxTrackedEntries the maximum number of entries tracked for measuring their lag
+     * @param rateWindow the window the drain rate is averaged over, at least one second
+     * @param trackingHorizon the time after becoming due, after which a tracked entry may be evicted
+     */
+    public GruelboxDrainMetricsListener(int maxTrackedEntries, Duration rateWindow, Duration trackingHorizon) {
+        if (maxTrackedEntries < 0) {
+            throw DLCEventsException.fail("The maximum number of tracked entries must not be negative, but was %d!", maxTrackedEntries);
+        }
+        if (rateWindow == null || rateWindow.getSeconds() < 1) {
+            throw DLCEventsException.fail("The rate window must be at least one second, but was %s!", rateWindow);
+        }
+        if (trackingHorizon == null || trackingHorizon.isNegative() || trackingHorizon.isZero()) {
+            throw DLCEventsException.fail("The tracking horizon must be positive, but was %s!", trackingHorizon);
+        }
+        this.maxTrackedEntries = maxTrackedEntries;
+        this.trackingHorizon = trackingHorizon;
+        this.rateWindowSeconds = (int) Math.min(rateWindow.getSeconds(), 3600);
+        this.drainedPerSecond = new long[rateWindowSeconds + 1];
+        this.bucketSeconds = new long[rateWindowSeconds + 1];
+    }
+
+    /**
+     * Creates a listener with a tracking horizon of one hour.
+     *
+     * @param maxTrackedEntries the maximum number of entries tracked for measuring their lag
+     * @param rateWindow the window the drain rate is averaged over, at least one second
+     */
+    public GruelboxDrainMetricsListener(int maxTrackedEntries, Duration rateWindow) {
+        this(maxTrackedEntries, rateWindow, TRACKING_HORIZON_DEFAULT);
+    }
+
+    /**
+     * Creates a listener tracking up to 100.000 entries for one hour and averaging the drain rate over 10 seconds.
+     */
+    public GruelboxDrainMetricsListener() {
+        this(MAX_TRACKED_ENTRIES_DEFAULT, RATE_WINDOW_DEFAULT);
+    }
+
+    /**
+     * Tracks the due time of the scheduled entry. If the maximum number of tracked entries is reached,
+     * entries beyond the tracking horizon are evicted first.
+     *
+     * @param entry the scheduled outbox entry
+     */
+    @Override
+    public void scheduled(TransactionOutboxEntry entry) {
+        scheduled.incrementAndGet();
+        if (entry.getId() == null) {
+            return;
+        }
+        var now = Instant.now();
+        if (dueTimesById.size() >= maxTrackedEntries) {
+            evictBeyondHorizon(now);
+        }
+        if (dueTimesById.size() < maxTrackedEntries) {
+            dueTimesById.put(entry.getId(), entry.getNextAttemptTime() == null ? now : entry.getNextAttemptTime());
+        }
+    }
+
+    /**
+     * Records the drained entry and its lag.
+     *
+     * @param entry the processed outbox entry
+     */
+    @Override
+    public void success(TransactionOutboxEntry entry) {
+        drained.incrementAndGet();
+        recordDrained(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+        var due = entry.getId() == null ? null : dueTimesById.remove(entry.getId());
+        if (due != null) {
+            var lag = Math.max(0, Duration.between(due, Instant.now()).toNanos());
+            lastLagNanos.set(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    /**
+     * Records the failed attempt.
+     *
+     * @param entry the outbox entry
+     * @param cause the cause of the failure
+     */
+    @Override
+    public void failure(TransactionOutboxEntry entry, Throwable cause) {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * Records the blocked entry, which is not tracked anymore.
+     *
+     * @param entry the blocked outbox entry
+     * @param cause the cause of the last failure
+     */
+    @Override
+    public void blocked(TransactionOutboxEntry entry, Throwable cause) {
+        blocked.incrementAndGet();
+        if (entry.getId() != null) {
+            dueTimesById.remove(entry.getId());
+        }
+    }
+
+    private void evictBeyondHorizon(Instant now) {
+        var horizon = now.minus(trackingHorizon);
+        dueTimesById.values().removeIf(due -> due.isBefore(horizon));
+    }
+
+    private synchronized void recordDrained(long second) {
+        var index = (int) (second % bucketSeconds.length);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            drainedPerSecond[index] = 0;
+        }
+        drainedPerSecond[index]++;
+    }
+
+    private synchronized double drainRatePerSecond(long second) {
+        long sum = 0;
+        for (int i = 0; i < bucketSeconds.length; i++) {
+            if (bucketSeconds[i] < second && bucketSeconds[i] >= second - rateWindowSeconds) {
+                sum += drainedPerSecond[i];
+            }
+        }
+        return (double) sum / rateWindowSeconds;
+    }
+
+    /**
+     * Retrieves a snapshot of the drain metrics. The drain rate covers the completed seconds of the rate window.
+     * Tracked entries beyond the tracking horizon are evicted before.
+     *
+     * @return the metrics
+     */
+    public GruelboxDrainMetrics getMetrics() {
+        evictBeyondHorizon(Instant.now());
+        return new GruelboxDrainMetrics(
+            scheduled.get(),
+            drained.get(),
+            failed.get(),
+            blocked.get(),
+            dueTimesById.size(),
+            drainRatePerSecond(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime())),
+            lastLagNanos.get(),
+            maxLagNanos.get()
+        );
+    }
+}
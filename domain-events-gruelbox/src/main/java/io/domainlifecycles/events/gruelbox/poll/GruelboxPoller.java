@@ -23,35 +23,55 @@
  *  See the License for the specific language governing permissions and
  *  limitations under the License.
  */
-
 package io.domainlifecycles.events.gruelbox.poll;
 
-
 import com.gruelbox.transactionoutbox.TransactionOutbox;
 import io.domainlifecycles.events.gruelbox.api.PollerConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * The GruelboxPoller class represents a poller that flushes the transaction outbox at a fixed rate.
+ * The GruelboxPoller class represents a poller that flushes the transaction outbox adaptively.
+ * <br>
+ * As long as a flush finds work, the outbox is flushed again at once. When the outbox is idle, the period between two
+ * polls is doubled from the minimum up to the maximum period configured by the {@link PollerConfiguration}.
+ * Optionally the entries of a flush are processed by several flush workers in parallel. Entries scheduled ordered keep
+ * their order per topic, as Gruelbox only selects the oldest unprocessed entry of each topic. Drain-rate and lag gauges
+ * are provided by a {@link GruelboxDrainMetricsListener}.
+ * <br>
+ * The poller can be woken up, e.g. by a {@link GruelboxPollerWakeUpListener} after new outbox entries were committed,
+ * so that entries are processed within milliseconds without polling the database at a high rate when idle.
  *
  * @author Mario Herb
  */
 public final class GruelboxPoller {
 
     private static final Logger log = LoggerFactory.getLogger(GruelboxPoller.class);
+    private static final int MAX_PENDING_WAKE_UPS = 1024;
 
     private final TransactionOutbox transactionOutbox;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ExecutorService flushExecutor;
     private final PollerConfiguration pollerConfiguration;
+    private final ReentrantLock wakeUpLock = new ReentrantLock();
+    private final Condition wakeUpCondition = wakeUpLock.newCondition();
+    private final TreeSet<Long> pendingWakeUps = new TreeSet<>();
+    private final long wakeUpGranularityNanos;
+    private volatile boolean closed;
 
     /**
-     * The GruelboxPoller class represents a poller that flushes the transaction outbox at a fixed rate.
+     * The GruelboxPoller class represents a poller that flushes the transaction outbox adaptively.
      *
      * @param transactionOutbox the outbox being polled
      * @param pollerConfiguration the configuration for this poller instance
@@ -59,15 +79,128 @@ public final class GruelboxPoller {
     public GruelboxPoller(TransactionOutbox transactionOutbox, PollerConfiguration pollerConfiguration) {
         this.transactionOutbox = Objects.requireNonNull(transactionOutbox, "A TransactionOutbox is required!");
         this.pollerConfiguration = Objects.requireNonNull(pollerConfiguration, "A PollerConfiguration is required!");
-        scheduler.scheduleAtFixedRate(() ->{
-                try {
-                    log.info("Flushing transaction outbox!");
-                    transactionOutbox.flush();
-                } catch (Throwable t) {
-                    log.error("Error flushing transaction outbox. Pausing", t);
+        this.flushExecutor = pollerConfiguration.getFlushWorkers() > 1
+            ? Executors.newFixedThreadPool(pollerConfiguration.getFlushWorkers())
+            : null;
+        this.wakeUpGranularityNanos = TimeUnit.MILLISECONDS.toNanos(pollerConfiguration.getPollerMinPeriodMs());
+        if (pollerConfiguration.getWakeUpListener() != null) {
+            pollerConfiguration.getWakeUpListener().register(this);
+        }
+        scheduler.schedule(this::poll, this.pollerConfiguration.getPollerDelayMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        var periodMs = pollerConfiguration.getPollerMinPeriodMs();
+        while (isRunning()) {
+            try {
+                if (flush()) {
+                    periodMs = pollerConfiguration.getPollerMinPeriodMs();
+                } else {
+                    periodMs = Math.min(periodMs * 2, pollerConfiguration.getPollerPeriodMs());
                 }
-            },
-            this.pollerConfiguration.getPollerDelayMs(), this.pollerConfiguration.getPollerPeriodMs(), TimeUnit.MILLISECONDS);
+            } catch (Throwable t) {
+                log.error("Error flushing transaction outbox. Pausing", t);
+                periodMs = pollerConfiguration.getPollerPeriodMs();
+            }
+            awaitNextPoll(periodMs);
+        }
+        log.info("Stopped polling transaction outbox");
+    }
+
+    /**
+     * Flushes the outbox again and again, as long as the flushes find work.
+     *
+     * @return true, if any work was flushed
+     */
+    private boolean flush() {
+        log.debug("Flushing transaction outbox!");
+        var flushed = false;
+        while (isRunning()
+            && (flushExecutor == null ? transactionOutbox.flush() : transactionOutbox.flush(flushExecutor))) {
+            flushed = true;
+        }
+        return flushed;
+    }
+
+    private void awaitNextPoll(long periodMs) {
+        wakeUpLock.lock();
+        try {
+            var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(periodMs);
+            while (isRunning()) {
+                var now = System.nanoTime();
+                var nextWakeUp = pendingWakeUps.isEmpty() ? null : pendingWakeUps.first();
+                if (nextWakeUp != null && nextWakeUp - now <= 0) {
+                    pendingWakeUps.headSet(now, true).clear();
+                    return;
+                }
+                var waitNanos = deadline - now;
+                if (nextWakeUp != null) {
+                    waitNanos = Math.min(waitNanos, nextWakeUp - now);
+                }
+                if (waitNanos <= 0) {
+                    return;
+                }
+                wakeUpCondition.awaitNanos(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            wakeUpLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the poller, so that the outbox is flushed as soon as possible.
+     */
+    public void wakeUp() {
+        wakeUpAt(Instant.now());
+    }
+
+    /**
+     * Wakes up the poller at the given time, e.g. when a delayed outbox entry becomes due.
+     * Wake-ups are coalesced to the minimum poller period.
+     *
+     * @param time the time the outbox should be flushed
+     */
+    public void wakeUpAt(Instant time) {
+        var delay = Duration.between(Instant.now(), time);
+        var delayNanos = delay.isNegative() ? 0 : Math.min(delay.toMillis(), pollerConfiguration.getPollerPeriodMs()) * 1_000_000;
+        var target = System.nanoTime() + delayNanos;
+        var slot = Math.floorDiv(target + wakeUpGranularityNanos - 1, wakeUpGranularityNanos) * wakeUpGranularityNanos;
+        wakeUpLock.lock();
+        try {
+            if (pendingWakeUps.size() < MAX_PENDING_WAKE_UPS
+                && pendingWakeUps.add(slot)
+                && pendingWakeUps.first() == slot) {
+                wakeUpCondition.signalAll();
+            }
+        } finally {
+            wakeUpLock.unlock();
+        }
+    }
+
+    /**
+     * Stops polling and releases the threads of this poller. A running flush is completed.
+     */
+    public void close() {
+        closed = true;
+        if (pollerConfiguration.getWakeUpListener() != null) {
+            pollerConfiguration.getWakeUpListener().unregister(this);
+        }
+        scheduler.shutdown();
+        wakeUpLock.lock();
+        try {
+            wakeUpCondition.signalAll();
+        } finally {
+            wakeUpLock.unlock();
+        }
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+    }
+
+    private boolean isRunning() {
+        return !closed && !scheduler.isShutdown() && !Thread.currentThread().isInterrupted();
     }
 
     /**
@@ -0,0 +1,67 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.gruelbox.poll;
+
+import com.gruelbox.transactionoutbox.TransactionOutboxEntry;
+import com.gruelbox.transactionoutbox.TransactionOutboxListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A TransactionOutboxListener waking up the {@link GruelboxPoller}s configured with it, after new outbox entries were
+ * committed. Entries scheduled with a delay wake up the pollers when they become due.
+ * <br>
+ * The listener has to be registered on the TransactionOutbox, e.g. by {@code TransactionOutbox.builder().listener(listener)},
+ * and passed to the {@link io.domainlifecycles.events.gruelbox.api.PollerConfiguration}.
+ *
+ * @author Mario Herb
+ */
+public class GruelboxPollerWakeUpListener implements TransactionOutboxListener {
+
+    private final List<GruelboxPoller> pollers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Wakes up all registered pollers, when the scheduled entry is due.
+     * Gruelbox calls this method after the transaction scheduling the entry was committed.
+     *
+     * @param entry the scheduled outbox entry
+     */
+    @Override
+    public void scheduled(TransactionOutboxEntry entry) {
+        var due = entry.getNextAttemptTime() == null ? Instant.now() : entry.getNextAttemptTime();
+        pollers.forEach(poller -> poller.wakeUpAt(due));
+    }
+
+    void register(GruelboxPoller poller) {
+        pollers.add(poller);
+    }
+
+    void unregister(GruelboxPoller poller) {
+        pollers.remove(poller);
+    }
+}
@@ -29,6 +29,7 @@ package io.domainlifecycles.events.gruelbox.publish;
 import com.gruelbox.transactionoutbox.TransactionOutbox;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
 import io.domainlifecycles.events.gruelbox.api.PublishingSchedulerConfiguration;
 import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
@@ -36,6 +37,8 @@ import io.domainlifecycles.events.publish.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -78,24 +81,51 @@ public final class GruelboxBroadcastingDomainEventPublisher implements DomainEve
      * The event is logged for debugging purposes.
      * If orderedByDomainEventType is true, the event is scheduled in an ordered manner based on its class name.
      * The event is scheduled with a delay of at least schedulingDelay and dispatched using the GruelboxDomainEventDispatcher.
+     * If batchedPerDomainEvent is true, a single outbox entry dispatches the event to all of its handlers, so that the
+     * event is serialized and inserted once.
      *
      * @param domainEvent the domain event to be published
      */
     @Override
     public void publish(DomainEvent domainEvent) {
         log.debug("Received DomainEvent {} for publishing", domainEvent);
+        schedule(domainEvent);
+    }
+
+    private void schedule(DomainEvent domainEvent) {
         var scheduleBuilder = outbox.with();
         if(publishingSchedulerConfiguration.isOrderedByDomainEventType()){
             scheduleBuilder.ordered(domainEvent.getClass().getName());
         }
-        executionContextDetector.detectExecutionContexts(domainEvent).forEach(executionContext ->
-            {
-                scheduleBuilder.delayForAtLeast(publishingSchedulerConfiguration.getSchedulingDelay())
-                    .schedule(GruelboxDomainEventDispatcher.class)
-                    .dispatch(domainEvent, new TargetExecutionContext(executionContext.handlerTypeName(), executionContext.handlerMethodName()));
-            }
+        scheduleBuilder.delayForAtLeast(publishingSchedulerConfiguration.getSchedulingDelay());
+        var traceContext = DomainEventTraceContext.current();
+        var traceId = traceContext == null ? null : traceContext.traceId();
+        var targetExecutionContexts = executionContextDetector.detectExecutionContexts(domainEvent)
+            .stream()
+            .map(executionContext -> new TargetExecutionContext(executionContext.handlerTypeName(), executionContext.handlerMethodName(), traceId))
+            .toList();
+        if(publishingSchedulerConfiguration.isBatchedPerDomainEvent() && targetExecutionContexts.size() > 1){
+            scheduleBuilder
+                .schedule(GruelboxDomainEventDispatcher.class)
+                .dispatchAll(domainEvent, new ArrayList<>(targetExecutionContexts), publishingSchedulerConfiguration.isOrderedByDomainEventType());
+            return;
+        }
+        targetExecutionContexts.forEach(targetExecutionContext ->
+            scheduleBuilder
+                .schedule(GruelboxDomainEventDispatcher.class)
+                .dispatch(domainEvent, targetExecutionContext)
         );
+    }
 
+    /**
+     * Schedules all domain events within the outbox transaction of the caller, preserving their order.
+     *
+     * @param domainEvents the domain events to be published
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        log.debug("Received {} DomainEvents for publishing", domainEvents.size());
+        domainEvents.forEach(this::schedule);
     }
 
     /**
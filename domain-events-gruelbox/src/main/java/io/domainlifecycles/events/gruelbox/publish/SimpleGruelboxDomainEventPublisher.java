@@ -34,6 +34,7 @@ import io.domainlifecycles.events.publish.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -74,6 +75,10 @@ public final class SimpleGruelboxDomainEventPublisher implements DomainEventPubl
     @Override
     public void publish(DomainEvent domainEvent) {
         log.debug("Received DomainEvent {} for publishing", domainEvent);
+        schedule(domainEvent);
+    }
+
+    private void schedule(DomainEvent domainEvent) {
         var scheduleBuilder = outbox.with();
         if(publishingSchedulerConfiguration.isOrderedByDomainEventType()){
             scheduleBuilder.ordered(domainEvent.getClass().getName());
@@ -84,6 +89,17 @@ public final class SimpleGruelboxDomainEventPublisher implements DomainEventPubl
             .dispatch(domainEvent, null);
     }
 
+    /**
+     * Schedules all domain events within the outbox transaction of the caller, preserving their order.
+     *
+     * @param domainEvents the domain events to be published
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        log.debug("Received {} DomainEvents for publishing", domainEvents.size());
+        domainEvents.forEach(this::schedule);
+    }
+
     /**
      * Retrieves the configuration settings for the publishing scheduler.
      *
@@ -0,0 +1,558 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2025 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.gruelbox.serialize;
+
+import com.gruelbox.transactionoutbox.Invocation;
+import com.gruelbox.transactionoutbox.InvocationSerializer;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutionContext;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutor;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact implementation of {@link InvocationSerializer} for the invocations scheduled by Domain Lifecycle Events.
+ * <br>
+ * Instead of verbose JSON, the invocations of {@link GruelboxDomainEventDispatcher} and {@link IdempotentExecutor}
+ * are written as a length-prefixed binary encoding: class and method names are replaced by ids of a static dictionary
+ * of well-known names or by back references to names already written in the same invocation, DomainEvents are encoded
+ * by the given {@link DomainEventSerializer}: as bytes by a {@link BinaryDomainEventSerializer} (e.g. the mirror based
+ * {@code MirrorDomainEventCodec}), as text otherwise (e.g. JSON). Payloads above a size threshold are deflated, if that
+ * makes them smaller. As Gruelbox stores invocations as text, the binary representation is Base64 encoded and prefixed
+ * by {@code '~'}.
+ * <br>
+ * Outbox rows outlive deployments: pending, failed and blocked entries are read by the version of the application
+ * deployed when they are retried or unblocked. The {@code MirrorDomainEventCodec} writes a fingerprint of the field
+ * layout of each event type, so rows written before a field of a DomainEvent was added, removed or changed fail to be
+ * read after the deployment. Either drain the outbox before deploying changed DomainEvent types, or encode
+ * DomainEvents as JSON (e.g. by a {@code JacksonDomainEventSerializer}), which keeps the compact envelope and tolerates
+ * compatible changes. Rows are decoded by the serializer they were written with, so switching between a binary and
+ * a text serializer requires a drained outbox as well.
+ * <br>
+ * The trace id of a {@link TargetExecutionContext} or {@link IdempotentExecutionContext} is only written, if present,
+ * by separate tags, so rows written without trace ids stay readable.
+ * <br>
+ * Other invocations are written by a JSON fallback serializer. Invocations read are decoded by their prefix,
+ * so outbox rows written in JSON by the {@link DlcJacksonInvocationSerializer} can still be read.
+ *
+ * @author Mario Herb
+ */
+public final class CompactInvocationSerializer implements InvocationSerializer {
+
+    private static final char PREFIX = '~';
+    private static final int VERSION = 0x10;
+    private static final int DEFLATED = 0x01;
+    private static final int COMPRESSION_THRESHOLD_DEFAULT = 512;
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int STRING = 3;
+    private static final int INT = 4;
+    private static final int LONG = 5;
+    private static final int LIST = 6;
+    private static final int TARGET_EXECUTION_CONTEXT = 7;
+    private static final int IDEMPOTENT_EXECUTION_CONTEXT = 8;
+    private static final int DOMAIN_EVENT = 9;
+    private static final int DOMAIN_EVENT_TEXT = 10;
+    private static final int TRACED_TARGET_EXECUTION_CONTEXT = 11;
+    private static final int TRACED_IDEMPOTENT_EXECUTION_CONTEXT = 12;
+
+    /**
+     * Well-known names, referenced by their index + 1. Names may only be appended, as the ids are persisted.
+     */
+    private static final List<String> STATIC_DICTIONARY = List.of(
+        GruelboxDomainEventDispatcher.class.getName(),
+        IdempotentExecutor.class.getName(),
+        "dispatch",
+        "dispatchAll",
+        "execute",
+        DomainEvent.class.getName(),
+        TargetExecutionContext.class.getName(),
+        List.class.getName(),
+        boolean.class.getName(),
+        IdempotentExecutionContext.class.getName()
+    );
+    private static final Map<String, Integer> STATIC_IDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < STATIC_DICTIONARY.size(); i++) {
+            STATIC_IDS.put(STATIC_DICTIONARY.get(i), i + 1);
+        }
+    }
+
+    private final DomainEventSerializer domainEventSerializer;
+    private final InvocationSerializer fallbackSerializer;
+    private final int compressionThreshold;
+    private final Map<String, Class<?>> classesByName = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for a compact serializer.
+     *
+     * @param domainEventSerializer the serializer for DomainEvent arguments, binary or text (e.g. JSON)
+     * @param fallbackSerializer the serializer for other invocations and for reading JSON rows
+     * @param compressionThreshold the size in bytes above which payloads are deflated, a negative value disables compression
+     */
+    public CompactInvocationSerializer(DomainEventSerializer domainEventSerializer,
+                                       InvocationSerializer fallbackSerializer,
+                                       int compressionThreshold) {
+        this.domainEventSerializer = Objects.requireNonNull(domainEventSerializer, "A DomainEventSerializer is required!");
+        this.fallbackSerializer = Objects.requireNonNull(fallbackSerializer, "A fallback InvocationSerializer is required!");
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Constructor for a compact serializer, falling back to the {@link DlcJacksonInvocationSerializer} and deflating
+     * payloads larger than 512 bytes.
+     *
+     * @param domainEventSerializer the serializer for DomainEvent arguments, binary or text (e.g. JSON)
+     */
+    public CompactInvocationSerializer(DomainEventSerializer domainEventSerializer) {
+        this(domainEventSerializer, new DlcJacksonInvocationSerializer(), COMPRESSION_THRESHOLD_DEFAULT);
+    }
+
+    /**
+     * Serializes the given {@link Invocation} compactly into the provided {@link Writer}, or by the fallback
+     * serializer if the invocation contains arguments not supported by the compact encoding.
+     *
+     * @param invocation The {@link Invocation} object to serialize. Cannot be null.
+     * @param writer The {@link Writer} instance where the serialized representation is written to. Cannot be null.
+     */
+    @Override
+    public void serializeInvocation(Invocation invocation, Writer writer) {
+        byte[] payload;
+        try {
+            payload = encode(invocation);
+        } catch (UnsupportedArgumentException e) {
+            fallbackSerializer.serializeInvocation(invocation, writer);
+            return;
+        }
+        try {
+            writer.write(PREFIX);
+            writer.write(Base64.getEncoder().encodeToString(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes an {@link Invocation}, which was written compactly or in JSON.
+     *
+     * @param reader The {@link Reader} instance providing the serialized invocation.
+     * @return The deserialized {@link Invocation} object.
+     * @throws IOException If an I/O error occurs while reading the input or the compact payload is corrupt.
+     */
+    @Override
+    public Invocation deserializeInvocation(Reader reader) throws IOException {
+        var text = readFully(reader);
+        var start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        if (start == text.length() || text.charAt(start) != PREFIX) {
+            return fallbackSerializer.deserializeInvocation(new StringReader(text));
+        }
+        try {
+            return decode(Base64.getDecoder().decode(text.substring(start + 1).strip()));
+        } catch (IllegalArgumentException | DataFormatException e) {
+            throw new IOException("Corrupt compact invocation!", e);
+        }
+    }
+
+    private byte[] encode(Invocation invocation) {
+        try {
+            var bytes = new ByteArrayOutputStream(256);
+            var out = new DataOutputStream(bytes);
+            var names = new HashMap<String, Integer>();
+            writeName(out, invocation.getClassName(), names);
+            writeName(out, invocation.getMethodName(), names);
+            var parameterTypes = invocation.getParameterTypes();
+            writeVarInt(out, parameterTypes.length);
+            for (var parameterType : parameterTypes) {
+                writeName(out, parameterType.getName(), names);
+            }
+            var args = invocation.getArgs();
+            writeVarInt(out, args.length);
+            for (var arg : args) {
+                writeValue(out, arg, names);
+            }
+            writeStringMap(out, invocation.getMdc());
+            writeStringMap(out, invocation.getSession());
+            out.flush();
+            return compress(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] compress(byte[] raw) throws IOException {
+        if (compressionThreshold >= 0 && raw.length > compressionThreshold) {
+            var deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                var bytes = new ByteArrayOutputStream(raw.length);
+                var out = new DataOutputStream(bytes);
+                out.writeByte(VERSION | DEFLATED);
+                writeVarInt(out, raw.length);
+                var buffer = new byte[1024];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                out.flush();
+                if (bytes.size() < raw.length + 1) {
+                    return bytes.toByteArray();
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        var result = new byte[raw.length + 1];
+        result[0] = (byte) VERSION;
+        System.arraycopy(raw, 0, result, 1, raw.length);
+        return result;
+    }
+
+    private void writeValue(DataOutputStream out, Object value, Map<String, Integer> names) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? TRUE : FALSE);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            writeString(out, s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INT);
+            writeVarLong(out, zigZag(i));
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            writeVarLong(out, zigZag(l));
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            writeVarInt(out, list.size());
+            for (var element : list) {
+                writeValue(out, element, names);
+            }
+        } else if (value instanceof TargetExecutionContext target) {
+            out.writeByte(target.traceId() == null ? TARGET_EXECUTION_CONTEXT : TRACED_TARGET_EXECUTION_CONTEXT);
+            writeName(out, target.handlerTypeName(), names);
+            writeName(out, target.handlerMethodName(), names);
+            if (target.traceId() != null) {
+                writeString(out, target.traceId());
+            }
+        } else if (value instanceof IdempotentExecutionContext context) {
+            out.writeByte(context.traceId() == null ? IDEMPOTENT_EXECUTION_CONTEXT : TRACED_IDEMPOTENT_EXECUTION_CONTEXT);
+            writeName(out, context.handlerClass().getName(), names);
+            writeName(out, context.handlerMethod(), names);
+            writeValue(out, context.domainEvent(), names);
+            if (context.traceId() != null) {
+                writeString(out, context.traceId());
+            }
+        } else if (value instanceof DomainEvent domainEvent
+            && domainEventSerializer instanceof BinaryDomainEventSerializer binarySerializer) {
+            out.writeByte(DOMAIN_EVENT);
+            writeName(out, domainEvent.getClass().getName(), names);
+            var bytes = binarySerializer.serializeToBytes(domainEvent);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof DomainEvent domainEvent) {
+            out.writeByte(DOMAIN_EVENT_TEXT);
+            writeName(out, domainEvent.getClass().getName(), names);
+            writeString(out, domainEventSerializer.serialize(domainEvent));
+        } else {
+            throw new UnsupportedArgumentException();
+        }
+    }
+
+    private Invocation decode(byte[] payload) throws IOException, DataFormatException {
+        if (payload.length == 0 || (payload[0] & 0xF0) != VERSION) {
+            throw new IOException("Unsupported compact invocation version!");
+        }
+        var raw = payload;
+        var offset = 1;
+        if ((payload[0] & DEFLATED) != 0) {
+            var header = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1));
+            var rawLength = readVarInt(header);
+            var headerLength = payload.length - 1 - header.available();
+            raw = new byte[rawLength];
+            var inflater = new Inflater();
+            try {
+                inflater.setInput(payload, 1 + headerLength, payload.length - 1 - headerLength);
+                if (inflater.inflate(raw) != rawLength || !inflater.finished()) {
+                    throw new IOException("Corrupt compressed invocation!");
+                }
+            } finally {
+                inflater.end();
+            }
+            offset = 0;
+        }
+        var in = new DataInputStream(new ByteArrayInputStream(raw, offset, raw.length - offset));
+        var names = new ArrayList<String>();
+        var className = readName(in, names);
+        var methodName = readName(in, names);
+        var parameterTypes = new Class<?>[readVarInt(in)];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = classForName(readName(in, names));
+        }
+        var args = new Object[readVarInt(in)];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readValue(in, names);
+        }
+        var mdc = readStringMap(in);
+        var session = readStringMap(in);
+        return new Invocation(className, methodName, parameterTypes, args, mdc, session);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(DataInputStream in, List<String> names) throws IOException {
+        var tag = in.readUnsignedByte();
+        return switch (tag) {
+            case NULL -> null;
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case STRING -> readString(in);
+            case INT -> (int) unZigZag(readVarLong(in));
+            case LONG -> unZigZag(readVarLong(in));
+            case LIST -> {
+                var size = readVarInt(in);
+                var list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, names));
+                }
+                yield list;
+            }
+            case TARGET_EXECUTION_CONTEXT -> new TargetExecutionContext(readName(in, names), readName(in, names));
+            case TRACED_TARGET_EXECUTION_CONTEXT ->
+                new TargetExecutionContext(readName(in, names), readName(in, names), readString(in));
+            case IDEMPOTENT_EXECUTION_CONTEXT -> {
+                var handlerClass = classForName(readName(in, names));
+                var handlerMethod = readName(in, names);
+                yield new IdempotentExecutionContext(handlerClass, handlerMethod, (DomainEvent) readValue(in, names));
+            }
+            case TRACED_IDEMPOTENT_EXECUTION_CONTEXT -> {
+                var handlerClass = classForName(readName(in, names));
+                var handlerMethod = readName(in, names);
+                var domainEvent = (DomainEvent) readValue(in, names);
+                yield new IdempotentExecutionContext(handlerClass, handlerMethod, domainEvent, readString(in));
+            }
+            case DOMAIN_EVENT -> {
+                var eventType = (Class<? extends DomainEvent>) classForName(readName(in, names));
+                var bytes = new byte[readVarInt(in)];
+                in.readFully(bytes);
+                if (!(domainEventSerializer instanceof BinaryDomainEventSerializer binarySerializer)) {
+                    throw new IOException("DomainEvent '" + eventType.getName()
+                        + "' of compact invocation was written by a BinaryDomainEventSerializer!");
+                }
+                yield binarySerializer.deserializeFromBytes(bytes, eventType);
+            }
+            case DOMAIN_EVENT_TEXT -> {
+                var eventType = (Class<? extends DomainEvent>) classForName(readName(in, names));
+                var serializedEvent = readString(in);
+                if (domainEventSerializer instanceof BinaryDomainEventSerializer) {
+                    throw new IOException("DomainEvent '" + eventType.getName()
+                        + "' of compact invocation was written by a text DomainEventSerializer!");
+                }
+                yield domainEventSerializer.deserialize(serializedEvent, eventType);
+            }
+            default -> throw new IOException("Unknown value tag " + tag + " in compact invocation!");
+        };
+    }
+
+    private Class<?> classForName(String name) {
+        return classesByName.computeIfAbsent(name, n -> {
+            try {
+                return ClassUtils.getClass(n);
+            } catch (ClassNotFoundException e) {
+                throw DLCEventsException.fail("Class '%s' of compact invocation not found!", e, n);
+            }
+        });
+    }
+
+    private static void writeName(DataOutputStream out, String name, Map<String, Integer> names) throws IOException {
+        var id = STATIC_IDS.get(name);
+        if (id == null) {
+            id = names.get(name);
+        }
+        if (id != null) {
+            writeVarInt(out, id);
+            return;
+        }
+        writeVarInt(out, 0);
+        writeString(out, name);
+        names.put(name, STATIC_DICTIONARY.size() + names.size() + 1);
+    }
+
+    private static String readName(DataInputStream in, List<String> names) throws IOException {
+        var id = readVarInt(in);
+        if (id == 0) {
+            var name = readString(in);
+            if (name == null) {
+                throw new IOException("Missing name in compact invocation!");
+            }
+            names.add(name);
+            return name;
+        }
+        if (id <= STATIC_DICTIONARY.size()) {
+            return STATIC_DICTIONARY.get(id - 1);
+        }
+        var index = id - STATIC_DICTIONARY.size() - 1;
+        if (index >= names.size()) {
+            throw new IOException("Unknown name id " + id + " in compact invocation!");
+        }
+        return names.get(index);
+    }
+
+    private static void writeStringMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, map.size() + 1);
+        for (var entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readStringMap(DataInputStream in) throws IOException {
+        var size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        var map = new LinkedHashMap<String, String>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        var length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        var bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        var value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length in compact invocation!");
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated compact invocation!");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number in compact invocation!");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+        var text = new StringBuilder(512);
+        var buffer = new char[1024];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            text.append(buffer, 0, read);
+        }
+        return text.toString();
+    }
+
+    private static final class UnsupportedArgumentException extends RuntimeException {
+        private UnsupportedArgumentException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- Table of the JdbcProcessedKeyStore, keys are 16 byte hashes of the unique request ids of the outbox.
+-- Use BYTEA instead of BINARY(16) on PostgreSQL and RAW(16) on Oracle.
+CREATE TABLE DLC_PROCESSED_KEYS (
+    PROCESSED_KEY BINARY(16) PRIMARY KEY,
+    PROCESSED_AT TIMESTAMP NOT NULL
+);
+
+-- Supports deleting keys older than the retention.
+CREATE INDEX IDX_DLC_PROCESSED_KEYS_AT ON DLC_PROCESSED_KEYS (PROCESSED_AT);
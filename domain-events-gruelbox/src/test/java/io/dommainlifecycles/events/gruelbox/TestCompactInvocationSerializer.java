@@ -0,0 +1,318 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.Invocation;
+import com.gruelbox.transactionoutbox.InvocationSerializer;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutionContext;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutor;
+import io.domainlifecycles.events.gruelbox.serialize.CompactInvocationSerializer;
+import io.domainlifecycles.events.gruelbox.serialize.DlcJacksonInvocationSerializer;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestCompactInvocationSerializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TestCompactInvocationSerializer.class);
+    private static final int ITERATIONS = 20_000;
+
+    private final DlcJacksonInvocationSerializer jsonSerializer = new DlcJacksonInvocationSerializer();
+    private final CompactInvocationSerializer compactSerializer =
+        new CompactInvocationSerializer(new OrderPlacedCodec(), jsonSerializer, 512);
+
+    @Test
+    void testDispatch() {
+        check(dispatch(), compactSerializer);
+    }
+
+    @Test
+    void testDispatchWithoutTarget() {
+        check(new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatch",
+            new Class<?>[] {DomainEvent.class, TargetExecutionContext.class},
+            new Object[] {orderPlaced(), null},
+            null,
+            null), compactSerializer);
+    }
+
+    @Test
+    void testDispatchAllReferencesRepeatedNames() {
+        //given
+        var invocation = dispatchAll(50);
+
+        //when
+        var serialized = serialize(invocation, compactSerializer);
+
+        //then
+        assertTrue(serialized.startsWith("~"));
+        assertTrue(serialized.length() < serialize(invocation, jsonSerializer).length() / 4);
+        assertEquals(invocation, deserialize(serialized, compactSerializer));
+    }
+
+    @Test
+    void testLargePayloadIsCompressed() {
+        //given
+        var invocation = new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatch",
+            new Class<?>[] {DomainEvent.class, TargetExecutionContext.class},
+            new Object[] {new OrderPlaced("order-4711", "customer-0815", 1L, "note ".repeat(1000)), null},
+            null,
+            null);
+
+        //when
+        var serialized = serialize(invocation, compactSerializer);
+
+        //then
+        assertTrue(serialized.length() < 1000);
+        assertEquals(invocation, deserialize(serialized, compactSerializer));
+    }
+
+    @Test
+    void testIdempotentExecution() {
+        check(new Invocation(
+            IdempotentExecutor.class.getName(),
+            "execute",
+            new Class<?>[] {IdempotentExecutionContext.class},
+            new Object[] {new IdempotentExecutionContext(String.class, "handle", orderPlaced())},
+            Map.of("traceId", "4711"),
+            Map.of("tenant", "a")), compactSerializer);
+    }
+
+    @Test
+    void testTracedDispatch() {
+        var invocation = new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatch",
+            new Class<?>[] {DomainEvent.class, TargetExecutionContext.class},
+            new Object[] {orderPlaced(), new TargetExecutionContext("com.example.shipping.ShippingHandler", "onOrderPlaced", "trace-4711")},
+            null,
+            null);
+        check(invocation, compactSerializer);
+        check(invocation, jsonSerializer);
+    }
+
+    @Test
+    void testTracedIdempotentExecution() {
+        var invocation = new Invocation(
+            IdempotentExecutor.class.getName(),
+            "execute",
+            new Class<?>[] {IdempotentExecutionContext.class},
+            new Object[] {new IdempotentExecutionContext(String.class, "handle", orderPlaced(), "trace-4711")},
+            null,
+            null);
+        check(invocation, compactSerializer);
+        check(invocation, jsonSerializer);
+    }
+
+    @Test
+    void testReadsJsonRows() {
+        //given
+        var serialized = serialize(dispatch(), jsonSerializer);
+
+        //when
+        var deserialized = deserialize(serialized, compactSerializer);
+
+        //then
+        assertTrue(serialized.startsWith("{"));
+        assertEquals(dispatch(), deserialized);
+    }
+
+    @Test
+    void testFallsBackToJsonForUnsupportedArguments() {
+        //given
+        var invocation = new Invocation(
+            "foo",
+            "bar",
+            new Class<?>[] {MonetaryAmount.class},
+            new Object[] {MonetaryAmount.ofGbp("200")},
+            null,
+            null);
+
+        //when
+        var serialized = serialize(invocation, compactSerializer);
+
+        //then
+        assertTrue(serialized.startsWith("{"));
+        assertEquals(invocation, deserialize(serialized, compactSerializer));
+    }
+
+    @Test
+    void testDomainEventsAreWrittenAsTextByTextSerializer() {
+        //given
+        var textSerializer = new CompactInvocationSerializer(new OrderPlacedTextSerializer(), jsonSerializer, 512);
+        var invocation = dispatchAll(10);
+
+        //when
+        var serialized = serialize(invocation, textSerializer);
+
+        //then
+        assertTrue(serialized.startsWith("~"));
+        assertEquals(invocation, deserialize(serialized, textSerializer));
+        check(dispatch(), textSerializer);
+    }
+
+    @Test
+    void testRowsAreOnlyReadByTheKindOfSerializerTheyWereWrittenWith() {
+        //given
+        var textSerializer = new CompactInvocationSerializer(new OrderPlacedTextSerializer(), jsonSerializer, 512);
+        var binaryRow = serialize(dispatch(), compactSerializer);
+        var textRow = serialize(dispatch(), textSerializer);
+
+        //when
+        //then
+        assertThrows(IOException.class, () -> textSerializer.deserializeInvocation(new StringReader(binaryRow)));
+        assertThrows(IOException.class, () -> compactSerializer.deserializeInvocation(new StringReader(textRow)));
+    }
+
+    @Test
+    void testSizeAndThroughput() {
+        for (var invocation : List.of(dispatch(), dispatchAll(10))) {
+            //given
+            var jsonSize = serialize(invocation, jsonSerializer).length();
+            var compactSize = serialize(invocation, compactSerializer).length();
+
+            //when
+            var jsonNanos = roundTripNanos(invocation, jsonSerializer);
+            var compactNanos = roundTripNanos(invocation, compactSerializer);
+
+            //then
+            log.info("{}: JSON {} chars, {} ns/round trip - compact {} chars, {} ns/round trip",
+                invocation.getMethodName(), jsonSize, jsonNanos, compactSize, compactNanos);
+            assertTrue(compactSize < jsonSize);
+        }
+    }
+
+    private void check(Invocation invocation, InvocationSerializer serializer) {
+        var deserialized = deserialize(serialize(invocation, serializer), serializer);
+        assertEquals(invocation, deserialized);
+    }
+
+    private long roundTripNanos(Invocation invocation, InvocationSerializer serializer) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            deserialize(serialize(invocation, serializer), serializer);
+        }
+        var start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            deserialize(serialize(invocation, serializer), serializer);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static String serialize(Invocation invocation, InvocationSerializer serializer) {
+        var writer = new StringWriter();
+        serializer.serializeInvocation(invocation, writer);
+        return writer.toString();
+    }
+
+    private static Invocation deserialize(String serialized, InvocationSerializer serializer) {
+        try {
+            return serializer.deserializeInvocation(new StringReader(serialized));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static OrderPlaced orderPlaced() {
+        return new OrderPlaced("order-4711", "customer-0815", 129_99L, "Please deliver to the back door");
+    }
+
+    private static Invocation dispatch() {
+        return new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatch",
+            new Class<?>[] {DomainEvent.class, TargetExecutionContext.class},
+            new Object[] {orderPlaced(), new TargetExecutionContext("com.example.shipping.ShippingHandler", "onOrderPlaced")},
+            null,
+            null);
+    }
+
+    private static Invocation dispatchAll(int targets) {
+        var targetExecutionContexts = new ArrayList<TargetExecutionContext>();
+        for (int i = 0; i < targets; i++) {
+            targetExecutionContexts.add(new TargetExecutionContext("com.example.handler.Handler" + (i % 5), "onOrderPlaced"));
+        }
+        return new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatchAll",
+            new Class<?>[] {DomainEvent.class, List.class, boolean.class},
+            new Object[] {orderPlaced(), targetExecutionContexts, false},
+            null,
+            null);
+    }
+
+    public record OrderPlaced(String orderId, String customerId, long amountCents, String note) implements DomainEvent {
+    }
+
+    /**
+     * Text serializer standing in for a JSON DomainEventSerializer.
+     */
+    static class OrderPlacedTextSerializer implements DomainEventSerializer {
+
+        @Override
+        public String serialize(DomainEvent event) {
+            var orderPlaced = (OrderPlaced) event;
+            return String.join("|", orderPlaced.orderId(), orderPlaced.customerId(),
+                Long.toString(orderPlaced.amountCents()), orderPlaced.note());
+        }
+
+        @Override
+        public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+            var fields = serializedEvent.split("\\|", 4);
+            return new OrderPlaced(fields[0], fields[1], Long.parseLong(fields[2]), fields[3]);
+        }
+    }
+
+    /**
+     * Positional binary codec standing in for the mirror based MirrorDomainEventCodec.
+     */
+    static class OrderPlacedCodec implements BinaryDomainEventSerializer {
+
+        @Override
+        public byte[] serializeToBytes(DomainEvent event) {
+            var orderPlaced = (OrderPlaced) event;
+            try {
+                var bytes = new ByteArrayOutputStream();
+                var out = new DataOutputStream(bytes);
+                out.writeUTF(orderPlaced.orderId());
+                out.writeUTF(orderPlaced.customerId());
+                out.writeLong(orderPlaced.amountCents());
+                out.writeUTF(orderPlaced.note());
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> eventType) {
+            try {
+                var in = new DataInputStream(new ByteArrayInputStream(serializedEvent));
+                return new OrderPlaced(in.readUTF(), in.readUTF(), in.readLong(), in.readUTF());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
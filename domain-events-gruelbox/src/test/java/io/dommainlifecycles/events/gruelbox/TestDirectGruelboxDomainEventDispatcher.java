@@ -0,0 +1,189 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.DomainEventConsumer;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.consume.execution.handler.TransactionalHandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.gruelbox.dispatch.DirectGruelboxDomainEventDispatcher;
+import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestDirectGruelboxDomainEventDispatcher {
+
+    private static final DomainEvent DOMAIN_EVENT =
+        new TestCompactInvocationSerializer.OrderPlaced("order-4711", "customer-0815", 129_99L, "note");
+    private static final TargetExecutionContext FIRST = new TargetExecutionContext("com.example.First", "onOrderPlaced");
+    private static final TargetExecutionContext SECOND = new TargetExecutionContext("com.example.Second", "onOrderPlaced");
+    private static final TargetExecutionContext THIRD = new TargetExecutionContext("com.example.Third", "onOrderPlaced");
+
+    private final RecordingOutbox outbox = new RecordingOutbox();
+
+    @Test
+    void testDispatchAllConsumesEveryTarget() {
+        //given
+        var consumer = new RecordingConsumer(Set.of());
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer, outbox.proxy());
+
+        //when
+        dispatcher.dispatchAll(DOMAIN_EVENT, List.of(FIRST, SECOND, THIRD), false);
+
+        //then
+        assertEquals(List.of(FIRST, SECOND, THIRD), consumer.consumed);
+        assertTrue(outbox.rescheduled.isEmpty());
+    }
+
+    @Test
+    void testDispatchAllReschedulesOnlyFailedTargets() {
+        //given
+        var consumer = new RecordingConsumer(Set.of(FIRST, THIRD));
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer, outbox.proxy(), new RollbackOnlyExecutor(false));
+
+        //when
+        dispatcher.dispatchAll(DOMAIN_EVENT, List.of(FIRST, SECOND, THIRD), false);
+
+        //then
+        assertEquals(List.of(FIRST, SECOND, THIRD), consumer.consumed);
+        assertEquals(List.of(FIRST, THIRD), outbox.rescheduled);
+    }
+
+    @Test
+    void testDispatchAllFailsOrderedEntry() {
+        //given
+        var consumer = new RecordingConsumer(Set.of(SECOND));
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer, outbox.proxy());
+
+        //when
+        var exception = assertThrows(DLCEventsException.class,
+            () -> dispatcher.dispatchAll(DOMAIN_EVENT, List.of(FIRST, SECOND, THIRD), true));
+
+        //then
+        assertTrue(exception.getMessage().contains(" in executionContexts: [" + SECOND + "]"));
+        assertEquals(List.of(FIRST, SECOND, THIRD), consumer.consumed);
+        assertTrue(outbox.rescheduled.isEmpty());
+    }
+
+    @Test
+    void testDispatchAllFailsWithoutOutbox() {
+        //given
+        var consumer = new RecordingConsumer(Set.of(SECOND));
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer);
+
+        //when
+        //then
+        assertThrows(DLCEventsException.class,
+            () -> dispatcher.dispatchAll(DOMAIN_EVENT, List.of(FIRST, SECOND), false));
+    }
+
+    @Test
+    void testDispatchAllFailsInsteadOfReschedulingInRollbackOnlyTransaction() {
+        //given
+        var consumer = new RecordingConsumer(Set.of(SECOND));
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer, outbox.proxy(), new RollbackOnlyExecutor(true));
+
+        //when
+        var exception = assertThrows(DLCEventsException.class,
+            () -> dispatcher.dispatchAll(DOMAIN_EVENT, List.of(FIRST, SECOND, THIRD), false));
+
+        //then
+        assertTrue(exception.getMessage().contains("rollback-only"));
+        assertTrue(outbox.rescheduled.isEmpty());
+    }
+
+    @Test
+    void testDispatchFailureNamesTheTarget() {
+        //given
+        var consumer = new RecordingConsumer(Set.of(FIRST));
+        var dispatcher = new DirectGruelboxDomainEventDispatcher(consumer, outbox.proxy());
+
+        //when
+        var exception = assertThrows(DLCEventsException.class, () -> dispatcher.dispatch(DOMAIN_EVENT, FIRST));
+
+        //then
+        assertTrue(exception.getMessage().endsWith(DOMAIN_EVENT + " in executionContext: " + FIRST));
+        assertTrue(outbox.rescheduled.isEmpty());
+    }
+
+    /**
+     * A DomainEventConsumer recording the targets consumed, which fails for the given targets.
+     */
+    private static final class RecordingConsumer implements DomainEventConsumer {
+
+        final List<TargetExecutionContext> consumed = new ArrayList<>();
+        private final Set<TargetExecutionContext> failing;
+
+        RecordingConsumer(Set<TargetExecutionContext> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public List<ExecutionResult> consume(DomainEvent domainEvent) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext executionContext) {
+            consumed.add(executionContext);
+            return new ExecutionResult(null, !failing.contains(executionContext));
+        }
+    }
+
+    /**
+     * A TransactionalHandlerExecutor reporting a fixed rollback-only state of the current transaction.
+     */
+    private record RollbackOnlyExecutor(boolean rollbackOnly) implements TransactionalHandlerExecutor {
+
+        @Override
+        public boolean execute(ExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return rollbackOnly;
+        }
+    }
+
+    /**
+     * A TransactionOutbox recording the targets rescheduled by dispatching them.
+     */
+    private static final class RecordingOutbox {
+
+        final List<TargetExecutionContext> rescheduled = new ArrayList<>();
+
+        TransactionOutbox proxy() {
+            var dispatcher = (GruelboxDomainEventDispatcher) Proxy.newProxyInstance(
+                GruelboxDomainEventDispatcher.class.getClassLoader(),
+                new Class<?>[]{GruelboxDomainEventDispatcher.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("dispatch")) {
+                        assertEquals(DOMAIN_EVENT, args[0]);
+                        rescheduled.add((TargetExecutionContext) args[1]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+            return (TransactionOutbox) Proxy.newProxyInstance(
+                TransactionOutbox.class.getClassLoader(),
+                new Class<?>[]{TransactionOutbox.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("schedule") && args[0] == GruelboxDomainEventDispatcher.class) {
+                        return dispatcher;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+}
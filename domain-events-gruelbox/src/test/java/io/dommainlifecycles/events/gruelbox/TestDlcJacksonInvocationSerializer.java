@@ -1,6 +1,9 @@
 package io.dommainlifecycles.events.gruelbox;
 
 import com.gruelbox.transactionoutbox.Invocation;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
 import io.domainlifecycles.events.gruelbox.serialize.DlcJacksonInvocationSerializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,14 @@ import java.time.Period;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 @SuppressWarnings("RedundantCast")
 class TestDlcJacksonInvocationSerializer {
@@ -176,4 +181,32 @@ class TestDlcJacksonInvocationSerializer {
         Object[] args = new Object[] {Map.of("investmentValue", MonetaryAmount.ofGbp("200"))};
         check(new Invocation(CLASS_NAME, METHOD_NAME, parameterTypes, args, null, null));
     }
+
+    @Test
+    void serializes_dispatch_all_target_execution_contexts() {
+        //given
+        var targetExecutionContexts = new ArrayList<TargetExecutionContext>();
+        targetExecutionContexts.add(new TargetExecutionContext("com.example.First", "onOrderPlaced"));
+        targetExecutionContexts.add(new TargetExecutionContext("com.example.Second", "onOrderPlaced"));
+        var invocation = new Invocation(
+            GruelboxDomainEventDispatcher.class.getName(),
+            "dispatchAll",
+            new Class<?>[] {DomainEvent.class, List.class, boolean.class},
+            new Object[] {
+                new TestCompactInvocationSerializer.OrderPlaced("order-4711", "customer-0815", 129_99L, "note"),
+                targetExecutionContexts,
+                false
+            },
+            null,
+            null);
+
+        //when
+        var deserialized = serdeser(invocation);
+
+        //then
+        assertEquals(invocation, deserialized);
+        var deserializedTargets = (List<?>) deserialized.getArgs()[1];
+        assertEquals(targetExecutionContexts, deserializedTargets);
+        deserializedTargets.forEach(target -> assertInstanceOf(TargetExecutionContext.class, target));
+    }
 }
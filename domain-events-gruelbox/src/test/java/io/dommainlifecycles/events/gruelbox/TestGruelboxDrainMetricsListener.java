@@ -0,0 +1,74 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.TransactionOutboxEntry;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxDrainMetricsListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGruelboxDrainMetricsListener {
+
+    @Test
+    void testLagIsRecordedForTrackedEntries() {
+        //given
+        var listener = new GruelboxDrainMetricsListener();
+        var entry = entry("anId", Instant.now().minusMillis(200));
+        listener.scheduled(entry);
+
+        //when
+        listener.success(entry);
+
+        //then
+        var metrics = listener.getMetrics();
+        assertEquals(1, metrics.scheduled());
+        assertEquals(1, metrics.drained());
+        assertEquals(0, metrics.tracked());
+        assertTrue(metrics.lastLagNanos() >= Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    void testEntriesBeyondHorizonAreEvictedWhenMetricsAreRead() {
+        //given
+        var listener = new GruelboxDrainMetricsListener(10, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        // e.g. processed by another instance, the listener is never notified
+        listener.scheduled(entry("flushedElsewhere", Instant.now().minus(Duration.ofMinutes(2))));
+        listener.scheduled(entry("pending", Instant.now()));
+
+        //when
+        var metrics = listener.getMetrics();
+
+        //then
+        assertEquals(2, metrics.scheduled());
+        assertEquals(1, metrics.tracked());
+    }
+
+    @Test
+    void testEntriesBeyondHorizonAreEvictedWhenTrackingIsFull() {
+        //given
+        var listener = new GruelboxDrainMetricsListener(2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        listener.scheduled(entry("flushedElsewhere-1", Instant.now().minus(Duration.ofMinutes(2))));
+        listener.scheduled(entry("flushedElsewhere-2", Instant.now().minus(Duration.ofMinutes(2))));
+
+        //when
+        var entry = entry("new", Instant.now().minusMillis(100));
+        listener.scheduled(entry);
+        listener.success(entry);
+
+        //then
+        var metrics = listener.getMetrics();
+        assertEquals(0, metrics.tracked());
+        assertTrue(metrics.maxLagNanos() >= Duration.ofMillis(100).toNanos(),
+            "The lag of entries scheduled after the tracking was full must still be recorded");
+    }
+
+    private static TransactionOutboxEntry entry(String id, Instant nextAttemptTime) {
+        return TransactionOutboxEntry.builder()
+            .id(id)
+            .nextAttemptTime(nextAttemptTime)
+            .build();
+    }
+}
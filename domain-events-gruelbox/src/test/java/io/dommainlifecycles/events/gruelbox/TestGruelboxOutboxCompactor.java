@@ -0,0 +1,162 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.Dialect;
+import com.gruelbox.transactionoutbox.Persistor;
+import com.gruelbox.transactionoutbox.TransactionManager;
+import io.domainlifecycles.events.gruelbox.api.OutboxCompactionConfiguration;
+import io.domainlifecycles.events.gruelbox.compaction.GruelboxOutboxCompactor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGruelboxOutboxCompactor {
+
+    private static final int PROCESSED_ENTRIES = 250;
+    private static final int PENDING_ENTRIES = 10;
+
+    private DataSource dataSource;
+    private GruelboxOutboxCompactor compactor;
+
+    @BeforeEach
+    void beforeEach() {
+        dataSource = gruelboxOutboxDataSource();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (compactor != null) {
+            compactor.close();
+        }
+    }
+
+    /**
+     * Creates an in-memory database containing the outbox table created by Gruelbox itself.
+     */
+    static DataSource gruelboxOutboxDataSource() {
+        var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Persistor.forDialect(Dialect.H2).migrate(TransactionManager.fromDataSource(h2));
+        return h2;
+    }
+
+    @Test
+    void testProcessedEntriesAreDeletedAfterRetentionInBatches() throws SQLException {
+        //given
+        insert(PENDING_ENTRIES, "pending", false, false, Instant.now());
+        insert(PROCESSED_ENTRIES, "processed-old", false, true, Instant.now().minus(Duration.ofDays(2)));
+        insert(PENDING_ENTRIES, "processed-new", false, true, Instant.now());
+        compactor = new GruelboxOutboxCompactor(dataSource, new OutboxCompactionConfiguration(
+            "TXNO_OUTBOX", Duration.ofDays(1), null, 0, 7, Duration.ofSeconds(10), Duration.ofHours(1)));
+
+        //when
+        var metrics = compactor.compact();
+
+        //then
+        assertEquals(1, metrics.runs());
+        assertEquals(PROCESSED_ENTRIES, metrics.deletedProcessed());
+        assertEquals(7, metrics.batchSize());
+        assertEquals(2 * PENDING_ENTRIES, count());
+        assertEquals(0, count("uniqueRequestId LIKE 'processed-old-%'"));
+    }
+
+    @Test
+    void testCompactsPeriodicallyOnDaemonThread() throws InterruptedException {
+        //given
+        compactor = new GruelboxOutboxCompactor(dataSource, new OutboxCompactionConfiguration(
+            "TXNO_OUTBOX", Duration.ofDays(1), null, 0, 10, Duration.ofSeconds(1), Duration.ofMillis(10)));
+
+        //when
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (compactor.getMetrics().runs() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        //then
+        assertTrue(compactor.getMetrics().runs() >= 2);
+        assertEquals(0, compactor.getMetrics().failedRuns());
+        var compactorThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("dlc-outbox-compactor"))
+            .toList();
+        assertFalse(compactorThreads.isEmpty());
+        assertTrue(compactorThreads.stream().allMatch(Thread::isDaemon));
+    }
+
+    @Test
+    void testBlockedEntriesAreDeletedAfterRetention() throws SQLException {
+        //given
+        insert(5, "blocked-old", true, false, Instant.now().minus(Duration.ofDays(2)));
+        insert(5, "blocked-new", true, false, Instant.now());
+        compactor = new GruelboxOutboxCompactor(dataSource, new OutboxCompactionConfiguration(
+            null, Duration.ofDays(1), 0));
+
+        //when
+        var metrics = compactor.compact();
+
+        //then
+        assertEquals(5, metrics.deletedBlocked());
+        assertEquals(5, count());
+    }
+
+    @Test
+    void testOldestProcessedEntriesExceedingTheMaximumAreDeleted() throws SQLException {
+        //given
+        var now = Instant.now();
+        for (int i = 0; i < 100; i++) {
+            insert(1, "processed-" + i, false, true, now.minusSeconds(100 - i));
+        }
+        compactor = new GruelboxOutboxCompactor(dataSource, new OutboxCompactionConfiguration(
+            "TXNO_OUTBOX", null, null, 40, 7, Duration.ofSeconds(1), Duration.ofHours(1)));
+
+        //when
+        var metrics = compactor.compact();
+
+        //then
+        assertEquals(60, metrics.deletedExceeding());
+        assertEquals(40, count());
+        assertEquals(0, count("uniqueRequestId LIKE 'processed-59-%'"));
+        assertEquals(1, count("uniqueRequestId LIKE 'processed-60-%'"));
+    }
+
+    private void insert(int entries, String prefix, boolean blocked, boolean processed, Instant lastAttemptTime) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("INSERT INTO TXNO_OUTBOX (id, uniqueRequestId, invocation, " +
+                 "lastAttemptTime, nextAttemptTime, attempts, blocked, version, processed, topic) " +
+                 "VALUES (?, ?, '{}', ?, ?, 1, ?, 1, ?, '*')")) {
+            for (int i = 0; i < entries; i++) {
+                statement.setString(1, UUID.randomUUID().toString());
+                statement.setString(2, prefix + "-" + i);
+                statement.setTimestamp(3, Timestamp.from(lastAttemptTime));
+                statement.setTimestamp(4, Timestamp.from(lastAttemptTime));
+                statement.setBoolean(5, blocked);
+                statement.setBoolean(6, processed);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long count() throws SQLException {
+        return count("1 = 1");
+    }
+
+    private long count(String condition) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM TXNO_OUTBOX WHERE " + condition)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import io.domainlifecycles.events.gruelbox.api.OutboxCompactionConfiguration;
+import io.domainlifecycles.events.gruelbox.compaction.GruelboxOutboxCompactor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the poll latency of a grown outbox table before and after compaction. Run by the loadTest task.
+ */
+@Tag("load")
+class TestGruelboxOutboxCompactorLoad {
+
+    private static final Logger log = LoggerFactory.getLogger(TestGruelboxOutboxCompactorLoad.class);
+    private static final int PROCESSED_ENTRIES = 1_000_000;
+    private static final int PENDING_ENTRIES = 100;
+
+    @Test
+    void testPollLatencyStaysFlatAfterCompaction() throws SQLException {
+        //given
+        var dataSource = TestGruelboxOutboxCompactor.gruelboxOutboxDataSource();
+        insert(dataSource, 1, PENDING_ENTRIES, false, "TIMESTAMP '2020-01-08 00:00:00'");
+        var baselineNanos = medianPollNanos(dataSource);
+        insert(dataSource, PENDING_ENTRIES + 1, PENDING_ENTRIES + PROCESSED_ENTRIES, true, "TIMESTAMP '2020-01-01 00:00:00'");
+        var grownNanos = medianPollNanos(dataSource);
+        var compactor = new GruelboxOutboxCompactor(dataSource, new OutboxCompactionConfiguration(
+            "TXNO_OUTBOX", Duration.ofDays(1), null, 0, 10_000, Duration.ofSeconds(1), Duration.ofHours(1)));
+
+        //when
+        try {
+            var metrics = compactor.compact();
+            var compactedNanos = medianPollNanos(dataSource);
+
+            //then
+            log.info("Poll latency: baseline {}µs, {} processed entries {}µs, compacted {}µs, {}",
+                baselineNanos / 1000, PROCESSED_ENTRIES, grownNanos / 1000, compactedNanos / 1000, metrics);
+            assertEquals(PROCESSED_ENTRIES, metrics.deletedProcessed());
+            assertEquals(PENDING_ENTRIES, count(dataSource));
+            assertTrue(compactedNanos <= baselineNanos * 3 + 1_000_000,
+                "Poll latency after compaction " + compactedNanos + "ns, baseline " + baselineNanos + "ns");
+        } finally {
+            compactor.close();
+        }
+    }
+
+    private static void insert(DataSource dataSource, int from, int to, boolean processed, String lastAttemptTime) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("INSERT INTO TXNO_OUTBOX (id, uniqueRequestId, invocation, lastAttemptTime, nextAttemptTime, " +
+                "attempts, blocked, version, processed, topic) SELECT CAST(X AS VARCHAR), 'entry-' || X, '{}', " +
+                lastAttemptTime + ", " + lastAttemptTime + ", 1, FALSE, 1, " + processed + ", '*' " +
+                "FROM SYSTEM_RANGE(" + from + ", " + to + ")");
+        }
+    }
+
+    /**
+     * Measures the median latency of the query Gruelbox uses to select the next entries to flush.
+     */
+    private static long medianPollNanos(DataSource dataSource) throws SQLException {
+        var samples = new long[51];
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT id, invocation FROM TXNO_OUTBOX " +
+                 "WHERE nextAttemptTime < ? AND topic = '*' AND blocked = FALSE AND processed = FALSE " +
+                 "FETCH FIRST 10 ROWS ONLY")) {
+            for (int i = 0; i < samples.length; i++) {
+                var start = System.nanoTime();
+                statement.setTimestamp(1, Timestamp.from(Instant.now().plusSeconds(1)));
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(2);
+                    }
+                }
+                samples[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static long count(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM TXNO_OUTBOX")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import com.gruelbox.transactionoutbox.TransactionOutboxEntry;
+import io.domainlifecycles.events.gruelbox.api.PollerConfiguration;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxPoller;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxPollerWakeUpListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestGruelboxPoller {
+
+    /**
+     * Idle flushes with a minimum period of 10ms after which the next idle poll is more than a second ahead.
+     */
+    private static final int IDLE_FLUSHES = 8;
+
+    private GruelboxPoller poller;
+
+    @AfterEach
+    void close() {
+        if (poller != null) {
+            poller.close();
+        }
+    }
+
+    @Test
+    void testFlushesAgainAsLongAsFlushFindsWork() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(5);
+
+        //when
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 1_000, 10_000, 1, null));
+
+        //then
+        awaitFlushes(outbox, 6, 500);
+        assertTrue(millis(outbox.flushTimes.get(5) - outbox.flushTimes.get(0)) < 500,
+            "The flushes finding work must not wait for the minimum poller period");
+        Thread.sleep(200);
+        assertEquals(6, outbox.flushTimes.size());
+    }
+
+    @Test
+    void testIdlePeriodIsDoubledUpToTheMaximum() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+
+        //when
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 50, 200, 1, null));
+
+        //then
+        awaitFlushes(outbox, 6, 5_000);
+        var expectedPeriods = List.of(100L, 200L, 200L, 200L, 200L);
+        for (int i = 0; i < expectedPeriods.size(); i++) {
+            var period = millis(outbox.flushTimes.get(i + 1) - outbox.flushTimes.get(i));
+            var expected = expectedPeriods.get(i);
+            assertTrue(period >= expected - 5 && period < expected + 90,
+                "Period " + i + " was " + period + "ms, but " + expected + "ms were expected");
+        }
+    }
+
+    @Test
+    void testWorkResetsThePeriodToTheMinimum() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 50, 400, 1, null));
+        awaitFlushes(outbox, 4, 5_000);
+        var worked = outbox.flushTimes.size();
+
+        //when
+        outbox.work.set(1);
+        awaitFlushes(outbox, worked + 3, 5_000);
+
+        //then
+        var times = outbox.flushTimes;
+        assertTrue(millis(times.get(worked + 1) - times.get(worked)) < 50,
+            "The outbox must be flushed again at once after a flush found work");
+        assertTrue(millis(times.get(worked + 2) - times.get(worked + 1)) < 100 + 90,
+            "The idle period must start again from the minimum after a flush found work");
+    }
+
+    @Test
+    void testWakeUpFlushesBeforeThePeriodEnds() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 10, 60_000, 1, null));
+        awaitFlushes(outbox, IDLE_FLUSHES, 5_000);
+        var flushesBefore = outbox.flushTimes.size();
+
+        //when
+        poller.wakeUp();
+
+        //then
+        awaitFlushes(outbox, flushesBefore + 1, 500);
+    }
+
+    @Test
+    void testListenerCoalescesWakeUpsOfOneSlot() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+        var wakeUpListener = new GruelboxPollerWakeUpListener();
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 200, 60_000, 1, wakeUpListener));
+        awaitFlushes(outbox, 3, 5_000);
+        Thread.sleep(200);
+        var flushesBefore = outbox.flushTimes.size();
+
+        //when
+        var due = Instant.now();
+        for (int i = 0; i < 100; i++) {
+            wakeUpListener.scheduled(entry(due));
+        }
+
+        //then
+        awaitFlushes(outbox, flushesBefore + 1, 1_000);
+        Thread.sleep(500);
+        var wokenUpFlushes = outbox.flushTimes.size() - flushesBefore;
+        assertTrue(wokenUpFlushes <= 2, "100 wake-ups of one slot caused " + wokenUpFlushes + " flushes");
+    }
+
+    @Test
+    void testListenerWakesUpWhenDelayedEntryIsDue() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+        var wakeUpListener = new GruelboxPollerWakeUpListener();
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 10, 60_000, 1, wakeUpListener));
+        awaitFlushes(outbox, IDLE_FLUSHES, 5_000);
+        var flushesBefore = outbox.flushTimes.size();
+
+        //when
+        var scheduledAt = System.nanoTime();
+        wakeUpListener.scheduled(entry(Instant.now().plusMillis(300)));
+
+        //then
+        awaitFlushes(outbox, flushesBefore + 1, 1_000);
+        var wokenUpAfter = millis(outbox.flushTimes.get(flushesBefore) - scheduledAt);
+        assertTrue(wokenUpAfter >= 290 && wokenUpAfter < 1_000,
+            "The poller was woken up " + wokenUpAfter + "ms after a delayed entry due in 300ms was scheduled");
+    }
+
+    @Test
+    void testClosedPollerIsNotWokenUp() throws InterruptedException {
+        //given
+        var outbox = new FakeOutbox(0);
+        var wakeUpListener = new GruelboxPollerWakeUpListener();
+        poller = new GruelboxPoller(outbox.proxy(), new PollerConfiguration(0, 10, 60_000, 1, wakeUpListener));
+        awaitFlushes(outbox, 1, 1_000);
+
+        //when
+        poller.close();
+        Thread.sleep(100);
+        var flushesAfterClose = outbox.flushTimes.size();
+        wakeUpListener.scheduled(entry(Instant.now()));
+        Thread.sleep(200);
+
+        //then
+        assertEquals(flushesAfterClose, outbox.flushTimes.size());
+        assertTrue(poller.getScheduler().awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    private static TransactionOutboxEntry entry(Instant nextAttemptTime) {
+        return TransactionOutboxEntry.builder()
+            .id("anId")
+            .nextAttemptTime(nextAttemptTime)
+            .build();
+    }
+
+    private static void awaitFlushes(FakeOutbox outbox, int flushes, long timeoutMs) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (outbox.flushTimes.size() < flushes) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("Expected " + flushes + " flushes, but were " + outbox.flushTimes.size());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A TransactionOutbox recording the times of its flushes, which find work for the configured number of flushes.
+     */
+    private static final class FakeOutbox {
+
+        final List<Long> flushTimes = new CopyOnWriteArrayList<>();
+        final AtomicInteger work;
+
+        FakeOutbox(int flushesFindingWork) {
+            this.work = new AtomicInteger(flushesFindingWork);
+        }
+
+        TransactionOutbox proxy() {
+            return (TransactionOutbox) Proxy.newProxyInstance(
+                TransactionOutbox.class.getClassLoader(),
+                new Class<?>[]{TransactionOutbox.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("flush")) {
+                        flushTimes.add(System.nanoTime());
+                        return work.getAndUpdate(w -> Math.max(w - 1, 0)) > 0;
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "FakeOutbox";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import com.gruelbox.transactionoutbox.Dialect;
+import com.gruelbox.transactionoutbox.Instantiator;
+import com.gruelbox.transactionoutbox.Persistor;
+import com.gruelbox.transactionoutbox.TransactionManager;
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import io.domainlifecycles.events.gruelbox.api.PollerConfiguration;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxDrainMetricsListener;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxPoller;
+import io.domainlifecycles.events.gruelbox.poll.GruelboxPollerWakeUpListener;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drains an outbox by the flush workers of the poller only. Run by the loadTest task.
+ */
+@Tag("load")
+class TestGruelboxPollerLoad {
+
+    private static final Logger log = LoggerFactory.getLogger(TestGruelboxPollerLoad.class);
+    private static final int TOPICS = 4;
+    private static final int ORDERED_ENTRIES_PER_TOPIC = 250;
+    private static final int UNORDERED_ENTRIES = 1000;
+    private static final long TIMEOUT_MS = 120_000;
+    private static final Duration ATTEMPT_FREQUENCY = Duration.ofMillis(50);
+    private static final long POLLER_START_DELAY_MS = 500;
+
+    @Test
+    void testSingleFlushWorker() throws InterruptedException {
+        drain(1);
+    }
+
+    @Test
+    void testParallelFlushWorkersKeepTopicOrder() throws InterruptedException {
+        drain(4);
+    }
+
+    private void drain(int flushWorkers) throws InterruptedException {
+        //given
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        var transactionManager = TransactionManager.fromDataSource(dataSource);
+        var handler = new LoadTestHandler();
+        var metricsListener = new GruelboxDrainMetricsListener();
+        var wakeUpListener = new GruelboxPollerWakeUpListener();
+        // entries are not submitted for immediate execution after commit, but drained by the flush workers of the poller
+        var outbox = TransactionOutbox.builder()
+            .transactionManager(transactionManager)
+            .persistor(Persistor.forDialect(Dialect.H2))
+            .instantiator(Instantiator.using(type -> handler))
+            .submitter((entry, localExecutor) -> {
+            })
+            .attemptFrequency(ATTEMPT_FREQUENCY)
+            .listener(metricsListener.andThen(wakeUpListener))
+            .build();
+        var total = TOPICS * ORDERED_ENTRIES_PER_TOPIC + UNORDERED_ENTRIES;
+
+        //when
+        var firstScheduled = Instant.now();
+        for (int i = 0; i < ORDERED_ENTRIES_PER_TOPIC; i++) {
+            for (int t = 0; t < TOPICS; t++) {
+                var topic = "topic-" + t;
+                var sequence = i;
+                transactionManager.inTransaction(() ->
+                    outbox.with().ordered(topic).schedule(LoadTestHandler.class).handle(topic, sequence));
+            }
+        }
+        IntStream.range(0, UNORDERED_ENTRIES).forEach(i -> transactionManager.inTransaction(() ->
+            outbox.schedule(LoadTestHandler.class).handle("unordered", i)));
+        var drainedBeforePolling = metricsListener.getMetrics().drained();
+        Thread.sleep(POLLER_START_DELAY_MS);
+        var pollerStarted = Instant.now();
+        var start = System.nanoTime();
+        var poller = new GruelboxPoller(outbox, new PollerConfiguration(0, 1, 100, flushWorkers, wakeUpListener));
+        try {
+            var deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            while (metricsListener.getMetrics().drained() < total && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            poller.close();
+        }
+        var durationMs = (System.nanoTime() - start) / 1_000_000;
+        var drainedAt = Instant.now();
+
+        //then
+        var metrics = metricsListener.getMetrics();
+        log.info("{} flush worker(s) drained {} entries in {}ms: {}", flushWorkers, total, durationMs, metrics);
+        assertEquals(0, drainedBeforePolling, "Entries must only be drained by the flush workers of the poller");
+        assertEquals(total, metrics.drained());
+        assertEquals(0, metrics.tracked());
+        assertEquals(UNORDERED_ENTRIES, handler.handled.get("unordered").size());
+        for (int t = 0; t < TOPICS; t++) {
+            var expected = IntStream.range(0, ORDERED_ENTRIES_PER_TOPIC).boxed().toList();
+            assertEquals(expected, handler.handled.get("topic-" + t), "Order of topic-" + t + " violated");
+        }
+        // the first entry was due ATTEMPT_FREQUENCY after it was scheduled and waited for the poller to start
+        var minLagNanos = Duration.between(firstScheduled.plus(ATTEMPT_FREQUENCY), pollerStarted).toNanos();
+        var maxPossibleLagNanos = Duration.between(firstScheduled, drainedAt).toNanos();
+        assertTrue(metrics.maxLagNanos() >= minLagNanos && metrics.maxLagNanos() <= maxPossibleLagNanos,
+            "Max lag " + metrics.maxLagNanos() + "ns, but expected between " + minLagNanos + "ns and "
+                + maxPossibleLagNanos + "ns");
+        assertTrue(metrics.lastLagNanos() <= metrics.maxLagNanos());
+    }
+
+    public static class LoadTestHandler {
+
+        private final Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        public void handle(String topic, int sequence) {
+            handled.computeIfAbsent(topic, k -> Collections.synchronizedList(new ArrayList<>())).add(sequence);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.dommainlifecycles.events.gruelbox;
+
+import io.domainlifecycles.events.gruelbox.idempotent.InMemoryProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.JdbcProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.ProcessedKey;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestProcessedKeyStore {
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = h2;
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            for (var ddl : processedKeysDdl().split(";")) {
+                if (!ddl.isBlank()) {
+                    statement.execute(ddl);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testProcessedKeyIsStable() {
+        //when
+        var key = ProcessedKey.of("event-1-Handler-onEvent");
+
+        //then
+        assertEquals(key, ProcessedKey.of("event-1-Handler-onEvent"));
+        assertEquals(key, ProcessedKey.fromBytes(key.toBytes()));
+        assertNotEquals(key, ProcessedKey.of("event-2-Handler-onEvent"));
+    }
+
+    @Test
+    void testInMemoryStoreEvictsLeastRecentlyUsedKeys() {
+        //given
+        var store = new InMemoryProcessedKeyStore(2);
+        var first = ProcessedKey.of("first");
+        var second = ProcessedKey.of("second");
+        var third = ProcessedKey.of("third");
+
+        //when
+        store.markProcessed(first);
+        store.markProcessed(second);
+        store.isProcessed(first);
+        store.markProcessed(third);
+
+        //then
+        assertEquals(2, store.size());
+        assertTrue(store.isProcessed(first));
+        assertFalse(store.isProcessed(second));
+        assertTrue(store.isProcessed(third));
+    }
+
+    @Test
+    void testInMemoryStoreExpiresKeysAfterRetention() throws InterruptedException {
+        //given
+        var store = new InMemoryProcessedKeyStore(10, Duration.ofMillis(50));
+        var key = ProcessedKey.of("event-1-Handler-onEvent");
+        store.markProcessed(key);
+
+        //when
+        var processedBefore = store.isProcessed(key);
+        Thread.sleep(100);
+
+        //then
+        assertTrue(processedBefore);
+        assertFalse(store.isProcessed(key));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testJdbcStoreIgnoresAndRefreshesExpiredKeys() throws SQLException {
+        //given
+        var key = ProcessedKey.of("event-1-Handler-onEvent");
+        insertKey(key, Instant.now().minus(Duration.ofDays(8)));
+        var store = new JdbcProcessedKeyStore(dataSource, "DLC_PROCESSED_KEYS", 10, Duration.ofDays(7), Duration.ofDays(1));
+
+        //when
+        var processedBefore = store.isProcessed(key);
+        store.markProcessed(key);
+
+        //then
+        assertFalse(processedBefore);
+        assertTrue(new JdbcProcessedKeyStore(dataSource).isProcessed(key));
+        assertEquals(1, processedKeys());
+    }
+
+    @Test
+    void testJdbcStoreDeletesExpiredKeysWhenMarkingKeys() throws SQLException {
+        //given
+        for (int i = 0; i < 3; i++) {
+            insertKey(ProcessedKey.of("expired-" + i), Instant.now().minus(Duration.ofDays(8)));
+        }
+        var store = new JdbcProcessedKeyStore(dataSource, "DLC_PROCESSED_KEYS", 10, Duration.ofDays(7), Duration.ofDays(1));
+
+        //when
+        store.markProcessed(ProcessedKey.of("first"));
+        insertKey(ProcessedKey.of("expired-after-prune"), Instant.now().minus(Duration.ofDays(8)));
+        store.markProcessed(ProcessedKey.of("second"));
+
+        //then
+        assertEquals(3, processedKeys(), "Expired keys must be deleted at most once per prune interval");
+        assertEquals(1, store.deleteExpired());
+        assertEquals(2, processedKeys());
+    }
+
+    @Test
+    void testJdbcStoreSharesKeysAcrossInstances() {
+        //given
+        var key = ProcessedKey.of("event-1-Handler-onEvent");
+        var store = new JdbcProcessedKeyStore(dataSource);
+
+        //when
+        store.markProcessed(key);
+        store.markProcessed(key);
+
+        //then
+        assertTrue(new JdbcProcessedKeyStore(dataSource).isProcessed(key));
+        assertFalse(new JdbcProcessedKeyStore(dataSource).isProcessed(ProcessedKey.of("unknown")));
+        assertEquals(1, store.deleteProcessedBefore(Instant.now().plusSeconds(1)));
+        assertFalse(new JdbcProcessedKeyStore(dataSource).isProcessed(key));
+    }
+
+    private static String processedKeysDdl() {
+        try (var ddl = JdbcProcessedKeyStore.class.getResourceAsStream(JdbcProcessedKeyStore.DDL_RESOURCE)) {
+            return new String(Objects.requireNonNull(ddl).readAllBytes(), StandardCharsets.UTF_8)
+                .replaceAll("--[^\\n]*", "");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void insertKey(ProcessedKey key, Instant processedAt) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var insert = connection.prepareStatement(
+                 "INSERT INTO DLC_PROCESSED_KEYS (PROCESSED_KEY, PROCESSED_AT) VALUES (?, ?)")) {
+            insert.setBytes(1, key.toBytes());
+            insert.setTimestamp(2, Timestamp.from(processedAt));
+            insert.executeUpdate();
+        }
+    }
+
+    private long processedKeys() throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM DLC_PROCESSED_KEYS")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.Repository;
+
+import java.util.Optional;
+
+public class ARepository implements Repository<AnAggregate.AggregateId, AnAggregate> {
+
+    @Override
+    public Optional<AnAggregate> findById(AnAggregate.AggregateId aggregateId) {
+        return Optional.of(new AnAggregate(aggregateId, 1L));
+    }
+
+    @Override
+    public AnAggregate insert(AnAggregate aggregateRoot) {
+        return aggregateRoot;
+    }
+
+    @Override
+    public AnAggregate update(AnAggregate aggregateRoot) {
+        return aggregateRoot;
+    }
+
+    @Override
+    public Optional<AnAggregate> deleteById(AnAggregate.AggregateId aggregateId) {
+        return Optional.empty();
+    }
+}
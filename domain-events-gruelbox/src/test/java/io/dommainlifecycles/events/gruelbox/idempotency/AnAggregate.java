@@ -0,0 +1,22 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.DomainEventListener;
+import io.domainlifecycles.domain.types.Identity;
+import io.domainlifecycles.domain.types.base.AggregateRootBase;
+
+public class AnAggregate extends AggregateRootBase<AnAggregate.AggregateId> {
+
+    public record AggregateId(Long value) implements Identity<Long> {
+    }
+
+    private final AggregateId id;
+
+    public AnAggregate(AggregateId id, long concurrencyVersion) {
+        super(concurrencyVersion);
+        this.id = id;
+    }
+
+    @DomainEventListener
+    public void onAnAggregateEvent(AnAggregateEvent domainEvent) {
+    }
+}
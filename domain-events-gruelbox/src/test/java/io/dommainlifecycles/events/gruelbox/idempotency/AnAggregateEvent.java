@@ -0,0 +1,11 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.AggregateDomainEvent;
+
+public record AnAggregateEvent(String key) implements AggregateDomainEvent<AnAggregate.AggregateId, AnAggregate> {
+
+    @Override
+    public AnAggregate.AggregateId targetId() {
+        return new AnAggregate.AggregateId(1L);
+    }
+}
@@ -0,0 +1,15 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.ApplicationService;
+import io.domainlifecycles.domain.types.DomainEventListener;
+
+public class AnApplicationService implements ApplicationService {
+
+    @DomainEventListener
+    public void onAnEvent(AnEvent domainEvent) {
+    }
+
+    @DomainEventListener
+    public void onAnotherEvent(AnotherEvent domainEvent) {
+    }
+}
@@ -0,0 +1,6 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+
+public record AnEvent(String key) implements DomainEvent {
+}
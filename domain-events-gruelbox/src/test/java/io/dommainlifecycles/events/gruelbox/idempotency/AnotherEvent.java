@@ -0,0 +1,6 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+
+public record AnotherEvent(String key) implements DomainEvent {
+}
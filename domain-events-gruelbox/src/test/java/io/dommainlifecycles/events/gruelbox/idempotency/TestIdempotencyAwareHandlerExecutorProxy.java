@@ -0,0 +1,193 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import com.gruelbox.transactionoutbox.AlreadyScheduledException;
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
+import io.domainlifecycles.events.consume.execution.handler.TransactionalHandlerExecutor;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyAwareHandlerExecutorProxy;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfiguration;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfigurationEntry;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutionContext;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotentExecutor;
+import io.domainlifecycles.events.gruelbox.idempotent.InMemoryProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.ProcessedKey;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestIdempotencyAwareHandlerExecutorProxy {
+
+    private static final String UNIQUE_REQUEST_ID = "1-" + AnApplicationService.class.getName() + "-onAnEvent";
+
+    private final InMemoryProcessedKeyStore processedKeyStore = new InMemoryProcessedKeyStore();
+    private final RecordingOutbox outbox = new RecordingOutbox();
+    private IdempotencyAwareHandlerExecutorProxy proxy;
+
+    @BeforeEach
+    void beforeEach() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.dommainlifecycles.events.gruelbox.idempotency"));
+        var configuration = new IdempotencyConfiguration(Duration.ZERO, false, processedKeyStore);
+        configuration.addConfigurationEntry(new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent",
+            AnEvent.class, domainEvent -> ((AnEvent) domainEvent).key()));
+        proxy = new IdempotencyAwareHandlerExecutorProxy(new FailingExecutor(), configuration, outbox.proxy());
+    }
+
+    @Test
+    void testUnknownKeyIsScheduled() {
+        //when
+        var scheduled = proxy.execute(context());
+
+        //then
+        assertTrue(scheduled);
+        assertEquals(List.of(UNIQUE_REQUEST_ID), outbox.uniqueRequestIds);
+        assertEquals(1, outbox.executed.size());
+        assertSame(AnApplicationService.class, outbox.executed.get(0).handlerClass());
+        assertFalse(processedKeyStore.isProcessed(ProcessedKey.of(UNIQUE_REQUEST_ID)),
+            "Keys must not be marked processed before the outbox entry was committed");
+    }
+
+    @Test
+    void testKnownKeyIsSkipped() {
+        //given
+        processedKeyStore.markProcessed(ProcessedKey.of(UNIQUE_REQUEST_ID));
+
+        //when
+        var scheduled = proxy.execute(context());
+
+        //then
+        assertFalse(scheduled);
+        assertTrue(outbox.uniqueRequestIds.isEmpty());
+        assertTrue(outbox.executed.isEmpty());
+    }
+
+    @Test
+    void testKeyIsMarkedProcessedWhenAlreadyScheduled() {
+        //given
+        outbox.failure = new RuntimeException(new InvocationTargetException(
+            new AlreadyScheduledException("Request already scheduled", null)));
+
+        //when
+        var scheduled = proxy.execute(context());
+        var scheduledAgain = proxy.execute(context());
+
+        //then
+        assertFalse(scheduled);
+        assertFalse(scheduledAgain);
+        assertTrue(processedKeyStore.isProcessed(ProcessedKey.of(UNIQUE_REQUEST_ID)));
+        assertEquals(List.of(UNIQUE_REQUEST_ID), outbox.uniqueRequestIds,
+            "The duplicate must be rejected by the store without scheduling it again");
+    }
+
+    @Test
+    void testKeyIsNotMarkedProcessedOnOtherSchedulingFailures() {
+        //given
+        var failure = new IllegalStateException("Outbox unavailable");
+        outbox.failure = failure;
+
+        //when
+        var thrown = assertThrows(IllegalStateException.class, () -> proxy.execute(context()));
+
+        //then
+        assertSame(failure, thrown);
+        assertFalse(processedKeyStore.isProcessed(ProcessedKey.of(UNIQUE_REQUEST_ID)));
+    }
+
+    @Test
+    void testTraceIdIsScheduledAndReopenedOnExecution() {
+        //given
+        var traced = new ArrayList<String>();
+        var services = new Services();
+        services.registerServiceKindInstance(new AnApplicationService());
+        var executor = new IdempotentExecutor(services, executionContext -> {
+            traced.add(DomainEventTraceContext.current().traceId());
+            return true;
+        });
+
+        //when
+        try (var scope = DomainEventTraceContext.open(new DomainEventTraceContext("trace-4711"))) {
+            proxy.execute(context());
+        }
+        executor.execute(outbox.executed.get(0));
+
+        //then
+        assertEquals("trace-4711", outbox.executed.get(0).traceId());
+        assertEquals(List.of("trace-4711"), traced);
+        assertNull(DomainEventTraceContext.current());
+    }
+
+    private static ServiceExecutionContext context() {
+        return new ServiceExecutionContext(new AnApplicationService(), AnApplicationService.class.getName(),
+            "onAnEvent", new AnEvent("1"));
+    }
+
+    /**
+     * A TransactionalHandlerExecutor, which must not be used for idempotency protected handlers.
+     */
+    private static final class FailingExecutor implements TransactionalHandlerExecutor {
+
+        @Override
+        public boolean execute(ExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A TransactionOutbox recording the scheduled idempotent executions, optionally failing to schedule them.
+     */
+    private static final class RecordingOutbox {
+
+        final List<String> uniqueRequestIds = new ArrayList<>();
+        final List<IdempotentExecutionContext> executed = new ArrayList<>();
+        RuntimeException failure;
+
+        TransactionOutbox proxy() {
+            var executor = new IdempotentExecutor(null, null) {
+                @Override
+                public void execute(IdempotentExecutionContext idempotentExecutionContext) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    executed.add(idempotentExecutionContext);
+                }
+            };
+            var builder = (TransactionOutbox.ParameterizedScheduleBuilder) Proxy.newProxyInstance(
+                TransactionOutbox.ParameterizedScheduleBuilder.class.getClassLoader(),
+                new Class<?>[]{TransactionOutbox.ParameterizedScheduleBuilder.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "uniqueRequestId" -> {
+                        uniqueRequestIds.add((String) args[0]);
+                        yield proxy;
+                    }
+                    case "delayForAtLeast", "ordered" -> proxy;
+                    case "schedule" -> executor;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+            return (TransactionOutbox) Proxy.newProxyInstance(
+                TransactionOutbox.class.getClassLoader(),
+                new Class<?>[]{TransactionOutbox.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("with")) {
+                        return builder;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.AggregateExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfiguration;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfigurationEntry;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyFunction;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestIdempotencyConfiguration {
+
+    private static final String DOMAIN_PACKAGE = "io.dommainlifecycles.events.gruelbox.idempotency";
+
+    private final AnApplicationService applicationService = new AnApplicationService();
+    private final IdempotencyFunction keyFunction = domainEvent -> ((AnEvent) domainEvent).key();
+
+    @BeforeEach
+    void initDomain() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory(DOMAIN_PACKAGE));
+    }
+
+    @AfterEach
+    void resetDomain() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory(DOMAIN_PACKAGE));
+    }
+
+    @Test
+    void testEmptyConfigurationProtectsNothing() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+
+        //when
+        var entry = configuration.idempotencyProtectionConfiguration(serviceContext("onAnEvent", new AnEvent("1")));
+
+        //then
+        assertTrue(entry.isEmpty());
+    }
+
+    @Test
+    void testServiceEntryIsFoundByHandlerMethodAndDomainEvent() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+        var entry = new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent", AnEvent.class, keyFunction);
+        configuration.addConfigurationEntry(entry);
+
+        //when
+        var found = configuration.idempotencyProtectionConfiguration(serviceContext("onAnEvent", new AnEvent("1")));
+        var notConfigured = configuration.idempotencyProtectionConfiguration(serviceContext("onAnotherEvent", new AnotherEvent("1")));
+
+        //then
+        assertEquals(Optional.of(entry), found);
+        assertTrue(notConfigured.isEmpty());
+    }
+
+    @Test
+    void testFirstRegistrationOfAnEntryKeyWins() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+        var first = new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent", AnEvent.class, keyFunction);
+        var second = new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent", AnEvent.class,
+            domainEvent -> "second");
+
+        //when
+        configuration.addConfigurationEntry(first);
+        configuration.addConfigurationEntry(second);
+
+        //then
+        var found = configuration.idempotencyProtectionConfiguration(serviceContext("onAnEvent", new AnEvent("1")));
+        assertSame(first, found.orElseThrow());
+        assertEquals("1", found.orElseThrow().idempotencyFunction().uniqueIdentifier(new AnEvent("1")));
+    }
+
+    @Test
+    void testEntryOfUnknownHandlerMethodIsRejected() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> configuration.addConfigurationEntry(
+            new IdempotencyConfigurationEntry(AnApplicationService.class, "onUnknown", AnEvent.class, keyFunction)));
+        assertThrows(IllegalStateException.class, () -> configuration.addConfigurationEntry(
+            new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent", AnotherEvent.class, keyFunction)));
+    }
+
+    @Test
+    void testAggregateEntryIsFoundByManagedAggregateType() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+        var entry = new IdempotencyConfigurationEntry(AnAggregate.class, "onAnAggregateEvent", AnAggregateEvent.class,
+            domainEvent -> ((AnAggregateEvent) domainEvent).key());
+        configuration.addConfigurationEntry(entry);
+
+        //when
+        var found = configuration.idempotencyProtectionConfiguration(aggregateContext(new ARepository()));
+
+        //then
+        assertEquals(Optional.of(entry), found);
+    }
+
+    @Test
+    void testAggregateTypeNameIsCachedPerRepositoryType() {
+        //given
+        var configuration = new IdempotencyConfiguration();
+        var entry = new IdempotencyConfigurationEntry(AnAggregate.class, "onAnAggregateEvent", AnAggregateEvent.class,
+            domainEvent -> ((AnAggregateEvent) domainEvent).key());
+        configuration.addConfigurationEntry(entry);
+        var uncachedConfiguration = new IdempotencyConfiguration();
+        uncachedConfiguration.addConfigurationEntry(entry);
+        configuration.idempotencyProtectionConfiguration(aggregateContext(new ARepository()));
+
+        //when
+        Domain.initialize(new ReflectiveDomainMirrorFactory(DOMAIN_PACKAGE + ".unknown"));
+
+        //then
+        assertEquals(Optional.of(entry), configuration.idempotencyProtectionConfiguration(aggregateContext(new ARepository())));
+        assertThrows(RuntimeException.class,
+            () -> uncachedConfiguration.idempotencyProtectionConfiguration(aggregateContext(new ARepository())));
+    }
+
+    private ServiceExecutionContext serviceContext(String handlerMethodName, DomainEvent domainEvent) {
+        return new ServiceExecutionContext(
+            applicationService,
+            AnApplicationService.class.getName(),
+            handlerMethodName,
+            domainEvent
+        );
+    }
+
+    private static AggregateExecutionContext<AnAggregate.AggregateId, AnAggregate> aggregateContext(ARepository repository) {
+        return new AggregateExecutionContext<>(
+            repository,
+            "onAnAggregateEvent",
+            ARepository.class.getName(),
+            new AnAggregateEvent("1")
+        );
+    }
+}
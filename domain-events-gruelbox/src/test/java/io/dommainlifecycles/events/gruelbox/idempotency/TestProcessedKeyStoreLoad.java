@@ -0,0 +1,180 @@
+package io.dommainlifecycles.events.gruelbox.idempotency;
+
+import com.gruelbox.transactionoutbox.DefaultPersistor;
+import com.gruelbox.transactionoutbox.Dialect;
+import com.gruelbox.transactionoutbox.Instantiator;
+import com.gruelbox.transactionoutbox.TransactionManager;
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
+import io.domainlifecycles.events.consume.execution.handler.TransactionalHandlerExecutor;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyAwareHandlerExecutorProxy;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfiguration;
+import io.domainlifecycles.events.gruelbox.idempotent.IdempotencyConfigurationEntry;
+import io.domainlifecycles.events.gruelbox.idempotent.InMemoryProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.JdbcProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.ProcessedKeyStore;
+import io.domainlifecycles.events.gruelbox.idempotent.ProcessedKeyStoreListener;
+import io.domainlifecycles.events.gruelbox.serialize.DlcJacksonInvocationSerializer;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Schedules idempotency protected handler executions with duplicates through the
+ * {@link IdempotencyAwareHandlerExecutorProxy} into a Gruelbox outbox on H2, with and without {@link ProcessedKeyStore}.
+ * Keys get into the stores the way they do in production: by the {@link ProcessedKeyStoreListener} after the
+ * scheduling transaction was committed, and by the proxy when the outbox rejects an already scheduled request.
+ * Run by the loadTest task.
+ */
+@Tag("load")
+class TestProcessedKeyStoreLoad {
+
+    private static final Logger log = LoggerFactory.getLogger(TestProcessedKeyStoreLoad.class);
+    private static final int REQUESTS = 5_000;
+
+    @BeforeAll
+    static void beforeAll() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.dommainlifecycles.events.gruelbox.idempotency"));
+    }
+
+    @Test
+    void testThroughputWithDuplicates() throws SQLException {
+        for (int duplicatePercentage = 0; duplicatePercentage <= 90; duplicatePercentage += 30) {
+            //given
+            var keys = keys(duplicatePercentage);
+            var distinct = Arrays.stream(keys).distinct().count();
+
+            //when
+            var outboxOnly = schedule(keys, dataSource -> null);
+            var inMemory = schedule(keys, dataSource -> new InMemoryProcessedKeyStore());
+            var jdbc = schedule(keys, JdbcProcessedKeyStore::new);
+
+            //then
+            assertEquals(distinct, outboxOnly.outboxRows());
+            assertEquals(distinct, inMemory.outboxRows());
+            assertEquals(distinct, jdbc.outboxRows());
+            log.info("{}% duplicates: outbox only {} req/s, in-memory store {} req/s, jdbc store {} req/s",
+                duplicatePercentage, perSecond(outboxOnly.nanos()), perSecond(inMemory.nanos()), perSecond(jdbc.nanos()));
+        }
+    }
+
+    private static String[] keys(int duplicatePercentage) {
+        var random = new Random(duplicatePercentage);
+        var keys = new String[REQUESTS];
+        int distinct = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            if (distinct > 0 && random.nextInt(100) < duplicatePercentage) {
+                keys[i] = keys[random.nextInt(i)];
+            } else {
+                keys[i] = UUID.randomUUID().toString();
+                distinct++;
+            }
+        }
+        return keys;
+    }
+
+    private static Result schedule(String[] keys, Function<DataSource, ProcessedKeyStore> storeFactory) throws SQLException {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        createProcessedKeysTable(dataSource);
+        var store = storeFactory.apply(dataSource);
+        var transactionManager = TransactionManager.fromDataSource(dataSource);
+        // entries are only scheduled, they are not submitted for execution
+        var outboxBuilder = TransactionOutbox.builder()
+            .transactionManager(transactionManager)
+            .persistor(DefaultPersistor.builder()
+                .serializer(new DlcJacksonInvocationSerializer())
+                .dialect(Dialect.H2)
+                .build())
+            .instantiator(Instantiator.using(type -> {
+                throw new UnsupportedOperationException();
+            }))
+            .submitter((entry, localExecutor) -> {
+            });
+        if (store != null) {
+            outboxBuilder.listener(new ProcessedKeyStoreListener(store));
+        }
+        var outbox = outboxBuilder.build();
+        outbox.initialize();
+        var configuration = new IdempotencyConfiguration(Duration.ZERO, false, store);
+        configuration.addConfigurationEntry(new IdempotencyConfigurationEntry(AnApplicationService.class, "onAnEvent",
+            AnEvent.class, domainEvent -> ((AnEvent) domainEvent).key()));
+        var proxy = new IdempotencyAwareHandlerExecutorProxy(new FailingExecutor(), configuration, outbox);
+        var handler = new AnApplicationService();
+
+        var start = System.nanoTime();
+        for (var key : keys) {
+            var context = new ServiceExecutionContext(handler, AnApplicationService.class.getName(), "onAnEvent",
+                new AnEvent(key));
+            transactionManager.inTransaction(() -> proxy.execute(context));
+        }
+        var nanos = System.nanoTime() - start;
+        return new Result(nanos, outboxRows(dataSource));
+    }
+
+    private static void createProcessedKeysTable(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            for (var ddl : processedKeysDdl().split(";")) {
+                if (!ddl.isBlank()) {
+                    statement.execute(ddl);
+                }
+            }
+        }
+    }
+
+    private static String processedKeysDdl() {
+        try (var ddl = JdbcProcessedKeyStore.class.getResourceAsStream(JdbcProcessedKeyStore.DDL_RESOURCE)) {
+            return new String(Objects.requireNonNull(ddl).readAllBytes(), StandardCharsets.UTF_8)
+                .replaceAll("--[^\\n]*", "");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long outboxRows(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM TXNO_OUTBOX")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static long perSecond(long nanos) {
+        return REQUESTS * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+    private record Result(long nanos, long outboxRows) {
+    }
+
+    /**
+     * A TransactionalHandlerExecutor, which must not be used for idempotency protected handlers.
+     */
+    private static final class FailingExecutor implements TransactionalHandlerExecutor {
+
+        @Override
+        public boolean execute(ExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -51,13 +51,15 @@ import java.util.Objects;
  * functionality for creating Jakarta JMS channel factories for messaging that have a Gruelbox outbox as a proxy in place.
  *
  * The outbox avoids Domain Event loss or ghost events when sending them to a JMS Message broker.
+ * Therefore, the publishers always send synchronously: an outbox entry is only marked as processed, once the broker
+ * accepted the message.
  *
  * @author Mario Herb
  */
 public class GruelboxProxyJakartaJmsChannelFactory extends AbstractGruelboxProxyMqChannelFactory {
 
     private final ConnectionFactory connectionFactory;
-    private long receiveTimeoutMs = 100;
+    private int publisherSessionPoolSize = 8;
 
     /**
      * Initializes a GruelboxProxyJakartaJmsChannelFactory with the provided dependencies.
@@ -229,14 +231,19 @@ public class GruelboxProxyJakartaJmsChannelFactory extends AbstractGruelboxProxy
     }
 
     /**
-     * Creates a Jakarta JMS based Domain Event publisher.
+     * Creates a Jakarta JMS based Domain Event publisher, which sends synchronously.
      *
      * @param domainEventSerializer used for serialization/deserialization.
      * @return A new instance of JakartaJmsDomainEventPublisher initialized with the provided ObjectMapper.
      */
     @Override
     protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
-        return new JakartaJmsDomainEventPublisher(connectionFactory, domainEventSerializer);
+        return new JakartaJmsDomainEventPublisher(
+            connectionFactory,
+            domainEventSerializer,
+            this.publisherSessionPoolSize,
+            false
+        );
     }
 
     /**
@@ -256,16 +263,20 @@ public class GruelboxProxyJakartaJmsChannelFactory extends AbstractGruelboxProxy
             executionContextDetector,
             executionContextProcessor,
             classProvider,
-            this.receiveTimeoutMs
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
         );
     }
 
     /**
-     * Sets the receive timeout in milliseconds for the messaging channel.
+     * Sets the maximum number of sessions the publishers created by this factory use for concurrently
+     * publishing threads (default 8).
      *
-     * @param receiveTimeoutMs The receive timeout value to be set in milliseconds.
+     * @param publisherSessionPoolSize The session pool size of the publishers.
      */
-    public void setReceiveTimeoutMs(long receiveTimeoutMs) {
-        this.receiveTimeoutMs = receiveTimeoutMs;
+    public void setPublisherSessionPoolSize(int publisherSessionPoolSize) {
+        this.publisherSessionPoolSize = publisherSessionPoolSize;
     }
 }
@@ -37,6 +37,7 @@ import io.domainlifecycles.events.mq.consume.MqDomainEventConsumer;
 import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
 import io.domainlifecycles.services.api.ServiceProvider;
+import jakarta.jms.CompletionListener;
 import jakarta.jms.ConnectionFactory;
 
 import java.util.Objects;
@@ -50,7 +51,9 @@ import java.util.Objects;
 public class JakartaJmsChannelFactory extends AbstractMqChannelFactory {
 
     private final ConnectionFactory connectionFactory;
-    private long receiveTimeoutMs = 100;
+    private int publisherSessionPoolSize = 8;
+    private boolean publisherAsyncSend = false;
+    private CompletionListener publisherCompletionListener;
 
     /**
      * Constructs a JakartaJmsChannelFactory with the provided ConnectionFactory and ObjectMapper.
@@ -87,7 +90,21 @@ public class JakartaJmsChannelFactory extends AbstractMqChannelFactory {
      */
     @Override
     protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
-         return new JakartaJmsDomainEventPublisher(connectionFactory, domainEventSerializer);
+        if (this.publisherCompletionListener != null) {
+            return new JakartaJmsDomainEventPublisher(
+                connectionFactory,
+                domainEventSerializer,
+                this.publisherSessionPoolSize,
+                this.publisherAsyncSend,
+                this.publisherCompletionListener
+            );
+        }
+        return new JakartaJmsDomainEventPublisher(
+            connectionFactory,
+            domainEventSerializer,
+            this.publisherSessionPoolSize,
+            this.publisherAsyncSend
+        );
     }
 
     /**
@@ -101,25 +118,44 @@ public class JakartaJmsChannelFactory extends AbstractMqChannelFactory {
             executionContextDetector,
             executionContextProcessor,
             classProvider,
-            this.receiveTimeoutMs
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
         );
     }
 
     /**
-     * Retrieves the receive timeout value in milliseconds.
+     * Sets the maximum number of sessions the publishers created by this factory use for concurrently
+     * publishing threads (default 8).
+     *
+     * @param publisherSessionPoolSize The session pool size of the publishers.
+     */
+    public void setPublisherSessionPoolSize(int publisherSessionPoolSize) {
+        this.publisherSessionPoolSize = publisherSessionPoolSize;
+    }
+
+    /**
+     * Sets whether the publishers created by this factory send messages asynchronously, without waiting
+     * for the broker's acknowledgement. Publishing then succeeds, even if the broker rejects the message later.
+     * Failures of asynchronous sends are logged, unless a listener is set
+     * (see {@link #setPublisherAsyncSend(boolean, CompletionListener)}).
      *
-     * @return The receive timeout value in milliseconds
+     * @param publisherAsyncSend true for asynchronous sends
      */
-    public long getReceiveTimeoutMs() {
-        return receiveTimeoutMs;
+    public void setPublisherAsyncSend(boolean publisherAsyncSend) {
+        this.publisherAsyncSend = publisherAsyncSend;
     }
 
     /**
-     * Sets the receive timeout value in milliseconds.
+     * Sets whether the publishers created by this factory send messages asynchronously and the listener
+     * notified about the completion or failure of each asynchronous send.
      *
-     * @param receiveTimeoutMs The receive timeout value to be set in milliseconds
+     * @param publisherAsyncSend true for asynchronous sends
+     * @param publisherCompletionListener The listener of asynchronous sends
      */
-    public void setReceiveTimeoutMs(long receiveTimeoutMs) {
-        this.receiveTimeoutMs = receiveTimeoutMs;
+    public void setPublisherAsyncSend(boolean publisherAsyncSend, CompletionListener publisherCompletionListener) {
+        this.publisherAsyncSend = publisherAsyncSend;
+        this.publisherCompletionListener = Objects.requireNonNull(publisherCompletionListener, "A CompletionListener is required!");
     }
 }
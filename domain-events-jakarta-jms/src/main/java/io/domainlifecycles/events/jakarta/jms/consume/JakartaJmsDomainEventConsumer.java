@@ -30,8 +30,13 @@ import io.domainlifecycles.access.classes.ClassProvider;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
 import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.events.mq.consume.AbstractMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.consume.MqConsumerBatchConfiguration;
+import io.domainlifecycles.events.mq.consume.MqConsumerThreadingConfiguration;
+import io.domainlifecycles.events.mq.consume.MqHandlerConcurrencyConfiguration;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.JMSException;
@@ -42,6 +47,7 @@ import jakarta.jms.TextMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,7 +58,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @author Mario Herb
  */
-public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer<MessageConsumer, TextMessage> {
+public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer<MessageConsumer, Message> {
 
     private static final Logger log = LoggerFactory.getLogger(JakartaJmsDomainEventConsumer.class);
 
@@ -77,7 +83,80 @@ public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer
                                          ExecutionContextProcessor executionContextProcessor,
                                          ClassProvider classProvider,
                                          long receiveTimeoutMs) {
-        super(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider);
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, receiveTimeoutMs, new MqConsumerThreadingConfiguration());
+    }
+
+    /**
+     * Constructs a JakartaJmsDomainEventConsumer with the provided parameters and threading configuration.
+     *
+     * @param connectionFactory The ConnectionFactory used for creating connections to the message broker
+     * @param domainEventSerializer The DomainEventSerializer instance to serialize/deserialize messages
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts
+     * @param classProvider The ClassProvider for providing Class instances
+     * @param receiveTimeoutMs The timeout value for receiving messages in milliseconds
+     * @param threadingConfiguration The threading configuration of the consumer
+     */
+    public JakartaJmsDomainEventConsumer(ConnectionFactory connectionFactory,
+                                         DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         long receiveTimeoutMs,
+                                         MqConsumerThreadingConfiguration threadingConfiguration) {
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, receiveTimeoutMs, threadingConfiguration, new MqConsumerBatchConfiguration());
+    }
+
+    /**
+     * Constructs a JakartaJmsDomainEventConsumer with the provided parameters, threading and batch configuration.
+     *
+     * @param connectionFactory The ConnectionFactory used for creating connections to the message broker
+     * @param domainEventSerializer The DomainEventSerializer instance to serialize/deserialize messages
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts
+     * @param classProvider The ClassProvider for providing Class instances
+     * @param receiveTimeoutMs The timeout value for receiving messages in milliseconds
+     * @param threadingConfiguration The threading configuration of the consumer
+     * @param batchConfiguration The batch configuration of the consumer
+     */
+    public JakartaJmsDomainEventConsumer(ConnectionFactory connectionFactory,
+                                         DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         long receiveTimeoutMs,
+                                         MqConsumerThreadingConfiguration threadingConfiguration,
+                                         MqConsumerBatchConfiguration batchConfiguration) {
+        this(connectionFactory, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, receiveTimeoutMs, threadingConfiguration, batchConfiguration, List.of());
+    }
+
+    /**
+     * Constructs a JakartaJmsDomainEventConsumer with the provided parameters, threading, batch and handler concurrency configurations.
+     *
+     * @param connectionFactory The ConnectionFactory used for creating connections to the message broker
+     * @param domainEventSerializer The DomainEventSerializer instance to serialize/deserialize messages
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts
+     * @param classProvider The ClassProvider for providing Class instances
+     * @param receiveTimeoutMs The timeout value for receiving messages in milliseconds
+     * @param threadingConfiguration The threading configuration of the consumer
+     * @param batchConfiguration The batch configuration of the consumer
+     * @param handlerConcurrencyConfigurations The concurrency configurations of handlers to be handled in parallel
+     */
+    public JakartaJmsDomainEventConsumer(ConnectionFactory connectionFactory,
+                                         DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         long receiveTimeoutMs,
+                                         MqConsumerThreadingConfiguration threadingConfiguration,
+                                         MqConsumerBatchConfiguration batchConfiguration,
+                                         List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        super(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            threadingConfiguration, batchConfiguration, handlerConcurrencyConfigurations);
         this.connectionFactory = Objects.requireNonNull(connectionFactory, "ConnectionFactory is required!");
         this.receiveTimeoutMs = receiveTimeoutMs;
         initialize();
@@ -127,10 +206,22 @@ public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer
      * {@inheritDoc}
      */
     @Override
-    protected TextMessage consumeMessage(MessageConsumer messageConsumer) {
+    protected Message consumeMessage(MessageConsumer messageConsumer) {
+        try {
+            return messageConsumer.receive(receiveTimeoutMs);
+        } catch (JMSException e) {
+            log.error("Consuming message failed", e);
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Message consumeMessageNoWait(MessageConsumer messageConsumer) {
         try {
-            Message message = messageConsumer.receive(receiveTimeoutMs);
-            return (TextMessage) message;
+            return messageConsumer.receiveNoWait();
         } catch (JMSException e) {
             log.error("Consuming message failed", e);
         }
@@ -141,21 +232,104 @@ public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer
      * {@inheritDoc}
      */
     @Override
-    protected void acknowledge(TextMessage textMessage) {
+    protected Message consumeMessage(MessageConsumer messageConsumer, long timeoutMs) {
         try {
-            textMessage.acknowledge();
+            return messageConsumer.receive(timeoutMs);
+        } catch (JMSException e) {
+            log.error("Consuming message failed", e);
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DomainEventTraceContext traceContext(Message message) {
+        try {
+            var traceId = message.getStringProperty(DomainEventTraceContext.TRACE_ID_PROPERTY);
+            return traceId == null ? null : new DomainEventTraceContext(traceId);
+        } catch (JMSException e) {
+            log.warn("Reading trace context of message failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void acknowledge(Message message) {
+        try {
+            message.acknowledge();
         } catch (JMSException e) {
             log.error("Acknowledging message failed", e);
         }
     }
 
+    /**
+     * Acknowledges a batch with a single acknowledgement. In {@code CLIENT_ACKNOWLEDGE} mode acknowledging a message
+     * acknowledges all messages consumed by the session so far. Each consumer has its own session, so
+     * acknowledging the last message of a batch acknowledges the whole batch.
+     *
+     * @param messageConsumer The MessageConsumer the batch was received from.
+     * @param batch The handled messages.
+     */
+    @Override
+    protected void acknowledgeBatch(MessageConsumer messageConsumer, List<Message> batch) {
+        if (!batch.isEmpty()) {
+            acknowledge(batch.get(batch.size() - 1));
+        }
+    }
+
+    /**
+     * Acknowledgements are cumulative, each consumer has its own session in {@code CLIENT_ACKNOWLEDGE} mode.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean acknowledgesCumulatively() {
+        return true;
+    }
+
+    /**
+     * Acknowledging a message acknowledges all messages received by the session of the consumer,
+     * also the ones received after it.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean acknowledgesAllReceived() {
+        return true;
+    }
+
+    /**
+     * Recovers the session of the given consumer, so that all unacknowledged messages are redelivered.
+     *
+     * @param messageConsumer The MessageConsumer to recover.
+     * @return true, if the session was recovered
+     */
+    @Override
+    protected boolean recover(MessageConsumer messageConsumer) {
+        try {
+            sessions.get(messageConsumer).recover();
+            return true;
+        } catch (JMSException e) {
+            log.error("Recovering session failed", e);
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    protected String messageBody(TextMessage textMessage) {
+    protected String messageBody(Message message) {
         try {
-            return textMessage.getText();
+            if (message instanceof TextMessage textMessage) {
+                return textMessage.getText();
+            }
+            throw DLCEventsException.fail("Unsupported message type '%s'!", message.getClass().getName());
         } catch (JMSException e) {
             var msg = "Reading message body failed!";
             log.error(msg, e);
@@ -163,6 +337,29 @@ public class JakartaJmsDomainEventConsumer extends AbstractMqDomainEventConsumer
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] binaryMessageBody(Message message) {
+        if (message instanceof BytesMessage bytesMessage) {
+            try {
+                return readBytes(bytesMessage);
+            } catch (JMSException e) {
+                var msg = "Reading binary message body failed!";
+                log.error(msg, e);
+                throw DLCEventsException.fail(msg,  e);
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readBytes(BytesMessage bytesMessage) throws JMSException {
+        var bytes = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(bytes);
+        return bytes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -27,20 +27,25 @@
 package io.domainlifecycles.events.jakarta.jms.publish;
 
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.events.mq.publish.AbstractMqDomainEventPublisher;
 import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
-import jakarta.jms.DeliveryMode;
 import jakarta.jms.JMSException;
-import jakarta.jms.MessageProducer;
+import jakarta.jms.Message;
 import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
 import jakarta.jms.Topic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * JakartaJmsDomainEventPublisher is a class that extends AbstractMqDomainEventPublisher and implements the MqDomainEventPublisher interface.
@@ -48,7 +53,11 @@ import java.util.Objects;
  *
  * The class requires a ConnectionFactory and an ObjectMapper to be passed in the constructor.
  *
- * When instantiated, it creates a connection and session to interact with the JMS Topic.
+ * When instantiated, it creates a connection to interact with the JMS Topic. JMS sessions are single-threaded,
+ * so publishing threads borrow sessions from a bounded pool, each caching its producers per topic. Optionally,
+ * messages are sent asynchronously. Publishing then returns before the broker accepted the message, failures are only
+ * reported to a CompletionListener (by default they are logged). Asynchronous sends must therefore not be used, if
+ * the caller relies on a successful publish, e.g. when relaying DomainEvents from a transactional outbox.
  *
  * It provides methods to connect to the JMS provider, close the connection and session, create a Topic, and send a message to the Topic.
  *
@@ -60,9 +69,15 @@ import java.util.Objects;
 public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublisher<Topic> {
 
     private static final Logger log = LoggerFactory.getLogger(JakartaJmsDomainEventPublisher.class);
+    private static final int SESSION_POOL_SIZE_DEFAULT = 8;
+    private static final long SESSION_BORROW_TIMEOUT_MS = 30_000;
+
     private final ConnectionFactory connectionFactory;
+    private final int sessionPoolSize;
+    private final boolean asyncSend;
+    private final CompletionListener completionListener;
     private Connection connection;
-    private Session session;
+    private JmsSessionPool sessionPool;
 
     /**
      * Constructor for JakartaJmsDomainEventPublisher.
@@ -71,8 +86,43 @@ public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublish
      * @param domainEventSerializer for serialization/deserialization.
      */
     public JakartaJmsDomainEventPublisher(ConnectionFactory connectionFactory, DomainEventSerializer domainEventSerializer) {
+        this(connectionFactory, domainEventSerializer, SESSION_POOL_SIZE_DEFAULT, false);
+    }
+
+    /**
+     * Constructor for JakartaJmsDomainEventPublisher.
+     *
+     * @param connectionFactory The ConnectionFactory to be used for creating connections.
+     * @param domainEventSerializer for serialization/deserialization.
+     * @param sessionPoolSize The maximum number of sessions used by concurrently publishing threads.
+     * @param asyncSend Whether messages are sent asynchronously, without waiting for the broker's acknowledgement.
+     */
+    public JakartaJmsDomainEventPublisher(ConnectionFactory connectionFactory,
+                                          DomainEventSerializer domainEventSerializer,
+                                          int sessionPoolSize,
+                                          boolean asyncSend) {
+        this(connectionFactory, domainEventSerializer, sessionPoolSize, asyncSend, new LoggingCompletionListener());
+    }
+
+    /**
+     * Constructor for JakartaJmsDomainEventPublisher.
+     *
+     * @param connectionFactory The ConnectionFactory to be used for creating connections.
+     * @param domainEventSerializer for serialization/deserialization.
+     * @param sessionPoolSize The maximum number of sessions used by concurrently publishing threads.
+     * @param asyncSend Whether messages are sent asynchronously, without waiting for the broker's acknowledgement.
+     * @param completionListener The listener notified about the completion or failure of asynchronous sends.
+     */
+    public JakartaJmsDomainEventPublisher(ConnectionFactory connectionFactory,
+                                          DomainEventSerializer domainEventSerializer,
+                                          int sessionPoolSize,
+                                          boolean asyncSend,
+                                          CompletionListener completionListener) {
         super(domainEventSerializer);
         this.connectionFactory = Objects.requireNonNull(connectionFactory, "ConnectionFactory is required!");
+        this.sessionPoolSize = sessionPoolSize;
+        this.asyncSend = asyncSend;
+        this.completionListener = Objects.requireNonNull(completionListener, "A CompletionListener is required!");
         connect();
     }
 
@@ -87,9 +137,8 @@ public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublish
             connection.setExceptionListener(e -> log.error(e.getMessage(), e));
             log.info("Starting connection");
             connection.start();
-            log.info("Creating session");
-            session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
-            log.info("Created session");
+            sessionPool = new JmsSessionPool(connection, sessionPoolSize, SESSION_BORROW_TIMEOUT_MS);
+            log.info("Created session pool of size {}", sessionPoolSize);
         } catch (JMSException e) {
             var msg = "JakartaJmsDomainEventPublisher initialization failed";
             log.error(msg, e);
@@ -103,16 +152,16 @@ public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublish
     @Override
     public void closeAll() {
         try {
-            log.info("Closing connection/session");
+            log.info("Closing connection/sessions");
+            if(sessionPool != null){
+                sessionPool.close();
+            }
             if(connection!= null){
                 connection.close();
             }
-            if(session != null){
-                session.close();
-            }
-            log.info("Closed connection/session");
+            log.info("Closed connection/sessions");
         } catch (JMSException e) {
-            log.error("Closing connection/session failed", e);
+            log.error("Closing connection/sessions failed", e);
         }
     }
 
@@ -121,11 +170,10 @@ public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublish
      */
     @Override
     protected Topic createTopic(String topicName) {
-        try {
-            return session.createTopic(topicName);
-        } catch (JMSException e) {
-            throw DLCEventsException.fail("Creating topic '{}' failed!", topicName, e);
-        }
+        return withSession(
+            pooledSession -> pooledSession.session().createTopic(topicName),
+            () -> String.format("Creating topic '%s' failed!", topicName)
+        );
     }
 
     /**
@@ -133,26 +181,106 @@ public class JakartaJmsDomainEventPublisher extends AbstractMqDomainEventPublish
      */
     @Override
     protected void sendMessageToTopic(String body, Topic topic) {
-        MessageProducer producer = null;
+        withSession(
+            pooledSession -> send(pooledSession, topic, createTextMessage(pooledSession.session(), body)),
+            () -> String.format("Publishing Message '%s' failed!", body)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendBytesToTopic(byte[] body, Topic topic) {
+        withSession(
+            pooledSession -> send(pooledSession, topic, createBytesMessage(pooledSession.session(), body)),
+            () -> String.format("Publishing binary Message of %d bytes failed!", body.length)
+        );
+    }
+
+    /**
+     * Sends all messages in order using a single pooled session and its cached producers.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendMessagesToTopics(List<TopicMessage<Topic>> messages) {
+        withSession(
+            pooledSession -> {
+                for (var message : messages) {
+                    var jmsMessage = message.isBinary()
+                        ? createBytesMessage(pooledSession.session(), message.binaryBody())
+                        : createTextMessage(pooledSession.session(), message.body());
+                    send(pooledSession, message.topic(), jmsMessage);
+                }
+                return null;
+            },
+            () -> String.format("Publishing batch of %d messages failed!", messages.size())
+        );
+    }
+
+    private Void send(JmsSessionPool.PooledSession pooledSession, Topic topic, Message message) throws JMSException {
+        var producer = pooledSession.producer(topic);
+        if (asyncSend) {
+            producer.send(message, completionListener);
+        } else {
+            producer.send(message);
+        }
+        return null;
+    }
+
+    private <T> T withSession(SessionAction<T> action, Supplier<String> failureMessage) {
+        JmsSessionPool.PooledSession pooledSession = null;
         try {
-            var textMessage = session.createTextMessage(body);
-            producer = session.createProducer(topic);
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-            producer.send(textMessage);
-            producer.close();
-        } catch (JMSException e) {
-            var msg = String.format("Publishing Message '%s' failed!", body);
+            pooledSession = sessionPool.borrow();
+            var result = action.apply(pooledSession);
+            sessionPool.release(pooledSession);
+            return result;
+        } catch (JMSException | RuntimeException e) {
+            if (pooledSession != null) {
+                sessionPool.invalidate(pooledSession);
+            }
+            var msg = failureMessage.get();
             log.error(msg, e);
             throw DLCEventsException.fail(msg, e);
-        } finally {
-            if (producer != null) {
-                try {
-                    producer.close();
-                } catch (JMSException e) {
-                    log.error("Closing producer failed", e);
-                }
-            }
         }
     }
 
+    private TextMessage createTextMessage(Session session, String body) throws JMSException {
+        var textMessage = session.createTextMessage(body);
+        propagateTraceContext(textMessage);
+        return textMessage;
+    }
+
+    private BytesMessage createBytesMessage(Session session, byte[] body) throws JMSException {
+        var bytesMessage = session.createBytesMessage();
+        bytesMessage.writeBytes(body);
+        propagateTraceContext(bytesMessage);
+        return bytesMessage;
+    }
+
+    private void propagateTraceContext(Message message) throws JMSException {
+        var traceContext = DomainEventTraceContext.current();
+        if (traceContext != null) {
+            message.setStringProperty(DomainEventTraceContext.TRACE_ID_PROPERTY, traceContext.traceId());
+        }
+    }
+
+    @FunctionalInterface
+    private interface SessionAction<T> {
+        T apply(JmsSessionPool.PooledSession pooledSession) throws JMSException;
+    }
+
+    private static final class LoggingCompletionListener implements CompletionListener {
+
+        @Override
+        public void onCompletion(Message message) {
+            log.trace("Message sent asynchronously");
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            log.error("Publishing Message asynchronously failed!", exception);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.jakarta.jms.publish;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of JMS sessions for publishing. JMS sessions must not be used by multiple threads concurrently,
+ * so each publishing thread borrows a session exclusively and returns it after sending. Every pooled session caches
+ * its producers per topic, so they are created once instead of once per message.
+ * <br>
+ * Sessions are created lazily up to the configured pool size. Threads exceeding the pool size wait for a session to
+ * be returned or invalidated, at most the configured borrow timeout.
+ * <br>
+ * The pool is shared by the Jakarta JMS based publishers, e.g. the JakartaJmsDomainEventPublisher and the
+ * ActiveMqDomainEventPublisher.
+ *
+ * @author Mario Herb
+ */
+public final class JmsSessionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(JmsSessionPool.class);
+
+    private final Connection connection;
+    private final long borrowTimeoutMs;
+    private final Semaphore permits;
+    private final Queue<PooledSession> idleSessions = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new session pool.
+     *
+     * @param connection the connection to create the sessions with
+     * @param maxSessions the maximum number of sessions
+     * @param borrowTimeoutMs the maximum time to wait for a session, if all sessions are borrowed
+     */
+    public JmsSessionPool(Connection connection, int maxSessions, long borrowTimeoutMs) {
+        if (maxSessions < 1) {
+            throw DLCEventsException.fail("The session pool size must be positive, but was %d!", maxSessions);
+        }
+        this.connection = connection;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.permits = new Semaphore(maxSessions, true);
+    }
+
+    /**
+     * Borrows a session exclusively for the calling thread. It must be returned by {@link #release(PooledSession)}
+     * or {@link #invalidate(PooledSession)}.
+     *
+     * @return a pooled session
+     * @throws JMSException if creating a new session failed
+     */
+    public PooledSession borrow() throws JMSException {
+        if (closed) {
+            throw DLCEventsException.fail("Session pool is closed!");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw DLCEventsException.fail("No pooled session available within %d ms!", borrowTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw DLCEventsException.fail("Interrupted while waiting for a pooled session!", e);
+        }
+        var session = idleSessions.poll();
+        if (session != null) {
+            return session;
+        }
+        try {
+            log.debug("Creating pooled session");
+            return new PooledSession(connection.createSession(false, Session.AUTO_ACKNOWLEDGE));
+        } catch (JMSException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed session to the pool.
+     *
+     * @param session the borrowed session
+     */
+    public void release(PooledSession session) {
+        idleSessions.offer(session);
+        if (closed) {
+            closeIdleSessions();
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes a borrowed session, that must not be used anymore (e.g. after a failed send).
+     * A thread waiting for a session may create a new one instead.
+     *
+     * @param session the borrowed session
+     */
+    public void invalidate(PooledSession session) {
+        session.close();
+        permits.release();
+    }
+
+    /**
+     * Closes all idle sessions. Sessions currently borrowed are closed, when they are returned.
+     */
+    public void close() {
+        closed = true;
+        closeIdleSessions();
+    }
+
+    private void closeIdleSessions() {
+        PooledSession session;
+        while ((session = idleSessions.poll()) != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * A session together with its producers, cached per topic.
+     */
+    public static final class PooledSession {
+
+        private final Session session;
+        private final Map<Topic, MessageProducer> producers = new HashMap<>();
+
+        private PooledSession(Session session) {
+            this.session = session;
+        }
+
+        /**
+         * @return the borrowed session
+         */
+        public Session session() {
+            return session;
+        }
+
+        /**
+         * Retrieves the producer of the given topic, it is created on first use.
+         *
+         * @param topic the topic to send to
+         * @return the cached producer
+         * @throws JMSException if creating the producer failed
+         */
+        public MessageProducer producer(Topic topic) throws JMSException {
+            var producer = producers.get(topic);
+            if (producer == null) {
+                producer = session.createProducer(topic);
+                producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+                producers.put(topic, producer);
+            }
+            return producer;
+        }
+
+        private void close() {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                log.error("Closing pooled session failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.jakarta.jms.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the send sequence of the {@link JakartaJmsDomainEventPublisher} against a mocked JMS provider,
+ * which records every message sent by any producer.
+ */
+public class JakartaJmsDomainEventPublisherTest {
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final List<Session> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failingSends = new AtomicInteger();
+    private final AtomicInteger concurrentSessionUses = new AtomicInteger();
+    private Connection connection;
+
+    @BeforeEach
+    public void init() throws Exception {
+        connection = mock(Connection.class);
+        when(connection.createSession(anyBoolean(), anyInt())).thenAnswer(inv -> session());
+    }
+
+    @Test
+    public void testBatchSentInOrderAcrossTopics() throws Exception {
+        //given
+        var publisher = publisher(new ToStringSerializer());
+        var events = IntStream.range(0, 1000)
+            .<DomainEvent>mapToObj(i -> i % 3 == 0 ? new AnEvent(i) : new AnotherEvent(i))
+            .toList();
+
+        //when
+        publisher.publishBatch(events);
+
+        //then
+        assertThat(sent).containsExactlyElementsOf(
+            events.stream().map(e -> e.getClass().getName() + ":" + e).toList()
+        );
+        verify(connection, times(1)).createSession(anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testBatchAndSinglePublishesKeepOrder() {
+        //given
+        var publisher = publisher(new ToStringSerializer());
+
+        //when
+        publisher.publish(new AnEvent(0));
+        publisher.publishBatch(List.of(new AnotherEvent(1), new AnEvent(2)));
+        publisher.publish(new AnotherEvent(3));
+
+        //then
+        assertThat(sent).containsExactly(
+            AnEvent.class.getName() + ":" + new AnEvent(0),
+            AnotherEvent.class.getName() + ":" + new AnotherEvent(1),
+            AnEvent.class.getName() + ":" + new AnEvent(2),
+            AnotherEvent.class.getName() + ":" + new AnotherEvent(3)
+        );
+    }
+
+    @Test
+    public void testBatchWithUnserializableEventSendsNothing() {
+        //given
+        var publisher = publisher(new ToStringSerializer() {
+            @Override
+            public String serialize(DomainEvent event) {
+                if (event instanceof AnotherEvent anotherEvent && anotherEvent.number() == 5) {
+                    throw new IllegalStateException("Not serializable");
+                }
+                return super.serialize(event);
+            }
+        });
+        var events = IntStream.range(0, 10)
+            .<DomainEvent>mapToObj(AnotherEvent::new)
+            .toList();
+
+        //then
+        assertThatThrownBy(() -> publisher.publishBatch(events))
+            .isInstanceOf(DLCEventsException.class);
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    public void testFailedSendInvalidatesSession() throws Exception {
+        //given
+        var publisher = publisher(new ToStringSerializer());
+        failingSends.set(1);
+
+        //when
+        assertThatThrownBy(() -> publisher.publish(new AnEvent(0)))
+            .isInstanceOf(DLCEventsException.class);
+        publisher.publish(new AnEvent(1));
+
+        //then
+        assertThat(sent).containsExactly(AnEvent.class.getName() + ":" + new AnEvent(1));
+        assertThat(sessions).hasSize(2);
+        verify(sessions.get(0)).close();
+    }
+
+    @Test
+    public void testConcurrentPublishingUsesEachSessionExclusively() throws Exception {
+        //given
+        var publisher = publisher(new ToStringSerializer(), 2, false, null);
+        var executor = Executors.newFixedThreadPool(8);
+
+        //when
+        var futures = IntStream.range(0, 8)
+            .mapToObj(t -> CompletableFuture.runAsync(() -> IntStream.range(0, 250)
+                .forEach(i -> publisher.publish(new AnEvent(t * 1000 + i))), executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertThat(sent).hasSize(2000).doesNotHaveDuplicates();
+        assertThat(sessions).hasSizeBetween(1, 2);
+        assertThat(concurrentSessionUses.get()).isZero();
+    }
+
+    @Test
+    public void testAsyncSendFailureIsReportedToListener() {
+        //given
+        var failures = new CopyOnWriteArrayList<Exception>();
+        var publisher = publisher(new ToStringSerializer(), 1, true, new CompletionListener() {
+            @Override
+            public void onCompletion(Message message) {
+            }
+
+            @Override
+            public void onException(Message message, Exception exception) {
+                failures.add(exception);
+            }
+        });
+        failingSends.set(1);
+
+        //when
+        publisher.publish(new AnEvent(0));
+        publisher.publish(new AnEvent(1));
+
+        //then
+        assertThat(failures).singleElement().isInstanceOf(JMSException.class);
+        assertThat(sent).containsExactly(AnEvent.class.getName() + ":" + new AnEvent(1));
+    }
+
+    private JakartaJmsDomainEventPublisher publisher(DomainEventSerializer serializer) {
+        return publisher(serializer, 8, false, null);
+    }
+
+    private JakartaJmsDomainEventPublisher publisher(DomainEventSerializer serializer,
+                                                     int sessionPoolSize,
+                                                     boolean asyncSend,
+                                                     CompletionListener completionListener) {
+        var connectionFactory = mock(ConnectionFactory.class);
+        try {
+            when(connectionFactory.createConnection()).thenReturn(connection);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return completionListener == null
+            ? new JakartaJmsDomainEventPublisher(connectionFactory, serializer, sessionPoolSize, asyncSend)
+            : new JakartaJmsDomainEventPublisher(connectionFactory, serializer, sessionPoolSize, asyncSend, completionListener);
+    }
+
+    private Session session() throws Exception {
+        var session = mock(Session.class);
+        var inUse = new AtomicBoolean();
+        sessions.add(session);
+        when(session.createTopic(anyString())).thenAnswer(inv -> new TestTopic(inv.getArgument(0)));
+        when(session.createTextMessage(anyString())).thenAnswer(inv -> {
+            var textMessage = mock(TextMessage.class);
+            when(textMessage.getText()).thenReturn(inv.getArgument(0));
+            return textMessage;
+        });
+        when(session.createProducer(any(Topic.class))).thenAnswer(inv -> producer(inv.getArgument(0), inUse));
+        return session;
+    }
+
+    private MessageProducer producer(Topic topic, AtomicBoolean sessionInUse) throws Exception {
+        var producer = mock(MessageProducer.class);
+        doAnswer(inv -> {
+            send(topic, inv.getArgument(0), sessionInUse);
+            return null;
+        }).when(producer).send(any(Message.class));
+        doAnswer(inv -> {
+            CompletionListener listener = inv.getArgument(1);
+            try {
+                send(topic, inv.getArgument(0), sessionInUse);
+                listener.onCompletion(inv.getArgument(0));
+            } catch (JMSException e) {
+                listener.onException(inv.getArgument(0), e);
+            }
+            return null;
+        }).when(producer).send(any(Message.class), any(CompletionListener.class));
+        return producer;
+    }
+
+    private void send(Topic topic, Message message, AtomicBoolean sessionInUse) throws JMSException {
+        if (!sessionInUse.compareAndSet(false, true)) {
+            concurrentSessionUses.incrementAndGet();
+        }
+        try {
+            if (failingSends.getAndUpdate(f -> Math.max(0, f - 1)) > 0) {
+                throw new JMSException("Sending failed on purpose!");
+            }
+            sent.add(topic.getTopicName() + ":" + ((TextMessage) message).getText());
+        } finally {
+            sessionInUse.set(false);
+        }
+    }
+
+    private record TestTopic(String topicName) implements Topic {
+
+        @Override
+        public String getTopicName() {
+            return topicName;
+        }
+    }
+
+    private record AnEvent(int number) implements DomainEvent {
+    }
+
+    private record AnotherEvent(int number) implements DomainEvent {
+    }
+
+    private static class ToStringSerializer implements DomainEventSerializer {
+
+        @Override
+        public String serialize(DomainEvent event) {
+            return event.toString();
+        }
+
+        @Override
+        public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.jakarta.jms.publish;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+import jakarta.jms.Connection;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JmsSessionPoolTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    public void init() throws Exception {
+        connection = mock(Connection.class);
+        when(connection.createSession(anyBoolean(), anyInt())).thenAnswer(inv -> mock(Session.class));
+    }
+
+    @Test
+    public void testReleasedSessionIsReused() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 2, 1_000);
+        var session = pool.borrow();
+
+        //when
+        pool.release(session);
+        var borrowedAgain = pool.borrow();
+
+        //then
+        assertThat(borrowedAgain).isSameAs(session);
+        verify(connection, times(1)).createSession(anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testBorrowTimesOutIfAllSessionsAreBorrowed() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 1, 100);
+        pool.borrow();
+
+        //when
+        var start = System.nanoTime();
+
+        //then
+        assertThatThrownBy(pool::borrow)
+            .isInstanceOf(DLCEventsException.class)
+            .hasMessageContaining("No pooled session available within 100 ms");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void testWaitingBorrowerGetsReleasedSession() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 1, 5_000);
+        var session = pool.borrow();
+        var waiting = CompletableFuture.supplyAsync(() -> borrow(pool));
+        Thread.sleep(50);
+
+        //when
+        pool.release(session);
+
+        //then
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isSameAs(session);
+    }
+
+    @Test
+    public void testInvalidatedSessionIsClosedAndReplaced() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 1, 5_000);
+        var session = pool.borrow();
+        var waiting = CompletableFuture.supplyAsync(() -> borrow(pool));
+        Thread.sleep(50);
+
+        //when
+        pool.invalidate(session);
+
+        //then
+        var replacement = waiting.get(1, TimeUnit.SECONDS);
+        assertThat(replacement).isNotSameAs(session);
+        verify(session.session()).close();
+        verify(connection, times(2)).createSession(anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testFailingSessionCreationDoesNotLeakCapacity() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 1, 100);
+        when(connection.createSession(anyBoolean(), anyInt()))
+            .thenThrow(new IllegalStateException("Broker unavailable"))
+            .thenAnswer(inv -> mock(Session.class));
+
+        //when
+        assertThatThrownBy(pool::borrow).isInstanceOf(IllegalStateException.class);
+        var session = pool.borrow();
+
+        //then
+        assertThat(session).isNotNull();
+    }
+
+    @Test
+    public void testCloseClosesIdleAndReturnedSessions() throws Exception {
+        //given
+        var pool = new JmsSessionPool(connection, 2, 100);
+        var idle = pool.borrow();
+        var borrowed = pool.borrow();
+        pool.release(idle);
+
+        //when
+        pool.close();
+        pool.release(borrowed);
+
+        //then
+        verify(idle.session()).close();
+        verify(borrowed.session()).close();
+        assertThatThrownBy(pool::borrow).isInstanceOf(DLCEventsException.class);
+    }
+
+    private static JmsSessionPool.PooledSession borrow(JmsSessionPool pool) {
+        try {
+            return pool.borrow();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -31,16 +31,25 @@ import io.domainlifecycles.events.exception.DLCEventsException;
 import io.domainlifecycles.events.publish.AbstractTransactionalDomainEventPublisher;
 import jakarta.transaction.RollbackException;
 import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an abstract class that extends AbstractTransactionalDomainEventPublisher and provides
  * JTA transactional event publishing capabilities.
  *
+ * All DomainEvents published within a transaction are collected in a transaction scoped buffer, which is registered
+ * as a single synchronization on the first publication. The buffered DomainEvents are passed to the
+ * {@link JtaDomainEventSender} as one batch in their publishing order in the configured transaction phase,
+ * or discarded if the transaction is rolled back.
+ *
  * @author Mario Herb
  */
 public abstract class AbstractJtaTransactionalDomainEventPublisher extends AbstractTransactionalDomainEventPublisher {
@@ -50,6 +59,7 @@ public abstract class AbstractJtaTransactionalDomainEventPublisher extends Abstr
     private final JtaDomainEventSender sender;
     private final TransactionManager transactionManager;
     private final boolean afterCommit;
+    private final Map<Transaction, TransactionalDomainEventBuffer> buffers = new ConcurrentHashMap<>();
 
     /**
      * Creates a new AbstractJtaTransactionalDomainEventPublisher
@@ -69,26 +79,48 @@ public abstract class AbstractJtaTransactionalDomainEventPublisher extends Abstr
     }
 
     /**
+     * Adds the DomainEvent to the buffer of the current transaction.
+     *
      * {@inheritDoc}
      */
     @Override
     public void publish(DomainEvent domainEvent) {
         log.debug("Received DomainEvent {} for publishing", domainEvent);
+        buffer(List.of(domainEvent), domainEvent);
+    }
+
+    /**
+     * Adds all given DomainEvents to the buffer of the current transaction, so that they are passed to the
+     * {@link JtaDomainEventSender} as one batch in the configured transaction phase, together with all other
+     * DomainEvents published within the transaction.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        log.debug("Received {} DomainEvents for publishing", domainEvents.size());
+        buffer(domainEvents, domainEvents);
+    }
+
+    private void buffer(List<DomainEvent> domainEvents, Object published) {
         try {
             final var transaction = transactionManager.getTransaction();
             if(transaction == null) {
-                var msg = String.format("No transaction active, but active transaction is required! Event dispatching failed for %s", domainEvent);
+                var msg = String.format("No transaction active, but active transaction is required! Event dispatching failed for %s", published);
                 log.error(msg);
                 throw DLCEventsException.fail(msg);
-            }else{
-                if(this.afterCommit){
-                    transaction.registerSynchronization(new AfterCommitSynchronization(sender, domainEvent));
-                }else{
-                    transaction.registerSynchronization(new BeforeCommitSynchronization(sender, domainEvent));
-                }
+            }
+            var buffer = buffers.get(transaction);
+            if(buffer == null || !buffer.add(domainEvents)) {
+                buffer = this.afterCommit
+                    ? new AfterCommitSynchronization(sender, b -> buffers.remove(transaction, b))
+                    : new BeforeCommitSynchronization(sender, b -> buffers.remove(transaction, b));
+                transaction.registerSynchronization(buffer);
+                buffer.add(domainEvents);
+                buffers.put(transaction, buffer);
             }
         } catch (SystemException | RollbackException e) {
-            throw DLCEventsException.fail("Couldn't get transaction! Event dispatching failed for %s", domainEvent, e);
+            throw DLCEventsException.fail("Couldn't get transaction! Event dispatching failed for %s", published, e);
         }
     }
 
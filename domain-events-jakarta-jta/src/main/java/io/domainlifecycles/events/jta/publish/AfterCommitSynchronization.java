@@ -26,34 +26,30 @@
 
 package io.domainlifecycles.events.jta.publish;
 
-import io.domainlifecycles.domain.types.DomainEvent;
 import jakarta.transaction.Status;
-import jakarta.transaction.Synchronization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
- * Synchronization callback to publish events after commit.
+ * Synchronization callback to publish the events buffered within a transaction after commit.
  *
  * @author Mario Herb
  */
-final class AfterCommitSynchronization implements Synchronization {
+final class AfterCommitSynchronization extends TransactionalDomainEventBuffer {
 
     private static final Logger log = LoggerFactory.getLogger(AfterCommitSynchronization.class);
-    private final JtaDomainEventSender sender;
-    private final DomainEvent publishedDomainEvent;
 
     /**
-     * Initializes a new AfterCommitSynchronization instance with the provided JtaDomainEventSender and DomainEvent.
+     * Initializes a new AfterCommitSynchronization instance with the provided JtaDomainEventSender.
+     * All DomainEvents buffered until the transaction completes are passed to the sender as one batch.
      *
      * @param sender The JtaDomainEventSender responsible for sending domain events
-     * @param publishedDomainEvent The DomainEvent to be published after commit
+     * @param onCompletion callback invoked once the transaction completed
      */
-    public AfterCommitSynchronization(JtaDomainEventSender sender, DomainEvent publishedDomainEvent) {
-        this.sender = Objects.requireNonNull(sender, "A JtaDomainEventSender is required!");
-        this.publishedDomainEvent = Objects.requireNonNull(publishedDomainEvent, "A DomainEvent is required!");
+    public AfterCommitSynchronization(JtaDomainEventSender sender, Consumer<TransactionalDomainEventBuffer> onCompletion) {
+        super(sender, onCompletion);
     }
 
     /**
@@ -69,11 +65,12 @@ final class AfterCommitSynchronization implements Synchronization {
      */
     @Override
     public void afterCompletion(int i) {
+        release();
         if (Status.STATUS_COMMITTED == i) {
-            log.debug("Publisher transaction committed. Passing DomainEvent {} to DomainEventConsumer!", publishedDomainEvent);
-            sender.send(publishedDomainEvent);
+            log.debug("Publisher transaction committed. Passing buffered DomainEvents to DomainEventConsumer!");
+            send(true);
         }else{
-            log.debug("DomainEvent {} not dispatched. Transaction not committed!", publishedDomainEvent);
+            log.debug("DomainEvents {} not dispatched. Transaction not committed!", discard());
         }
     }
 }
@@ -26,33 +26,29 @@
 
 package io.domainlifecycles.events.jta.publish;
 
-import io.domainlifecycles.domain.types.DomainEvent;
-import jakarta.transaction.Synchronization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
- * Synchronization callback to publish events before commit.
+ * Synchronization callback to publish the events buffered within a transaction before commit.
  *
  * @author Mario Herb
  */
-final class BeforeCommitSynchronization implements Synchronization {
+final class BeforeCommitSynchronization extends TransactionalDomainEventBuffer {
 
     private static final Logger log = LoggerFactory.getLogger(BeforeCommitSynchronization.class);
-    private final JtaDomainEventSender sender;
-    private final DomainEvent publishedDomainEvent;
 
     /**
      * Constructor for creating a BeforeCommitSynchronization object.
+     * All DomainEvents buffered until the transaction is about to complete are passed to the sender as one batch.
      *
      * @param sender the JtaDomainEventSender responsible for sending domain events
-     * @param publishedDomainEvent the DomainEvent to be published before transaction commit
+     * @param onCompletion callback invoked once the buffered domain events were sent or the transaction completed
      */
-    public BeforeCommitSynchronization(JtaDomainEventSender sender, DomainEvent publishedDomainEvent) {
-        this.sender = Objects.requireNonNull(sender, "A JtaDomainEventSender is required!");
-        this.publishedDomainEvent = Objects.requireNonNull(publishedDomainEvent, "A DomainEvent is required!");
+    public BeforeCommitSynchronization(JtaDomainEventSender sender, Consumer<TransactionalDomainEventBuffer> onCompletion) {
+        super(sender, onCompletion);
     }
 
     /**
@@ -60,8 +56,9 @@ final class BeforeCommitSynchronization implements Synchronization {
      */
     @Override
     public void beforeCompletion() {
-        log.debug("Publisher transaction about to complete. Passing DomainEvent {} to DomainEventConsumer!", publishedDomainEvent);
-        sender.send(publishedDomainEvent);
+        log.debug("Publisher transaction about to complete. Passing buffered DomainEvents to DomainEventConsumer!");
+        send(true);
+        release();
     }
 
     /**
@@ -69,6 +66,10 @@ final class BeforeCommitSynchronization implements Synchronization {
      */
     @Override
     public void afterCompletion(int i) {
-
+        release();
+        var discarded = discard();
+        if (!discarded.isEmpty()) {
+            log.debug("DomainEvents {} not dispatched. Transaction not committed!", discarded);
+        }
     }
 }
@@ -28,6 +28,8 @@ package io.domainlifecycles.events.jta.publish;
 
 import io.domainlifecycles.domain.types.DomainEvent;
 
+import java.util.List;
+
 /**
  * Represents an interface for classes that send domain events in the specified phase of
  * JTA transaction management.
@@ -42,4 +44,29 @@ public interface JtaDomainEventSender {
      * @param domainEvent DomainEvent sent
      */
     void send(DomainEvent domainEvent);
+
+    /**
+     * Sending multiple events to the specific messaging infrastructure or directly to handler execution,
+     * preserving their order. By default, each event is sent separately.
+     * <br>
+     * Only used for buffered events, if {@link #supportsBatches()} returns true. If the batch fails, each of its
+     * events is sent separately afterwards. Implementations must therefore fail before passing on any event of
+     * the batch (e.g. while serializing them), otherwise the events passed on before the failure are sent twice.
+     *
+     * @param domainEvents DomainEvents sent
+     */
+    default void sendBatch(List<DomainEvent> domainEvents) {
+        domainEvents.forEach(this::send);
+    }
+
+    /**
+     * Whether {@link #sendBatch(List)} passes on either all events of a batch or none of them.
+     * Senders, which pass on the events one by one, must return false, so that their events are sent separately
+     * and a failing event does not cause the events sent before it to be sent again.
+     *
+     * @return true, if buffered events should be sent as one batch, false by default
+     */
+    default boolean supportsBatches() {
+        return false;
+    }
 }
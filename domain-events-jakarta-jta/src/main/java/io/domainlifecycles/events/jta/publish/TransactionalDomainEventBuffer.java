@@ -0,0 +1,161 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.jta.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import jakarta.transaction.Synchronization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Transaction scoped buffer for DomainEvents, registered as the single synchronization of a transaction.
+ * All DomainEvents published within the transaction are collected in their publishing order and passed to the
+ * {@link JtaDomainEventSender} as one batch in the transaction phase defined by the concrete synchronization.
+ *
+ * @author Mario Herb
+ */
+abstract class TransactionalDomainEventBuffer implements Synchronization {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionalDomainEventBuffer.class);
+
+    private final JtaDomainEventSender sender;
+    private final Consumer<TransactionalDomainEventBuffer> onCompletion;
+    private List<DomainEvent> bufferedDomainEvents = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * Initializes a new TransactionalDomainEventBuffer.
+     *
+     * @param sender The JtaDomainEventSender responsible for sending the buffered domain events
+     * @param onCompletion callback invoked once the transaction completed, e.g. to release the buffer
+     */
+    TransactionalDomainEventBuffer(JtaDomainEventSender sender, Consumer<TransactionalDomainEventBuffer> onCompletion) {
+        this.sender = Objects.requireNonNull(sender, "A JtaDomainEventSender is required!");
+        this.onCompletion = Objects.requireNonNull(onCompletion, "An onCompletion callback is required!");
+    }
+
+    /**
+     * Appends DomainEvents to the buffer.
+     *
+     * @param domainEvents the DomainEvents to be buffered
+     * @return false, if the buffer is already closed, because the buffered events were passed to the sender finally
+     */
+    synchronized boolean add(List<DomainEvent> domainEvents) {
+        if (closed) {
+            return false;
+        }
+        bufferedDomainEvents.addAll(domainEvents);
+        return true;
+    }
+
+    /**
+     * Passes all buffered DomainEvents to the sender. DomainEvents published while sending (e.g. by synchronously
+     * executed listeners within the same transaction) are buffered and sent subsequently.
+     * <br>
+     * DomainEvents are passed as one batch, if the sender {@link JtaDomainEventSender#supportsBatches() supports
+     * batches}, otherwise each of them is sent separately. A failing batch does not drop the remaining DomainEvents:
+     * each DomainEvent of the batch is sent separately instead, so that only the failing ones are lost.
+     * Once all DomainEvents were passed to the sender, the first failure is rethrown.
+     *
+     * @param close whether to close the buffer, as soon as no more DomainEvents are buffered
+     */
+    protected void send(boolean close) {
+        RuntimeException failure = null;
+        var domainEvents = drain(close);
+        while (!domainEvents.isEmpty()) {
+            log.debug("Passing DomainEvents {} to DomainEventConsumer!", domainEvents);
+            if (domainEvents.size() > 1 && sender.supportsBatches()) {
+                try {
+                    sender.sendBatch(domainEvents);
+                } catch (RuntimeException e) {
+                    log.warn("Sending a batch of {} DomainEvents failed. Sending them separately!", domainEvents.size(), e);
+                    failure = sendSeparately(domainEvents, failure);
+                }
+            } else {
+                failure = sendSeparately(domainEvents, failure);
+            }
+            domainEvents = drain(close);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private RuntimeException sendSeparately(List<DomainEvent> domainEvents, RuntimeException failure) {
+        for (var domainEvent : domainEvents) {
+            try {
+                sender.send(domainEvent);
+            } catch (RuntimeException e) {
+                log.error("Sending DomainEvent {} failed!", domainEvent, e);
+                failure = addFailure(failure, e);
+            }
+        }
+        return failure;
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    /**
+     * Closes the buffer and drops all DomainEvents not sent yet.
+     *
+     * @return the dropped DomainEvents
+     */
+    protected synchronized List<DomainEvent> discard() {
+        closed = true;
+        var domainEvents = bufferedDomainEvents;
+        bufferedDomainEvents = new ArrayList<>();
+        return domainEvents;
+    }
+
+    /**
+     * Releases the buffer, so that DomainEvents published later on are not added to it anymore.
+     */
+    protected void release() {
+        onCompletion.accept(this);
+    }
+
+    private synchronized List<DomainEvent> drain(boolean closeWhenEmpty) {
+        if (bufferedDomainEvents.isEmpty()) {
+            closed |= closeWhenEmpty;
+            return List.of();
+        }
+        var domainEvents = bufferedDomainEvents;
+        bufferedDomainEvents = new ArrayList<>();
+        return domainEvents;
+    }
+}
@@ -146,4 +146,18 @@ public final class JtaTransactionalHandlerExecutor extends ReflectiveHandlerExec
         }
     }
 
+    /**
+     * Checks the status of the transaction associated with the current thread.
+     *
+     * @return true if the current transaction is marked rollback-only
+     * @throws DLCEventsException if there is an error accessing the TransactionManager.
+     */
+    @Override
+    public boolean isRollbackOnly() {
+        try {
+            return transactionManager.getStatus() == Status.STATUS_MARKED_ROLLBACK;
+        } catch (SystemException e) {
+            throw DLCEventsException.fail("Could access TransactionManager to get transaction", e);
+        }
+    }
 }
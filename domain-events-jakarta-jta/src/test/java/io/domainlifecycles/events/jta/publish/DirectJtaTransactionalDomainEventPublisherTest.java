@@ -0,0 +1,116 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.jta.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.DomainEventConsumer;
+import io.domainlifecycles.events.consume.TargetExecutionContext;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DirectJtaTransactionalDomainEventPublisherTest {
+
+    private InProcessTransactionManager transactionManager;
+    private RecordingConsumer consumer;
+
+    @BeforeEach
+    public void init() {
+        transactionManager = new InProcessTransactionManager();
+        consumer = new RecordingConsumer();
+    }
+
+    @Test
+    public void testAfterCommitFailingEventMidBatchIsHandledOnce() throws Exception {
+        //given
+        var publisher = new DirectJtaTransactionalDomainEventPublisher(consumer, transactionManager, true);
+        var events = events(0, 10);
+        consumer.failing = events.get(3);
+
+        //when
+        transactionManager.begin();
+        events.forEach(publisher::publish);
+
+        //then
+        assertThatThrownBy(() -> transactionManager.commit())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(events.get(3).toString());
+        assertThat(consumer.consumed).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    public void testBeforeCommitFailingEventMidBatchIsHandledOnce() throws Exception {
+        //given
+        var publisher = new DirectJtaTransactionalDomainEventPublisher(consumer, transactionManager, false);
+        var events = events(0, 10);
+        consumer.failing = events.get(3);
+
+        //when
+        transactionManager.begin();
+        publisher.publishBatch(events);
+
+        //then
+        assertThatThrownBy(() -> transactionManager.commit()).isInstanceOf(IllegalStateException.class);
+        assertThat(consumer.consumed).containsExactlyElementsOf(events);
+    }
+
+    private static List<DomainEvent> events(int from, int to) {
+        return IntStream.range(from, to)
+            .<DomainEvent>mapToObj(TestDomainEvent::new)
+            .toList();
+    }
+
+    private record TestDomainEvent(int number) implements DomainEvent {
+    }
+
+    private static class RecordingConsumer implements DomainEventConsumer {
+
+        private final List<DomainEvent> consumed = new ArrayList<>();
+        private DomainEvent failing;
+
+        @Override
+        public List<ExecutionResult> consume(DomainEvent domainEvent) {
+            consumed.add(domainEvent);
+            if (domainEvent.equals(failing)) {
+                throw new IllegalStateException("Handling " + domainEvent + " failed!");
+            }
+            return List.of();
+        }
+
+        @Override
+        public ExecutionResult consume(DomainEvent domainEvent, TargetExecutionContext executionContext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.jta.publish;
+
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+import javax.transaction.xa.XAResource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal in-process stand-in for a JTA transaction manager, which binds transactions to the current thread
+ * and only supports synchronizations.
+ */
+public class InProcessTransactionManager implements TransactionManager {
+
+    private final ThreadLocal<InProcessTransaction> current = new ThreadLocal<>();
+    private final List<InProcessTransaction> transactions = new ArrayList<>();
+
+    @Override
+    public void begin() {
+        if (current.get() != null) {
+            throw new IllegalStateException("Nested transactions are not supported!");
+        }
+        var transaction = new InProcessTransaction();
+        transactions.add(transaction);
+        current.set(transaction);
+    }
+
+    @Override
+    public void commit() throws RollbackException {
+        var transaction = currentTransaction();
+        try {
+            transaction.commit();
+        } finally {
+            current.remove();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        var transaction = currentTransaction();
+        current.remove();
+        transaction.rollback();
+    }
+
+    @Override
+    public int getStatus() {
+        var transaction = current.get();
+        return transaction == null ? Status.STATUS_NO_TRANSACTION : transaction.getStatus();
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return current.get();
+    }
+
+    @Override
+    public void resume(Transaction transaction) {
+        current.set((InProcessTransaction) transaction);
+    }
+
+    @Override
+    public void setRollbackOnly() {
+        currentTransaction().setRollbackOnly();
+    }
+
+    @Override
+    public void setTransactionTimeout(int seconds) {
+    }
+
+    @Override
+    public Transaction suspend() {
+        var transaction = current.get();
+        current.remove();
+        return transaction;
+    }
+
+    /**
+     * @return all transactions begun so far
+     */
+    public List<InProcessTransaction> getTransactions() {
+        return transactions;
+    }
+
+    private InProcessTransaction currentTransaction() {
+        var transaction = current.get();
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction active!");
+        }
+        return transaction;
+    }
+
+    /**
+     * Transaction calling the registered synchronizations in registration order.
+     */
+    public static class InProcessTransaction implements Transaction {
+
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+        private int status = Status.STATUS_ACTIVE;
+
+        @Override
+        public void registerSynchronization(Synchronization synchronization) throws RollbackException {
+            if (status == Status.STATUS_MARKED_ROLLBACK) {
+                throw new RollbackException("Transaction is marked for rollback!");
+            }
+            if (status != Status.STATUS_ACTIVE && status != Status.STATUS_PREPARING) {
+                throw new IllegalStateException("Transaction is not active!");
+            }
+            synchronizations.add(synchronization);
+        }
+
+        @Override
+        public void commit() throws RollbackException {
+            if (status == Status.STATUS_MARKED_ROLLBACK) {
+                rollback();
+                throw new RollbackException("Transaction was marked for rollback!");
+            }
+            status = Status.STATUS_PREPARING;
+            for (int i = 0; i < synchronizations.size(); i++) {
+                synchronizations.get(i).beforeCompletion();
+            }
+            status = Status.STATUS_COMMITTED;
+            synchronizations.forEach(s -> s.afterCompletion(Status.STATUS_COMMITTED));
+        }
+
+        @Override
+        public void rollback() {
+            status = Status.STATUS_ROLLEDBACK;
+            synchronizations.forEach(s -> s.afterCompletion(Status.STATUS_ROLLEDBACK));
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            status = Status.STATUS_MARKED_ROLLBACK;
+        }
+
+        @Override
+        public boolean enlistResource(XAResource xaResource) {
+            throw new UnsupportedOperationException("Resources are not supported!");
+        }
+
+        @Override
+        public boolean delistResource(XAResource xaResource, int flag) {
+            throw new UnsupportedOperationException("Resources are not supported!");
+        }
+
+        /**
+         * @return the number of registered synchronizations
+         */
+        public int getSynchronizationCount() {
+            return synchronizations.size();
+        }
+    }
+}
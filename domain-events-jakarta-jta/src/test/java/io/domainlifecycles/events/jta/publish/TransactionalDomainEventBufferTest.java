@@ -0,0 +1,274 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.jta.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import jakarta.transaction.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TransactionalDomainEventBufferTest {
+
+    private InProcessTransactionManager transactionManager;
+    private RecordingSender sender;
+
+    @BeforeEach
+    public void init() {
+        transactionManager = new InProcessTransactionManager();
+        sender = new RecordingSender();
+    }
+
+    @Test
+    public void testAfterCommitSingleSynchronizationAndBatchInOrder() throws Exception {
+        //given
+        var publisher = publisher(true);
+        var events = events(0, 1000);
+
+        //when
+        transactionManager.begin();
+        events.subList(0, 500).forEach(publisher::publish);
+        publisher.publishBatch(events.subList(500, 1000));
+        var sentBeforeCommit = sender.batches.size();
+        transactionManager.commit();
+
+        //then
+        assertThat(sentBeforeCommit).isEqualTo(0);
+        assertThat(transactionManager.getTransactions().get(0).getSynchronizationCount()).isEqualTo(1);
+        assertThat(sender.batches).hasSize(1);
+        assertThat(sender.batches.get(0)).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    public void testAfterCommitDiscardedOnRollback() throws Exception {
+        //given
+        var publisher = publisher(true);
+
+        //when
+        transactionManager.begin();
+        events(0, 100).forEach(publisher::publish);
+        transactionManager.rollback();
+
+        //then
+        assertThat(sender.batches).isEmpty();
+    }
+
+    @Test
+    public void testBufferPerTransaction() throws Exception {
+        //given
+        var publisher = publisher(true);
+        var first = events(0, 10);
+        var second = events(10, 20);
+
+        //when
+        transactionManager.begin();
+        first.forEach(publisher::publish);
+        transactionManager.rollback();
+        transactionManager.begin();
+        second.forEach(publisher::publish);
+        transactionManager.commit();
+
+        //then
+        assertThat(transactionManager.getTransactions())
+            .allSatisfy(t -> assertThat(t.getSynchronizationCount()).isEqualTo(1));
+        assertThat(sender.batches).hasSize(1);
+        assertThat(sender.batches.get(0)).containsExactlyElementsOf(second);
+    }
+
+    @Test
+    public void testBeforeCommitSingleSynchronizationAndBatchInOrder() throws Exception {
+        //given
+        var publisher = publisher(false);
+        var events = events(0, 100);
+        var statusWhileSending = new ArrayList<Integer>();
+        sender.onSend = () -> statusWhileSending.add(transactionManager.getTransactions().get(0).getStatus());
+
+        //when
+        transactionManager.begin();
+        events.forEach(publisher::publish);
+        transactionManager.commit();
+
+        //then
+        assertThat(transactionManager.getTransactions().get(0).getSynchronizationCount()).isEqualTo(1);
+        assertThat(sender.batches).hasSize(1);
+        assertThat(sender.batches.get(0)).containsExactlyElementsOf(events);
+        assertThat(statusWhileSending).containsOnly(Status.STATUS_PREPARING);
+    }
+
+    @Test
+    public void testBeforeCommitEventsPublishedWhileSendingAreSent() throws Exception {
+        //given
+        var publisher = publisher(false);
+        var events = events(0, 10);
+        var followUp = new TestDomainEvent(10);
+        sender.onSend = () -> {
+            if (sender.batches.size() == 1) {
+                publisher.publish(followUp);
+            }
+        };
+
+        //when
+        transactionManager.begin();
+        events.forEach(publisher::publish);
+        transactionManager.commit();
+
+        //then
+        assertThat(transactionManager.getTransactions().get(0).getSynchronizationCount()).isEqualTo(1);
+        assertThat(sender.batches).hasSize(2);
+        assertThat(sender.batches.get(0)).containsExactlyElementsOf(events);
+        assertThat(sender.batches.get(1)).containsExactly(followUp);
+    }
+
+    @Test
+    public void testBeforeCommitDiscardedOnRollback() throws Exception {
+        //given
+        var publisher = publisher(false);
+
+        //when
+        transactionManager.begin();
+        events(0, 10).forEach(publisher::publish);
+        transactionManager.rollback();
+
+        //then
+        assertThat(sender.batches).isEmpty();
+    }
+
+    @Test
+    public void testAfterCommitFailingBatchIsSentPerEvent() throws Exception {
+        //given
+        var publisher = publisher(true);
+        var events = events(0, 10);
+        var failing = events.get(3);
+        sender.failBatches = true;
+        sender.failing.add(failing);
+
+        //when
+        transactionManager.begin();
+        events.forEach(publisher::publish);
+
+        //then
+        assertThatThrownBy(() -> transactionManager.commit())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(failing.toString());
+        assertThat(sender.batches).allSatisfy(batch -> assertThat(batch).hasSize(1));
+        assertThat(sender.batches.stream().map(batch -> batch.get(0)))
+            .containsExactlyElementsOf(events.stream().filter(e -> !e.equals(failing)).toList());
+    }
+
+    @Test
+    public void testBeforeCommitFailingBatchDoesNotDropEventsPublishedWhileSending() throws Exception {
+        //given
+        var publisher = publisher(false);
+        var events = events(0, 10);
+        var followUps = events(10, 12);
+        sender.failBatches = true;
+        sender.failing.add(events.get(0));
+        sender.onSend = () -> {
+            if (sender.batches.size() == 1) {
+                followUps.forEach(publisher::publish);
+            }
+        };
+
+        //when
+        transactionManager.begin();
+        events.forEach(publisher::publish);
+
+        //then
+        assertThatThrownBy(() -> transactionManager.commit()).isInstanceOf(IllegalStateException.class);
+        assertThat(sender.batches.stream().map(batch -> batch.get(0)))
+            .containsExactlyElementsOf(Stream.concat(events.stream().skip(1), followUps.stream()).toList());
+    }
+
+    @Test
+    public void testNoTransactionFails() {
+        //given
+        var publisher = publisher(true);
+
+        //then
+        assertThatThrownBy(() -> publisher.publish(new TestDomainEvent(0)))
+            .isInstanceOf(DLCEventsException.class);
+        assertThat(sender.batches).isEmpty();
+    }
+
+    private AbstractJtaTransactionalDomainEventPublisher publisher(boolean afterCommit) {
+        return new AbstractJtaTransactionalDomainEventPublisher(sender, transactionManager, afterCommit) {
+            @Override
+            protected void send(DomainEvent domainEvent) {
+                throw new IllegalStateException("Should not be called!");
+            }
+        };
+    }
+
+    private static List<DomainEvent> events(int from, int to) {
+        return IntStream.range(from, to)
+            .<DomainEvent>mapToObj(TestDomainEvent::new)
+            .toList();
+    }
+
+    private record TestDomainEvent(int number) implements DomainEvent {
+    }
+
+    private static class RecordingSender implements JtaDomainEventSender {
+
+        private final List<List<DomainEvent>> batches = new ArrayList<>();
+        private final Set<DomainEvent> failing = new HashSet<>();
+        private boolean failBatches;
+        private Runnable onSend = () -> {};
+
+        @Override
+        public void send(DomainEvent domainEvent) {
+            if (failing.contains(domainEvent)) {
+                throw new IllegalStateException("Sending " + domainEvent + " failed!");
+            }
+            batches.add(List.of(domainEvent));
+            onSend.run();
+        }
+
+        @Override
+        public void sendBatch(List<DomainEvent> domainEvents) {
+            if (failBatches) {
+                throw new IllegalStateException("Sending batch failed!");
+            }
+            batches.add(List.copyOf(domainEvents));
+            onSend.run();
+        }
+
+        @Override
+        public boolean supportsBatches() {
+            return true;
+        }
+    }
+}
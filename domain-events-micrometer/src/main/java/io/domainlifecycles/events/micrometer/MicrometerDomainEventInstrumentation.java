@@ -0,0 +1,193 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.micrometer;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContext;
+import io.domainlifecycles.events.instrumentation.DomainEventInstrumentation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DomainEventInstrumentation} recording the DomainEvent dispatching with Micrometer.
+ * <br>
+ * The following meters are registered lazily, tagged by the full qualified DomainEvent type name ({@code event}):
+ * <ul>
+ *     <li>{@code dlc.events.handler} - timer of the handler executions, additionally tagged by {@code handler},
+ *     {@code method} and {@code outcome} ({@code success} or {@code failure})</li>
+ *     <li>{@code dlc.events.handler.active} - gauge of the currently running handler executions, tagged by
+ *     {@code handler} and {@code method}</li>
+ *     <li>{@code dlc.events.aggregate.update} - timer of the AggregateRoot updates after a handler was executed,
+ *     tagged by {@code handler}</li>
+ *     <li>{@code dlc.events.detection} - timer of the handler detection</li>
+ *     <li>{@code dlc.events.consumption} - timer of the whole consumption of a DomainEvent</li>
+ * </ul>
+ * The meters are cached per DomainEvent type and handler, so recording does not allocate tags on the dispatching threads.
+ * Activate it by {@code EventsInstrumentation.register(new MicrometerDomainEventInstrumentation(meterRegistry))}.
+ *
+ * @author Mario Herb
+ */
+public class MicrometerDomainEventInstrumentation implements DomainEventInstrumentation {
+
+    /**
+     * Name of the handler execution timer.
+     */
+    public static final String HANDLER_TIMER = "dlc.events.handler";
+
+    /**
+     * Name of the gauge of running handler executions.
+     */
+    public static final String HANDLER_ACTIVE_GAUGE = "dlc.events.handler.active";
+
+    /**
+     * Name of the AggregateRoot update timer.
+     */
+    public static final String AGGREGATE_UPDATE_TIMER = "dlc.events.aggregate.update";
+
+    /**
+     * Name of the handler detection timer.
+     */
+    public static final String DETECTION_TIMER = "dlc.events.detection";
+
+    /**
+     * Name of the DomainEvent consumption timer.
+     */
+    public static final String CONSUMPTION_TIMER = "dlc.events.consumption";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<HandlerKey, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EventMeters> eventMeters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a MicrometerDomainEventInstrumentation registering its meters in the given MeterRegistry.
+     *
+     * @param meterRegistry the registry the meters are registered in
+     */
+    public MicrometerDomainEventInstrumentation(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "A MeterRegistry is required!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executionContextsDetected(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+        eventMeters(domainEvent).detection.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlerStarted(ExecutionContext executionContext) {
+        handlerMeters(executionContext).active.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlerFinished(ExecutionContext executionContext, boolean success, long durationNanos) {
+        var meters = handlerMeters(executionContext);
+        meters.active.decrementAndGet();
+        (success ? meters.success : meters.failure).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void aggregateUpdated(ExecutionContext executionContext, long durationNanos) {
+        handlerMeters(executionContext).aggregateUpdate.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void domainEventConsumed(DomainEvent domainEvent, int executionContextCount, long durationNanos) {
+        eventMeters(domainEvent).consumption.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private EventMeters eventMeters(DomainEvent domainEvent) {
+        return eventMeters.computeIfAbsent(domainEvent.getClass(), this::createEventMeters);
+    }
+
+    private EventMeters createEventMeters(Class<?> domainEventType) {
+        var tags = Tags.of("event", domainEventType.getName());
+        return new EventMeters(
+            Timer.builder(DETECTION_TIMER).tags(tags).register(meterRegistry),
+            Timer.builder(CONSUMPTION_TIMER).tags(tags).register(meterRegistry)
+        );
+    }
+
+    private HandlerMeters handlerMeters(ExecutionContext executionContext) {
+        return handlerMeters.computeIfAbsent(
+            new HandlerKey(
+                executionContext.domainEvent().getClass(),
+                executionContext.handlerTypeName(),
+                executionContext.handlerMethodName()
+            ),
+            this::createHandlerMeters
+        );
+    }
+
+    private HandlerMeters createHandlerMeters(HandlerKey key) {
+        var tags = Tags.of(
+            "event", key.domainEventType().getName(),
+            "handler", key.handlerTypeName(),
+            "method", key.handlerMethodName()
+        );
+        var active = new AtomicInteger();
+        Gauge.builder(HANDLER_ACTIVE_GAUGE, active, AtomicInteger::get).tags(tags).register(meterRegistry);
+        return new HandlerMeters(
+            Timer.builder(HANDLER_TIMER).tags(tags).tag("outcome", "success").register(meterRegistry),
+            Timer.builder(HANDLER_TIMER).tags(tags).tag("outcome", "failure").register(meterRegistry),
+            Timer.builder(AGGREGATE_UPDATE_TIMER)
+                .tags("event", key.domainEventType().getName(), "handler", key.handlerTypeName())
+                .register(meterRegistry),
+            active
+        );
+    }
+
+    private record HandlerKey(Class<?> domainEventType, String handlerTypeName, String handlerMethodName) {
+    }
+
+    private record HandlerMeters(Timer success, Timer failure, Timer aggregateUpdate, AtomicInteger active) {
+    }
+
+    private record EventMeters(Timer detection, Timer consumption) {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.micrometer;
+
+import io.domainlifecycles.domain.types.ApplicationService;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.ServiceExecutionContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MicrometerDomainEventInstrumentationTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerDomainEventInstrumentation instrumentation = new MicrometerDomainEventInstrumentation(registry);
+
+    @Test
+    public void testHandlerExecutionsAreTimedPerOutcome() {
+        //given
+        var context = context();
+
+        //when
+        instrumentation.handlerStarted(context);
+        instrumentation.handlerFinished(context, true, 2_000_000);
+        instrumentation.handlerStarted(context);
+        instrumentation.handlerFinished(context, false, 3_000_000);
+        instrumentation.handlerStarted(context);
+
+        //then
+        var success = registry.get(MicrometerDomainEventInstrumentation.HANDLER_TIMER)
+            .tags("event", AnEvent.class.getName(), "handler", AnApplicationService.class.getName(),
+                "method", "onAnEvent", "outcome", "success")
+            .timer();
+        var failure = registry.get(MicrometerDomainEventInstrumentation.HANDLER_TIMER)
+            .tag("outcome", "failure")
+            .timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        assertThat(failure.count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDomainEventInstrumentation.HANDLER_ACTIVE_GAUGE).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testDetectionConsumptionAndAggregateUpdatesAreTimed() {
+        //given
+        var context = context();
+
+        //when
+        instrumentation.executionContextsDetected(context.domainEvent(), 1, 1_000);
+        instrumentation.aggregateUpdated(context, 5_000);
+        instrumentation.domainEventConsumed(context.domainEvent(), 1, 10_000);
+        instrumentation.domainEventConsumed(context.domainEvent(), 1, 10_000);
+
+        //then
+        assertThat(registry.get(MicrometerDomainEventInstrumentation.DETECTION_TIMER)
+            .tag("event", AnEvent.class.getName()).timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDomainEventInstrumentation.AGGREGATE_UPDATE_TIMER)
+            .tag("handler", AnApplicationService.class.getName()).timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerDomainEventInstrumentation.CONSUMPTION_TIMER).timer().count()).isEqualTo(2);
+        assertThat(registry.getMeters()).hasSize(6);
+    }
+
+    private static ServiceExecutionContext context() {
+        return new ServiceExecutionContext(new AnApplicationService(), AnApplicationService.class.getName(),
+            "onAnEvent", new AnEvent("1"));
+    }
+
+    public record AnEvent(String key) implements DomainEvent {
+    }
+
+    public static class AnApplicationService implements ApplicationService {
+
+        public void onAnEvent(AnEvent domainEvent) {
+        }
+    }
+}
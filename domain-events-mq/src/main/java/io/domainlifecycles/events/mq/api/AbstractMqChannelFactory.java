@@ -33,11 +33,15 @@ import io.domainlifecycles.events.consume.execution.detector.MirrorBasedExecutio
 import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
 import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
 import io.domainlifecycles.events.consume.execution.processor.SimpleExecutionContextProcessor;
+import io.domainlifecycles.events.mq.consume.MqConsumerBatchConfiguration;
+import io.domainlifecycles.events.mq.consume.MqConsumerThreadingConfiguration;
 import io.domainlifecycles.events.mq.consume.MqDomainEventConsumer;
+import io.domainlifecycles.events.mq.consume.MqHandlerConcurrencyConfiguration;
 import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
 import io.domainlifecycles.services.api.ServiceProvider;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -66,6 +70,11 @@ public abstract class AbstractMqChannelFactory implements ChannelFactory {
      */
     protected final DomainEventSerializer domainEventSerializer;
 
+    private long receiveTimeoutMs = 100;
+    private MqConsumerThreadingConfiguration consumerThreadingConfiguration = new MqConsumerThreadingConfiguration();
+    private MqConsumerBatchConfiguration consumerBatchConfiguration = new MqConsumerBatchConfiguration();
+    private List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations = List.of();
+
     /**
      * Constructs a new AbstractMqChannelFactory with the given parameters.
      * Could be used for publishing and consuming use cases.
@@ -174,5 +183,75 @@ public abstract class AbstractMqChannelFactory implements ChannelFactory {
         ClassProvider classProvider
     );
 
+    /**
+     * Sets the receive timeout in milliseconds for the messaging channel.
+     *
+     * @param receiveTimeoutMs The receive timeout value to be set in milliseconds.
+     */
+    public void setReceiveTimeoutMs(long receiveTimeoutMs) {
+        this.receiveTimeoutMs = receiveTimeoutMs;
+    }
+
+    /**
+     * Retrieves the receive timeout value in milliseconds.
+     *
+     * @return The receive timeout value in milliseconds
+     */
+    public long getReceiveTimeoutMs() {
+        return receiveTimeoutMs;
+    }
+
+    /**
+     * Sets the threading configuration of the consumers created by this factory. By default every
+     * subscription gets a dedicated thread, a shared pool configuration multiplexes all subscriptions
+     * onto a bounded number of threads.
+     *
+     * @param consumerThreadingConfiguration The threading configuration for the consumers.
+     */
+    public void setConsumerThreadingConfiguration(MqConsumerThreadingConfiguration consumerThreadingConfiguration) {
+        this.consumerThreadingConfiguration = Objects.requireNonNull(consumerThreadingConfiguration, "A MqConsumerThreadingConfiguration is required!");
+    }
+
+    /**
+     * @return the threading configuration of the consumers created by this factory
+     */
+    protected MqConsumerThreadingConfiguration getConsumerThreadingConfiguration() {
+        return consumerThreadingConfiguration;
+    }
+
+    /**
+     * Sets the batch configuration of the consumers created by this factory. By default every message is
+     * acknowledged on its own, a batch configuration lets consumers acknowledge multiple messages at once.
+     *
+     * @param consumerBatchConfiguration The batch configuration for the consumers.
+     */
+    public void setConsumerBatchConfiguration(MqConsumerBatchConfiguration consumerBatchConfiguration) {
+        this.consumerBatchConfiguration = Objects.requireNonNull(consumerBatchConfiguration, "A MqConsumerBatchConfiguration is required!");
+    }
+
+    /**
+     * @return the batch configuration of the consumers created by this factory
+     */
+    protected MqConsumerBatchConfiguration getConsumerBatchConfiguration() {
+        return consumerBatchConfiguration;
+    }
+
+    /**
+     * Sets the concurrency configurations of handlers, which the consumers created by this factory handle in
+     * parallel. By default every subscription handles one message at a time.
+     *
+     * @param handlerConcurrencyConfigurations The concurrency configurations of handlers to be handled in parallel.
+     */
+    public void setHandlerConcurrencyConfigurations(List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        this.handlerConcurrencyConfigurations = List.copyOf(Objects.requireNonNull(handlerConcurrencyConfigurations, "The handlerConcurrencyConfigurations are required!"));
+    }
+
+    /**
+     * @return the concurrency configurations of handlers, which the consumers created by this factory handle in parallel
+     */
+    protected List<MqHandlerConcurrencyConfiguration> getHandlerConcurrencyConfigurations() {
+        return handlerConcurrencyConfigurations;
+    }
+
 
 }
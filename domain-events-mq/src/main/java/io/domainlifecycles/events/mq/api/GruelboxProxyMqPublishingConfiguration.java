@@ -147,7 +147,7 @@ public class GruelboxProxyMqPublishingConfiguration extends MqPublishingConfigur
      */
     @Override
     void close() {
-        this.poller.getScheduler().shutdown();
+        this.poller.close();
         super.close();
     }
 }
@@ -26,8 +26,12 @@
 
 package io.domainlifecycles.events.mq.api;
 
+import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.api.CloseableChannel;
 import io.domainlifecycles.events.api.ConsumingOnlyChannel;
+import io.domainlifecycles.events.api.FlowConsumingChannel;
+
+import java.util.concurrent.Flow;
 
 /**
  * MqConsumingChannel extends ConsumingOnlyChannel and implements CloseableChannel.
@@ -35,7 +39,7 @@ import io.domainlifecycles.events.api.ConsumingOnlyChannel;
  *
  * @author Mario Herb
  */
-public class MqConsumingChannel extends ConsumingOnlyChannel implements CloseableChannel {
+public class MqConsumingChannel extends ConsumingOnlyChannel implements CloseableChannel, FlowConsumingChannel {
 
     private final MqConsumingConfiguration consumingConfiguration;
 
@@ -65,4 +69,12 @@ public class MqConsumingChannel extends ConsumingOnlyChannel implements Closeabl
     public MqConsumingConfiguration getConsumingConfiguration() {
         return consumingConfiguration;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName) {
+        return consumingConfiguration.getMqDomainEventConsumer().flowPublisher(domainEventType, subscriptionName);
+    }
 }
@@ -26,15 +26,19 @@
 
 package io.domainlifecycles.events.mq.api;
 
+import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.api.CloseableChannel;
 import io.domainlifecycles.events.api.ProcessingChannel;
+import io.domainlifecycles.events.api.FlowConsumingChannel;
+
+import java.util.concurrent.Flow;
 
 /**
  * Represents an abstract Message Queue Processing Channel.
  *
  * @author Mario Herb
  */
-public class MqProcessingChannel extends ProcessingChannel implements CloseableChannel {
+public class MqProcessingChannel extends ProcessingChannel implements CloseableChannel, FlowConsumingChannel {
 
     private final MqConsumingConfiguration consumingConfiguration;
     private final MqPublishingConfiguration publishingConfiguration;
@@ -81,4 +85,12 @@ public class MqProcessingChannel extends ProcessingChannel implements CloseableC
     public MqPublishingConfiguration getPublishingConfiguration() {
         return publishingConfiguration;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName) {
+        return consumingConfiguration.getMqDomainEventConsumer().flowPublisher(domainEventType, subscriptionName);
+    }
 }
@@ -31,6 +31,8 @@ import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
 import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.api.DomainEventMirror;
@@ -38,15 +40,26 @@ import io.domainlifecycles.mirror.api.DomainType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Abstract class that represents a message queue domain event consumer.
@@ -60,6 +73,11 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
 
     private final Logger log = LoggerFactory.getLogger(AbstractMqDomainEventConsumer.class);
 
+    private static final long FLOW_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long PAUSE_AWAIT_TIMEOUT_MS = 1000;
+    private static final int SHARED_POOL_BURST = 16;
+    private static final long SHARED_POOL_CLOSE_TIMEOUT_MS = 30_000;
+
     /**
      * ObjectMapper for serialization and deserialization.
      */
@@ -100,6 +118,39 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
      */
     protected ExecutorService consumerThreadPool;
 
+    /**
+     * The threading configuration, defining whether subscriptions get dedicated threads or share a pool.
+     */
+    protected final MqConsumerThreadingConfiguration threadingConfiguration;
+
+    /**
+     * The batch configuration, defining how many messages are handled and acknowledged at once.
+     */
+    protected final MqConsumerBatchConfiguration batchConfiguration;
+
+    /**
+     * The concurrency configurations of handler subscriptions, which are handled in parallel.
+     */
+    protected final List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations;
+
+    /**
+     * ScheduledExecutorService multiplexing all subscriptions, if a shared pool is configured.
+     */
+    protected ScheduledExecutorService sharedConsumerPool;
+
+    /**
+     * ExecutorService running the receive loops of Flow subscriptions (see {@link #flowPublisher(Class, String)}).
+     * It is created with the first Flow subscription.
+     */
+    protected ExecutorService flowThreadPool;
+
+    /**
+     * Represents the futures of the receive loops of Flow subscriptions.
+     */
+    protected List<Future<Void>> flowFutures = new CopyOnWriteArrayList<>();
+
+    private final List<ParallelHandling> pooledParallelHandlings = new CopyOnWriteArrayList<>();
+
     /**
      * Represents the initialization state of the object.
      * If set to true, the object has been initialized; otherwise, it has not been initialized yet.
@@ -118,10 +169,74 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
                                          ExecutionContextDetector executionContextDetector,
                                          ExecutionContextProcessor executionContextProcessor,
                                          ClassProvider classProvider) {
+        this(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            new MqConsumerThreadingConfiguration());
+    }
+
+    /**
+     * Constructs an AbstractMqDomainEventConsumer with the provided dependencies and threading configuration.
+     *
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     */
+    public AbstractMqDomainEventConsumer(DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         MqConsumerThreadingConfiguration threadingConfiguration) {
+        this(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            threadingConfiguration, new MqConsumerBatchConfiguration());
+    }
+
+    /**
+     * Constructs an AbstractMqDomainEventConsumer with the provided dependencies, threading and batch configuration.
+     *
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     * @param batchConfiguration The batch configuration of the consumer.
+     */
+    public AbstractMqDomainEventConsumer(DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         MqConsumerThreadingConfiguration threadingConfiguration,
+                                         MqConsumerBatchConfiguration batchConfiguration) {
+        this(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            threadingConfiguration, batchConfiguration, List.of());
+    }
+
+    /**
+     * Constructs an AbstractMqDomainEventConsumer with the provided dependencies, threading, batch and
+     * handler concurrency configurations.
+     *
+     * @param domainEventSerializer for serialization and deserialization.
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts.
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts.
+     * @param classProvider The ClassProvider for providing Class instances.
+     * @param threadingConfiguration The threading configuration of the consumer.
+     * @param batchConfiguration The batch configuration of the consumer.
+     * @param handlerConcurrencyConfigurations The concurrency configurations of handlers to be handled in parallel.
+     */
+    public AbstractMqDomainEventConsumer(DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         MqConsumerThreadingConfiguration threadingConfiguration,
+                                         MqConsumerBatchConfiguration batchConfiguration,
+                                         List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
         this.domainEventSerializer = Objects.requireNonNull(domainEventSerializer, "DomainEventSerializer is required!");
         this.executionContextDetector = Objects.requireNonNull(executionContextDetector, "An ExecutionContextDetector is required!");
         this.executionContextProcessor = Objects.requireNonNull(executionContextProcessor, "An ExecutionContextProcessor is required!");
         this.classProvider = Objects.requireNonNull(classProvider, "A ClassProvider is required!");
+        this.threadingConfiguration = Objects.requireNonNull(threadingConfiguration, "A MqConsumerThreadingConfiguration is required!");
+        this.batchConfiguration = Objects.requireNonNull(batchConfiguration, "A MqConsumerBatchConfiguration is required!");
+        this.handlerConcurrencyConfigurations = List.copyOf(Objects.requireNonNull(handlerConcurrencyConfigurations, "The handlerConcurrencyConfigurations are required!"));
     }
 
     /**
@@ -143,7 +258,8 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
     /**
      * Subscribes a given MqDomainEventHandler to the message broker for handling domain events.
      * This method adds the handler to the internal list of handlers, creates a consumer for the handler,
-     * and initiates asynchronous processing for the handler.
+     * and initiates asynchronous processing for the handler, either on a dedicated thread or on the shared pool.
+     * Handlers with a {@link MqHandlerConcurrencyConfiguration} are handled in parallel.
      *
      * @param mqDomainEventHandler The MqDomainEventHandler to subscribe for handling domain events
      */
@@ -155,7 +271,23 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
         var consumerName = mqDomainEventHandler.getHandlerId();
         CONSUMER consumer = createConsumer(topicName, consumerName);
         consumers.add(consumer);
-        processingFutures.add(CompletableFuture.supplyAsync(() -> process(consumer, mqDomainEventHandler), this.consumerThreadPool));
+        var concurrencyConfiguration = handlerConcurrencyConfigurations.stream()
+            .filter(c -> c.appliesTo(mqDomainEventHandler))
+            .findFirst();
+        if (sharedConsumerPool != null) {
+            var parallelHandling = concurrencyConfiguration
+                .map(c -> new ParallelHandling(consumer, mqDomainEventHandler, c))
+                .orElse(null);
+            if (parallelHandling != null) {
+                pooledParallelHandlings.add(parallelHandling);
+            }
+            sharedConsumerPool.execute(new PooledSubscription(consumer, mqDomainEventHandler, parallelHandling));
+        } else if (concurrencyConfiguration.isPresent()) {
+            processingFutures.add(CompletableFuture.supplyAsync(
+                () -> processParallel(consumer, mqDomainEventHandler, concurrencyConfiguration.get()), this.consumerThreadPool));
+        } else {
+            processingFutures.add(CompletableFuture.supplyAsync(() -> process(consumer, mqDomainEventHandler), this.consumerThreadPool));
+        }
         log.info("Subscribed handler {}", mqDomainEventHandler.getHandlerId());
     }
 
@@ -170,6 +302,8 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
 
     /**
      * Processes messages consumed by the consumer using the provided domain event handler.
+     * If batching is configured, the messages are handled and acknowledged in batches
+     * (see {@link MqConsumerBatchConfiguration}).
      *
      * @param consumer The consumer instance to consume messages
      * @param handler The domain event handler to handle the messages
@@ -177,8 +311,12 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
      */
     protected Void process(CONSUMER consumer, MqDomainEventHandler handler) {
         log.info("Consumer starting processing. HandlerId: {}", handler.getHandlerId());
+        var singleMessages = 0;
         while (runFlag.get()) {
                 if(handler.isPaused()){
+                    if(!awaitResumed(handler)){
+                        break;
+                    }
                     continue;
                 }
                 log.trace("Consuming message for HandlerId: {}", handler.getHandlerId());
@@ -186,23 +324,214 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
                 if (message == null) {
                     continue;
                 }
-                DomainEvent domainEvent = parseMessage(message, handler.getDomainEventType());
-                if(domainEvent != null) {
-                    try {
-                        log.trace("Invoking handler {}", handler.getHandlerId());
-                        handler.handle(domainEvent);
-                        log.trace("Handled message {}",  handler.getHandlerId());
-                    } catch (Throwable t) {
-                        log.error("Handling message failed {}",  handler.getHandlerId(), t);
+                if (!batchConfiguration.isBatching() || singleMessages > 0) {
+                    singleMessages = Math.max(0, singleMessages - 1);
+                    handleMessage(message, handler);
+                    continue;
+                }
+                var batch = fillBatch(consumer, message);
+                if (!handleBatch(consumer, batch, handler)) {
+                    singleMessages = batch.size();
+                }
+        }
+        log.info("Processing finished");
+        closeConsumer(consumer);
+        return null;
+    }
+
+    /**
+     * Processes messages consumed by the consumer in parallel, as defined by the given concurrency configuration.
+     * Messages are received, parsed and acknowledged on the calling thread, while the handler is invoked by the
+     * worker threads of the subscription.
+     *
+     * @param consumer The consumer instance to consume messages
+     * @param handler The domain event handler to handle the messages
+     * @param configuration The concurrency configuration of the handler
+     * @return Void
+     */
+    protected Void processParallel(CONSUMER consumer,
+                                   MqDomainEventHandler handler,
+                                   MqHandlerConcurrencyConfiguration configuration) {
+        log.info("Consumer starting parallel processing with concurrency {} and prefetch {}. HandlerId: {}",
+            configuration.getConcurrency(), configuration.getPrefetch(), handler.getHandlerId());
+        var parallelHandling = new ParallelHandling(consumer, handler, configuration);
+        var failed = true;
+        try {
+            while (runFlag.get()) {
+                if (handler.isPaused()) {
+                    parallelHandling.acknowledgeCompleted();
+                    if (!awaitResumed(handler)) {
+                        break;
                     }
+                    continue;
                 }
-                acknowledge(message);
+                if (!parallelHandling.hasCapacity()) {
+                    if (!parallelHandling.awaitProgress(PAUSE_AWAIT_TIMEOUT_MS)) {
+                        break;
+                    }
+                    continue;
+                }
+                var message = consumeMessage(consumer);
+                if (message != null) {
+                    parallelHandling.submit(message);
+                }
+            }
+            failed = false;
+        } finally {
+            parallelHandling.close(!failed || !acknowledgesCumulatively());
         }
         log.info("Processing finished");
         closeConsumer(consumer);
         return null;
     }
 
+    private boolean awaitResumed(MqDomainEventHandler handler) {
+        try {
+            handler.awaitResumed(PAUSE_AWAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while paused, stopping processing. HandlerId: {}", handler.getHandlerId());
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<MESSAGE> fillBatch(CONSUMER consumer, MESSAGE first) {
+        var batch = new ArrayList<MESSAGE>(batchConfiguration.getMaxBatchSize());
+        batch.add(first);
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchConfiguration.getMaxBatchWaitMs());
+        while (batch.size() < batchConfiguration.getMaxBatchSize() && runFlag.get()) {
+            var remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            var message = remainingMs > 0 ? consumeMessage(consumer, remainingMs) : consumeMessageNoWait(consumer);
+            if (message == null) {
+                break;
+            }
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    /**
+     * Handles a batch of messages in order and acknowledges them at once
+     * (see {@link #acknowledgeBatch(Object, List)}). Messages which cannot be parsed are skipped
+     * (see {@link #deadLetter(Object, Class, Throwable)}), so that a single poison message does not fail the batch.
+     * If acknowledging the batch fails, the consumer is recovered (see {@link #recover(Object)}), so that the whole
+     * batch is redelivered and handled again. If the consumer cannot be recovered, the messages are acknowledged
+     * one by one instead.
+     *
+     * @param consumer The consumer the batch was received from
+     * @param batch The received messages
+     * @param handler The domain event handler to handle the messages
+     * @return true, if the batch was handled and acknowledged at once, false otherwise
+     */
+    protected boolean handleBatch(CONSUMER consumer, List<MESSAGE> batch, MqDomainEventHandler handler) {
+        try {
+            batch.forEach(message -> dispatch(message, handler));
+            acknowledgeBatch(consumer, batch);
+            log.trace("Handled batch of {} messages {}", batch.size(), handler.getHandlerId());
+            return true;
+        } catch (Throwable t) {
+            if (recover(consumer)) {
+                log.error("Handling batch of {} messages failed, recovered for redelivery {}", batch.size(), handler.getHandlerId(), t);
+            } else {
+                log.error("Handling batch of {} messages failed, acknowledging them one by one {}", batch.size(), handler.getHandlerId(), t);
+                batch.forEach(message -> {
+                    try {
+                        acknowledge(message);
+                    } catch (Throwable e) {
+                        log.error("Acknowledging message failed {}", handler.getHandlerId(), e);
+                    }
+                });
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Parses the given message, passes the DomainEvent to the handler and acknowledges the message.
+     * Handler failures are logged, messages which cannot be parsed are skipped
+     * (see {@link #deadLetter(Object, Class, Throwable)}).
+     *
+     * @param message The message received for the handler
+     * @param handler The domain event handler to handle the message
+     */
+    protected void handleMessage(MESSAGE message, MqDomainEventHandler handler) {
+        dispatch(message, handler);
+        acknowledge(message);
+    }
+
+    private void dispatch(MESSAGE message, MqDomainEventHandler handler) {
+        DomainEvent domainEvent = parseOrDeadLetter(message, handler);
+        if(domainEvent != null) {
+            invoke(handler, domainEvent, traceContext(message));
+        }
+    }
+
+    private DomainEvent parseOrDeadLetter(MESSAGE message, MqDomainEventHandler handler) {
+        try {
+            return parseMessage(message, handler.getDomainEventType());
+        } catch (Throwable t) {
+            deadLetter(message, handler.getDomainEventType(), t);
+            return null;
+        }
+    }
+
+    private void invoke(MqDomainEventHandler handler, DomainEvent domainEvent, DomainEventTraceContext traceContext) {
+        try (var scope = DomainEventTraceContext.open(traceContext)) {
+            log.trace("Invoking handler {}", handler.getHandlerId());
+            handler.handle(domainEvent);
+            log.trace("Handled message {}",  handler.getHandlerId());
+        } catch (Throwable t) {
+            log.error("Handling message failed {}",  handler.getHandlerId(), t);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName) {
+        Objects.requireNonNull(domainEventType, "A DomainEvent type is required!");
+        Objects.requireNonNull(subscriptionName, "A subscriptionName is required!");
+        return subscriber -> subscribeFlow(domainEventType, subscriptionName, subscriber);
+    }
+
+    private <T extends DomainEvent> void subscribeFlow(Class<T> domainEventType,
+                                                      String subscriptionName,
+                                                      Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "A Flow.Subscriber is required!");
+        CONSUMER consumer;
+        try {
+            if (!initialized || !runFlag.get()) {
+                throw DLCEventsException.fail("Subscription '%s' failed, the consumer is not initialized or already closed!", subscriptionName);
+            }
+            log.info("Subscribing Flow.Subscriber '{}' to {}", subscriptionName, domainEventType.getName());
+            consumer = createConsumer(domainEventType.getName(), subscriptionName);
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(e);
+            return;
+        }
+        var subscription = new FlowSubscription<>(consumer, domainEventType, subscriptionName, subscriber);
+        subscriber.onSubscribe(subscription);
+        flowFutures.add(CompletableFuture.supplyAsync(subscription::process, flowThreadPool()));
+    }
+
+    private synchronized ExecutorService flowThreadPool() {
+        if (flowThreadPool == null) {
+            flowThreadPool = Executors.newCachedThreadPool();
+        }
+        return flowThreadPool;
+    }
+
     /**
      * Consumes a message using the provided consumer.
      *
@@ -211,14 +540,61 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
      */
     abstract protected MESSAGE consumeMessage(CONSUMER consumer);
 
+    /**
+     * Consumes a message without blocking, if none is available. Used by the shared pool, where a blocking receive
+     * would occupy a pool thread. Subclasses should override this method, the default delegates to
+     * {@link #consumeMessage(Object)}.
+     *
+     * @param consumer The consumer instance to consume messages
+     * @return The consumed message or null, if no message is available
+     */
+    protected MESSAGE consumeMessageNoWait(CONSUMER consumer) {
+        return consumeMessage(consumer);
+    }
+
+    /**
+     * Consumes a message, waiting at most the given timeout. Used to fill up batches
+     * (see {@link MqConsumerBatchConfiguration}). Subclasses should override this method, the default delegates
+     * to {@link #consumeMessageNoWait(Object)}.
+     *
+     * @param consumer The consumer instance to consume messages
+     * @param timeoutMs The maximum time to wait in milliseconds
+     * @return The consumed message or null, if no message is available
+     */
+    protected MESSAGE consumeMessage(CONSUMER consumer, long timeoutMs) {
+        return consumeMessageNoWait(consumer);
+    }
+
     /**
      * Parses the message to a DomainEvent object based on the provided domain event type.
+     * The serializer is chosen by the message type: binary messages (see {@link #binaryMessageBody(Object)}) are
+     * deserialized by {@link BinaryDomainEventSerializer#deserializeFromBytes(byte[], Class)}, binary messages
+     * received by a consumer without {@link BinaryDomainEventSerializer} fail. Text messages are deserialized from
+     * their String body by {@link DomainEventSerializer#deserialize(String, Class)}. To accept text and binary messages
+     * during a rollout, a {@link io.domainlifecycles.events.serialize.TextFallbackBinaryDomainEventSerializer}
+     * must be configured.
      *
      * @param message The message to parse
      * @param domainEventType The type of the domain event to parse the message to
      * @return The parsed DomainEvent object
      */
     protected DomainEvent parseMessage(MESSAGE message, Class<? extends DomainEvent> domainEventType){
+        var binaryBody = binaryMessageBody(message);
+        if (binaryBody != null) {
+            if (!(domainEventSerializer instanceof BinaryDomainEventSerializer binaryDomainEventSerializer)) {
+                var msg = String.format("Binary DomainEvent of type '%s' received, but the configured '%s' is no BinaryDomainEventSerializer!",
+                    domainEventType.getName(), domainEventSerializer.getClass().getName());
+                log.error(msg);
+                throw DLCEventsException.fail(msg);
+            }
+            try {
+                return binaryDomainEventSerializer.deserializeFromBytes(binaryBody, domainEventType);
+            } catch (Throwable t) {
+                var msg = String.format("Binary DomainEvent of type '%s' deserialialization failed!", domainEventType.getName());
+                log.error(msg, t);
+                throw DLCEventsException.fail(msg,  t);
+            }
+        }
         var body = messageBody(message);
         try {
             return domainEventSerializer.deserialize(body, domainEventType);
@@ -229,6 +605,18 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
         }
     }
 
+    /**
+     * Retrieves the trace context propagated with the given message
+     * (see {@link DomainEventTraceContext#TRACE_ID_PROPERTY}). It is bound to the handling thread while the
+     * DomainEvent is handled. Subclasses must override this method, if the message broker supports message properties.
+     *
+     * @param message The received message
+     * @return the propagated trace context or null
+     */
+    protected DomainEventTraceContext traceContext(MESSAGE message) {
+        return null;
+    }
+
     /**
      * Acknowledges the processing of a message. Subclasses must implement this method to acknowledge the receipt or processing of the provided message.
      *
@@ -237,13 +625,87 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
     abstract protected void acknowledge(MESSAGE message);
 
     /**
-     * Returns the message body from the provided message.
+     * Acknowledges a batch of handled messages. The default acknowledges every message on its own. Subclasses should
+     * override this method, if the message broker supports cumulative acknowledgements.
+     *
+     * @param consumer The consumer the messages were received from
+     * @param batch The handled messages in the order of their receipt
+     */
+    protected void acknowledgeBatch(CONSUMER consumer, List<MESSAGE> batch) {
+        batch.forEach(this::acknowledge);
+    }
+
+    /**
+     * Recovers the consumer after handling a batch failed, so that all unacknowledged messages are redelivered.
+     * The default does not support recovering. Subclasses should override this method, if the message broker supports
+     * recovering a consumer (or its session).
+     *
+     * @param consumer The consumer to recover
+     * @return true, if the unacknowledged messages are redelivered, false if the consumer could not be recovered
+     */
+    protected boolean recover(CONSUMER consumer) {
+        return false;
+    }
+
+    /**
+     * Called for a message, which cannot be parsed to a DomainEvent of the handled type (a poison message).
+     * The message is acknowledged afterwards and skipped, redelivering it would fail again and block the subscription.
+     * The default only logs the message. Subclasses may override this method to forward the message to a dead letter
+     * destination.
+     *
+     * @param message The message, which cannot be parsed
+     * @param domainEventType The type of the domain event the message should have been parsed to
+     * @param cause The parsing failure
+     */
+    protected void deadLetter(MESSAGE message, Class<? extends DomainEvent> domainEventType, Throwable cause) {
+        log.error("Skipping message, which cannot be parsed to '{}'", domainEventType.getName(), cause);
+    }
+
+    /**
+     * Defines, whether acknowledging a message also acknowledges all messages received by its consumer before.
+     * Parallel subscriptions (see {@link MqHandlerConcurrencyConfiguration}) then acknowledge the longest prefix of
+     * handled messages, in the order of their receipt.
+     * The default returns false. Subclasses must override this method, if the message broker acknowledges cumulatively.
+     *
+     * @return true, if acknowledgements are cumulative
+     */
+    protected boolean acknowledgesCumulatively() {
+        return false;
+    }
+
+    /**
+     * Defines, whether acknowledging a message acknowledges all messages received by its consumer so far,
+     * including the messages received after it (like JMS sessions in {@code CLIENT_ACKNOWLEDGE} mode).
+     * Parallel subscriptions then only acknowledge, once all in-flight messages are handled, since acknowledging
+     * a handled prefix would also acknowledge the messages still being handled.
+     * The default returns false. Subclasses must override this method, if the message broker acknowledges this way.
+     *
+     * @return true, if acknowledgements include all received messages
+     */
+    protected boolean acknowledgesAllReceived() {
+        return false;
+    }
+
+    /**
+     * Returns the message body from the provided text message. It is not called for binary messages
+     * (see {@link #binaryMessageBody(Object)}).
      *
      * @param message The message from which to extract the body
      * @return The message body as a String
      */
     abstract protected String messageBody(MESSAGE message);
 
+    /**
+     * Returns the binary message body from the provided message. Subclasses should override this method,
+     * if the message broker supports binary messages.
+     *
+     * @param message The message from which to extract the body
+     * @return The binary message body or null, if the message is not a binary message
+     */
+    protected byte[] binaryMessageBody(MESSAGE message) {
+        return null;
+    }
+
     /**
      * Initializes event handlers for handling domain events.
      * This method retrieves all domain type mirrors from the initialized domain,
@@ -259,7 +721,18 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
             .flatMap(dem -> handlersForDomainEvent(dem).stream()).toList();
 
         log.info("Subscribing handlers count = {}", handlers.size() );
-        consumerThreadPool = Executors.newFixedThreadPool(handlers.size());
+        if (threadingConfiguration.isSharedPool()) {
+            log.info("Multiplexing handlers onto a shared pool of {} threads", threadingConfiguration.getSharedPoolThreads());
+            var pool = new ScheduledThreadPoolExecutor(
+                threadingConfiguration.getSharedPoolThreads(),
+                threadingConfiguration.getThreadFactory()
+            );
+            // idle subscriptions must not delay closing the consumer until their next poll
+            pool.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            sharedConsumerPool = pool;
+        } else {
+            consumerThreadPool = Executors.newFixedThreadPool(Math.max(1, handlers.size()), threadingConfiguration.getThreadFactory());
+        }
         handlers.forEach(this::subscribe);
     }
 
@@ -335,6 +808,7 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
     @Override
     public void closeAll() {
         runFlag.set(false);
+        handlers.forEach(MqDomainEventHandler::wakeUp);
 
         processingFutures.forEach(f -> {
             try {
@@ -343,9 +817,34 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
                 log.error("Getting data from future failed", e);
             }
         });
+        flowFutures.forEach(f -> {
+            try {
+                f.get();
+            } catch (InterruptedException | ExecutionException e) {
+                log.error("Getting data from future failed", e);
+            }
+        });
+        if (sharedConsumerPool != null) {
+            sharedConsumerPool.shutdown();
+            try {
+                if (!sharedConsumerPool.awaitTermination(SHARED_POOL_CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    log.warn("Shared consumer pool did not terminate within {} ms", SHARED_POOL_CLOSE_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        pooledParallelHandlings.forEach(p -> p.close(true));
         consumers.forEach(this::closeConsumer);
         closeConnection();
-        consumerThreadPool.shutdown();
+        if (consumerThreadPool != null) {
+            consumerThreadPool.shutdown();
+        }
+        synchronized (this) {
+            if (flowThreadPool != null) {
+                flowThreadPool.shutdown();
+            }
+        }
         log.info("Closed session and connection");
     }
 
@@ -419,6 +918,18 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration handlerPausedTime(String handlerClassName, String handlerMethodName, String domainEventTypeName){
+        var h = get(handlerClassName, handlerMethodName, domainEventTypeName);
+        if(h != null){
+            return h.getPausedTime();
+        }
+        return Duration.ZERO;
+    }
+
     private MqDomainEventHandler get(String handlerClassName, String handlerMethodName, String domainEventTypeName){
         Objects.requireNonNull(handlerClassName, "A handlerClassName must be defined!");
         Objects.requireNonNull(handlerClassName, "A handlerMethodName must be defined!");
@@ -438,4 +949,319 @@ public abstract class AbstractMqDomainEventConsumer<CONSUMER, MESSAGE> implement
             return null;
         }
     }
+
+    /**
+     * A subscription running on the shared pool. Each run polls the broker without blocking and handles up to
+     * a small burst of messages, then it reschedules itself (after the idle poll delay, if no message was available).
+     * Runs of the same subscription never overlap, so the underlying consumer is only used by one thread at a time.
+     */
+    private final class PooledSubscription implements Runnable {
+
+        private final CONSUMER consumer;
+        private final MqDomainEventHandler handler;
+        private final ParallelHandling parallelHandling;
+        private int singleMessages;
+
+        private PooledSubscription(CONSUMER consumer, MqDomainEventHandler handler, ParallelHandling parallelHandling) {
+            this.consumer = consumer;
+            this.handler = handler;
+            this.parallelHandling = parallelHandling;
+        }
+
+        @Override
+        public void run() {
+            if (!runFlag.get()) {
+                return;
+            }
+            var handled = 0;
+            try {
+                if (parallelHandling != null) {
+                    handled = runParallel();
+                } else if (batchConfiguration.isBatching() && singleMessages == 0) {
+                    handled = handler.isPaused() ? 0 : runBatch();
+                }
+                while (handled < SHARED_POOL_BURST && runFlag.get() && !handler.isPaused()
+                    && (!batchConfiguration.isBatching() || singleMessages > 0)) {
+                    var message = consumeMessageNoWait(consumer);
+                    if (message == null) {
+                        break;
+                    }
+                    singleMessages = Math.max(0, singleMessages - 1);
+                    handleMessage(message, handler);
+                    handled++;
+                }
+            } catch (Throwable t) {
+                log.error("Processing failed for HandlerId: {}", handler.getHandlerId(), t);
+            }
+            reschedule(handled == 0 ? threadingConfiguration.getIdlePollDelayMs() : 0);
+        }
+
+        private int runBatch() {
+            var batch = new ArrayList<MESSAGE>(batchConfiguration.getMaxBatchSize());
+            while (batch.size() < batchConfiguration.getMaxBatchSize() && runFlag.get()) {
+                var message = consumeMessageNoWait(consumer);
+                if (message == null) {
+                    break;
+                }
+                batch.add(message);
+            }
+            if (!batch.isEmpty() && !handleBatch(consumer, batch, handler)) {
+                singleMessages = batch.size();
+            }
+            return batch.size();
+        }
+
+        private int runParallel() {
+            parallelHandling.acknowledgeCompleted();
+            var submitted = 0;
+            while (submitted < SHARED_POOL_BURST && runFlag.get() && !handler.isPaused() && parallelHandling.hasCapacity()) {
+                var message = consumeMessageNoWait(consumer);
+                if (message == null) {
+                    break;
+                }
+                parallelHandling.submit(message);
+                submitted++;
+            }
+            return submitted;
+        }
+
+        private void reschedule(long delayMs) {
+            if (!runFlag.get()) {
+                return;
+            }
+            try {
+                if (delayMs == 0) {
+                    sharedConsumerPool.execute(this);
+                } else {
+                    sharedConsumerPool.schedule(this, delayMs, TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                log.debug("Shared consumer pool shut down, HandlerId {} not rescheduled", handler.getHandlerId());
+            }
+        }
+    }
+
+    /**
+     * The in-flight state of a parallel subscription (see {@link MqHandlerConcurrencyConfiguration}).
+     * It is only used by one thread at a time, the thread receiving the messages of the subscription.
+     * DomainEvents are handed over to the worker threads of the subscription, either to a shared group of workers
+     * or, if ordered, to the worker selected by the ordering key.
+     */
+    private final class ParallelHandling {
+
+        private final CONSUMER consumer;
+        private final MqDomainEventHandler handler;
+        private final MqHandlerConcurrencyConfiguration configuration;
+        private final ExecutorService[] workers;
+        private final ArrayDeque<InFlight<MESSAGE>> inFlight;
+
+        private ParallelHandling(CONSUMER consumer, MqDomainEventHandler handler, MqHandlerConcurrencyConfiguration configuration) {
+            this.consumer = consumer;
+            this.handler = handler;
+            this.configuration = configuration;
+            this.inFlight = new ArrayDeque<>(configuration.getPrefetch());
+            if (configuration.isOrdered()) {
+                this.workers = new ExecutorService[configuration.getConcurrency()];
+                for (int i = 0; i < workers.length; i++) {
+                    workers[i] = Executors.newSingleThreadExecutor(threadingConfiguration.getThreadFactory());
+                }
+            } else {
+                this.workers = new ExecutorService[]{
+                    Executors.newFixedThreadPool(configuration.getConcurrency(), threadingConfiguration.getThreadFactory())
+                };
+            }
+        }
+
+        private boolean hasCapacity() {
+            acknowledgeCompleted();
+            return inFlight.size() < configuration.getPrefetch();
+        }
+
+        private void submit(MESSAGE message) {
+            var domainEvent = parseOrDeadLetter(message, handler);
+            if (domainEvent == null) {
+                inFlight.add(new InFlight<>(message, CompletableFuture.completedFuture(null)));
+                return;
+            }
+            var traceContext = traceContext(message);
+            inFlight.add(new InFlight<>(message,
+                CompletableFuture.runAsync(() -> invoke(handler, domainEvent, traceContext), worker(domainEvent))));
+        }
+
+        private ExecutorService worker(DomainEvent domainEvent) {
+            if (workers.length == 1) {
+                return workers[0];
+            }
+            var key = configuration.getOrderingKeyFunction().apply(domainEvent);
+            return workers[Math.floorMod(Objects.hashCode(key), workers.length)];
+        }
+
+        private void acknowledgeCompleted() {
+            if (inFlight.isEmpty()) {
+                return;
+            }
+            if (acknowledgesAllReceived()) {
+                if (inFlight.stream().allMatch(f -> f.done().isDone())) {
+                    acknowledgeBatch(consumer, inFlight.stream().map(InFlight::message).toList());
+                    inFlight.clear();
+                }
+            } else if (acknowledgesCumulatively()) {
+                var handled = new ArrayList<MESSAGE>();
+                while (!inFlight.isEmpty() && inFlight.peekFirst().done().isDone()) {
+                    handled.add(inFlight.pollFirst().message());
+                }
+                if (!handled.isEmpty()) {
+                    acknowledgeBatch(consumer, handled);
+                }
+            } else {
+                inFlight.removeIf(f -> {
+                    if (f.done().isDone()) {
+                        acknowledge(f.message());
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        }
+
+        /**
+         * Waits for handlers to complete, at most the given timeout, and acknowledges the completed messages.
+         * Depending on the acknowledgement mode, it waits for all in-flight messages, for the oldest in-flight message
+         * (cumulative acknowledgements) or for any in-flight message.
+         *
+         * @return false, if the waiting thread was interrupted
+         */
+        private boolean awaitProgress(long timeoutMs) {
+            var pending = inFlight.stream()
+                .map(InFlight::done)
+                .filter(f -> !f.isDone())
+                .toArray(CompletableFuture<?>[]::new);
+            if (pending.length > 0) {
+                CompletableFuture<?> progress;
+                if (acknowledgesAllReceived()) {
+                    progress = CompletableFuture.allOf(pending);
+                } else if (acknowledgesCumulatively()) {
+                    progress = inFlight.peekFirst().done();
+                } else {
+                    progress = CompletableFuture.anyOf(pending);
+                }
+                try {
+                    progress.get(timeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    log.warn("Interrupted while awaiting handlers, stopping processing. HandlerId: {}", handler.getHandlerId());
+                    Thread.currentThread().interrupt();
+                    return false;
+                } catch (TimeoutException | ExecutionException e) {
+                    log.trace("No handler completed within {} ms. HandlerId: {}", timeoutMs, handler.getHandlerId());
+                }
+            }
+            acknowledgeCompleted();
+            return true;
+        }
+
+        /**
+         * Waits for all in-flight messages to be handled, acknowledges them if requested and stops the workers.
+         */
+        private void close(boolean acknowledge) {
+            try {
+                CompletableFuture.allOf(inFlight.stream().map(InFlight::done).toArray(CompletableFuture<?>[]::new)).get();
+                if (acknowledge) {
+                    acknowledgeCompleted();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.error("Awaiting in-flight messages failed. HandlerId: {}", handler.getHandlerId(), e);
+            }
+            for (ExecutorService worker : workers) {
+                worker.shutdown();
+            }
+        }
+    }
+
+    private record InFlight<M>(M message, CompletableFuture<Void> done) {
+    }
+
+    private final class FlowSubscription<T extends DomainEvent> implements Flow.Subscription {
+
+        private final CONSUMER consumer;
+        private final Class<T> domainEventType;
+        private final String subscriptionName;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private volatile Thread worker;
+
+        private FlowSubscription(CONSUMER consumer,
+                                 Class<T> domainEventType,
+                                 String subscriptionName,
+                                 Flow.Subscriber<? super T> subscriber) {
+            this.consumer = consumer;
+            this.domainEventType = domainEventType;
+            this.subscriptionName = subscriptionName;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " DomainEvents, but demand must be positive!");
+                cancelled = true;
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            LockSupport.unpark(worker);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            LockSupport.unpark(worker);
+        }
+
+        private Void process() {
+            worker = Thread.currentThread();
+            log.info("Flow subscription '{}' starting processing", subscriptionName);
+            Throwable failure = null;
+            while (runFlag.get() && !cancelled) {
+                if (demand.get() == 0) {
+                    LockSupport.parkNanos(this, FLOW_IDLE_PARK_NANOS);
+                    continue;
+                }
+                var message = consumeMessage(consumer);
+                if (message == null) {
+                    continue;
+                }
+                T domainEvent;
+                try {
+                    domainEvent = domainEventType.cast(parseMessage(message, domainEventType));
+                } catch (Throwable t) {
+                    failure = t;
+                    break;
+                }
+                if (domainEvent != null) {
+                    try (var scope = DomainEventTraceContext.open(traceContext(message))) {
+                        subscriber.onNext(domainEvent);
+                    } catch (Throwable t) {
+                        log.error("Flow.Subscriber '{}' failed on {}, cancelling subscription", subscriptionName, domainEvent, t);
+                        cancelled = true;
+                        break;
+                    }
+                    demand.getAndUpdate(d -> d == Long.MAX_VALUE ? d : d - 1);
+                }
+                acknowledge(message);
+            }
+            closeConsumer(consumer);
+            if (invalidRequest != null) {
+                subscriber.onError(invalidRequest);
+            } else if (failure != null) {
+                subscriber.onError(failure);
+            } else if (!cancelled) {
+                subscriber.onComplete();
+            }
+            log.info("Flow subscription '{}' finished", subscriptionName);
+            return null;
+        }
+    }
 }
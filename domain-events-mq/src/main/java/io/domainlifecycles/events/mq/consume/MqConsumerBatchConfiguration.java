@@ -0,0 +1,103 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+/**
+ * Represents the batch configuration of a message broker based DomainEvent consumer.
+ * <br>
+ * By default, every message is received, handled and acknowledged on its own. With batching enabled, a consumer
+ * receives up to {@code maxBatchSize} messages, waiting at most {@code maxBatchWaitMs} for the batch to fill up,
+ * handles them in order and acknowledges the whole batch at once. Brokers supporting cumulative acknowledgements
+ * (like JMS sessions in {@code CLIENT_ACKNOWLEDGE} mode) need a single round trip per batch.
+ * <br>
+ * Handler failures are logged like for single messages and messages which cannot be parsed are acknowledged and
+ * skipped, so neither fails a batch. If acknowledging a batch fails, the consumer recovers its session, so that
+ * the whole batch is redelivered and processed one by one (at-least-once). Consumers which cannot recover acknowledge
+ * the messages of the batch one by one instead.
+ *
+ * @author Mario Herb
+ */
+public class MqConsumerBatchConfiguration {
+
+    private static final int MAX_BATCH_SIZE_DEFAULT = 1;
+    private static final long MAX_BATCH_WAIT_MS_DEFAULT = 0;
+
+    private final int maxBatchSize;
+    private final long maxBatchWaitMs;
+
+    /**
+     * Initializes a new MqConsumerBatchConfiguration.
+     *
+     * @param maxBatchSize the maximum number of messages handled and acknowledged at once, 1 disables batching
+     * @param maxBatchWaitMs the maximum time in milliseconds to wait for a batch to fill up, after its first message was received
+     */
+    public MqConsumerBatchConfiguration(int maxBatchSize, long maxBatchWaitMs) {
+        if (maxBatchSize < 1) {
+            throw DLCEventsException.fail("The maximum batch size must be positive, but was %d!", maxBatchSize);
+        }
+        if (maxBatchWaitMs < 0) {
+            throw DLCEventsException.fail("The maximum batch wait time must not be negative, but was %d!", maxBatchWaitMs);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitMs = maxBatchWaitMs;
+    }
+
+    /**
+     * Initializes a new MqConsumerBatchConfiguration with batching disabled.
+     */
+    public MqConsumerBatchConfiguration() {
+        this(MAX_BATCH_SIZE_DEFAULT, MAX_BATCH_WAIT_MS_DEFAULT);
+    }
+
+    /**
+     * Retrieves the maximum number of messages handled and acknowledged at once.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Retrieves the maximum time to wait for a batch to fill up.
+     *
+     * @return the maximum batch wait time in milliseconds
+     */
+    public long getMaxBatchWaitMs() {
+        return maxBatchWaitMs;
+    }
+
+    /**
+     * Checks, if batching is enabled.
+     *
+     * @return true, if more than one message may be handled per batch
+     */
+    public boolean isBatching() {
+        return maxBatchSize > 1;
+    }
+}
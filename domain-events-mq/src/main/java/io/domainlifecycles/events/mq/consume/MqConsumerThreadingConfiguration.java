@@ -0,0 +1,131 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the threading configuration of a message broker based DomainEvent consumer.
+ * <br>
+ * By default, every subscribed handler gets a dedicated thread blocking in a receive loop, so the number of threads
+ * grows with the number of handlers. Configuring a shared pool decouples both: all subscriptions are multiplexed
+ * onto a fixed number of threads, which poll the broker without blocking.
+ * <br>
+ * The dedicated threads are created by the configured ThreadFactory. Running on Java 21 or later,
+ * {@code Thread.ofVirtual().factory()} can be passed to run each dedicated receive loop on a virtual thread.
+ *
+ * @author Mario Herb
+ */
+public class MqConsumerThreadingConfiguration {
+
+    private static final int SHARED_POOL_THREADS_DEFAULT = 0;
+    private static final long IDLE_POLL_DELAY_MS_DEFAULT = 50;
+
+    private final int sharedPoolThreads;
+    private final long idlePollDelayMs;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Initializes a new MqConsumerThreadingConfiguration.
+     *
+     * @param sharedPoolThreads the number of threads shared by all subscriptions, 0 for a dedicated thread per subscription
+     * @param idlePollDelayMs the delay before a subscription polls the broker again, after no message was available
+     *                        (only relevant for a shared pool)
+     * @param threadFactory the ThreadFactory creating the consumer threads
+     */
+    public MqConsumerThreadingConfiguration(int sharedPoolThreads, long idlePollDelayMs, ThreadFactory threadFactory) {
+        if (sharedPoolThreads < 0) {
+            throw DLCEventsException.fail("The number of shared pool threads must not be negative, but was %d!", sharedPoolThreads);
+        }
+        if (idlePollDelayMs < 1) {
+            throw DLCEventsException.fail("The idle poll delay must be positive, but was %d!", idlePollDelayMs);
+        }
+        this.sharedPoolThreads = sharedPoolThreads;
+        this.idlePollDelayMs = idlePollDelayMs;
+        this.threadFactory = Objects.requireNonNull(threadFactory, "A ThreadFactory is required!");
+    }
+
+    /**
+     * Initializes a new MqConsumerThreadingConfiguration multiplexing all subscriptions onto the given number of threads.
+     *
+     * @param sharedPoolThreads the number of threads shared by all subscriptions, 0 for a dedicated thread per subscription
+     */
+    public MqConsumerThreadingConfiguration(int sharedPoolThreads) {
+        this(sharedPoolThreads, IDLE_POLL_DELAY_MS_DEFAULT, namedThreadFactory());
+    }
+
+    /**
+     * Initializes a new MqConsumerThreadingConfiguration using a dedicated thread per subscription.
+     */
+    public MqConsumerThreadingConfiguration() {
+        this(SHARED_POOL_THREADS_DEFAULT);
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        var counter = new AtomicInteger();
+        return r -> new Thread(r, "dlc-mq-consumer-" + counter.incrementAndGet());
+    }
+
+    /**
+     * Retrieves the number of threads shared by all subscriptions.
+     *
+     * @return the number of shared threads, 0 if every subscription has a dedicated thread
+     */
+    public int getSharedPoolThreads() {
+        return sharedPoolThreads;
+    }
+
+    /**
+     * Checks, if the subscriptions are multiplexed onto a shared pool.
+     *
+     * @return true, if a shared pool is configured
+     */
+    public boolean isSharedPool() {
+        return sharedPoolThreads > 0;
+    }
+
+    /**
+     * Retrieves the delay before a subscription polls the broker again, after no message was available.
+     *
+     * @return the idle poll delay in milliseconds
+     */
+    public long getIdlePollDelayMs() {
+        return idlePollDelayMs;
+    }
+
+    /**
+     * Retrieves the ThreadFactory creating the consumer threads.
+     *
+     * @return the ThreadFactory
+     */
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+}
@@ -26,6 +26,11 @@
 
 package io.domainlifecycles.events.mq.consume;
 
+import io.domainlifecycles.domain.types.DomainEvent;
+
+import java.time.Duration;
+import java.util.concurrent.Flow;
+
 /**
  * An interface representing a consumer for handling domain events from a message broker.
  *
@@ -67,8 +72,42 @@ public interface MqDomainEventConsumer {
      */
     public boolean isHandlerPaused(String handlerClassName, String handlerMethodName, String domainEventTypeName);
 
+    /**
+     * Retrieves the total time the handler method for a specific domain event in a given class spent paused.
+     * Paused handlers do not consume any CPU, their consumer threads are parked until they are resumed.
+     * <br>
+     * By default, paused time is not tracked.
+     *
+     * @param handlerClassName the class name of the handler method to check
+     * @param handlerMethodName the name of the handler method to check
+     * @param domainEventTypeName the type of domain event handled
+     * @return the accumulated paused time, {@link Duration#ZERO} if the handler is unknown
+     */
+    default Duration handlerPausedTime(String handlerClassName, String handlerMethodName, String domainEventTypeName) {
+        return Duration.ZERO;
+    }
+
     /**
      * Initializes the consumer by establishing necessary connections and configuration.
      */
     void initialize();
+
+    /**
+     * Provides a Flow.Publisher for the DomainEvents of the given type. Each subscriber gets its own broker consumer
+     * (named by the given subscription name) and messages are only received from the broker as far as the subscriber
+     * signalled demand. A message is acknowledged after it was passed to {@code onNext}.
+     * <br>
+     * By default, Flow consumption is not supported.
+     *
+     * @param domainEventType the type of the DomainEvents to be emitted
+     * @param subscriptionName the name of the broker consumer
+     * @param <T> the DomainEvent type
+     * @return a Flow.Publisher for the given DomainEvent type
+     * @throws UnsupportedOperationException if the implementation does not support Flow consumption
+     */
+    default <T extends DomainEvent> Flow.Publisher<T> flowPublisher(Class<T> domainEventType, String subscriptionName) {
+        throw new UnsupportedOperationException(
+            String.format("%s does not support Flow consumption!", getClass().getName())
+        );
+    }
 }
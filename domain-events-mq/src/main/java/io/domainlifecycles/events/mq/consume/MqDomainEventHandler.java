@@ -34,8 +34,12 @@ import io.domainlifecycles.mirror.api.Domain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Represents a handler for processing domain events received from a message queue.
@@ -54,6 +58,11 @@ public class MqDomainEventHandler {
     private final ExecutionContextDetector executionContextDetector;
     private final ExecutionContextProcessor executionContextProcessor;
     private final AtomicBoolean paused = new AtomicBoolean(false);
+    private final ReentrantLock pauseLock = new ReentrantLock();
+    private final Condition resumed = pauseLock.newCondition();
+    private long pausedSinceNanos;
+    private long pausedNanos;
+    private long pauseCount;
 
     /**
      * Initializes a new {@code MqDomainEventHandler} with the provided parameters.
@@ -152,14 +161,31 @@ public class MqDomainEventHandler {
      * Once paused, the handler will not process any incoming events until resumed.
      */
     public void pause(){
-        this.paused.set(true);
+        pauseLock.lock();
+        try {
+            if (this.paused.compareAndSet(false, true)) {
+                pausedSinceNanos = System.nanoTime();
+                pauseCount++;
+            }
+        } finally {
+            pauseLock.unlock();
+        }
     }
 
     /**
      * Resumes the execution of the event handler. Once resumed, the handler will begin processing incoming events.
+     * Consumer threads waiting in {@link #awaitResumed(long, TimeUnit)} are signalled.
      */
     public void resume(){
-        this.paused.set(false);
+        pauseLock.lock();
+        try {
+            if (this.paused.compareAndSet(true, false)) {
+                pausedNanos += System.nanoTime() - pausedSinceNanos;
+            }
+            resumed.signalAll();
+        } finally {
+            pauseLock.unlock();
+        }
     }
 
     /**
@@ -170,4 +196,70 @@ public class MqDomainEventHandler {
     public boolean isPaused(){
         return this.paused.get();
     }
+
+    /**
+     * Parks the calling consumer thread while the handler is paused, until it is resumed, woken up
+     * or the timeout elapsed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return true if the handler is not paused (anymore), false otherwise
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitResumed(long timeout, TimeUnit unit) throws InterruptedException {
+        pauseLock.lock();
+        try {
+            if (this.paused.get()) {
+                resumed.await(timeout, unit);
+            }
+            return !this.paused.get();
+        } finally {
+            pauseLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up all consumer threads parked in {@link #awaitResumed(long, TimeUnit)} without resuming the handler,
+     * e.g. to let them recognize that the consumer is shut down.
+     */
+    void wakeUp(){
+        pauseLock.lock();
+        try {
+            resumed.signalAll();
+        } finally {
+            pauseLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the total time the handler spent paused, including the currently running pause.
+     *
+     * @return the accumulated paused time
+     */
+    public Duration getPausedTime(){
+        pauseLock.lock();
+        try {
+            var nanos = pausedNanos;
+            if (this.paused.get()) {
+                nanos += System.nanoTime() - pausedSinceNanos;
+            }
+            return Duration.ofNanos(nanos);
+        } finally {
+            pauseLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves how often the handler was paused.
+     *
+     * @return the number of pauses
+     */
+    public long getPauseCount(){
+        pauseLock.lock();
+        try {
+            return pauseCount;
+        } finally {
+            pauseLock.unlock();
+        }
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents the concurrency configuration of a single handler subscription of a message broker based
+ * DomainEvent consumer.
+ * <br>
+ * By default, every subscription handles one message at a time on its receive loop. A handler being stateless and
+ * idempotent may be configured to be handled by a bounded group of {@code concurrency} worker threads, while its
+ * receive loop keeps up to {@code prefetch} messages in flight. Messages are received, parsed and acknowledged on the
+ * receive loop only, so that the broker resources of a subscription are never used concurrently.
+ * <br>
+ * If an ordering key function is provided, all DomainEvents with equal keys are handled by the same worker thread in
+ * the order of their receipt (e.g. all events of the same aggregate). Otherwise, DomainEvents are handled in any order.
+ * <br>
+ * Brokers acknowledging cumulatively acknowledge the longest prefix of handled messages, in the order of their receipt.
+ * Brokers acknowledging all received messages at once (like JMS sessions in {@code CLIENT_ACKNOWLEDGE} mode)
+ * acknowledge the in-flight messages once all of them are handled, so {@code prefetch} should be a multiple of
+ * {@code concurrency}.
+ * Batching (see {@link MqConsumerBatchConfiguration}) does not apply to parallel subscriptions.
+ *
+ * @author Mario Herb
+ */
+public class MqHandlerConcurrencyConfiguration {
+
+    private static final int PREFETCH_PER_WORKER_DEFAULT = 2;
+
+    private final String handlerClassName;
+    private final String handlerMethodName;
+    private final String domainEventTypeName;
+    private final int concurrency;
+    private final int prefetch;
+    private final Function<? super DomainEvent, ?> orderingKeyFunction;
+
+    /**
+     * Initializes a new MqHandlerConcurrencyConfiguration.
+     *
+     * @param handlerClassName the class name of the handler
+     * @param handlerMethodName the method name of the handler
+     * @param domainEventTypeName the type name of the DomainEvent handled
+     * @param concurrency the number of worker threads handling DomainEvents of the subscription in parallel
+     * @param prefetch the maximum number of received, but not yet acknowledged messages of the subscription
+     * @param orderingKeyFunction the function providing the ordering key of a DomainEvent, or null if DomainEvents may be handled in any order
+     */
+    public MqHandlerConcurrencyConfiguration(String handlerClassName,
+                                             String handlerMethodName,
+                                             String domainEventTypeName,
+                                             int concurrency,
+                                             int prefetch,
+                                             Function<? super DomainEvent, ?> orderingKeyFunction) {
+        this.handlerClassName = Objects.requireNonNull(handlerClassName, "A handlerClassName must be defined!");
+        this.handlerMethodName = Objects.requireNonNull(handlerMethodName, "A handlerMethodName must be defined!");
+        this.domainEventTypeName = Objects.requireNonNull(domainEventTypeName, "A domainEventTypeName must be defined!");
+        if (concurrency < 1) {
+            throw DLCEventsException.fail("The handler concurrency must be positive, but was %d!", concurrency);
+        }
+        if (prefetch < concurrency) {
+            throw DLCEventsException.fail("The prefetch must not be lower than the handler concurrency %d, but was %d!", concurrency, prefetch);
+        }
+        this.concurrency = concurrency;
+        this.prefetch = prefetch;
+        this.orderingKeyFunction = orderingKeyFunction;
+    }
+
+    /**
+     * Initializes a new MqHandlerConcurrencyConfiguration handling DomainEvents in any order,
+     * with a prefetch of two messages per worker thread.
+     *
+     * @param handlerClassName the class name of the handler
+     * @param handlerMethodName the method name of the handler
+     * @param domainEventTypeName the type name of the DomainEvent handled
+     * @param concurrency the number of worker threads handling DomainEvents of the subscription in parallel
+     */
+    public MqHandlerConcurrencyConfiguration(String handlerClassName,
+                                             String handlerMethodName,
+                                             String domainEventTypeName,
+                                             int concurrency) {
+        this(handlerClassName, handlerMethodName, domainEventTypeName, concurrency,
+            concurrency * PREFETCH_PER_WORKER_DEFAULT, null);
+    }
+
+    /**
+     * Checks, if this configuration applies to the given handler.
+     *
+     * @param handler the handler to check
+     * @return true, if the handler class, method and DomainEvent type match
+     */
+    public boolean appliesTo(MqDomainEventHandler handler) {
+        return handlerClassName.equals(handler.getHandlerClassName())
+            && handlerMethodName.equals(handler.getHandlerMethodName())
+            && domainEventTypeName.equals(handler.getDomainEventType().getName());
+    }
+
+    /**
+     * Retrieves the class name of the handler.
+     *
+     * @return the class name of the handler
+     */
+    public String getHandlerClassName() {
+        return handlerClassName;
+    }
+
+    /**
+     * Retrieves the method name of the handler.
+     *
+     * @return the method name of the handler
+     */
+    public String getHandlerMethodName() {
+        return handlerMethodName;
+    }
+
+    /**
+     * Retrieves the type name of the DomainEvent handled.
+     *
+     * @return the DomainEvent type name
+     */
+    public String getDomainEventTypeName() {
+        return domainEventTypeName;
+    }
+
+    /**
+     * Retrieves the number of worker threads handling DomainEvents of the subscription in parallel.
+     *
+     * @return the handler concurrency
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Retrieves the maximum number of received, but not yet acknowledged messages of the subscription.
+     *
+     * @return the prefetch
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Retrieves the function providing the ordering key of a DomainEvent.
+     *
+     * @return the ordering key function or null, if DomainEvents may be handled in any order
+     */
+    public Function<? super DomainEvent, ?> getOrderingKeyFunction() {
+        return orderingKeyFunction;
+    }
+
+    /**
+     * Checks, if DomainEvents with equal ordering keys are handled in the order of their receipt.
+     *
+     * @return true, if an ordering key function is provided
+     */
+    public boolean isOrdered() {
+        return orderingKeyFunction != null;
+    }
+}
@@ -29,8 +29,11 @@ package io.domainlifecycles.events.mq.gruelbox;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.consume.TargetExecutionContext;
 import io.domainlifecycles.events.gruelbox.dispatch.GruelboxDomainEventDispatcher;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
 import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
 
+import java.util.List;
+
 /**
  * The {@code MqGruelboxDomainEventDispatcher} class is an implementation of the {@link GruelboxDomainEventDispatcher}
  * interface. It is responsible for dispatching domain events to a topic of a message broker.
@@ -58,12 +61,36 @@ public class MqGruelboxDomainEventDispatcher implements GruelboxDomainEventDispa
     /**
      * This method is responsible for dispatching a domain event.
      * It takes a domain event as a parameter and publishes it using the MqDomainEventPublisher.
+     * The trace id of the target context, if any, is reopened while publishing, so that it is passed on
+     * as message property.
      *
      * @param domainEvent the domain event to dispatch
-     * @param targetExecutionContext Target Context not relevant
+     * @param targetExecutionContext Target Context, only its trace id is relevant
      */
     @Override
     public void dispatch(DomainEvent domainEvent, TargetExecutionContext targetExecutionContext) {
-        mqDomainEventPublisher.publish(domainEvent);
+        publish(domainEvent, targetExecutionContext);
+    }
+
+    /**
+     * Publishes the domain event once, the handlers are determined by the consumers of the message broker.
+     *
+     * @param domainEvent the domain event to dispatch
+     * @param targetExecutionContexts Target Contexts, only the trace id of the first one is relevant
+     * @param ordered not relevant
+     */
+    @Override
+    public void dispatchAll(DomainEvent domainEvent, List<TargetExecutionContext> targetExecutionContexts, boolean ordered) {
+        publish(domainEvent, targetExecutionContexts.isEmpty() ? null : targetExecutionContexts.get(0));
+    }
+
+    private void publish(DomainEvent domainEvent, TargetExecutionContext targetExecutionContext) {
+        if (targetExecutionContext == null || targetExecutionContext.traceId() == null) {
+            mqDomainEventPublisher.publish(domainEvent);
+            return;
+        }
+        try (var scope = DomainEventTraceContext.open(new DomainEventTraceContext(targetExecutionContext.traceId()))) {
+            mqDomainEventPublisher.publish(domainEvent);
+        }
     }
 }
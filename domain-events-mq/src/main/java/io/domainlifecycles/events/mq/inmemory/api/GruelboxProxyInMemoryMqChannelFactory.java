@@ -0,0 +1,264 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.api;
+
+import com.gruelbox.transactionoutbox.TransactionOutbox;
+import io.domainlifecycles.access.classes.ClassProvider;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
+import io.domainlifecycles.events.gruelbox.api.DomainEventsInstantiator;
+import io.domainlifecycles.events.gruelbox.api.PollerConfiguration;
+import io.domainlifecycles.events.gruelbox.api.PublishingSchedulerConfiguration;
+import io.domainlifecycles.events.mq.api.AbstractGruelboxProxyMqChannelFactory;
+import io.domainlifecycles.events.mq.consume.MqDomainEventConsumer;
+import io.domainlifecycles.events.mq.consume.TransactionalIdempotencyAwareHandlerExecutorProxy;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.consume.InMemoryMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.inmemory.publish.InMemoryMqDomainEventPublisher;
+import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import io.domainlifecycles.services.api.ServiceProvider;
+
+import java.util.Objects;
+
+/**
+ * GruelboxProxyInMemoryMqChannelFactory is a class that extends AbstractGruelboxProxyMqChannelFactory and provides
+ * functionality for creating channels on an {@link InMemoryMqBroker} that have a Gruelbox outbox as a proxy in place.
+ *
+ * It allows to load test the outbox and the idempotency proxies without a real message broker.
+ *
+ * @author Mario Herb
+ */
+public class GruelboxProxyInMemoryMqChannelFactory extends AbstractGruelboxProxyMqChannelFactory {
+
+    private final InMemoryMqBroker broker;
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param serviceProvider The ServiceProvider instance for providing various types of services.
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names.
+     * @param handlerExecutor The HandlerExecutor instance for handling domain event listeners.
+     * @param domainEventSerializer used for serialization/deserialization.
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages.
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender.
+     * @param broker The in-memory broker shared by publishers and consumers.
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+            ServiceProvider serviceProvider,
+            ClassProvider classProvider,
+            HandlerExecutor handlerExecutor,
+            DomainEventSerializer domainEventSerializer,
+            TransactionOutbox transactionOutbox,
+            DomainEventsInstantiator domainEventsInstantiator,
+            InMemoryMqBroker broker
+    ) {
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer, transactionOutbox, domainEventsInstantiator);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param serviceProvider The ServiceProvider instance for providing various types of services.
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names.
+     * @param handlerExecutor The HandlerExecutor instance for handling domain event listeners.
+     * @param domainEventSerializer used for serialization/deserialization.
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages.
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender.
+     * @param broker The in-memory broker shared by publishers and consumers.
+     * @param idempotencyAwareHandlerExecutorProxy The IdempotencyAwareHandlerExecutorProxy used to protect against Domain Event duplicates
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+        ServiceProvider serviceProvider,
+        ClassProvider classProvider,
+        HandlerExecutor handlerExecutor,
+        DomainEventSerializer domainEventSerializer,
+        TransactionOutbox transactionOutbox,
+        DomainEventsInstantiator domainEventsInstantiator,
+        InMemoryMqBroker broker,
+        TransactionalIdempotencyAwareHandlerExecutorProxy idempotencyAwareHandlerExecutorProxy
+    ) {
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer, transactionOutbox, domainEventsInstantiator, idempotencyAwareHandlerExecutorProxy);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param serviceProvider The ServiceProvider instance for providing various types of services
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names
+     * @param handlerExecutor The HandlerExecutor instance for handling domain event listeners
+     * @param domainEventSerializer for serialization/deserialization
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender
+     * @param pollerConfiguration The PollerConfiguration for polling configuration on the outbox
+     * @param publishingSchedulerConfiguration The PublishingSchedulerConfiguration for scheduling publishing tasks
+     * @param broker The in-memory broker shared by publishers and consumers
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+            ServiceProvider serviceProvider,
+            ClassProvider classProvider,
+            HandlerExecutor handlerExecutor,
+            DomainEventSerializer domainEventSerializer,
+            TransactionOutbox transactionOutbox,
+            DomainEventsInstantiator domainEventsInstantiator,
+            PollerConfiguration pollerConfiguration,
+            PublishingSchedulerConfiguration publishingSchedulerConfiguration,
+            InMemoryMqBroker broker
+    ) {
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer, transactionOutbox, domainEventsInstantiator, pollerConfiguration, publishingSchedulerConfiguration);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param serviceProvider The ServiceProvider instance for providing various types of services
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names
+     * @param handlerExecutor The HandlerExecutor instance for handling domain event listeners
+     * @param domainEventSerializer for serialization/deserialization
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender
+     * @param pollerConfiguration The PollerConfiguration for polling configuration on the outbox
+     * @param publishingSchedulerConfiguration The PublishingSchedulerConfiguration for scheduling publishing tasks
+     * @param broker The in-memory broker shared by publishers and consumers
+     * @param idempotencyAwareHandlerExecutorProxy The IdempotencyAwareHandlerExecutorProxy used to protect against Domain Event duplicates
+     *
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+        ServiceProvider serviceProvider,
+        ClassProvider classProvider,
+        HandlerExecutor handlerExecutor,
+        DomainEventSerializer domainEventSerializer,
+        TransactionOutbox transactionOutbox,
+        DomainEventsInstantiator domainEventsInstantiator,
+        PollerConfiguration pollerConfiguration,
+        PublishingSchedulerConfiguration publishingSchedulerConfiguration,
+        InMemoryMqBroker broker,
+        TransactionalIdempotencyAwareHandlerExecutorProxy idempotencyAwareHandlerExecutorProxy
+    ) {
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer, transactionOutbox, domainEventsInstantiator, pollerConfiguration, publishingSchedulerConfiguration, idempotencyAwareHandlerExecutorProxy);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     * This constructor should only be used for consumer only channels.
+     *
+     * @param serviceProvider The ServiceProvider instance for providing various types of services.
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names.
+     * @param handlerExecutor The HandlerExecutor instance for handling domain event listeners.
+     * @param domainEventSerializer for serialization/deserialization.
+     * @param broker The in-memory broker shared by publishers and consumers.
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+        ServiceProvider serviceProvider,
+        ClassProvider classProvider,
+        HandlerExecutor handlerExecutor,
+        DomainEventSerializer domainEventSerializer,
+        InMemoryMqBroker broker
+    ) {
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param domainEventSerializer for serialization/deserialization
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender
+     * @param broker The in-memory broker shared by publishers and consumers
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+        DomainEventSerializer domainEventSerializer,
+        TransactionOutbox transactionOutbox,
+        DomainEventsInstantiator domainEventsInstantiator,
+        InMemoryMqBroker broker
+    ) {
+        super(domainEventSerializer, transactionOutbox, domainEventsInstantiator);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Initializes a GruelboxProxyInMemoryMqChannelFactory with the provided dependencies.
+     *
+     * @param domainEventSerializer for serialization/deserialization
+     * @param transactionOutbox The TransactionOutbox instance for managing transactional outbox messages
+     * @param domainEventsInstantiator The DomainEventsInstantiator instance for instantiating a domain event sender
+     * @param pollerConfiguration The PollerConfiguration for polling configuration on the outbox
+     * @param publishingSchedulerConfiguration The PublishingSchedulerConfiguration for scheduling publishing tasks
+     * @param broker The in-memory broker shared by publishers and consumers
+     */
+    public GruelboxProxyInMemoryMqChannelFactory(
+        DomainEventSerializer domainEventSerializer,
+        TransactionOutbox transactionOutbox,
+        DomainEventsInstantiator domainEventsInstantiator,
+        PollerConfiguration pollerConfiguration,
+        PublishingSchedulerConfiguration publishingSchedulerConfiguration,
+        InMemoryMqBroker broker) {
+        super(domainEventSerializer, transactionOutbox, domainEventsInstantiator, pollerConfiguration, publishingSchedulerConfiguration);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Creates an in-memory Domain Event publisher.
+     *
+     * @param domainEventSerializer used for serialization/deserialization.
+     * @return A new instance of InMemoryMqDomainEventPublisher publishing to the broker.
+     */
+    @Override
+    protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
+        return new InMemoryMqDomainEventPublisher(broker, domainEventSerializer);
+    }
+
+    /**
+     * Creates an in-memory Domain Event Consumer
+     *
+     * @param domainEventSerializer for serialization/deserialization
+     * @param executionContextDetector The ExecutionContextDetector instance for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor instance for processing execution contexts
+     * @param classProvider The ClassProvider instance for providing Class instances for full qualified class names
+     * @return A new MqDomainEventConsumer initialized with the provided instances
+     */
+    @Override
+    protected MqDomainEventConsumer provideMqDomainEventConsumer(DomainEventSerializer domainEventSerializer, ExecutionContextDetector executionContextDetector, ExecutionContextProcessor executionContextProcessor, ClassProvider classProvider) {
+        return new InMemoryMqDomainEventConsumer(
+            broker,
+            domainEventSerializer,
+            executionContextDetector,
+            executionContextProcessor,
+            classProvider,
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.api;
+
+import io.domainlifecycles.access.classes.ClassProvider;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.handler.HandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
+import io.domainlifecycles.events.mq.api.AbstractMqChannelFactory;
+import io.domainlifecycles.events.mq.consume.MqDomainEventConsumer;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.consume.InMemoryMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.inmemory.publish.InMemoryMqDomainEventPublisher;
+import io.domainlifecycles.events.mq.publish.MqDomainEventPublisher;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import io.domainlifecycles.services.api.ServiceProvider;
+
+import java.util.Objects;
+
+/**
+ * The InMemoryMqChannelFactory class extends AbstractMqChannelFactory and provides methods for creating channels
+ * to handle Domain Events processed via an {@link InMemoryMqBroker}, a broker-free stand-in within the same JVM.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryMqChannelFactory extends AbstractMqChannelFactory {
+
+    private final InMemoryMqBroker broker;
+
+    /**
+     * Constructs an InMemoryMqChannelFactory for publishing only.
+     *
+     * @param broker The in-memory broker shared by publishers and consumers
+     * @param domainEventSerializer to serialize/deserialize messages
+     */
+    public InMemoryMqChannelFactory(InMemoryMqBroker broker,
+                                    DomainEventSerializer domainEventSerializer){
+        super(null, null, null, domainEventSerializer);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * Constructs an InMemoryMqChannelFactory with the provided parameters.
+     *
+     * @param broker The in-memory broker shared by publishers and consumers
+     * @param serviceProvider The ServiceProvider instance to provide various types of services
+     * @param classProvider The ClassProvider instance to provide Class instances for full qualified class names
+     * @param handlerExecutor The HandlerExecutor instance to execute domain event listeners
+     * @param domainEventSerializer The DomainEventSerializer instance
+     */
+    public InMemoryMqChannelFactory(InMemoryMqBroker broker,
+                                    ServiceProvider serviceProvider,
+                                    ClassProvider classProvider,
+                                    HandlerExecutor handlerExecutor,
+                                    DomainEventSerializer domainEventSerializer){
+        super(serviceProvider, classProvider, handlerExecutor, domainEventSerializer);
+        this.broker = Objects.requireNonNull(broker, "An InMemoryMqBroker is required!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected MqDomainEventPublisher provideMqDomainEventPublisher(DomainEventSerializer domainEventSerializer) {
+        return new InMemoryMqDomainEventPublisher(broker, domainEventSerializer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected MqDomainEventConsumer provideMqDomainEventConsumer(DomainEventSerializer domainEventSerializer, ExecutionContextDetector executionContextDetector, ExecutionContextProcessor executionContextProcessor, ClassProvider classProvider) {
+        return new InMemoryMqDomainEventConsumer(
+            broker,
+            domainEventSerializer,
+            executionContextDetector,
+            executionContextProcessor,
+            classProvider,
+            getReceiveTimeoutMs(),
+            getConsumerThreadingConfiguration(),
+            getConsumerBatchConfiguration(),
+            getHandlerConcurrencyConfigurations()
+        );
+    }
+}
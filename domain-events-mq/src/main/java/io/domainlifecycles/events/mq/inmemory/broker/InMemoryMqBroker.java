@@ -0,0 +1,115 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.broker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A broker-free, in-process stand-in for a message broker, to run the domain-events-mq stack without network,
+ * e.g. for load tests of publishers, consumers and handlers (including the idempotency proxies) or as
+ * transport within a single JVM.
+ * <br>
+ * The broker supports topics with shared durable subscriptions: every subscription of a topic receives a copy of
+ * each message sent to the topic, all subscribers of the same subscription compete for its messages.
+ * Like on a real topic, messages sent before a subscription was created are not delivered to it.
+ * Messages are neither persisted nor bounded; a broker instance must be shared between
+ * the publishing and the consuming side.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryMqBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMqBroker.class);
+
+    private final Map<String, Map<String, InMemoryMqSubscription>> topics = new ConcurrentHashMap<>();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    /**
+     * Sends a message to all subscriptions of the given topic.
+     *
+     * @param topicName the name of the topic
+     * @param message the message to send
+     */
+    public void send(String topicName, InMemoryMqMessage message) {
+        Objects.requireNonNull(message, "A message is required!");
+        var subscriptions = topic(topicName);
+        subscriptions.values().forEach(s -> s.enqueue(message));
+        sentCount.incrementAndGet();
+        if (subscriptions.isEmpty()) {
+            log.debug("Message sent to topic '{}' without subscriptions was dropped.", topicName);
+        }
+    }
+
+    /**
+     * Creates a subscriber of a shared durable subscription. The subscription is created on first use.
+     *
+     * @param topicName the name of the topic
+     * @param subscriptionName the name of the subscription
+     * @return a new subscriber
+     */
+    public InMemoryMqSubscriber subscribe(String topicName, String subscriptionName) {
+        Objects.requireNonNull(subscriptionName, "A subscription name is required!");
+        var subscription = topic(topicName)
+            .computeIfAbsent(subscriptionName, name -> new InMemoryMqSubscription(topicName, name));
+        return new InMemoryMqSubscriber(subscription);
+    }
+
+    /**
+     * Retrieves the number of messages waiting for delivery on a subscription, without
+     * received but unacknowledged messages.
+     *
+     * @param topicName the name of the topic
+     * @param subscriptionName the name of the subscription
+     * @return the number of pending messages, 0 if the subscription does not exist
+     */
+    public int getPendingCount(String topicName, String subscriptionName) {
+        var subscriptions = topics.get(topicName);
+        if (subscriptions == null) {
+            return 0;
+        }
+        var subscription = subscriptions.get(subscriptionName);
+        return subscription == null ? 0 : subscription.pending();
+    }
+
+    /**
+     * @return the number of messages sent to this broker
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    private Map<String, InMemoryMqSubscription> topic(String topicName) {
+        Objects.requireNonNull(topicName, "A topic name is required!");
+        return topics.computeIfAbsent(topicName, name -> new ConcurrentHashMap<>());
+    }
+}
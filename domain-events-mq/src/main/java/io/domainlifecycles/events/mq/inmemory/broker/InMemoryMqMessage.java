@@ -0,0 +1,134 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.broker;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A message of the {@link InMemoryMqBroker}, carrying either a text or a binary body and String properties.
+ * <br>
+ * Messages are immutable. Each delivery to an {@link InMemoryMqSubscriber} is represented by its own instance,
+ * which is acknowledged like a JMS message in {@code CLIENT_ACKNOWLEDGE} mode.
+ *
+ * @author Mario Herb
+ */
+public final class InMemoryMqMessage {
+
+    private final String body;
+    private final byte[] binaryBody;
+    private final Map<String, String> properties;
+    private final int deliveryCount;
+    private final InMemoryMqSubscriber subscriber;
+
+    /**
+     * Creates a new message to be sent.
+     *
+     * @param body the text body, or null for binary messages
+     * @param binaryBody the binary body, or null for text messages
+     * @param properties the message properties
+     */
+    public InMemoryMqMessage(String body, byte[] binaryBody, Map<String, String> properties) {
+        this(body, binaryBody, Map.copyOf(Objects.requireNonNull(properties, "The message properties are required!")), 0, null);
+        if ((body == null) == (binaryBody == null)) {
+            throw new IllegalArgumentException("Either a text or a binary body is required!");
+        }
+    }
+
+    private InMemoryMqMessage(String body,
+                              byte[] binaryBody,
+                              Map<String, String> properties,
+                              int deliveryCount,
+                              InMemoryMqSubscriber subscriber) {
+        this.body = body;
+        this.binaryBody = binaryBody;
+        this.properties = properties;
+        this.deliveryCount = deliveryCount;
+        this.subscriber = subscriber;
+    }
+
+    InMemoryMqMessage deliveredTo(InMemoryMqSubscriber subscriber) {
+        return new InMemoryMqMessage(body, binaryBody, properties, deliveryCount + 1, subscriber);
+    }
+
+    InMemoryMqMessage undelivered() {
+        return new InMemoryMqMessage(body, binaryBody, properties, deliveryCount, null);
+    }
+
+    /**
+     * Acknowledges this message and all messages delivered to the same subscriber before.
+     */
+    public void acknowledge() {
+        if (subscriber == null) {
+            throw new IllegalStateException("The message was not delivered!");
+        }
+        subscriber.acknowledge(this);
+    }
+
+    /**
+     * @return the text body, or null for binary messages
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * @return the binary body, or null for text messages
+     */
+    public byte[] getBinaryBody() {
+        return binaryBody;
+    }
+
+    /**
+     * @return true, if the message has a binary body
+     */
+    public boolean isBinary() {
+        return binaryBody != null;
+    }
+
+    /**
+     * @param name the property name
+     * @return the property value or null, if not set
+     */
+    public String getProperty(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * @return how often the message was delivered, including this delivery
+     */
+    public int getDeliveryCount() {
+        return deliveryCount;
+    }
+
+    /**
+     * @return true, if the message was delivered before, but not acknowledged
+     */
+    public boolean isRedelivered() {
+        return deliveryCount > 1;
+    }
+}
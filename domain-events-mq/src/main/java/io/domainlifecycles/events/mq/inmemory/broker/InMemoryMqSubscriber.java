@@ -0,0 +1,125 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.broker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A subscriber of a durable subscription of the {@link InMemoryMqBroker}.
+ * <br>
+ * Received messages stay unacknowledged until they are acknowledged cumulatively: acknowledging a message also
+ * acknowledges all messages received before it. Unacknowledged messages are redelivered to the subscription on
+ * {@link #recover()} and on {@link #close()}.
+ * A subscriber must only be used by one thread at a time.
+ *
+ * @author Mario Herb
+ */
+public final class InMemoryMqSubscriber {
+
+    private final InMemoryMqSubscription subscription;
+    private final List<InMemoryMqMessage> unacknowledged = new ArrayList<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    InMemoryMqSubscriber(InMemoryMqSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Receives the next message of the subscription.
+     *
+     * @param timeoutMs the maximum time to wait for a message, 0 or less to not wait at all
+     * @return the next message or null, if no message was available in time
+     * @throws InterruptedException if the receiving thread is interrupted
+     */
+    public InMemoryMqMessage receive(long timeoutMs) throws InterruptedException {
+        if (closed.get()) {
+            throw new IllegalStateException("The subscriber is closed!");
+        }
+        var message = subscription.poll(timeoutMs);
+        if (message == null) {
+            return null;
+        }
+        var delivered = message.deliveredTo(this);
+        unacknowledged.add(delivered);
+        return delivered;
+    }
+
+    /**
+     * Acknowledges the given message and all messages received before.
+     */
+    void acknowledge(InMemoryMqMessage message) {
+        for (int i = unacknowledged.size() - 1; i >= 0; i--) {
+            if (unacknowledged.get(i) == message) {
+                unacknowledged.subList(0, i + 1).clear();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Redelivers all unacknowledged messages to the subscription.
+     */
+    public void recover() {
+        if (!unacknowledged.isEmpty()) {
+            subscription.requeue(unacknowledged);
+            unacknowledged.clear();
+        }
+    }
+
+    /**
+     * Closes the subscriber. All unacknowledged messages are redelivered to the subscription,
+     * the subscription itself is durable and keeps receiving messages.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            recover();
+        }
+    }
+
+    /**
+     * @return the number of received, but not yet acknowledged messages
+     */
+    public int getUnacknowledgedCount() {
+        return unacknowledged.size();
+    }
+
+    /**
+     * @return the name of the subscribed topic
+     */
+    public String getTopicName() {
+        return subscription.getTopicName();
+    }
+
+    /**
+     * @return the name of the durable subscription
+     */
+    public String getSubscriptionName() {
+        return subscription.getSubscriptionName();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.broker;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A durable subscription of a topic of the {@link InMemoryMqBroker}. All subscribers of the subscription compete for
+ * its messages (shared durable subscription).
+ * <br>
+ * The messages are kept in a lock-free deque. A semaphore counts the available messages, so that receivers
+ * can wait for messages without polling.
+ *
+ * @author Mario Herb
+ */
+final class InMemoryMqSubscription {
+
+    private final String topicName;
+    private final String subscriptionName;
+    private final ConcurrentLinkedDeque<InMemoryMqMessage> messages = new ConcurrentLinkedDeque<>();
+    private final Semaphore available = new Semaphore(0);
+
+    InMemoryMqSubscription(String topicName, String subscriptionName) {
+        this.topicName = topicName;
+        this.subscriptionName = subscriptionName;
+    }
+
+    void enqueue(InMemoryMqMessage message) {
+        messages.addLast(message);
+        available.release();
+    }
+
+    /**
+     * Puts unacknowledged messages back to the head of the subscription, keeping their order.
+     */
+    void requeue(List<InMemoryMqMessage> unacknowledged) {
+        for (int i = unacknowledged.size() - 1; i >= 0; i--) {
+            messages.addFirst(unacknowledged.get(i).undelivered());
+        }
+        available.release(unacknowledged.size());
+    }
+
+    InMemoryMqMessage poll(long timeoutMs) throws InterruptedException {
+        var acquired = timeoutMs <= 0
+            ? available.tryAcquire()
+            : available.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        return acquired ? messages.pollFirst() : null;
+    }
+
+    int pending() {
+        return available.availablePermits();
+    }
+
+    String getTopicName() {
+        return topicName;
+    }
+
+    String getSubscriptionName() {
+        return subscriptionName;
+    }
+}
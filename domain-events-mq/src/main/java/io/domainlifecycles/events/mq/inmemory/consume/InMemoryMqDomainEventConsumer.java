@@ -0,0 +1,243 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.consume;
+
+import io.domainlifecycles.access.classes.ClassProvider;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.mq.consume.AbstractMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.consume.MqConsumerBatchConfiguration;
+import io.domainlifecycles.events.mq.consume.MqConsumerThreadingConfiguration;
+import io.domainlifecycles.events.mq.consume.MqHandlerConcurrencyConfiguration;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqMessage;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqSubscriber;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Consumes domain events from the shared durable subscriptions of an {@link InMemoryMqBroker}.
+ * Acknowledgement and redelivery behave like a JMS session in {@code CLIENT_ACKNOWLEDGE} mode: acknowledgements are
+ * cumulative per subscriber, unacknowledged messages are redelivered on recovery and when the consumer is closed.
+ *
+ * @author Mario Herb
+ */
+public class InMemoryMqDomainEventConsumer extends AbstractMqDomainEventConsumer<InMemoryMqSubscriber, InMemoryMqMessage> {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMqDomainEventConsumer.class);
+
+    private final InMemoryMqBroker broker;
+    private final long receiveTimeoutMs;
+
+    /**
+     * Constructs an InMemoryMqDomainEventConsumer with the provided parameters.
+     *
+     * @param broker The in-memory broker to consume from
+     * @param domainEventSerializer The DomainEventSerializer instance to serialize/deserialize messages
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts
+     * @param classProvider The ClassProvider for providing Class instances
+     * @param receiveTimeoutMs The timeout value for receiving messages in milliseconds
+     */
+    public InMemoryMqDomainEventConsumer(InMemoryMqBroker broker,
+                                         DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         long receiveTimeoutMs) {
+        this(broker, domainEventSerializer, executionContextDetector, executionContextProcessor,
+            classProvider, receiveTimeoutMs, new MqConsumerThreadingConfiguration(),
+            new MqConsumerBatchConfiguration(), List.of());
+    }
+
+    /**
+     * Constructs an InMemoryMqDomainEventConsumer with the provided parameters, threading, batch and handler concurrency configurations.
+     *
+     * @param broker The in-memory broker to consume from
+     * @param domainEventSerializer The DomainEventSerializer instance to serialize/deserialize messages
+     * @param executionContextDetector The ExecutionContextDetector for detecting execution contexts
+     * @param executionContextProcessor The ExecutionContextProcessor for processing execution contexts
+     * @param classProvider The ClassProvider for providing Class instances
+     * @param receiveTimeoutMs The timeout value for receiving messages in milliseconds
+     * @param threadingConfiguration The threading configuration of the consumer
+     * @param batchConfiguration The batch configuration of the consumer
+     * @param handlerConcurrencyConfigurations The concurrency configurations of handlers to be handled in parallel
+     */
+    public InMemoryMqDomainEventConsumer(InMemoryMqBroker broker,
+                                         DomainEventSerializer domainEventSerializer,
+                                         ExecutionContextDetector executionContextDetector,
+                                         ExecutionContextProcessor executionContextProcessor,
+                                         ClassProvider classProvider,
+                                         long receiveTimeoutMs,
+                                         MqConsumerThreadingConfiguration threadingConfiguration,
+                                         MqConsumerBatchConfiguration batchConfiguration,
+                                         List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        super(domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            threadingConfiguration, batchConfiguration, handlerConcurrencyConfigurations);
+        this.broker = Objects.requireNonNull(broker, "InMemoryMqBroker is required!");
+        this.receiveTimeoutMs = receiveTimeoutMs;
+        initialize();
+    }
+
+    /**
+     * Nothing to connect, the broker lives in the same JVM.
+     */
+    @Override
+    protected void connect() {
+        log.info("Consuming from in-memory broker");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InMemoryMqSubscriber createConsumer(String topicName, String consumerName) {
+        log.info("Creating subscriber '{}' for : {}", consumerName, topicName);
+        return broker.subscribe(topicName, consumerName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InMemoryMqMessage consumeMessage(InMemoryMqSubscriber subscriber) {
+        return consumeMessage(subscriber, receiveTimeoutMs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InMemoryMqMessage consumeMessageNoWait(InMemoryMqSubscriber subscriber) {
+        return consumeMessage(subscriber, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InMemoryMqMessage consumeMessage(InMemoryMqSubscriber subscriber, long timeoutMs) {
+        try {
+            return subscriber.receive(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Consuming message interrupted");
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DomainEventTraceContext traceContext(InMemoryMqMessage message) {
+        var traceId = message.getProperty(DomainEventTraceContext.TRACE_ID_PROPERTY);
+        return traceId == null ? null : new DomainEventTraceContext(traceId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void acknowledge(InMemoryMqMessage message) {
+        message.acknowledge();
+    }
+
+    /**
+     * Acknowledges a batch by acknowledging its last message, as acknowledgements are cumulative per subscriber.
+     *
+     * @param subscriber The subscriber the batch was received from.
+     * @param batch The handled messages.
+     */
+    @Override
+    protected void acknowledgeBatch(InMemoryMqSubscriber subscriber, List<InMemoryMqMessage> batch) {
+        if (!batch.isEmpty()) {
+            acknowledge(batch.get(batch.size() - 1));
+        }
+    }
+
+    /**
+     * Acknowledgements are cumulative per subscriber.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean acknowledgesCumulatively() {
+        return true;
+    }
+
+    /**
+     * Redelivers all unacknowledged messages of the given subscriber.
+     *
+     * @param subscriber The subscriber to recover.
+     * @return true
+     */
+    @Override
+    protected boolean recover(InMemoryMqSubscriber subscriber) {
+        subscriber.recover();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String messageBody(InMemoryMqMessage message) {
+        return message.getBody();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] binaryMessageBody(InMemoryMqMessage message) {
+        return message.getBinaryBody();
+    }
+
+    /**
+     * Nothing to close, the broker lives in the same JVM.
+     */
+    @Override
+    protected void closeConnection() {
+        log.info("Closed in-memory consumer");
+    }
+
+    /**
+     * Closes the subscriber, unacknowledged messages are redelivered to its subscription.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void closeConsumer(InMemoryMqSubscriber subscriber) {
+        subscriber.close();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.publish;
+
+import io.domainlifecycles.events.instrumentation.DomainEventTraceContext;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqMessage;
+import io.domainlifecycles.events.mq.publish.AbstractMqDomainEventPublisher;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Publishes DomainEvent messages to the topics of an {@link InMemoryMqBroker}.
+ * Sending a message never blocks and needs no network, which makes the publisher suitable for load tests and as
+ * transport within a single JVM.
+ *
+ * @see AbstractMqDomainEventPublisher
+ *
+ * @author Mario Herb
+ */
+public class InMemoryMqDomainEventPublisher extends AbstractMqDomainEventPublisher<String> {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMqDomainEventPublisher.class);
+
+    private final InMemoryMqBroker broker;
+
+    /**
+     * Constructor for InMemoryMqDomainEventPublisher.
+     *
+     * @param broker The in-memory broker to publish to.
+     * @param domainEventSerializer for serialization/deserialization.
+     */
+    public InMemoryMqDomainEventPublisher(InMemoryMqBroker broker, DomainEventSerializer domainEventSerializer) {
+        super(domainEventSerializer);
+        this.broker = Objects.requireNonNull(broker, "InMemoryMqBroker is required!");
+        connect();
+    }
+
+    /**
+     * Nothing to connect, the broker lives in the same JVM.
+     */
+    @Override
+    protected void connect() {
+        log.info("Publishing to in-memory broker");
+    }
+
+    /**
+     * Nothing to close, the broker lives in the same JVM.
+     */
+    @Override
+    public void closeAll() {
+        log.info("Closed in-memory publisher");
+    }
+
+    /**
+     * Topics are identified by their name only.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected String createTopic(String topicName) {
+        return topicName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendMessageToTopic(String body, String topic) {
+        broker.send(topic, new InMemoryMqMessage(body, null, properties()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendBytesToTopic(byte[] body, String topic) {
+        broker.send(topic, new InMemoryMqMessage(null, body, properties()));
+    }
+
+    private static Map<String, String> properties() {
+        var traceContext = DomainEventTraceContext.current();
+        return traceContext == null
+            ? Map.of()
+            : Map.of(DomainEventTraceContext.TRACE_ID_PROPERTY, traceContext.traceId());
+    }
+}
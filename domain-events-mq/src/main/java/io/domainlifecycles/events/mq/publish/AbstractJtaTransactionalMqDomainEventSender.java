@@ -31,6 +31,7 @@ import io.domainlifecycles.events.jta.publish.AbstractJtaTransactionalDomainEven
 import io.domainlifecycles.events.jta.publish.JtaDomainEventSender;
 import jakarta.transaction.TransactionManager;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -71,11 +72,19 @@ public abstract class AbstractJtaTransactionalMqDomainEventSender<TOPIC> extends
         abstractMqDomainEventPublisher.publish(domainEvent);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendBatch(List<DomainEvent> domainEvents) {
+        abstractMqDomainEventPublisher.publishBatch(domainEvents);
+    }
+
     private static class MqJtaDomainEventSender implements JtaDomainEventSender{
 
-        private final AbstractMqDomainEventPublisher abstractMqDomainEventPublisher;
+        private final AbstractMqDomainEventPublisher<?> abstractMqDomainEventPublisher;
 
-        private MqJtaDomainEventSender(AbstractMqDomainEventPublisher abstractMqDomainEventPublisher) {
+        private MqJtaDomainEventSender(AbstractMqDomainEventPublisher<?> abstractMqDomainEventPublisher) {
             this.abstractMqDomainEventPublisher = Objects.requireNonNull(abstractMqDomainEventPublisher, "AbstractMqDomainEventPublisher is required!");
         }
 
@@ -86,6 +95,22 @@ public abstract class AbstractJtaTransactionalMqDomainEventSender<TOPIC> extends
         public void send(DomainEvent domainEvent) {
             abstractMqDomainEventPublisher.publish(domainEvent);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void sendBatch(List<DomainEvent> domainEvents) {
+            abstractMqDomainEventPublisher.publishBatch(domainEvents);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean supportsBatches() {
+            return true;
+        }
     }
 
 }
@@ -28,16 +28,23 @@ package io.domainlifecycles.events.mq.publish;
 
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.exception.DLCEventsException;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
 import io.domainlifecycles.events.serialize.DomainEventSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract class for publishing domain events to a message queue.
+ * <br>
+ * If the configured serializer is a {@link BinaryDomainEventSerializer}, the events are sent as binary messages
+ * (see {@link #sendBytesToTopic(byte[], Object)}), otherwise as text messages.
  *
  * @param <TOPIC> the type of topic used in the message queue
  *
@@ -48,7 +55,7 @@ public abstract class AbstractMqDomainEventPublisher<TOPIC> implements MqDomainE
     private static final Logger log = LoggerFactory.getLogger(AbstractMqDomainEventPublisher.class);
 
     private final DomainEventSerializer domainEventSerializer;
-    private final Map<String, TOPIC> topics = new HashMap<>();
+    private final Map<String, TOPIC> topics = new ConcurrentHashMap<>();
 
     /**
      * Constructs an AbstractMqDomainEventPublisher with the specified ObjectMapper.
@@ -73,15 +80,51 @@ public abstract class AbstractMqDomainEventPublisher<TOPIC> implements MqDomainE
     @Override
     public void publish(DomainEvent domainEvent) {
         var topic = getTopicForEvent(domainEvent.getClass().getName());
-        String body;
+        if (domainEventSerializer instanceof BinaryDomainEventSerializer binaryDomainEventSerializer) {
+            sendBytesToTopic(serializeToBytes(binaryDomainEventSerializer, domainEvent), topic);
+        } else {
+            sendMessageToTopic(serialize(domainEvent), topic);
+        }
+    }
+
+    /**
+     * Serializes all DomainEvents first, so that a serialization failure prevents any of them from being sent.
+     * The serialized messages are then passed to {@link #sendMessagesToTopics(List)} as one send sequence.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        var messages = new ArrayList<TopicMessage<TOPIC>>(domainEvents.size());
+        for (var domainEvent : domainEvents) {
+            var topic = getTopicForEvent(domainEvent.getClass().getName());
+            if (domainEventSerializer instanceof BinaryDomainEventSerializer binaryDomainEventSerializer) {
+                messages.add(new TopicMessage<>(null, serializeToBytes(binaryDomainEventSerializer, domainEvent), topic));
+            } else {
+                messages.add(new TopicMessage<>(serialize(domainEvent), topic));
+            }
+        }
+        sendMessagesToTopics(messages);
+    }
+
+    private String serialize(DomainEvent domainEvent){
         try {
-            body = domainEventSerializer.serialize(domainEvent);
+            return domainEventSerializer.serialize(domainEvent);
         }catch (Throwable t){
             var msg = String.format("Serialization of DomainEvent '%s' failed!", domainEvent);
             log.error(msg, t);
             throw DLCEventsException.fail(msg,  t);
         }
-        sendMessageToTopic(body, topic);
+    }
+
+    private byte[] serializeToBytes(BinaryDomainEventSerializer binaryDomainEventSerializer, DomainEvent domainEvent){
+        try {
+            return binaryDomainEventSerializer.serializeToBytes(domainEvent);
+        }catch (Throwable t){
+            var msg = String.format("Binary serialization of DomainEvent '%s' failed!", domainEvent);
+            log.error(msg, t);
+            throw DLCEventsException.fail(msg,  t);
+        }
     }
 
     /**
@@ -98,14 +141,39 @@ public abstract class AbstractMqDomainEventPublisher<TOPIC> implements MqDomainE
      */
     abstract protected void sendMessageToTopic(String body, TOPIC topic) ;
 
+    /**
+     * Sends a binary message with the specified body to the given topic.
+     * By default, the body is sent Base64 encoded as text message using {@link #sendMessageToTopic(String, Object)}.
+     * Implementations should override this method, if the messaging infrastructure supports binary messages.
+     *
+     * @param body the binary message body to send
+     * @param topic the topic to send the message to
+     */
+    protected void sendBytesToTopic(byte[] body, TOPIC topic) {
+        sendMessageToTopic(Base64.getEncoder().encodeToString(body), topic);
+    }
+
+    /**
+     * Sends multiple messages to their topics in the given order.
+     * By default, each message is sent separately using {@link #sendMessageToTopic(String, Object)}
+     * or {@link #sendBytesToTopic(byte[], Object)}.
+     * Implementations should override this method, if the messaging infrastructure allows a more efficient
+     * send sequence (e.g. reusing a single producer).
+     *
+     * @param messages the messages to send
+     */
+    protected void sendMessagesToTopics(List<TopicMessage<TOPIC>> messages) {
+        messages.forEach(m -> {
+            if (m.isBinary()) {
+                sendBytesToTopic(m.binaryBody(), m.topic());
+            } else {
+                sendMessageToTopic(m.body(), m.topic());
+            }
+        });
+    }
+
     private TOPIC getTopicForEvent(String domainEventClassName){
-        var topicName = domainEventClassName;
-        var topic = topics.get(topicName);
-        if(topic == null){
-            topic = createTopic(topicName);
-            topics.put(topicName, topic);
-        }
-        return topic;
+        return topics.computeIfAbsent(domainEventClassName, this::createTopic);
     }
 
     /**
@@ -115,4 +183,34 @@ public abstract class AbstractMqDomainEventPublisher<TOPIC> implements MqDomainE
      * @return the created TOPIC instance
      */
     abstract protected TOPIC createTopic(String topicName);
+
+    /**
+     * A serialized message and the topic it is sent to. Either the text body or the binary body is set.
+     *
+     * @param body the text message body
+     * @param binaryBody the binary message body
+     * @param topic the topic the message is sent to
+     * @param <TOPIC> the type of topic used in the message queue
+     */
+    protected record TopicMessage<TOPIC>(String body, byte[] binaryBody, TOPIC topic) {
+
+        /**
+         * Creates a text message.
+         *
+         * @param body the text message body
+         * @param topic the topic the message is sent to
+         */
+        public TopicMessage(String body, TOPIC topic) {
+            this(body, null, topic);
+        }
+
+        /**
+         * Checks, if the message has a binary body.
+         *
+         * @return true, if the message is binary
+         */
+        public boolean isBinary() {
+            return binaryBody != null;
+        }
+    }
 }
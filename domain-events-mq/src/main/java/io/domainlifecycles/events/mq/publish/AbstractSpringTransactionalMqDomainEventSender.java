@@ -29,6 +29,8 @@ package io.domainlifecycles.events.mq.publish;
 import io.domainlifecycles.domain.types.DomainEvent;
 import io.domainlifecycles.events.spring.publish.AbstractSpringTransactionalDomainEventPublisher;
 
+import java.util.List;
+
 /**
  * Represents an abstract class for sending domain events to a message queue with a sending process bound to Spring transaction phases.
  * Extends AbstractSpringTransactionalDomainEventPublisher.
@@ -62,4 +64,12 @@ public abstract class AbstractSpringTransactionalMqDomainEventSender<TOPIC> exte
     protected void send(DomainEvent domainEvent) {
         abstractMqDomainEventPublisher.publish(domainEvent);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendBatch(List<DomainEvent> domainEvents) {
+        abstractMqDomainEventPublisher.publishBatch(domainEvents);
+    }
 }
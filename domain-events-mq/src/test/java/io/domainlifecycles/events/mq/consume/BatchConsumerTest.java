@@ -0,0 +1,212 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class BatchConsumerTest {
+
+    private static final MqConsumerBatchConfiguration BATCHING = new MqConsumerBatchConfiguration(10, 200);
+
+    @BeforeAll
+    public static void init() {
+        InMemoryConsumerFixture.initializeDomain();
+    }
+
+    @Test
+    public void testBatchesAreHandledInOrderAndAcknowledgedAtOnce() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), BATCHING, List.of());
+
+            //when
+            publish(fixture, 0, 30);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 30);
+            assertThat(numbers(fixture)).containsExactlyElementsOf(range(0, 30));
+            await().atMost(Duration.ofSeconds(5)).until(() -> consumer.acknowledged.size() == consumer.batchAcknowledgements.get());
+            assertThat(consumer.batchAcknowledgements.get()).isBetween(3, 10);
+            assertThat(consumer.recoveries.get()).isZero();
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testFailingHandlerDoesNotFailBatch() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            fixture.applicationService.behaviour = evt -> {
+                if (evt.number() == 3) {
+                    throw new IllegalStateException("Handler failed on purpose!");
+                }
+            };
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), BATCHING, List.of());
+
+            //when
+            publish(fixture, 0, 10);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 9);
+            assertThat(consumer.recoveries.get()).isZero();
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(numbers(fixture)).containsExactly(0, 1, 2, 4, 5, 6, 7, 8, 9);
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testPoisonMessageIsSkippedWithoutRedeliveringBatch() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), BATCHING, List.of());
+
+            //when
+            publish(fixture, 0, 4);
+            fixture.sendRaw(InMemoryConsumerFixture.A_TOPIC, "poison");
+            publish(fixture, 4, 8);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 8);
+            await().atMost(Duration.ofSeconds(5)).until(() -> consumer.deadLetters.size() == 1);
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(numbers(fixture)).containsExactlyElementsOf(range(0, 8));
+            assertThat(consumer.deadLetters).singleElement().extracting(m -> m.getBody()).isEqualTo("poison");
+            assertThat(consumer.recoveries.get()).isZero();
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testPoisonMessageDoesNotStopSingleMessageProcessing() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start();
+
+            //when
+            fixture.sendRaw(InMemoryConsumerFixture.A_TOPIC, "poison");
+            publish(fixture, 0, 3);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 3);
+            assertThat(consumer.deadLetters).hasSize(1);
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testPoisonMessageIsSkippedOnSharedPool() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(1, 5, Thread::new), BATCHING, List.of());
+
+            //when
+            publish(fixture, 0, 4);
+            fixture.sendRaw(InMemoryConsumerFixture.A_TOPIC, "poison");
+            publish(fixture, 4, 8);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 8);
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(numbers(fixture)).containsExactlyElementsOf(range(0, 8));
+            assertThat(consumer.deadLetters).hasSize(1);
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testFailedBatchAcknowledgementIsRecoveredAndRedelivered() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), BATCHING, List.of());
+            consumer.failingBatchAcknowledgements.set(1);
+
+            //when
+            publish(fixture, 0, 10);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() >= 10
+                && consumer.acknowledged.stream().filter(m -> m.getBody().equals("9:a")).count() == 1);
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(consumer.recoveries.get()).isEqualTo(1);
+            assertThat(numbers(fixture)).containsAll(range(0, 10));
+            assertThat(consumer.acknowledged).anyMatch(m -> m.isRedelivered());
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testFailedBatchAcknowledgementWithoutRecoveryAcknowledgesOneByOne() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), BATCHING, List.of());
+            consumer.recoverable = false;
+            consumer.failingBatchAcknowledgements.set(1);
+
+            //when
+            publish(fixture, 0, 10);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 10
+                && consumer.acknowledged.size() >= 10);
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(numbers(fixture)).containsExactlyElementsOf(range(0, 10));
+            assertThat(consumer.acknowledged).noneMatch(m -> m.isRedelivered());
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    private static void publish(InMemoryConsumerFixture fixture, int fromInclusive, int toExclusive) {
+        IntStream.range(fromInclusive, toExclusive).forEach(i -> fixture.publish(new ADomainEvent(i, "a")));
+    }
+
+    private static List<Integer> numbers(InMemoryConsumerFixture fixture) {
+        return fixture.applicationService.received.stream().map(ADomainEvent::number).toList();
+    }
+
+    private static List<Integer> range(int fromInclusive, int toExclusive) {
+        return IntStream.range(fromInclusive, toExclusive).boxed().toList();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.access.classes.DefaultClassProvider;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.MirrorBasedExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.handler.ReflectiveHandlerExecutor;
+import io.domainlifecycles.events.consume.execution.processor.SimpleExecutionContextProcessor;
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnApplicationService;
+import io.domainlifecycles.events.mq.domain.AnotherApplicationService;
+import io.domainlifecycles.events.mq.domain.AnotherDomainEvent;
+import io.domainlifecycles.events.mq.domain.TestDomainEventSerializer;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqMessage;
+import io.domainlifecycles.events.mq.inmemory.consume.InMemoryMqDomainEventConsumer;
+import io.domainlifecycles.events.mq.inmemory.publish.InMemoryMqDomainEventPublisher;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wires an {@link InMemoryMqDomainEventConsumer} (recording its acknowledgements) with the test domain,
+ * so that consumer tests run without a broker.
+ */
+class InMemoryConsumerFixture implements AutoCloseable {
+
+    static final String A_TOPIC = ADomainEvent.class.getName();
+    static final String A_SUBSCRIPTION = AnApplicationService.class.getName().replaceAll("\\.", "_")
+        + "-onADomainEvent-" + A_TOPIC.replaceAll("\\.", "_");
+    static final String ANOTHER_TOPIC = AnotherDomainEvent.class.getName();
+
+    final InMemoryMqBroker broker = new InMemoryMqBroker();
+    final AnApplicationService applicationService = new AnApplicationService();
+    final AnotherApplicationService anotherApplicationService = new AnotherApplicationService();
+    final DomainEventSerializer serializer = new TestDomainEventSerializer();
+    final InMemoryMqDomainEventPublisher publisher = new InMemoryMqDomainEventPublisher(broker, serializer);
+    private final DomainEventSerializer consumerSerializer;
+    private final Services services = new Services();
+    RecordingInMemoryMqDomainEventConsumer consumer;
+
+    static void initializeDomain() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.mq.domain"));
+    }
+
+    InMemoryConsumerFixture() {
+        this(null);
+    }
+
+    InMemoryConsumerFixture(DomainEventSerializer consumerSerializer) {
+        this.consumerSerializer = consumerSerializer == null ? serializer : consumerSerializer;
+        services.registerServiceKindInstance(applicationService);
+        services.registerServiceKindInstance(anotherApplicationService);
+    }
+
+    RecordingInMemoryMqDomainEventConsumer start(MqConsumerThreadingConfiguration threadingConfiguration,
+                                        MqConsumerBatchConfiguration batchConfiguration,
+                                        List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        consumer = new RecordingInMemoryMqDomainEventConsumer(
+            broker,
+            consumerSerializer,
+            new MirrorBasedExecutionContextDetector(services),
+            new SimpleExecutionContextProcessor(new ReflectiveHandlerExecutor()),
+            new DefaultClassProvider(),
+            20,
+            threadingConfiguration,
+            batchConfiguration,
+            handlerConcurrencyConfigurations
+        );
+        return consumer;
+    }
+
+    RecordingInMemoryMqDomainEventConsumer start() {
+        return start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(), List.of());
+    }
+
+    void publish(DomainEvent domainEvent) {
+        publisher.publish(domainEvent);
+    }
+
+    void sendRaw(String topic, String body) {
+        broker.send(topic, new InMemoryMqMessage(body, null, Map.of()));
+    }
+
+    int pendingA() {
+        return broker.getPendingCount(A_TOPIC, A_SUBSCRIPTION);
+    }
+
+    @Override
+    public void close() {
+        if (consumer != null) {
+            consumer.closeAll();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.TestBinaryDomainEventSerializer;
+import io.domainlifecycles.events.mq.domain.TestDomainEventSerializer;
+import io.domainlifecycles.events.mq.inmemory.publish.InMemoryMqDomainEventPublisher;
+import io.domainlifecycles.events.serialize.TextFallbackBinaryDomainEventSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class MixedSerializationConsumerTest {
+
+    @BeforeAll
+    public static void init() {
+        InMemoryConsumerFixture.initializeDomain();
+    }
+
+    @Test
+    public void testTextFallbackConsumerHandlesTextAndBinaryPublishers() {
+        var mixed = new TextFallbackBinaryDomainEventSerializer(
+            new TestDomainEventSerializer(), new TestBinaryDomainEventSerializer());
+        try (var fixture = new InMemoryConsumerFixture(mixed)) {
+            //given
+            var consumer = fixture.start();
+            var binaryPublisher = new InMemoryMqDomainEventPublisher(fixture.broker, mixed);
+
+            //when
+            fixture.publish(new ADomainEvent(1, "text"));
+            binaryPublisher.publish(new ADomainEvent(2, "binary"));
+            fixture.publish(new ADomainEvent(3, "text"));
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 3);
+            assertThat(fixture.applicationService.received).containsExactly(
+                new ADomainEvent(1, "text"), new ADomainEvent(2, "binary"), new ADomainEvent(3, "text"));
+            assertThat(consumer.acknowledged).extracting(m -> m.isBinary()).containsExactly(false, true, false);
+            assertThat(consumer.deadLetters).isEmpty();
+        }
+    }
+
+    @Test
+    public void testBinaryMessageIsNotDecodedAsTextByTextConsumer() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start();
+            var binaryPublisher = new InMemoryMqDomainEventPublisher(fixture.broker, new TestBinaryDomainEventSerializer());
+
+            //when
+            binaryPublisher.publish(new ADomainEvent(1, "binary"));
+            fixture.publish(new ADomainEvent(2, "text"));
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 1);
+            assertThat(fixture.applicationService.received).containsExactly(new ADomainEvent(2, "text"));
+            assertThat(consumer.deadLetters).hasSize(1);
+            assertThat(consumer.deadLetters.peek().isBinary()).isTrue();
+        }
+    }
+
+    @Test
+    public void testTextMessageIsRejectedByPureBinaryConsumer() {
+        try (var fixture = new InMemoryConsumerFixture(new TestBinaryDomainEventSerializer())) {
+            //given
+            var consumer = fixture.start();
+            var binaryPublisher = new InMemoryMqDomainEventPublisher(fixture.broker, new TestBinaryDomainEventSerializer());
+
+            //when
+            fixture.publish(new ADomainEvent(1, "text"));
+            binaryPublisher.publish(new ADomainEvent(2, "binary"));
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 1);
+            assertThat(fixture.applicationService.received).containsExactly(new ADomainEvent(2, "binary"));
+            assertThat(consumer.deadLetters).hasSize(1);
+            assertThat(consumer.deadLetters.peek().isBinary()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnApplicationService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MqDomainEventHandlerTest {
+
+    private static MqDomainEventHandler newHandler() {
+        return new MqDomainEventHandler(AnApplicationService.class.getName(), "onADomainEvent", ADomainEvent.class, null, null);
+    }
+
+    @Test
+    public void testAwaitResumedReturnsImmediatelyIfNotPaused() throws Exception {
+        //given
+        var handler = newHandler();
+
+        //when
+        var start = System.nanoTime();
+        var resumed = handler.awaitResumed(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(resumed).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testAwaitResumedTimesOutWhilePaused() throws Exception {
+        //given
+        var handler = newHandler();
+        handler.pause();
+
+        //when
+        var start = System.nanoTime();
+        var resumed = handler.awaitResumed(50, TimeUnit.MILLISECONDS);
+
+        //then
+        assertThat(resumed).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void testResumeSignalsWaitingThread() throws Exception {
+        //given
+        var handler = newHandler();
+        handler.pause();
+        var waiting = CompletableFuture.supplyAsync(() -> await(handler));
+        Thread.sleep(50);
+
+        //when
+        handler.resume();
+
+        //then
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.isPaused()).isFalse();
+    }
+
+    @Test
+    public void testWakeUpSignalsWaitingThreadWithoutResuming() throws Exception {
+        //given
+        var handler = newHandler();
+        handler.pause();
+        var waiting = CompletableFuture.supplyAsync(() -> await(handler));
+        Thread.sleep(50);
+
+        //when
+        handler.wakeUp();
+
+        //then
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(handler.isPaused()).isTrue();
+    }
+
+    @Test
+    public void testPausedTimeAccumulatesPauses() throws Exception {
+        //given
+        var handler = newHandler();
+        assertThat(handler.getPausedTime()).isEqualTo(Duration.ZERO);
+
+        //when
+        handler.pause();
+        Thread.sleep(30);
+        handler.pause();
+        handler.resume();
+        var firstPause = handler.getPausedTime();
+        Thread.sleep(30);
+        handler.resume();
+        var afterIdle = handler.getPausedTime();
+        handler.pause();
+        Thread.sleep(30);
+        var runningPause = handler.getPausedTime();
+
+        //then
+        assertThat(firstPause).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+        assertThat(afterIdle).isEqualTo(firstPause);
+        assertThat(runningPause).isGreaterThanOrEqualTo(firstPause.plusMillis(30));
+        assertThat(handler.getPauseCount()).isEqualTo(2);
+    }
+
+    private static boolean await(MqDomainEventHandler handler) {
+        try {
+            return handler.awaitResumed(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
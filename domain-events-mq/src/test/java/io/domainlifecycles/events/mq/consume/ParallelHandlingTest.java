@@ -0,0 +1,234 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnApplicationService;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqMessage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class ParallelHandlingTest {
+
+    @BeforeAll
+    public static void init() {
+        InMemoryConsumerFixture.initializeDomain();
+    }
+
+    @Test
+    public void testOrderingKeySelectsOneWorkerPerKey() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            Map<String, Set<String>> threadsByKey = new ConcurrentHashMap<>();
+            fixture.applicationService.behaviour = evt -> {
+                threadsByKey.computeIfAbsent(evt.key(), k -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+                sleep(1);
+            };
+            fixture.start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(),
+                List.of(concurrency(3, 6, true)));
+            var keys = List.of("a", "b", "c");
+
+            //when
+            for (int i = 0; i < 90; i++) {
+                fixture.publish(new ADomainEvent(i, keys.get(i % keys.size())));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(10)).until(() -> fixture.applicationService.received.size() == 90);
+            for (String key : keys) {
+                assertThat(fixture.applicationService.received.stream()
+                    .filter(evt -> evt.key().equals(key))
+                    .map(ADomainEvent::number)
+                    .toList())
+                    .hasSize(30)
+                    .isSorted();
+                assertThat(threadsByKey.get(key)).hasSize(1);
+            }
+            assertThat(threadsByKey.values().stream().flatMap(Set::stream).distinct()).hasSize(3);
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.pendingA() == 0);
+        }
+    }
+
+    @Test
+    public void testPrefetchBoundsMessagesInFlight() throws Exception {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var release = new CountDownLatch(1);
+            var started = new AtomicInteger();
+            fixture.applicationService.behaviour = evt -> {
+                started.incrementAndGet();
+                awaitRelease(release);
+            };
+            fixture.start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(),
+                List.of(concurrency(2, 3, false)));
+
+            //when
+            for (int i = 0; i < 10; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> started.get() == 2 && fixture.pendingA() == 7);
+            Thread.sleep(200);
+            assertThat(started.get()).isEqualTo(2);
+            assertThat(fixture.pendingA()).isEqualTo(7);
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 10);
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.pendingA() == 0);
+        }
+    }
+
+    @Test
+    public void testCumulativeAcknowledgementOfHandledPrefix() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var release = new CountDownLatch(1);
+            fixture.applicationService.behaviour = evt -> {
+                if (evt.number() == 2) {
+                    awaitRelease(release);
+                }
+            };
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(),
+                List.of(concurrency(2, 6, false)));
+
+            //when
+            for (int i = 0; i < 6; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 5);
+            await().atMost(Duration.ofSeconds(5)).until(() -> bodies(consumer).contains("1:a"));
+            assertThat(bodies(consumer)).doesNotContain("2:a", "3:a", "4:a", "5:a");
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> bodies(consumer).contains("5:a"));
+            consumer.closeAll();
+            fixture.consumer = null;
+            assertThat(fixture.pendingA()).isZero();
+        }
+    }
+
+    @Test
+    public void testSessionAcknowledgementAwaitsAllInFlightMessages() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var release = new CountDownLatch(1);
+            fixture.applicationService.behaviour = evt -> {
+                if (evt.number() == 2) {
+                    awaitRelease(release);
+                }
+            };
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(),
+                List.of(concurrency(2, 6, false)));
+            consumer.acknowledgingAllReceived = true;
+
+            //when
+            for (int i = 0; i < 6; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 5);
+            sleep(200);
+            // messages received after the blocked one must not be acknowledged, although they are handled
+            assertThat(bodies(consumer)).doesNotContain("2:a", "3:a", "4:a", "5:a");
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> bodies(consumer).contains("5:a"));
+        }
+    }
+
+    @Test
+    public void testCloseAcknowledgesHandledInFlightMessages() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var started = new AtomicInteger();
+            fixture.applicationService.behaviour = evt -> {
+                started.incrementAndGet();
+                sleep(100);
+            };
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(), new MqConsumerBatchConfiguration(),
+                List.of(concurrency(2, 4, false)));
+            for (int i = 0; i < 4; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.pendingA() == 0 && started.get() > 0);
+
+            //when
+            consumer.closeAll();
+            fixture.consumer = null;
+
+            //then
+            assertThat(fixture.applicationService.received).hasSize(4);
+            assertThat(fixture.pendingA()).isZero();
+            assertThat(consumer.acknowledged).extracting(InMemoryMqMessage::getBody).contains("3:a");
+        }
+    }
+
+    private static MqHandlerConcurrencyConfiguration concurrency(int concurrency, int prefetch, boolean ordered) {
+        return new MqHandlerConcurrencyConfiguration(
+            AnApplicationService.class.getName(),
+            "onADomainEvent",
+            ADomainEvent.class.getName(),
+            concurrency,
+            prefetch,
+            ordered ? evt -> ((ADomainEvent) evt).key() : null
+        );
+    }
+
+    private static List<String> bodies(RecordingInMemoryMqDomainEventConsumer consumer) {
+        return consumer.acknowledged.stream().map(InMemoryMqMessage::getBody).toList();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnApplicationService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class PausingConsumerTest {
+
+    private static final String HANDLER_CLASS = AnApplicationService.class.getName();
+    private static final String HANDLER_METHOD = "onADomainEvent";
+    private static final String EVENT_TYPE = ADomainEvent.class.getName();
+
+    @BeforeAll
+    public static void init() {
+        InMemoryConsumerFixture.initializeDomain();
+    }
+
+    @Test
+    public void testPausedHandlerDoesNotConsumeUntilResumed() throws Exception {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start();
+            consumer.pauseHandler(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+            Thread.sleep(50);
+
+            //when
+            fixture.publish(new ADomainEvent(1, "a"));
+            Thread.sleep(200);
+
+            //then
+            assertThat(consumer.isHandlerPaused(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE)).isTrue();
+            assertThat(fixture.applicationService.received).isEmpty();
+            assertThat(fixture.pendingA()).isEqualTo(1);
+            assertThat(consumer.handlerPausedTime(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(200));
+
+            //when
+            consumer.resumeHandler(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 1);
+        }
+    }
+
+    @Test
+    public void testPausedHandlerOnSharedPoolDoesNotConsumeUntilResumed() throws Exception {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(1, 10, Thread::new),
+                new MqConsumerBatchConfiguration(), List.of());
+            consumer.pauseHandler(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+
+            //when
+            fixture.publish(new ADomainEvent(1, "a"));
+            Thread.sleep(200);
+
+            //then
+            assertThat(fixture.applicationService.received).isEmpty();
+
+            //when
+            consumer.resumeHandler(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 1);
+        }
+    }
+
+    @Test
+    public void testCloseWakesUpPausedHandler() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start();
+            consumer.pauseHandler(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+
+            //when
+            var start = System.nanoTime();
+            consumer.closeAll();
+            fixture.consumer = null;
+
+            //then
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(900);
+        }
+    }
+
+    @Test
+    public void testUnknownHandlerIsNeverPaused() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start();
+
+            //when
+            consumer.pauseHandler("unknown", HANDLER_METHOD, EVENT_TYPE);
+
+            //then
+            assertThat(consumer.isHandlerPaused("unknown", HANDLER_METHOD, EVENT_TYPE)).isFalse();
+            assertThat(consumer.handlerPausedTime("unknown", HANDLER_METHOD, EVENT_TYPE)).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void testPausedTimeIsNotTrackedByDefault() {
+        //given
+        MqDomainEventConsumer consumer = new MqDomainEventConsumer() {
+            @Override
+            public void closeAll() {
+            }
+
+            @Override
+            public void pauseHandler(String handlerClassName, String handlerMethodName, String domainEventTypeName) {
+            }
+
+            @Override
+            public void resumeHandler(String handlerClassName, String handlerMethodName, String domainEventTypeName) {
+            }
+
+            @Override
+            public boolean isHandlerPaused(String handlerClassName, String handlerMethodName, String domainEventTypeName) {
+                return false;
+            }
+
+            @Override
+            public void initialize() {
+            }
+        };
+
+        //when
+        var pausedTime = consumer.handlerPausedTime(HANDLER_CLASS, HANDLER_METHOD, EVENT_TYPE);
+
+        //then
+        assertThat(pausedTime).isEqualTo(Duration.ZERO);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.access.classes.ClassProvider;
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.consume.execution.detector.ExecutionContextDetector;
+import io.domainlifecycles.events.consume.execution.processor.ExecutionContextProcessor;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqMessage;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqSubscriber;
+import io.domainlifecycles.events.mq.inmemory.consume.InMemoryMqDomainEventConsumer;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records acknowledgements, recoveries and dead letters of an {@link InMemoryMqDomainEventConsumer} and lets tests
+ * inject acknowledgement failures or acknowledge like a JMS session.
+ */
+class RecordingInMemoryMqDomainEventConsumer extends InMemoryMqDomainEventConsumer {
+
+    final Queue<InMemoryMqMessage> acknowledged = new ConcurrentLinkedQueue<>();
+    final AtomicInteger batchAcknowledgements = new AtomicInteger();
+    final AtomicInteger recoveries = new AtomicInteger();
+    final Queue<InMemoryMqMessage> deadLetters = new ConcurrentLinkedQueue<>();
+    final AtomicInteger failingBatchAcknowledgements = new AtomicInteger();
+    volatile boolean recoverable = true;
+    volatile boolean acknowledgingAllReceived = false;
+
+    RecordingInMemoryMqDomainEventConsumer(InMemoryMqBroker broker,
+                                           DomainEventSerializer domainEventSerializer,
+                                           ExecutionContextDetector executionContextDetector,
+                                           ExecutionContextProcessor executionContextProcessor,
+                                           ClassProvider classProvider,
+                                           long receiveTimeoutMs,
+                                           MqConsumerThreadingConfiguration threadingConfiguration,
+                                           MqConsumerBatchConfiguration batchConfiguration,
+                                           List<MqHandlerConcurrencyConfiguration> handlerConcurrencyConfigurations) {
+        super(broker, domainEventSerializer, executionContextDetector, executionContextProcessor, classProvider,
+            receiveTimeoutMs, threadingConfiguration, batchConfiguration, handlerConcurrencyConfigurations);
+    }
+
+    @Override
+    protected void acknowledge(InMemoryMqMessage message) {
+        super.acknowledge(message);
+        acknowledged.add(message);
+    }
+
+    @Override
+    protected void acknowledgeBatch(InMemoryMqSubscriber subscriber, List<InMemoryMqMessage> batch) {
+        if (failingBatchAcknowledgements.getAndUpdate(f -> Math.max(0, f - 1)) > 0) {
+            throw new IllegalStateException("Acknowledging batch failed on purpose!");
+        }
+        batchAcknowledgements.incrementAndGet();
+        super.acknowledgeBatch(subscriber, batch);
+    }
+
+    @Override
+    protected boolean acknowledgesAllReceived() {
+        return acknowledgingAllReceived;
+    }
+
+    @Override
+    protected boolean recover(InMemoryMqSubscriber subscriber) {
+        if (!recoverable) {
+            return false;
+        }
+        recoveries.incrementAndGet();
+        return super.recover(subscriber);
+    }
+
+    @Override
+    protected void deadLetter(InMemoryMqMessage message, Class<? extends DomainEvent> domainEventType, Throwable cause) {
+        super.deadLetter(message, domainEventType, cause);
+        deadLetters.add(message);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.consume;
+
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnotherDomainEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class SharedConsumerPoolTest {
+
+    @BeforeAll
+    public static void init() {
+        InMemoryConsumerFixture.initializeDomain();
+    }
+
+    @Test
+    public void testBusySubscriptionDoesNotStarveOthers() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            fixture.applicationService.behaviour = evt -> sleep(2);
+            fixture.start(new MqConsumerThreadingConfiguration(1, 20, Thread::new), new MqConsumerBatchConfiguration(), List.of());
+            for (int i = 0; i < 500; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> !fixture.applicationService.received.isEmpty());
+
+            //when
+            for (int i = 0; i < 5; i++) {
+                fixture.publish(new AnotherDomainEvent(i, "b"));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.anotherApplicationService.received.size() == 5);
+            assertThat(fixture.applicationService.received).hasSizeLessThan(500);
+            await().atMost(Duration.ofSeconds(10)).until(() -> fixture.applicationService.received.size() == 500);
+        }
+    }
+
+    @Test
+    public void testSubscriptionKeepsOrderOnSharedPool() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            fixture.start(new MqConsumerThreadingConfiguration(3, 5, Thread::new), new MqConsumerBatchConfiguration(), List.of());
+
+            //when
+            for (int i = 0; i < 200; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> fixture.applicationService.received.size() == 200);
+            assertThat(fixture.applicationService.received.stream().map(ADomainEvent::number).toList())
+                .isSorted();
+        }
+    }
+
+    @Test
+    public void testCloseDoesNotWaitForIdlePollDelay() {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(2, 60_000, Thread::new),
+                new MqConsumerBatchConfiguration(), List.of());
+
+            //when
+            var start = System.nanoTime();
+            consumer.closeAll();
+            fixture.consumer = null;
+
+            //then
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        }
+    }
+
+    @Test
+    public void testCloseFinishesRunningHandlerAndStopsPoolThreads() throws Exception {
+        try (var fixture = new InMemoryConsumerFixture()) {
+            //given
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            ThreadFactory threadFactory = r -> {
+                var thread = new Thread(r);
+                threads.add(thread);
+                return thread;
+            };
+            var handling = new CountDownLatch(1);
+            fixture.applicationService.behaviour = evt -> {
+                handling.countDown();
+                sleep(200);
+            };
+            var consumer = fixture.start(new MqConsumerThreadingConfiguration(2, 10, threadFactory),
+                new MqConsumerBatchConfiguration(), List.of());
+            for (int i = 0; i < 50; i++) {
+                fixture.publish(new ADomainEvent(i, "a"));
+            }
+            assertThat(handling.await(5, TimeUnit.SECONDS)).isTrue();
+
+            //when
+            consumer.closeAll();
+            fixture.consumer = null;
+            var handledOnClose = fixture.applicationService.received.size();
+            sleep(300);
+
+            //then
+            assertThat(handledOnClose).isGreaterThanOrEqualTo(1);
+            assertThat(fixture.applicationService.received).hasSize(handledOnClose);
+            assertThat(fixture.pendingA()).isEqualTo(50 - handledOnClose);
+            assertThat(threads).isNotEmpty().noneMatch(Thread::isAlive);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.domain;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes the test DomainEvents binary as the 4 bytes of their number followed by the UTF-16 encoded key,
+ * so that a binary payload can never be mistaken for the text encoding of the {@link TestDomainEventSerializer}.
+ */
+public class TestBinaryDomainEventSerializer implements BinaryDomainEventSerializer {
+
+    @Override
+    public byte[] serializeToBytes(DomainEvent event) {
+        int number;
+        String key;
+        if (event instanceof ADomainEvent a) {
+            number = a.number();
+            key = a.key();
+        } else {
+            var another = (AnotherDomainEvent) event;
+            number = another.number();
+            key = another.key();
+        }
+        var keyBytes = key.getBytes(StandardCharsets.UTF_16);
+        return ByteBuffer.allocate(4 + keyBytes.length).putInt(number).put(keyBytes).array();
+    }
+
+    @Override
+    public DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> eventType) {
+        var buffer = ByteBuffer.wrap(serializedEvent);
+        var number = buffer.getInt();
+        var key = new String(serializedEvent, 4, serializedEvent.length - 4, StandardCharsets.UTF_16);
+        if (eventType.equals(ADomainEvent.class)) {
+            return new ADomainEvent(number, key);
+        }
+        return new AnotherDomainEvent(number, key);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.domain;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.serialize.DomainEventSerializer;
+
+/**
+ * Serializes the test DomainEvents as {@code number:key}.
+ */
+public class TestDomainEventSerializer implements DomainEventSerializer {
+
+    @Override
+    public String serialize(DomainEvent event) {
+        if (event instanceof ADomainEvent a) {
+            return a.number() + ":" + a.key();
+        }
+        var another = (AnotherDomainEvent) event;
+        return another.number() + ":" + another.key();
+    }
+
+    @Override
+    public DomainEvent deserialize(String serializedEvent, Class<? extends DomainEvent> eventType) {
+        var separator = serializedEvent.indexOf(':');
+        var number = Integer.parseInt(serializedEvent.substring(0, separator));
+        var key = serializedEvent.substring(separator + 1);
+        if (eventType.equals(ADomainEvent.class)) {
+            return new ADomainEvent(number, key);
+        }
+        return new AnotherDomainEvent(number, key);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory;
+
+import io.domainlifecycles.access.classes.DefaultClassProvider;
+import io.domainlifecycles.events.api.ChannelRoutingConfiguration;
+import io.domainlifecycles.events.api.DomainEventTypeBasedRouter;
+import io.domainlifecycles.events.api.DomainEvents;
+import io.domainlifecycles.events.consume.execution.handler.ReflectiveHandlerExecutor;
+import io.domainlifecycles.events.mq.api.MqProcessingChannel;
+import io.domainlifecycles.events.mq.consume.MqConsumerBatchConfiguration;
+import io.domainlifecycles.events.mq.consume.MqConsumerThreadingConfiguration;
+import io.domainlifecycles.events.mq.domain.ADomainEvent;
+import io.domainlifecycles.events.mq.domain.AnApplicationService;
+import io.domainlifecycles.events.mq.domain.AnotherApplicationService;
+import io.domainlifecycles.events.mq.domain.AnotherDomainEvent;
+import io.domainlifecycles.events.mq.domain.TestDomainEventSerializer;
+import io.domainlifecycles.events.mq.inmemory.api.InMemoryMqChannelFactory;
+import io.domainlifecycles.events.mq.inmemory.broker.InMemoryMqBroker;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.services.Services;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs Domain Events through the whole MQ pipeline: {@link DomainEvents} routing, the publisher of an
+ * {@link InMemoryMqChannelFactory} channel, the {@link InMemoryMqBroker} and the consumer invoking the listeners.
+ */
+public class InMemoryMqChannelTest {
+
+    private InMemoryMqBroker broker;
+    private AnApplicationService applicationService;
+    private AnotherApplicationService anotherApplicationService;
+    private InMemoryMqChannelFactory factory;
+    private MqProcessingChannel channel;
+
+    @BeforeAll
+    public static void initDomain() {
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.mq.domain"));
+    }
+
+    @BeforeEach
+    public void init() {
+        broker = new InMemoryMqBroker();
+        applicationService = new AnApplicationService();
+        anotherApplicationService = new AnotherApplicationService();
+        var services = new Services();
+        services.registerServiceKindInstance(applicationService);
+        services.registerServiceKindInstance(anotherApplicationService);
+        factory = new InMemoryMqChannelFactory(
+            broker,
+            services,
+            new DefaultClassProvider(),
+            new ReflectiveHandlerExecutor(),
+            new TestDomainEventSerializer()
+        );
+        factory.setReceiveTimeoutMs(20);
+    }
+
+    @AfterEach
+    public void close() {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void testPublishedDomainEventsReachTheirListeners() {
+        //given
+        start();
+
+        //when
+        IntStream.range(0, 20).forEach(i -> DomainEvents.publish(new ADomainEvent(i, "a")));
+        DomainEvents.publish(new AnotherDomainEvent(1, "b"));
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> applicationService.received.size() == 20
+            && anotherApplicationService.received.size() == 1);
+        assertThat(applicationService.received).extracting(ADomainEvent::number)
+            .containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThat(anotherApplicationService.received).containsExactly(new AnotherDomainEvent(1, "b"));
+        assertThat(broker.getSentCount()).isEqualTo(21);
+    }
+
+    @Test
+    public void testFactoryConsumerConfigurationIsApplied() {
+        //given
+        factory.setConsumerThreadingConfiguration(new MqConsumerThreadingConfiguration(1));
+        factory.setConsumerBatchConfiguration(new MqConsumerBatchConfiguration(10, 50));
+        start();
+
+        //when
+        IntStream.range(0, 100).forEach(i -> DomainEvents.publish(new ADomainEvent(i, "a")));
+        IntStream.range(0, 100).forEach(i -> DomainEvents.publish(new AnotherDomainEvent(i, "b")));
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> applicationService.received.size() == 100
+            && anotherApplicationService.received.size() == 100);
+        assertThat(applicationService.received).extracting(ADomainEvent::number)
+            .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        assertThat(anotherApplicationService.received).extracting(AnotherDomainEvent::number)
+            .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    public void testFailingListenerDoesNotBlockTheSubscription() {
+        //given
+        applicationService.behaviour = evt -> {
+            if (evt.number() == 1) {
+                throw new IllegalStateException("Listener failed on purpose!");
+            }
+        };
+        start();
+
+        //when
+        IntStream.range(0, 3).forEach(i -> DomainEvents.publish(new ADomainEvent(i, "a")));
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> applicationService.received.size() == 2);
+        assertThat(applicationService.received).extracting(ADomainEvent::number).containsExactly(0, 2);
+    }
+
+    private void start() {
+        channel = factory.processingChannel("inMemoryMqChannel");
+        var router = new DomainEventTypeBasedRouter(List.of(channel));
+        router.defineDefaultChannel("inMemoryMqChannel");
+        new ChannelRoutingConfiguration(router);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.events.mq.inmemory.broker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemoryMqBrokerTest {
+
+    private static final String TOPIC = "aTopic";
+    private static final String SUBSCRIPTION = "aSubscription";
+
+    private final InMemoryMqBroker broker = new InMemoryMqBroker();
+
+    @Test
+    public void testEverySubscriptionReceivesEveryMessage() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        var otherSubscriber = broker.subscribe(TOPIC, "anotherSubscription");
+
+        //when
+        send(0, 3);
+
+        //then
+        assertThat(receiveBodies(subscriber, 3)).containsExactly("0", "1", "2");
+        assertThat(receiveBodies(otherSubscriber, 3)).containsExactly("0", "1", "2");
+        assertThat(broker.getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testMessagesWithoutSubscriptionAreDropped() throws Exception {
+        //given
+        send(0, 2);
+
+        //when
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+
+        //then
+        assertThat(broker.getSentCount()).isEqualTo(2);
+        assertThat(broker.getPendingCount(TOPIC, SUBSCRIPTION)).isZero();
+        assertThat(subscriber.receive(0)).isNull();
+    }
+
+    @Test
+    public void testSubscribersOfSharedSubscriptionCompete() throws Exception {
+        //given
+        var subscribers = List.of(
+            broker.subscribe(TOPIC, SUBSCRIPTION),
+            broker.subscribe(TOPIC, SUBSCRIPTION),
+            broker.subscribe(TOPIC, SUBSCRIPTION)
+        );
+        var received = new ConcurrentLinkedQueue<String>();
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (var subscriber : subscribers) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                    InMemoryMqMessage message;
+                    while ((message = subscriber.receive(100)) != null) {
+                        received.add(message.getBody());
+                        message.acknowledge();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        //when
+        send(0, 1_000);
+        start.countDown();
+        for (var thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        //then
+        assertThat(received).hasSize(1_000);
+        assertThat(received).doesNotHaveDuplicates();
+        assertThat(broker.getPendingCount(TOPIC, SUBSCRIPTION)).isZero();
+        assertThat(subscribers).allSatisfy(s -> assertThat(s.getUnacknowledgedCount()).isZero());
+    }
+
+    @Test
+    public void testAcknowledgementIsCumulative() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        send(0, 3);
+        var first = subscriber.receive(0);
+        var second = subscriber.receive(0);
+        subscriber.receive(0);
+
+        //when
+        second.acknowledge();
+
+        //then
+        assertThat(subscriber.getUnacknowledgedCount()).isEqualTo(1);
+        first.acknowledge();
+        assertThat(subscriber.getUnacknowledgedCount()).isEqualTo(1);
+        subscriber.recover();
+        assertThat(receiveBodies(subscriber, 1)).containsExactly("2");
+        assertThat(subscriber.receive(0)).isNull();
+    }
+
+    @Test
+    public void testRecoverRedeliversUnacknowledgedMessagesFirst() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        send(0, 4);
+        var first = subscriber.receive(0);
+        subscriber.receive(0);
+        subscriber.receive(0);
+        first.acknowledge();
+
+        //when
+        subscriber.recover();
+
+        //then
+        assertThat(subscriber.getUnacknowledgedCount()).isZero();
+        assertThat(broker.getPendingCount(TOPIC, SUBSCRIPTION)).isEqualTo(3);
+        var redelivered = subscriber.receive(0);
+        assertThat(redelivered.getBody()).isEqualTo("1");
+        assertThat(redelivered.isRedelivered()).isTrue();
+        assertThat(redelivered.getDeliveryCount()).isEqualTo(2);
+        assertThat(subscriber.receive(0).getBody()).isEqualTo("2");
+        var fresh = subscriber.receive(0);
+        assertThat(fresh.getBody()).isEqualTo("3");
+        assertThat(fresh.isRedelivered()).isFalse();
+        assertThat(fresh.getDeliveryCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCloseRedeliversToOtherSubscribers() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        var otherSubscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        send(0, 2);
+        subscriber.receive(0);
+        subscriber.receive(0);
+
+        //when
+        subscriber.close();
+
+        //then
+        var redelivered = List.of(otherSubscriber.receive(0), otherSubscriber.receive(0));
+        assertThat(redelivered).extracting(InMemoryMqMessage::getBody).containsExactly("0", "1");
+        assertThat(redelivered).allMatch(InMemoryMqMessage::isRedelivered);
+        assertThatThrownBy(() -> subscriber.receive(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testRedeliveryCountsEveryDelivery() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+        send(0, 1);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            subscriber.receive(0);
+            subscriber.recover();
+        }
+
+        //then
+        var message = subscriber.receive(0);
+        assertThat(message.getDeliveryCount()).isEqualTo(4);
+        assertThat(message.isRedelivered()).isTrue();
+    }
+
+    @Test
+    public void testMessageRequiresExactlyOneBody() {
+        assertThatThrownBy(() -> new InMemoryMqMessage(null, null, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InMemoryMqMessage("text", new byte[]{1}, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InMemoryMqMessage("text", null, Map.of()).acknowledge())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testBinaryMessagesKeepTheirBodyAndProperties() throws Exception {
+        //given
+        var subscriber = broker.subscribe(TOPIC, SUBSCRIPTION);
+
+        //when
+        broker.send(TOPIC, new InMemoryMqMessage(null, new byte[]{1, 2, 3}, Map.of("aProperty", "aValue")));
+
+        //then
+        var message = subscriber.receive(0);
+        assertThat(message.isBinary()).isTrue();
+        assertThat(message.getBody()).isNull();
+        assertThat(message.getBinaryBody()).containsExactly(1, 2, 3);
+        assertThat(message.getProperty("aProperty")).isEqualTo("aValue");
+    }
+
+    private void send(int from, int to) {
+        IntStream.range(from, to)
+            .forEach(i -> broker.send(TOPIC, new InMemoryMqMessage(String.valueOf(i), null, Map.of())));
+    }
+
+    private static List<String> receiveBodies(InMemoryMqSubscriber subscriber, int count) throws InterruptedException {
+        var bodies = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            var message = subscriber.receive(100);
+            if (message != null) {
+                bodies.add(message.getBody());
+            }
+        }
+        return bodies;
+    }
+}
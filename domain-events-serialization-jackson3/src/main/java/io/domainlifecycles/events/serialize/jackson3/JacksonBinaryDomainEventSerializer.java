@@ -0,0 +1,88 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.serialize.jackson3;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.serialize.BinaryDomainEventSerializer;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * A binary serializer implementation that uses Jackson 3 for serializing and deserializing domain events.
+ * <p>
+ * The encoding is defined by the given {@link ObjectMapper}. Binary Jackson dataformats like Smile or CBOR reduce the
+ * payload size and the serialization CPU compared to JSON text, e.g.
+ * <pre>{@code
+ * new JacksonBinaryDomainEventSerializer(
+ *     SmileMapper.builder()
+ *         .addModule(new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider()))
+ *         .build()
+ * );
+ * }</pre>
+ * The mapper must be configured with a {@link DlcJacksonModule}. The dataformat module itself
+ * (e.g. {@code tools.jackson.dataformat:jackson-dataformat-smile}) must be added as dependency by the application.
+ *
+ * @author Mario Herb
+ */
+public class JacksonBinaryDomainEventSerializer implements BinaryDomainEventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs an instance of {@code JacksonBinaryDomainEventSerializer} with a provided {@link ObjectMapper},
+     * defining the binary encoding.
+     *
+     * @param objectMapper the {@link ObjectMapper} instance used for binary processing; must not be null
+     */
+    public JacksonBinaryDomainEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "An ObjectMapper is required!");
+    }
+
+    /**
+     * Serializes a {@link DomainEvent} object into its binary representation.
+     *
+     * @param event the {@link DomainEvent} instance to be serialized; must not be null
+     * @return the binary representation of the provided {@link DomainEvent} object
+     */
+    @Override
+    public byte[] serializeToBytes(DomainEvent event) {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * Deserializes a binary representation of a {@link DomainEvent} into its corresponding domain event object.
+     *
+     * @param serializedEvent the binary representation of the domain event to be deserialized; must not be null
+     * @param cls the {@link Class} object representing the specific {@code DomainEvent} subclass to be deserialized into; must not be null
+     * @return an instance of the specified {@code DomainEvent} subclass, deserialized from the provided bytes
+     */
+    @Override
+    public DomainEvent deserializeFromBytes(byte[] serializedEvent, Class<? extends DomainEvent> cls) {
+        return objectMapper.readValue(serializedEvent, cls);
+    }
+}
@@ -1,11 +1,21 @@
 package io.domainlifecycles.events.serialize.jackson3.test;
 
+import io.domainlifecycles.builder.innerclass.InnerClassDomainObjectBuilderProvider;
+import io.domainlifecycles.events.serialize.TextFallbackBinaryDomainEventSerializer;
+import io.domainlifecycles.events.serialize.jackson3.JacksonBinaryDomainEventSerializer;
 import io.domainlifecycles.events.serialize.jackson3.JacksonDomainEventSerializer;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
 import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class DomainEventSerializerTest {
 
@@ -22,4 +32,82 @@ public class DomainEventSerializerTest {
         var event = new JacksonDomainEventSerializer().deserialize("{\"id\":5,\"vo\":\"test\"}", MyDomainEvent.class);
         assertThat(event).isEqualTo(new MyDomainEvent(new MyId(5l), new MyVO("test")));
     }
+
+    @Test
+    public void testBinaryRoundTrip(){
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.serialize.jackson3.test"));
+        var serializer = new JacksonBinaryDomainEventSerializer(
+            JsonMapper.builder()
+                .addModule(new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider()))
+                .build()
+        );
+        var event = new MyDomainEvent(new MyId(5l), new MyVO("test"));
+        var bytes = serializer.serializeToBytes(event);
+        assertThat(serializer.deserializeFromBytes(bytes, MyDomainEvent.class)).isEqualTo(event);
+        assertThat(serializer.deserialize(serializer.serialize(event), MyDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    public void testSmileRoundTrip(){
+        //given
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.serialize.jackson3.test"));
+        var serializer = new JacksonBinaryDomainEventSerializer(
+            SmileMapper.builder()
+                .addModule(new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider()))
+                .build()
+        );
+        var event = new MyDomainEvent(new MyId(5l), new MyVO("test"));
+
+        //when
+        var bytes = serializer.serializeToBytes(event);
+
+        //then
+        assertThat(new String(bytes, 0, 3, StandardCharsets.ISO_8859_1)).isEqualTo(":)\n");
+        assertThat(serializer.deserializeFromBytes(bytes, MyDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    public void testCborRoundTrip(){
+        //given
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.serialize.jackson3.test"));
+        var serializer = new JacksonBinaryDomainEventSerializer(
+            CBORMapper.builder()
+                .addModule(new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider()))
+                .build()
+        );
+        var event = new MyDomainEvent(new MyId(5l), new MyVO("test"));
+
+        //when
+        var bytes = serializer.serializeToBytes(event);
+
+        //then
+        assertThat(bytes.length).isLessThan(new JacksonDomainEventSerializer().serialize(event).length());
+        assertThat(serializer.deserializeFromBytes(bytes, MyDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    public void testTextFallbackReadsJsonAndSmile(){
+        //given
+        Domain.initialize(new ReflectiveDomainMirrorFactory("io.domainlifecycles.events.serialize.jackson3.test"));
+        var smileSerializer = new JacksonBinaryDomainEventSerializer(
+            SmileMapper.builder()
+                .addModule(new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider()))
+                .build()
+        );
+        var jsonSerializer = new JacksonDomainEventSerializer();
+        var serializer = new TextFallbackBinaryDomainEventSerializer(jsonSerializer, smileSerializer);
+        var event = new MyDomainEvent(new MyId(5l), new MyVO("test"));
+
+        //when
+        var json = jsonSerializer.serialize(event);
+        var smile = smileSerializer.serializeToBytes(event);
+
+        //then
+        assertThat(serializer.deserialize(json, MyDomainEvent.class)).isEqualTo(event);
+        assertThat(serializer.deserializeFromBytes(smile, MyDomainEvent.class)).isEqualTo(event);
+        assertThat(serializer.serialize(event)).isEqualTo(json);
+        assertThat(serializer.serializeToBytes(event)).isEqualTo(smile);
+        assertThatThrownBy(() -> smileSerializer.deserialize(json, MyDomainEvent.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -28,9 +28,9 @@ package io.domainlifecycles.events.spring.listeners;
 
 import io.domainlifecycles.domain.types.AggregateDomainEvent;
 import io.domainlifecycles.mirror.api.AggregateRootMirror;
-import io.domainlifecycles.mirror.api.DomainEventMirror;
 import io.domainlifecycles.mirror.api.DomainMirror;
-import io.domainlifecycles.mirror.api.RepositoryMirror;
+import io.domainlifecycles.mirror.api.DomainTypeMirror;
+import io.domainlifecycles.mirror.visitor.ContextDomainObjectVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
@@ -43,7 +43,17 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The AggregateDomainEventAdapter is responsible for handling {@link AggregateDomainEvent}
@@ -56,12 +66,25 @@ import java.util.Optional;
  * utilizes reflection to dynamically invoke methods. It is also designed to work with Spring's
  * transactional and asynchronous mechanisms.
  *
+ * The aggregate roots and repositories listening to each domain event type are indexed once from the domain mirror,
+ * when the adapter is created. Repository beans and the {@link MethodHandle}s of the repository and listener methods
+ * are resolved on the first delivery of a domain event type and cached, so that further deliveries only need
+ * map lookups and direct invocations.
+ *
  * @author Mario Herb
  */
 public class AggregateDomainEventAdapter implements ApplicationContextAware {
 
+    private static final MethodType INVOCATION_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final RepositoryBinding NO_REPOSITORY = new RepositoryBinding(null, null, null);
+    private static final AggregateBinding NO_AGGREGATE_MIRROR = new AggregateBinding(null, null);
+    private static final AggregateBinding NO_LISTENER = new AggregateBinding(null, null);
+
     private final Logger log = LoggerFactory.getLogger(AggregateDomainEventAdapter.class);
     private final DomainMirror domainMirror;
+    private final Map<String, String> repositoryTypeNamesByEventTypeName;
+    private final Map<RepositoryKey, RepositoryBinding> repositoryBindings = new ConcurrentHashMap<>();
+    private final Map<AggregateKey, AggregateBinding> aggregateBindings = new ConcurrentHashMap<>();
     private ApplicationContext context;
 
     /**
@@ -75,6 +98,7 @@ public class AggregateDomainEventAdapter implements ApplicationContextAware {
      */
     public AggregateDomainEventAdapter(DomainMirror domainMirror) {
         this.domainMirror = domainMirror;
+        this.repositoryTypeNamesByEventTypeName = indexRepositoriesByListenedEvent(domainMirror);
     }
 
     /**
@@ -90,45 +114,121 @@ public class AggregateDomainEventAdapter implements ApplicationContextAware {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Async
     public void onAggregateDomainEvent(AggregateDomainEvent<?,?> event){
-        var aggregateDomainEventMirror = domainEventMirrorForAggregateDomainEvent(event);
-        var repositoryMirror = repositoryMirrorForAggregateDomainEventMirror(aggregateDomainEventMirror);
-        if(repositoryMirror != null){
-            var repo = getBeanByClassName(repositoryMirror.getTypeName());
-            var repoTargetClass = AopUtils.getTargetClass(repo);
-            var methodFind = ReflectionUtils.findMethod(repoTargetClass, "findById", event.targetId().getClass());
-            ReflectionUtils.makeAccessible(methodFind);
-            var aggregateOptional = (Optional)ReflectionUtils.invokeMethod(methodFind, repo, event.targetId());
-            if(aggregateOptional.isPresent()){
-                var aggregate = aggregateOptional.get();
-                var aggregateRootMirror = (AggregateRootMirror)domainMirror
-                    .getDomainTypeMirror(aggregate.getClass().getName())
-                    .orElse(null);
-                if(aggregateRootMirror == null){
-                    log.warn("Aggregate not found for : {}", aggregate.getClass().getName());
-                    return;
-                }
-                var listenerMethod = aggregateRootMirror.getMethods().stream()
-                    .filter(m -> m.listensTo(aggregateDomainEventMirror))
-                    .findFirst().orElse(null);
-
-                if(listenerMethod != null) {
-                    var methodListener = ReflectionUtils.findMethod(aggregate.getClass(), listenerMethod.getName(), event.getClass());
-                    ReflectionUtils.makeAccessible(methodListener);
-                    ReflectionUtils.invokeMethod(methodListener, aggregate, event);
-
-                    var methodUpdate = ReflectionUtils.findMethod(repoTargetClass, "update", aggregate.getClass());
-                    ReflectionUtils.makeAccessible(methodUpdate);
-                    ReflectionUtils.invokeMethod(methodUpdate, repo, aggregate);
-                }else{
-                    log.warn("No listener found for event: {}", event);
+        var repositoryBinding = repositoryBindings.computeIfAbsent(
+            new RepositoryKey(event.getClass(), event.targetId().getClass()),
+            this::resolveRepositoryBinding
+        );
+        if(repositoryBinding == NO_REPOSITORY){
+            log.warn("No repository found for event: {}", event);
+            return;
+        }
+        var aggregateOptional = (Optional<?>) invoke(repositoryBinding.findById(), repositoryBinding.repository(), event.targetId());
+        if(aggregateOptional.isEmpty()){
+            log.warn("Aggregate not found for event: {}", event);
+            return;
+        }
+        var aggregate = aggregateOptional.get();
+        var aggregateBinding = aggregateBindings.computeIfAbsent(
+            new AggregateKey(event.getClass(), aggregate.getClass()),
+            key -> resolveAggregateBinding(key, repositoryBinding)
+        );
+        if(aggregateBinding == NO_AGGREGATE_MIRROR){
+            log.warn("Aggregate not found for : {}", aggregate.getClass().getName());
+        }else if(aggregateBinding == NO_LISTENER){
+            log.warn("No listener found for event: {}", event);
+        }else{
+            invoke(aggregateBinding.listener(), aggregate, event);
+            invoke(aggregateBinding.update(), repositoryBinding.repository(), aggregate);
+        }
+    }
+
+    private static Map<String, String> indexRepositoriesByListenedEvent(DomainMirror domainMirror) {
+        var repositoryTypeNamesByAggregateTypeName = new HashMap<String, String>();
+        domainMirror.getAllRepositoryMirrors().forEach(r -> r.getManagedAggregate()
+            .ifPresent(a -> repositoryTypeNamesByAggregateTypeName.putIfAbsent(a.getTypeName(), r.getTypeName())));
+        var repositoryTypeNamesByEventTypeName = new HashMap<String, String>();
+        var listenedEventTypeNames = new HashSet<String>();
+        for (var aggregateRootMirror : domainMirror.getAllAggregateRootMirrors()) {
+            var repositoryTypeName = repositoryTypeNamesByAggregateTypeName.get(aggregateRootMirror.getTypeName());
+            listenedEventTypeNames(aggregateRootMirror).forEach(eventTypeName -> {
+                if (listenedEventTypeNames.add(eventTypeName) && repositoryTypeName != null) {
+                    repositoryTypeNamesByEventTypeName.put(eventTypeName, repositoryTypeName);
                 }
-            }else{
-                log.warn("Aggregate not found for event: {}", event);
+            });
+        }
+        return Map.copyOf(repositoryTypeNamesByEventTypeName);
+    }
+
+    /**
+     * Collects the domain events listened to by any type within the aggregate, like {@link AggregateRootMirror#listensTo}.
+     */
+    private static Set<String> listenedEventTypeNames(AggregateRootMirror aggregateRootMirror) {
+        var eventTypeNames = new LinkedHashSet<String>();
+        var visitor = new ContextDomainObjectVisitor(aggregateRootMirror) {
+            @Override
+            public void visitEnterAnyDomainType(DomainTypeMirror domainTypeMirror) {
+                domainTypeMirror.getMethods()
+                    .forEach(m -> m.getListenedEvent().ifPresent(e -> eventTypeNames.add(e.getTypeName())));
             }
-        }else{
-            log.warn("No repository found for event: {}", event);
+        };
+        visitor.start();
+        return eventTypeNames;
+    }
+
+    private RepositoryBinding resolveRepositoryBinding(RepositoryKey key) {
+        var repositoryTypeName = repositoryTypeNamesByEventTypeName.get(key.eventType().getName());
+        if(repositoryTypeName == null){
+            return NO_REPOSITORY;
+        }
+        var repo = getBeanByClassName(repositoryTypeName);
+        var repoTargetClass = AopUtils.getTargetClass(repo);
+        var findById = findMethod(repoTargetClass, "findById", key.idType());
+        return new RepositoryBinding(repo, repoTargetClass, methodHandle(findById));
+    }
+
+    private AggregateBinding resolveAggregateBinding(AggregateKey key, RepositoryBinding repositoryBinding) {
+        var aggregateRootMirror = (AggregateRootMirror)domainMirror
+            .getDomainTypeMirror(key.aggregateType().getName())
+            .orElse(null);
+        if(aggregateRootMirror == null){
+            return NO_AGGREGATE_MIRROR;
+        }
+        var listenerMethod = aggregateRootMirror.getMethods().stream()
+            .filter(m -> m.getListenedEvent().map(e -> e.getTypeName().equals(key.eventType().getName())).orElse(false))
+            .findFirst().orElse(null);
+        if(listenerMethod == null){
+            return NO_LISTENER;
         }
+        var methodListener = findMethod(key.aggregateType(), listenerMethod.getName(), key.eventType());
+        var methodUpdate = findMethod(repositoryBinding.repositoryTargetClass(), "update", key.aggregateType());
+        return new AggregateBinding(methodHandle(methodListener), methodHandle(methodUpdate));
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?> parameterType) {
+        var method = ReflectionUtils.findMethod(type, name, parameterType);
+        if(method == null){
+            throw new IllegalStateException(
+                String.format("Method '%s(%s)' not found on '%s'", name, parameterType.getName(), type.getName()));
+        }
+        return method;
+    }
+
+    private static MethodHandle methodHandle(Method method) {
+        ReflectionUtils.makeAccessible(method);
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(INVOCATION_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method '" + method + "' is not accessible", e);
+        }
+    }
 
+    private static Object invoke(MethodHandle methodHandle, Object target, Object argument) {
+        try {
+            return (Object) methodHandle.invokeExact(target, argument);
+        } catch (Throwable t) {
+            ReflectionUtils.rethrowRuntimeException(t);
+            return null;
+        }
     }
 
     private Object getBeanByClassName(String fullyQualifiedClassName) {
@@ -141,25 +241,6 @@ public class AggregateDomainEventAdapter implements ApplicationContextAware {
         return context.getBean(clazz);
     }
 
-    private DomainEventMirror domainEventMirrorForAggregateDomainEvent(AggregateDomainEvent<?,?> event) {
-        var aggregateDomainEventMirrorOptional = domainMirror.getDomainTypeMirror(event.getClass().getName());
-        return (DomainEventMirror) aggregateDomainEventMirrorOptional.orElse(null);
-    }
-
-    private RepositoryMirror repositoryMirrorForAggregateDomainEventMirror(DomainEventMirror aggregateDomainEventMirror) {
-        var aggregateRootMirrorOptional = domainMirror.getAllAggregateRootMirrors().stream()
-            .filter(a -> a.listensTo(aggregateDomainEventMirror))
-            .findFirst();
-        if(aggregateRootMirrorOptional.isPresent()){
-            var aggregateRootMirror = aggregateRootMirrorOptional.get();
-            return domainMirror.getAllRepositoryMirrors().stream()
-                .filter(r -> r.getManagedAggregate().isPresent()
-                    && r.getManagedAggregate().get().equals(aggregateRootMirror))
-                .findFirst().orElse(null);
-        }
-        return null;
-    }
-
     /**
      * Sets the {@link ApplicationContext} instance to the current object.
      * This method is part of the {@link ApplicationContextAware} interface
@@ -175,4 +256,16 @@ public class AggregateDomainEventAdapter implements ApplicationContextAware {
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.context = applicationContext;
     }
+
+    private record RepositoryKey(Class<?> eventType, Class<?> idType) {
+    }
+
+    private record AggregateKey(Class<?> eventType, Class<?> aggregateType) {
+    }
+
+    private record RepositoryBinding(Object repository, Class<?> repositoryTargetClass, MethodHandle findById) {
+    }
+
+    private record AggregateBinding(MethodHandle listener, MethodHandle update) {
+    }
 }
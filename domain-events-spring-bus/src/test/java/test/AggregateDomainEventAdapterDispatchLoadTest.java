@@ -0,0 +1,52 @@
+package test;
+
+import io.domainlifecycles.events.spring.listeners.AggregateDomainEventAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the per event dispatch overhead of the {@link AggregateDomainEventAdapter} for a domain with
+ * several hundred aggregates, of which only one listens to the dispatched event. Run by the loadTest task.
+ */
+@Slf4j
+@Tag("load")
+public class AggregateDomainEventAdapterDispatchLoadTest {
+
+    private static final int SYNTHETIC_AGGREGATES = 500;
+    private static final int WARMUP_EVENTS = 20_000;
+    private static final int MEASURED_EVENTS = 100_000;
+
+    @Test
+    void testDispatchWithHundredsOfAggregates(){
+        // given
+        var domainMirror = AggregateDomainEventAdapterDispatchTest.domainMirrorWithSyntheticAggregates(SYNTHETIC_AGGREGATES);
+        var repository = new ARepository();
+        var context = mock(ApplicationContext.class);
+        when(context.getBean(ARepository.class)).thenReturn(repository);
+        var adapter = new AggregateDomainEventAdapter(domainMirror);
+        adapter.setApplicationContext(context);
+        var targetId = new AnAggregate.AggregateId(1L);
+        for (int i = 0; i < WARMUP_EVENTS; i++) {
+            adapter.onAggregateDomainEvent(new AnAggregateDomainEvent("Warmup", targetId));
+        }
+
+        //when
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            adapter.onAggregateDomainEvent(new AnAggregateDomainEvent("Measured", targetId));
+        }
+        var durationNanos = System.nanoTime() - start;
+        log.info("Dispatched {} aggregate domain events with {} aggregates in {}ms, {}ns per event",
+            MEASURED_EVENTS, SYNTHETIC_AGGREGATES + 1, durationNanos / 1_000_000, durationNanos / MEASURED_EVENTS);
+
+        //then
+        assertThat(repository.findById(targetId).orElseThrow().received)
+            .hasSize(WARMUP_EVENTS + MEASURED_EVENTS);
+    }
+}
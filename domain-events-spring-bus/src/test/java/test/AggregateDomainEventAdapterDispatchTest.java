@@ -0,0 +1,95 @@
+package test;
+
+import io.domainlifecycles.events.spring.listeners.AggregateDomainEventAdapter;
+import io.domainlifecycles.mirror.api.AggregateRootMirror;
+import io.domainlifecycles.mirror.api.DomainEventMirror;
+import io.domainlifecycles.mirror.api.DomainMirror;
+import io.domainlifecycles.mirror.api.DomainType;
+import io.domainlifecycles.mirror.api.MethodMirror;
+import io.domainlifecycles.mirror.api.RepositoryMirror;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the {@link AggregateDomainEventAdapter} resolves repositories and listener methods once per type
+ * and dispatches to the right aggregate, in a domain with further aggregates listening to other events.
+ */
+public class AggregateDomainEventAdapterDispatchTest {
+
+    @Test
+    void testDispatchResolvesBindingsOncePerType(){
+        // given
+        var domainMirror = domainMirrorWithSyntheticAggregates(10);
+        var repository = new ARepository();
+        var context = mock(ApplicationContext.class);
+        when(context.getBean(ARepository.class)).thenReturn(repository);
+        var adapter = new AggregateDomainEventAdapter(domainMirror);
+        adapter.setApplicationContext(context);
+        var firstId = new AnAggregate.AggregateId(1L);
+        var secondId = new AnAggregate.AggregateId(3L);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            adapter.onAggregateDomainEvent(new AnAggregateDomainEvent("First-" + i, firstId));
+            adapter.onAggregateDomainEvent(new AnAggregateDomainEvent("Second-" + i, secondId));
+        }
+
+        //then
+        assertThat(repository.findById(firstId).orElseThrow().received)
+            .extracting(e -> ((AnAggregateDomainEvent) e).message())
+            .containsExactly("First-0", "First-1", "First-2");
+        assertThat(repository.findById(secondId).orElseThrow().received)
+            .extracting(e -> ((AnAggregateDomainEvent) e).message())
+            .containsExactly("Second-0", "Second-1", "Second-2");
+        verify(domainMirror, times(1)).getAllAggregateRootMirrors();
+        verify(domainMirror, times(1)).getAllRepositoryMirrors();
+        verify(context, times(1)).getBean(ARepository.class);
+        verify(domainMirror, times(1)).getDomainTypeMirror(AnAggregate.class.getName());
+    }
+
+    static DomainMirror domainMirrorWithSyntheticAggregates(int count) {
+        var testDomainMirror = new ReflectiveDomainMirrorFactory("test").initializeDomainMirror();
+        var aggregateRootMirrors = new ArrayList<AggregateRootMirror>();
+        var repositoryMirrors = new ArrayList<RepositoryMirror>();
+        for (int i = 0; i < count; i++) {
+            var aggregateRootMirror = syntheticAggregateRootMirror(i);
+            aggregateRootMirrors.add(aggregateRootMirror);
+            var repositoryMirror = mock(RepositoryMirror.class);
+            when(repositoryMirror.getTypeName()).thenReturn("synthetic.Repository" + i);
+            when(repositoryMirror.getManagedAggregate()).thenReturn(Optional.of(aggregateRootMirror));
+            repositoryMirrors.add(repositoryMirror);
+        }
+        aggregateRootMirrors.addAll(testDomainMirror.getAllAggregateRootMirrors());
+        repositoryMirrors.addAll(testDomainMirror.getAllRepositoryMirrors());
+        var domainMirror = mock(DomainMirror.class, delegatesTo(testDomainMirror));
+        doReturn(aggregateRootMirrors).when(domainMirror).getAllAggregateRootMirrors();
+        doReturn(repositoryMirrors).when(domainMirror).getAllRepositoryMirrors();
+        return domainMirror;
+    }
+
+    private static AggregateRootMirror syntheticAggregateRootMirror(int index) {
+        var domainEventMirror = mock(DomainEventMirror.class);
+        when(domainEventMirror.getTypeName()).thenReturn("synthetic.Event" + index);
+        var methodMirror = mock(MethodMirror.class);
+        when(methodMirror.getName()).thenReturn("onEvent" + index);
+        when(methodMirror.getListenedEvent()).thenReturn(Optional.of(domainEventMirror));
+        var aggregateRootMirror = mock(AggregateRootMirror.class);
+        when(aggregateRootMirror.getTypeName()).thenReturn("synthetic.Aggregate" + index);
+        when(aggregateRootMirror.getDomainType()).thenReturn(DomainType.AGGREGATE_ROOT);
+        when(aggregateRootMirror.getMethods()).thenReturn(List.of(methodMirror));
+        return aggregateRootMirror;
+    }
+}
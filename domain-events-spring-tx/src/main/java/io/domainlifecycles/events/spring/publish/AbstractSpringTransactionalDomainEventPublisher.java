@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+
 /**
  * Abstract class for a domain event publisher that handles transactions using Spring transaction synchronization.
  *
@@ -91,4 +93,42 @@ public abstract class AbstractSpringTransactionalDomainEventPublisher extends Ab
             }
         }
     }
+
+    /**
+     * Registers a single transaction synchronization for all given DomainEvents,
+     * which are sent as one batch in the configured transaction phase.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(List<DomainEvent> domainEvents) {
+        log.debug("Received {} DomainEvents for publishing", domainEvents.size());
+        if(!TransactionSynchronizationManager.isActualTransactionActive()) {
+            var msg = String.format("No transaction active, but active transaction is required! Event dispatching failed for %s", domainEvents);
+            log.error(msg);
+            throw DLCEventsException.fail(msg);
+        }
+        final var batch = List.copyOf(domainEvents);
+        if(afterCommit){
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        log.debug("Publisher transaction committed. Passing {} DomainEvents!", batch.size());
+                        sendBatch(batch);
+                    }
+                }
+            );
+        }else{
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        log.debug("Publisher transaction about to commit. Passing {} DomainEvents to DomainEventConsumer!", batch.size());
+                        sendBatch(batch);
+                    }
+                }
+            );
+        }
+    }
 }
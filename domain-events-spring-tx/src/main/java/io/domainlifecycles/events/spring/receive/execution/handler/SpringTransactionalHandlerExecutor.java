@@ -36,6 +36,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Map;
 import java.util.Objects;
@@ -115,4 +116,24 @@ public final class SpringTransactionalHandlerExecutor extends ReflectiveHandlerE
         }
     }
 
+    /**
+     * Checks the transaction the current thread participates in without starting a new one.
+     * The participating status is completed by a commit, which leaves the current transaction unchanged.
+     *
+     * @return true if the current transaction is marked rollback-only
+     */
+    @Override
+    public boolean isRollbackOnly() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setPropagationBehavior(TransactionDefinition.PROPAGATION_MANDATORY);
+        var status = transactionManager.getTransaction(definition);
+        try {
+            return status.isRollbackOnly();
+        } finally {
+            transactionManager.commit(status);
+        }
+    }
 }
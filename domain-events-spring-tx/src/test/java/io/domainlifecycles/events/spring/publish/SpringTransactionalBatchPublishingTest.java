@@ -0,0 +1,153 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.domainlifecycles.events.spring.publish;
+
+import io.domainlifecycles.domain.types.DomainEvent;
+import io.domainlifecycles.events.exception.DLCEventsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpringTransactionalBatchPublishingTest {
+
+    private RecordingPublisher afterCommitPublisher;
+    private RecordingPublisher beforeCommitPublisher;
+
+    @BeforeEach
+    public void init() {
+        afterCommitPublisher = new RecordingPublisher(true);
+        beforeCommitPublisher = new RecordingPublisher(false);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    public void testAfterCommitBatchRegistersSingleSynchronization() {
+        //given
+        var events = events(100);
+
+        //when
+        afterCommitPublisher.publishBatch(events);
+        var sentBeforeCommit = afterCommitPublisher.batches.size();
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertThat(synchronizations).hasSize(1);
+        assertThat(sentBeforeCommit).isEqualTo(0);
+        assertThat(afterCommitPublisher.batches).hasSize(1);
+        assertThat(afterCommitPublisher.batches.get(0)).containsExactlyElementsOf(events);
+        assertThat(afterCommitPublisher.singleSends).isEmpty();
+    }
+
+    @Test
+    public void testBeforeCommitBatchRegistersSingleSynchronization() {
+        //given
+        var events = events(100);
+
+        //when
+        beforeCommitPublisher.publishBatch(events);
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        var sentBeforeAfterCommit = beforeCommitPublisher.batches.size();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertThat(synchronizations).hasSize(1);
+        assertThat(sentBeforeAfterCommit).isEqualTo(1);
+        assertThat(beforeCommitPublisher.batches).hasSize(1);
+        assertThat(beforeCommitPublisher.batches.get(0)).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    public void testBatchIsNotAffectedByLaterChangesOfTheList() {
+        //given
+        var events = new ArrayList<>(events(10));
+
+        //when
+        afterCommitPublisher.publishBatch(events);
+        events.clear();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertThat(afterCommitPublisher.batches.get(0)).hasSize(10);
+    }
+
+    @Test
+    public void testBatchWithoutTransactionFails() {
+        //given
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        //then
+        assertThatThrownBy(() -> afterCommitPublisher.publishBatch(events(10)))
+            .isInstanceOf(DLCEventsException.class);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private static List<DomainEvent> events(int count) {
+        return IntStream.range(0, count)
+            .<DomainEvent>mapToObj(TestDomainEvent::new)
+            .toList();
+    }
+
+    private record TestDomainEvent(int number) implements DomainEvent {
+    }
+
+    private static class RecordingPublisher extends AbstractSpringTransactionalDomainEventPublisher {
+
+        private final List<List<DomainEvent>> batches = new ArrayList<>();
+        private final List<DomainEvent> singleSends = new ArrayList<>();
+
+        RecordingPublisher(boolean afterCommit) {
+            super(afterCommit);
+        }
+
+        @Override
+        protected void send(DomainEvent domainEvent) {
+            singleSends.add(domainEvent);
+        }
+
+        @Override
+        protected void sendBatch(List<DomainEvent> domainEvents) {
+            batches.add(List.copyOf(domainEvents));
+        }
+    }
+}
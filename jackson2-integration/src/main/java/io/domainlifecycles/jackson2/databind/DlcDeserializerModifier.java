@@ -81,6 +81,11 @@ public class DlcDeserializerModifier extends BeanDeserializerModifier {
      * the JSON-to-object transformation process.
      */
     private final EntityIdentityProvider entityIdentityProvider;
+    /**
+     * The container of precomputed deserialization plans, if entities are deserialized in streaming mode,
+     * null otherwise.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
 
     /**
      * Constructor for DlcDeserializerModifier
@@ -92,9 +97,26 @@ public class DlcDeserializerModifier extends BeanDeserializerModifier {
     public DlcDeserializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer,
                                    DomainObjectBuilderProvider domainObjectBuilderProvider,
                                    EntityIdentityProvider entityIdentityProvider) {
+        this(customizersContainer, domainObjectBuilderProvider, entityIdentityProvider, null);
+    }
+
+    /**
+     * Constructor for DlcDeserializerModifier
+     *
+     * @param customizersContainer The container for customizers.
+     * @param domainObjectBuilderProvider The provider for DomainObjectBuilders.
+     * @param entityIdentityProvider The provider for entity identities.
+     * @param planContainer The container for deserialization plans to deserialize entities in streaming mode,
+     *                      null to deserialize entities via a tree.
+     */
+    public DlcDeserializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer,
+                                   DomainObjectBuilderProvider domainObjectBuilderProvider,
+                                   EntityIdentityProvider entityIdentityProvider,
+                                   DlcJacksonModule.PlanContainer planContainer) {
         this.customizersContainer = customizersContainer;
         this.domainObjectBuilderProvider = domainObjectBuilderProvider;
         this.entityIdentityProvider = entityIdentityProvider;
+        this.planContainer = planContainer;
 
     }
 
@@ -111,7 +133,8 @@ public class DlcDeserializerModifier extends BeanDeserializerModifier {
                 beanDesc.getType(),
                 customizersContainer,
                 domainObjectBuilderProvider,
-                entityIdentityProvider
+                entityIdentityProvider,
+                planContainer != null ? planContainer.entityDeserializationPlan(beanDesc.getBeanClass()) : null
             );
         }
         if (Identity.class.isAssignableFrom(beanDesc.getBeanClass())) {
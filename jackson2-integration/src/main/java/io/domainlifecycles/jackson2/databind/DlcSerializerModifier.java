@@ -54,13 +54,32 @@ public class DlcSerializerModifier extends BeanSerializerModifier {
      */
     private final DlcJacksonModule.CustomizerContainer customizersContainer;
 
+    /**
+     * The container caching the serialization plans per domain type, if entities and value objects are
+     * serialized by cached plans, null otherwise.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
+
     /**
      * Initialize DlcSerializerModifier with the provided CustomizerContainer.
      *
      * @param customizersContainer the container for customizers used in serialization
      */
     public DlcSerializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer) {
+        this(customizersContainer, null);
+    }
+
+    /**
+     * Initialize DlcSerializerModifier with the provided CustomizerContainer and PlanContainer.
+     *
+     * @param customizersContainer the container for customizers used in serialization
+     * @param planContainer the container caching the serialization plans, null to look up the fields
+     *                      in the domain mirror on every call
+     */
+    public DlcSerializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer,
+                                 DlcJacksonModule.PlanContainer planContainer) {
         this.customizersContainer = customizersContainer;
+        this.planContainer = planContainer;
     }
 
     /**
@@ -73,12 +92,14 @@ public class DlcSerializerModifier extends BeanSerializerModifier {
                                               JsonSerializer<?> serializer) {
         if (Entity.class.isAssignableFrom(beanDesc.getBeanClass())) {
             return new EntitySerializer(
-                (JacksonMappingCustomizer<Entity>) customizersContainer.findCustomizer(beanDesc.getBeanClass()));
+                (JacksonMappingCustomizer<Entity>) customizersContainer.findCustomizer(beanDesc.getBeanClass()),
+                planContainer);
 
         }
         if (ValueObject.class.isAssignableFrom(beanDesc.getBeanClass())) {
             return new ValueObjectSerializer(
-                (JacksonMappingCustomizer<ValueObject>) customizersContainer.findCustomizer(beanDesc.getBeanClass()));
+                (JacksonMappingCustomizer<ValueObject>) customizersContainer.findCustomizer(beanDesc.getBeanClass()),
+                planContainer);
         }
         if (Identity.class.isAssignableFrom(beanDesc.getBeanClass())) {
             return new IdentitySerializer();
@@ -0,0 +1,208 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.jackson2.databind;
+
+import io.domainlifecycles.access.DlcAccess;
+import io.domainlifecycles.domain.types.Entity;
+import io.domainlifecycles.domain.types.ValueObject;
+import io.domainlifecycles.domain.types.internal.DomainObject;
+import io.domainlifecycles.jackson2.exception.DLCJacksonException;
+import io.domainlifecycles.mirror.api.EntityMirror;
+import io.domainlifecycles.mirror.api.FieldMirror;
+import io.domainlifecycles.mirror.api.ValueObjectMirror;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Precomputed plan for the serialization of an {@link Entity} or {@link ValueObject} type. It contains the
+ * ordered writers of all serialized fields, so that no mirror lookups are necessary while writing.
+ *
+ * The plan covers the same fields in the same order as the mirror based serialization: for entities the identity
+ * field, the basic fields, the value references and the entity references, for value objects the basic fields and
+ * the value references. Static and not publicly readable fields are skipped.
+ *
+ * @author Mario Herb
+ */
+@Deprecated
+public final class DomainObjectSerializationPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> domainObjectType;
+    private final List<FieldWriter> fieldWriters;
+    private final FieldWriter singleValuedFieldWriter;
+
+    private DomainObjectSerializationPlan(Class<?> domainObjectType,
+                                          List<FieldWriter> fieldWriters,
+                                          FieldWriter singleValuedFieldWriter) {
+        this.domainObjectType = domainObjectType;
+        this.fieldWriters = List.copyOf(fieldWriters);
+        this.singleValuedFieldWriter = singleValuedFieldWriter;
+    }
+
+    /**
+     * Creates the serialization plan for the given {@link EntityMirror}.
+     *
+     * @param entityType the entity type
+     * @param entityMirror the mirror of the entity type
+     * @return the serialization plan
+     */
+    public static DomainObjectSerializationPlan of(Class<?> entityType, EntityMirror entityMirror) {
+        var fieldWriters = new ArrayList<FieldWriter>();
+        entityMirror.getIdentityField().ifPresent(idField -> fieldWriters.add(fieldWriter(entityType, idField)));
+        addFieldWriters(entityType, entityMirror.getBasicFields(), fieldWriters);
+        addFieldWriters(entityType, entityMirror.getValueReferences(), fieldWriters);
+        addFieldWriters(entityType, entityMirror.getEntityReferences(), fieldWriters);
+        return new DomainObjectSerializationPlan(entityType, fieldWriters, null);
+    }
+
+    /**
+     * Creates the serialization plan for the given {@link ValueObjectMirror}.
+     *
+     * @param valueObjectType the value object type
+     * @param valueObjectMirror the mirror of the value object type
+     * @return the serialization plan
+     */
+    public static DomainObjectSerializationPlan of(Class<?> valueObjectType, ValueObjectMirror valueObjectMirror) {
+        var fieldWriters = new ArrayList<FieldWriter>();
+        addFieldWriters(valueObjectType, valueObjectMirror.getBasicFields(), fieldWriters);
+        addFieldWriters(valueObjectType, valueObjectMirror.getValueReferences(), fieldWriters);
+        FieldWriter singleValuedFieldWriter = null;
+        if (valueObjectMirror.isSingledValued()) {
+            singleValuedFieldWriter = fieldWriter(valueObjectType, valueObjectMirror.singledValuedField().get());
+        }
+        return new DomainObjectSerializationPlan(valueObjectType, fieldWriters, singleValuedFieldWriter);
+    }
+
+    private static void addFieldWriters(Class<?> domainObjectType,
+                                        List<? extends FieldMirror> fieldMirrors,
+                                        List<FieldWriter> fieldWriters) {
+        for (FieldMirror field : fieldMirrors) {
+            if (!field.isStatic() && field.isPublicReadable()) {
+                fieldWriters.add(fieldWriter(domainObjectType, field));
+            }
+        }
+    }
+
+    private static FieldWriter fieldWriter(Class<?> domainObjectType, FieldMirror fieldMirror) {
+        return new FieldWriter(fieldMirror.getName(), getter(domainObjectType, fieldMirror.getName()));
+    }
+
+    private static MethodHandle getter(Class<?> domainObjectType, String fieldName) {
+        for (Class<?> c = domainObjectType; c != null; c = c.getSuperclass()) {
+            try {
+                var field = c.getDeclaredField(fieldName);
+                if (!field.trySetAccessible()) {
+                    return null;
+                }
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (NoSuchFieldException e) {
+                // continue with the super class
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the entity or value object type
+     */
+    public Class<?> getDomainObjectType() {
+        return domainObjectType;
+    }
+
+    /**
+     * @return the writers of all serialized fields in serialization order
+     */
+    public List<FieldWriter> getFieldWriters() {
+        return fieldWriters;
+    }
+
+    /**
+     * @return the writer of the single value field, if the type is a single valued value object
+     */
+    public Optional<FieldWriter> getSingleValuedFieldWriter() {
+        return Optional.ofNullable(singleValuedFieldWriter);
+    }
+
+    /**
+     * Writer for a single field, containing the pre-encoded JSON property name and a getter for the field value.
+     * If no getter can be created for the field, the value is read via {@link DlcAccess}.
+     */
+    public static final class FieldWriter {
+
+        private final String fieldName;
+        private final SerializedString serializedName;
+        private final MethodHandle getter;
+
+        private FieldWriter(String fieldName, MethodHandle getter) {
+            this.fieldName = fieldName;
+            this.serializedName = new SerializedString(fieldName);
+            this.getter = getter;
+        }
+
+        /**
+         * @return the name of the field
+         */
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * @return the pre-encoded JSON property name of the field
+         */
+        public SerializableString getSerializedName() {
+            return serializedName;
+        }
+
+        /**
+         * Reads the value of the field.
+         *
+         * @param domainObject the domain object to read from
+         * @return the field value
+         */
+        public Object read(DomainObject domainObject) {
+            if (getter == null) {
+                return DlcAccess.accessorFor(domainObject).peek(fieldName);
+            }
+            try {
+                return (Object) getter.invokeExact((Object) domainObject);
+            } catch (Throwable t) {
+                throw DLCJacksonException.fail("Failed to read '%s' from '%s'!", t, fieldName,
+                    domainObject.getClass().getName());
+            }
+        }
+    }
+}
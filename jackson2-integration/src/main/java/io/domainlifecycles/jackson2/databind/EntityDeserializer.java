@@ -45,8 +45,11 @@ import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.api.EntityMirror;
 import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -55,11 +58,19 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link Domain} based deserialization of {@link Entity} instances.
  *
+ * By default, the JSON input of an entity is read into a tree first, which is then mapped field by field.
+ * If an {@link EntityDeserializationPlan} is given and no {@link JacksonMappingCustomizer} is registered for the
+ * entity type, the entity is deserialized in streaming mode instead: the tokens are read directly into the
+ * entity's {@link DomainObjectBuilder}, nested entities are read by their own deserializers from the same parser,
+ * and missing identities are provided per entity after its properties were read.
+ *
  * @author Mario Herb
  * @see StdDeserializer
  */
@@ -117,6 +128,15 @@ public class EntityDeserializer extends StdDeserializer<Entity<?>> {
      * reliability throughout the lifecycle of the deserialization process.
      */
     private final EntityIdentityProvider entityIdentityProvider;
+    /**
+     * The precomputed plan used for streaming deserialization, or null if the entity is deserialized
+     * via a tree.
+     */
+    private final EntityDeserializationPlan deserializationPlan;
+    /**
+     * The deserializers of the fields in the {@link #deserializationPlan}, resolved on first use.
+     */
+    private final Map<String, JsonDeserializer<Object>> fieldDeserializers = new ConcurrentHashMap<>();
 
 
     /**
@@ -131,11 +151,29 @@ public class EntityDeserializer extends StdDeserializer<Entity<?>> {
                               DlcJacksonModule.CustomizerContainer customizerContainer,
                               DomainObjectBuilderProvider domainObjectBuilderProvider,
                               EntityIdentityProvider entityIdentityProvider) {
+        this(valueType, customizerContainer, domainObjectBuilderProvider, entityIdentityProvider, null);
+    }
+
+    /**
+     * Initializes a new EntityDeserializer with provided parameters.
+     *
+     * @param valueType                The JavaType of the entity to be deserialized
+     * @param customizerContainer      The container for customizers
+     * @param domainObjectBuilderProvider The provider for DomainObjectBuilders
+     * @param entityIdentityProvider   The provider for entity identity information
+     * @param deserializationPlan      The plan for streaming deserialization, null to deserialize via a tree
+     */
+    public EntityDeserializer(JavaType valueType,
+                              DlcJacksonModule.CustomizerContainer customizerContainer,
+                              DomainObjectBuilderProvider domainObjectBuilderProvider,
+                              EntityIdentityProvider entityIdentityProvider,
+                              EntityDeserializationPlan deserializationPlan) {
         super(valueType);
         this.domainObjectBuilderProvider = domainObjectBuilderProvider;
         this.customizerContainer = customizerContainer;
         this.entityIdentityProvider = entityIdentityProvider;
         this.customizer = customizerContainer.findCustomizer(this._valueType.getRawClass());
+        this.deserializationPlan = deserializationPlan;
         entityMirror = Domain.entityMirrorFor(this._valueType.getRawClass().getName());
     }
 
@@ -149,6 +187,9 @@ public class EntityDeserializer extends StdDeserializer<Entity<?>> {
      */
     @Override
     public Entity<?> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        if (deserializationPlan != null && customizer == null) {
+            return deserializeStreaming(jsonParser, deserializationContext);
+        }
         JsonNode node = jsonParser.readValueAsTree();
         if (Entity.class.isAssignableFrom(this._valueType.getRawClass()) && !node.isNull()) {
             injectIds((ObjectNode) node);
@@ -341,13 +382,151 @@ public class EntityDeserializer extends StdDeserializer<Entity<?>> {
         }
     }
 
-    private Entity<?> buildWithExceptionHandling(DomainObjectMappingContext mappingContext) {
+    /**
+     * Entity deserializers in streaming mode only depend on their entity type, so they are cached by Jackson
+     * together with the field deserializers they resolved.
+     *
+     * @return true if this deserializer works in streaming mode
+     */
+    @Override
+    public boolean isCachable() {
+        return deserializationPlan != null && customizer == null;
+    }
+
+    private Entity<?> deserializeStreaming(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        var token = jsonParser.currentToken();
+        if (token == null) {
+            token = jsonParser.nextToken();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw DLCJacksonException.fail("Not able to read '%s' from token '%s' !",
+                deserializationPlan.getEntityTypeName(), token);
+        }
+        var domainObjectBuilder = domainObjectBuilderProvider.provide(deserializationPlan.getEntityTypeName());
+        var identityRead = false;
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            var fieldPlan = deserializationPlan.fieldPlan(jsonParser.currentName());
+            var valueToken = jsonParser.nextToken();
+            if (fieldPlan == null) {
+                jsonParser.skipChildren();
+                continue;
+            }
+            readAndSetEntityField(domainObjectBuilder, fieldPlan, jsonParser, deserializationContext);
+            if (valueToken != JsonToken.VALUE_NULL
+                && deserializationPlan.getIdentityFieldName().filter(fieldPlan.fieldName()::equals).isPresent()) {
+                identityRead = true;
+            }
+        }
+        if (!identityRead) {
+            provideIdentity(domainObjectBuilder);
+        }
+        return buildWithExceptionHandling(domainObjectBuilder);
+    }
+
+    private void readAndSetEntityField(DomainObjectBuilder<?> domainObjectBuilder,
+                                       EntityDeserializationPlan.FieldPlan fieldPlan,
+                                       JsonParser jsonParser,
+                                       DeserializationContext deserializationContext) {
         try {
-            if (!mappingContext.contextNode.isNull()) {
-                return (Entity<?>) mappingContext.domainObjectBuilder.build();
+            if (fieldPlan.arrayElements()) {
+                if (jsonParser.currentToken() == JsonToken.START_ARRAY) {
+                    domainObjectBuilder.setFieldValue(domainObjectBuilder
+                        .newCollectionInstanceForField(fieldPlan.fieldName()), fieldPlan.fieldName());
+                    while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                        setEntityField(domainObjectBuilder, fieldPlan,
+                            readFieldValue(fieldPlan, jsonParser, deserializationContext));
+                    }
+                } else {
+                    jsonParser.skipChildren();
+                }
             } else {
+                setEntityField(domainObjectBuilder, fieldPlan,
+                    readFieldValue(fieldPlan, jsonParser, deserializationContext));
+            }
+        } catch (IOException e) {
+            throw DLCJacksonException.fail("Not able to read and set field '%s' for '%s' !", e, fieldPlan.fieldName(),
+                fieldPlan.fieldType().getName());
+        }
+    }
+
+    private Object readFieldValue(EntityDeserializationPlan.FieldPlan fieldPlan,
+                                  JsonParser jsonParser,
+                                  DeserializationContext deserializationContext) throws IOException {
+        if (jsonParser.currentToken() == JsonToken.VALUE_NULL) {
+            if (fieldPlan.domainObject()) {
                 return null;
             }
+            return fieldDeserializer(fieldPlan, deserializationContext).getNullValue(deserializationContext);
+        }
+        if (fieldPlan.optional()) {
+            JsonNode jsonNode = deserializationContext.readTree(jsonParser);
+            Object value = deserializationContext.readTreeAsValue(jsonNode, fieldPlan.fieldType());
+            if (value instanceof Optional<?> opt) {
+                if (opt.isPresent()) {
+                    value = opt.get();
+                    if (!fieldPlan.fieldType().isAssignableFrom(value.getClass())) {
+                        value = deserializationContext.readTreeAsValue(jsonNode, fieldPlan.fieldType());
+                    }
+                } else {
+                    value = null;
+                }
+            }
+            return value;
+        }
+        return fieldDeserializer(fieldPlan, deserializationContext).deserialize(jsonParser, deserializationContext);
+    }
+
+    private JsonDeserializer<Object> fieldDeserializer(EntityDeserializationPlan.FieldPlan fieldPlan,
+                                                       DeserializationContext deserializationContext)
+        throws JsonMappingException {
+        var fieldDeserializer = fieldDeserializers.get(fieldPlan.fieldName());
+        if (fieldDeserializer == null) {
+            fieldDeserializer = deserializationContext
+                .findRootValueDeserializer(deserializationContext.constructType(fieldPlan.fieldType()));
+            fieldDeserializers.put(fieldPlan.fieldName(), fieldDeserializer);
+        }
+        return fieldDeserializer;
+    }
+
+    private void setEntityField(DomainObjectBuilder<?> domainObjectBuilder,
+                                EntityDeserializationPlan.FieldPlan fieldPlan,
+                                Object value) {
+        if (domainObjectBuilder.canInstantiateField(fieldPlan.fieldName())) {
+            if (fieldPlan.collection()) {
+                domainObjectBuilder.addValueToCollection(value, fieldPlan.fieldName());
+            } else {
+                domainObjectBuilder.setFieldValue(value, fieldPlan.fieldName());
+            }
+        }
+    }
+
+    private void provideIdentity(DomainObjectBuilder<?> domainObjectBuilder) {
+        if (entityIdentityProvider == null || deserializationPlan.getIdentityFieldName().isEmpty()) {
+            return;
+        }
+        var idFieldName = deserializationPlan.getIdentityFieldName().get();
+        Identity<?> identity = entityIdentityProvider.provideFor(deserializationPlan.getEntityTypeName());
+        if (identity != null && domainObjectBuilder.canInstantiateField(idFieldName)) {
+            domainObjectBuilder.setFieldValue(identity, idFieldName);
+        }
+    }
+
+    private Entity<?> buildWithExceptionHandling(DomainObjectMappingContext mappingContext) {
+        if (!mappingContext.contextNode.isNull()) {
+            return buildWithExceptionHandling(mappingContext.domainObjectBuilder);
+        } else {
+            return null;
+        }
+    }
+
+    private Entity<?> buildWithExceptionHandling(DomainObjectBuilder<?> domainObjectBuilder) {
+        try {
+            return (Entity<?>) domainObjectBuilder.build();
         } catch (Exception ex) {
             if (ex.getCause() != null && ex.getCause() instanceof InvocationTargetException iex) {
                 if (iex.getCause() != null && iex.getCause() instanceof DomainAssertionException) {
@@ -31,6 +31,7 @@ import io.domainlifecycles.access.DlcAccess;
 import io.domainlifecycles.domain.types.ValueObject;
 import io.domainlifecycles.jackson2.api.JacksonMappingCustomizer;
 import io.domainlifecycles.jackson2.api.MappingAction;
+import io.domainlifecycles.jackson2.module.DlcJacksonModule;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.api.FieldMirror;
 import io.domainlifecycles.mirror.api.ValueObjectMirror;
@@ -60,14 +61,33 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
      */
     private final JacksonMappingCustomizer<ValueObject> customizer;
 
+    /**
+     * The container caching the serialization plans per value object type, or null if the fields are looked up
+     * in the domain mirror on every call.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
+
     /**
      * Constructs a ValueObjectSerializer with the provided customizer.
      *
      * @param customizer The customizer used to customize the mapping process for ValueObject instances.
      */
     public ValueObjectSerializer(JacksonMappingCustomizer<ValueObject> customizer) {
+        this(customizer, null);
+    }
+
+    /**
+     * Constructs a ValueObjectSerializer with the provided customizer and plan container.
+     *
+     * @param customizer The customizer used to customize the mapping process for ValueObject instances.
+     * @param planContainer The container caching the serialization plans, null to look up the fields
+     *                      in the domain mirror on every call.
+     */
+    public ValueObjectSerializer(JacksonMappingCustomizer<ValueObject> customizer,
+                                 DlcJacksonModule.PlanContainer planContainer) {
         super(ValueObject.class);
         this.customizer = customizer;
+        this.planContainer = planContainer;
     }
 
     /**
@@ -86,7 +106,19 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
         if (customizer != null) {
             mappingAction = customizer.beforeObjectWrite(jsonGenerator, valueObject);
         }
-        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction) && planContainer != null) {
+            var serializationPlan = planContainer.serializationPlan(valueObject.getClass());
+            var singleValuedFieldWriter = serializationPlan.getSingleValuedFieldWriter();
+            if (singleValuedFieldWriter.isPresent() && !jsonGenerator.getOutputContext().inRoot()) {
+                jsonGenerator.writeObject(singleValuedFieldWriter.get().read(valueObject));
+            } else {
+                jsonGenerator.writeStartObject();
+                for (DomainObjectSerializationPlan.FieldWriter fieldWriter : serializationPlan.getFieldWriters()) {
+                    writeCustomized(jsonGenerator, fieldWriter, fieldWriter.read(valueObject));
+                }
+                jsonGenerator.writeEndObject();
+            }
+        } else if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
             var valueObjectMirror = Domain.valueObjectMirrorFor(valueObject);
             if (valueObjectMirror.isSingledValued() && !jsonGenerator.getOutputContext().inRoot()) {
                 Object value = DlcAccess.accessorFor(valueObject).peek(
@@ -132,4 +164,17 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
             jsonGenerator.writeObject(fieldValue);
         }
     }
+
+    private void writeCustomized(JsonGenerator jsonGenerator,
+                                 DomainObjectSerializationPlan.FieldWriter fieldWriter,
+                                 Object fieldValue) throws IOException {
+        MappingAction mappingAction = MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+        if (customizer != null) {
+            mappingAction = customizer.beforeFieldWrite(jsonGenerator, fieldWriter.getFieldName(), fieldValue);
+        }
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+            jsonGenerator.writeFieldName(fieldWriter.getSerializedName());
+            jsonGenerator.writeObject(fieldValue);
+        }
+    }
 }
@@ -28,10 +28,16 @@ package io.domainlifecycles.jackson2.module;
 
 import io.domainlifecycles.builder.DomainObjectBuilder;
 import io.domainlifecycles.builder.DomainObjectBuilderProvider;
+import io.domainlifecycles.domain.types.Entity;
 import io.domainlifecycles.domain.types.internal.DomainObject;
 import io.domainlifecycles.jackson2.api.JacksonMappingCustomizer;
 import io.domainlifecycles.jackson2.databind.DlcDeserializerModifier;
 import io.domainlifecycles.jackson2.databind.DlcSerializerModifier;
+import io.domainlifecycles.jackson2.databind.DomainObjectSerializationPlan;
+import io.domainlifecycles.jackson2.databind.EntityDeserializationPlan;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.api.EntityMirror;
+import io.domainlifecycles.mirror.api.ValueObjectMirror;
 import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +45,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.Serial;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DLC Jackson extension
@@ -79,6 +86,21 @@ public class DlcJacksonModule extends SimpleModule {
      */
     private final EntityIdentityProvider entityIdentityProvider;
 
+    /**
+     * Caches the per type plans, which are computed once from the domain mirror.
+     */
+    private final PlanContainer planContainer = new PlanContainer();
+
+    /**
+     * Whether entities are deserialized in streaming mode, see {@link #setStreamingDeserialization(boolean)}.
+     */
+    private boolean streamingDeserialization;
+
+    /**
+     * Whether entities and value objects are serialized by cached plans,
+     * see {@link #setCachedSerializationPlans(boolean)}.
+     */
+    private boolean cachedSerializationPlans;
 
     /**
      * Constructor for DlcJacksonModule.
@@ -109,8 +131,10 @@ public class DlcJacksonModule extends SimpleModule {
     public void setupModule(SetupContext context) {
         super.setupModule(context);
         context.addBeanDeserializerModifier(
-            new DlcDeserializerModifier(customizerContainer, domainObjectBuilderProvider, entityIdentityProvider));
-        context.addBeanSerializerModifier(new DlcSerializerModifier(customizerContainer));
+            new DlcDeserializerModifier(customizerContainer, domainObjectBuilderProvider, entityIdentityProvider,
+                streamingDeserialization ? planContainer : null));
+        context.addBeanSerializerModifier(
+            new DlcSerializerModifier(customizerContainer, cachedSerializationPlans ? planContainer : null));
     }
 
     /**
@@ -140,6 +164,46 @@ public class DlcJacksonModule extends SimpleModule {
         customizerContainer.addCustomizer(customizer, domainObjectType);
     }
 
+    /**
+     * Enables or disables the streaming deserialization of entities. In streaming mode the JSON tokens are
+     * read directly into the entities' builders, driven by per type plans precomputed from the domain mirror,
+     * instead of reading the whole input into a tree first. Entity types with a registered
+     * {@link JacksonMappingCustomizer} are still deserialized via a tree.
+     *
+     * Missing identities are provided per entity after its properties were read, so nested entities receive
+     * their identities before their parents. Disabled by default. Must be set before the module is registered.
+     *
+     * @param streamingDeserialization true to enable streaming deserialization
+     */
+    public void setStreamingDeserialization(boolean streamingDeserialization) {
+        this.streamingDeserialization = streamingDeserialization;
+    }
+
+    /**
+     * @return whether entities are deserialized in streaming mode
+     */
+    public boolean isStreamingDeserialization() {
+        return streamingDeserialization;
+    }
+
+    /**
+     * Enables or disables the serialization of entities and value objects by cached per type plans with
+     * pre-encoded property names and field getters, instead of walking the domain mirror on every call.
+     * The written JSON is the same in both cases. Disabled by default. Must be set before the module is registered.
+     *
+     * @param cachedSerializationPlans true to serialize by cached plans
+     */
+    public void setCachedSerializationPlans(boolean cachedSerializationPlans) {
+        this.cachedSerializationPlans = cachedSerializationPlans;
+    }
+
+    /**
+     * @return whether entities and value objects are serialized by cached plans
+     */
+    public boolean isCachedSerializationPlans() {
+        return cachedSerializationPlans;
+    }
+
     /**
      * Container for registered customizers.
      */
@@ -163,4 +227,35 @@ public class DlcJacksonModule extends SimpleModule {
 
     }
 
+    /**
+     * Container for the per type plans, which are computed lazily once per domain type and cached.
+     */
+    public static class PlanContainer {
+        private final Map<Class<?>, EntityDeserializationPlan> entityDeserializationPlans = new ConcurrentHashMap<>();
+        private final Map<Class<?>, DomainObjectSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+        /**
+         * Retrieves the deserialization plan for the given entity type.
+         *
+         * @param entityType the entity type
+         * @return the cached or newly computed deserialization plan
+         */
+        public EntityDeserializationPlan entityDeserializationPlan(Class<?> entityType) {
+            return entityDeserializationPlans.computeIfAbsent(entityType,
+                t -> EntityDeserializationPlan.of(Domain.entityMirrorFor(t.getName())));
+        }
+
+        /**
+         * Retrieves the serialization plan for the given entity or value object type.
+         *
+         * @param domainObjectType the entity or value object type
+         * @return the cached or newly computed serialization plan
+         */
+        public DomainObjectSerializationPlan serializationPlan(Class<?> domainObjectType) {
+            return serializationPlans.computeIfAbsent(domainObjectType, t -> Entity.class.isAssignableFrom(t)
+                ? DomainObjectSerializationPlan.of(t, Domain.<EntityMirror>entityMirrorFor(t.getName()))
+                : DomainObjectSerializationPlan.of(t, Domain.<ValueObjectMirror>valueObjectMirrorFor(t.getName())));
+        }
+    }
+
 }
@@ -0,0 +1,330 @@
+package io.domainlifecycles.jackson2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.domainlifecycles.builder.innerclass.InnerClassDomainObjectBuilderProvider;
+import io.domainlifecycles.domain.types.Identity;
+import io.domainlifecycles.jackson2.api.JacksonMappingCustomizer;
+import io.domainlifecycles.jackson2.api.MappingAction;
+import io.domainlifecycles.jackson2.databind.context.DomainObjectMappingContext;
+import io.domainlifecycles.jackson2.module.DlcJacksonModule;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import tests.shared.TestDataGenerator;
+import tests.shared.complete.onlinehandel.bestellung.ArtikelIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellKommentarBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellKommentarIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellPositionBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellPositionIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellStatusBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellStatusIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellungBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellungIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.LieferadresseBv3;
+import tests.shared.complete.onlinehandel.bestellung.LieferadresseIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.PreisBv3;
+import tests.shared.complete.onlinehandel.bestellung.WaehrungEnumBv3;
+import tests.shared.persistence.domain.complex.TestRoot;
+import tests.shared.persistence.domain.multilevelvo.VoAggregateThreeLevel;
+import tests.shared.persistence.domain.optional.OptionalAggregate;
+import tests.shared.persistence.domain.simple.TestRootSimple;
+import tests.shared.persistence.domain.simple.TestRootSimpleId;
+import tests.shared.persistence.domain.valueobjectsNested.VoAggregateNested;
+import tests.shared.persistence.domain.valueobjectsPrimitive.VoAggregatePrimitive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the cached serialization plans and the streaming deserialization map the test domains
+ * exactly like the default mirror and tree based mapping and compares the throughput of both.
+ */
+public class PlanBasedMappingJacksonTest {
+
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(PlanBasedMappingJacksonTest.class);
+
+    private static final int LARGE_BESTELLUNG_POSITIONEN = 2_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+
+    private final ObjectMapper defaultObjectMapper;
+    private final ObjectMapper planBasedObjectMapper;
+
+    public PlanBasedMappingJacksonTest() {
+        Locale.setDefault(Locale.GERMAN);
+        Domain.initialize(new ReflectiveDomainMirrorFactory("tests"));
+        this.defaultObjectMapper = objectMapper(false);
+        this.planBasedObjectMapper = objectMapper(true);
+    }
+
+    private static ObjectMapper objectMapper(boolean planBased) {
+        var entityIdentityProvider = new EntityIdentityProvider() {
+
+            @Override
+            public Identity<?> provideFor(String entityTypeName) {
+                if (entityTypeName.equals(TestRootSimple.class.getName())) {
+                    return new TestRootSimpleId(1L);
+                } else if (entityTypeName.equals(BestellungBv3.class.getName())) {
+                    return new BestellungIdBv3(1L);
+                } else if (entityTypeName.equals(BestellPositionBv3.class.getName())) {
+                    return new BestellPositionIdBv3(1L);
+                } else if (entityTypeName.equals(LieferadresseBv3.class.getName())) {
+                    return new LieferadresseIdBv3(1L);
+                } else if (entityTypeName.equals(BestellKommentarBv3.class.getName())) {
+                    return new BestellKommentarIdBv3(1L);
+                } else if (entityTypeName.equals(BestellStatusBv3.class.getName())) {
+                    return new BestellStatusIdBv3(1L);
+                }
+                return null;
+            }
+        };
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityIdentityProvider);
+        module.setCachedSerializationPlans(planBased);
+        module.setStreamingDeserialization(planBased);
+        return JsonMapper.builder()
+            .addModule(module)
+            .addModule(new Jdk8Module())
+            .addModule(new ParameterNamesModule())
+            .addModule(new JavaTimeModule())
+            .build();
+    }
+
+    @Test
+    public void testIdenticalBestellung() throws Exception {
+        assertIdenticalMapping(TestDataGenerator.buildBestellungBv3(), BestellungBv3.class);
+    }
+
+    @Test
+    public void testIdenticalManyBestellungen() throws Exception {
+        //given
+        var bestellungen = TestDataGenerator.buildManyBestellungenBv3();
+        var json = defaultObjectMapper.writeValueAsString(bestellungen);
+
+        //when
+        var planBasedJson = planBasedObjectMapper.writeValueAsString(bestellungen);
+        var read = planBasedObjectMapper.readValue(json, new TypeReference<List<BestellungBv3>>() {
+        });
+
+        //then
+        assertThat(planBasedJson).isEqualTo(json);
+        assertThat(defaultObjectMapper.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    public void testIdenticalComplex() throws Exception {
+        assertIdenticalMapping(TestDataGenerator.buildTestRootComplex(), TestRoot.class);
+    }
+
+    @Test
+    public void testIdenticalOptional() throws Exception {
+        assertIdenticalMapping(TestDataGenerator.buildOptionalAggregateMax(), OptionalAggregate.class);
+        assertIdenticalMapping(TestDataGenerator.buildOptionalAggregateMin(), OptionalAggregate.class);
+    }
+
+    @Test
+    public void testIdenticalValueObjectAggregates() throws Exception {
+        assertIdenticalMapping(TestDataGenerator.buildVoPrimitiveComplete(), VoAggregatePrimitive.class);
+        assertIdenticalMapping(TestDataGenerator.buildVoPrimitiveEmpty(), VoAggregatePrimitive.class);
+        assertIdenticalMapping(TestDataGenerator.buildVoAggregateThreeLevelMax(), VoAggregateThreeLevel.class);
+        assertIdenticalMapping(TestDataGenerator.buildVoAggregateThreeLevelMin(), VoAggregateThreeLevel.class);
+        assertIdenticalMapping(TestDataGenerator.buildVoNestedComplete(), VoAggregateNested.class);
+        assertIdenticalMapping(TestDataGenerator.buildVoNestedEmpty(), VoAggregateNested.class);
+    }
+
+    @Test
+    public void testIdenticalIdProvisioning() throws Exception {
+        //given
+        String json = """
+            {
+              "name" : "Test",
+              "concurrencyVersion" : 0
+            }""";
+
+        //when
+        var read = planBasedObjectMapper.readValue(json, TestRootSimple.class);
+
+        //then
+        assertThat(read.getId()).isEqualTo(new TestRootSimpleId(1L));
+        assertThat(defaultObjectMapper.writeValueAsString(read))
+            .isEqualTo(defaultObjectMapper.writeValueAsString(defaultObjectMapper.readValue(json, TestRootSimple.class)));
+    }
+
+    @Test
+    public void testStreamingKeepsTreeModeForCustomizedEntity() throws Exception {
+        //given
+        var objectReads = new AtomicInteger();
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityTypeName -> null);
+        module.setStreamingDeserialization(true);
+        module.registerCustomizer(new JacksonMappingCustomizer<>(TestRootSimple.class) {
+            @Override
+            public MappingAction beforeObjectRead(DomainObjectMappingContext mappingContext, ObjectCodec codec) {
+                objectReads.incrementAndGet();
+                return MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+            }
+        }, TestRootSimple.class);
+        var customizedObjectMapper = JsonMapper.builder()
+            .addModule(module)
+            .build();
+        var json = defaultObjectMapper.writeValueAsString(TestDataGenerator.buildTestRootSimple());
+
+        //when
+        var read = customizedObjectMapper.readValue(json, TestRootSimple.class);
+
+        //then
+        assertThat(objectReads).hasValue(1);
+        assertThat(defaultObjectMapper.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    public void testCustomizedFieldWrite() throws Exception {
+        //given
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityTypeName -> null);
+        module.setCachedSerializationPlans(true);
+        module.registerCustomizer(new JacksonMappingCustomizer<>(TestRootSimple.class) {
+            @Override
+            public MappingAction beforeFieldWrite(JsonGenerator jsonGenerator, String fieldName, Object fieldValue) {
+                if ("name".equals(fieldName)) {
+                    try {
+                        jsonGenerator.writeStringField("title", fieldValue.toString());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return MappingAction.SKIP_DEFAULT_ACTION;
+                }
+                return MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+            }
+        }, TestRootSimple.class);
+        var customizedObjectMapper = JsonMapper.builder()
+            .addModule(module)
+            .build();
+        var testRootSimple = TestDataGenerator.buildTestRootSimple();
+
+        //when
+        var json = customizedObjectMapper.writeValueAsString(testRootSimple);
+
+        //then
+        assertThat(json).contains("\"title\":\"" + testRootSimple.getName() + "\"").doesNotContain("\"name\"");
+    }
+
+    @Test
+    public void testStreamingNull() throws Exception {
+        //given
+        var json = (ObjectNode) defaultObjectMapper.readTree(
+            defaultObjectMapper.writeValueAsString(TestDataGenerator.buildOptionalAggregateMax()));
+        json.putNull("optionalComplexValueObject");
+
+        //when
+        var nullEntity = planBasedObjectMapper.readValue("null", TestRootSimple.class);
+        var nullValueObject = planBasedObjectMapper.readValue("null", PreisBv3.class);
+        var streamed = planBasedObjectMapper.treeToValue(json, OptionalAggregate.class);
+
+        //then
+        assertThat(nullEntity).isNull();
+        assertThat(nullValueObject).isNull();
+        assertThat(streamed.getOptionalComplexValueObject()).isEmpty();
+        assertThat(defaultObjectMapper.writeValueAsString(streamed))
+            .isEqualTo(defaultObjectMapper.writeValueAsString(defaultObjectMapper.treeToValue(json, OptionalAggregate.class)));
+    }
+
+    @Tag("load")
+    @Test
+    public void testLargeBestellungThroughput() throws Exception {
+        //given
+        var bestellung = largeBestellung(LARGE_BESTELLUNG_POSITIONEN);
+        var json = defaultObjectMapper.writeValueAsString(bestellung);
+
+        //when
+        var defaultWrite = measure(() -> defaultObjectMapper.writeValueAsBytes(bestellung));
+        var planBasedWrite = measure(() -> planBasedObjectMapper.writeValueAsBytes(bestellung));
+        var defaultRead = measure(() -> defaultObjectMapper.readValue(json, BestellungBv3.class));
+        var planBasedRead = measure(() -> planBasedObjectMapper.readValue(json, BestellungBv3.class));
+
+        //then
+        log.info("Wrote a BestellungBv3 with {} positions ({} KiB): default {} writes/s, {} KiB/write; "
+                + "plan based {} writes/s, {} KiB/write",
+            LARGE_BESTELLUNG_POSITIONEN, json.length() / 1024, defaultWrite[0], defaultWrite[1] / 1024,
+            planBasedWrite[0], planBasedWrite[1] / 1024);
+        log.info("Read a BestellungBv3 with {} positions ({} KiB): default {} reads/s, {} KiB/read; "
+                + "streaming {} reads/s, {} KiB/read",
+            LARGE_BESTELLUNG_POSITIONEN, json.length() / 1024, defaultRead[0], defaultRead[1] / 1024,
+            planBasedRead[0], planBasedRead[1] / 1024);
+        assertThat(planBasedObjectMapper.writeValueAsString(bestellung)).isEqualTo(json);
+    }
+
+    private <T> void assertIdenticalMapping(T domainObject, Class<T> type) throws Exception {
+        var json = defaultObjectMapper.writeValueAsString(domainObject);
+        assertThat(planBasedObjectMapper.writeValueAsString(domainObject)).isEqualTo(json);
+        var read = planBasedObjectMapper.readValue(json, type);
+        assertThat(defaultObjectMapper.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    private static long[] measure(MappingRun run) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.run();
+        }
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            run.run();
+        }
+        var durationNanos = System.nanoTime() - start;
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new long[]{MEASURED_RUNS * 1_000_000_000L / durationNanos, allocated / MEASURED_RUNS};
+    }
+
+    private interface MappingRun {
+        void run() throws Exception;
+    }
+
+    private static BestellungBv3 largeBestellung(int positionen) {
+        var bestellung = TestDataGenerator.buildBestellungBv3();
+        var bestellPositionen = new ArrayList<BestellPositionBv3>();
+        var bestellKommentare = new ArrayList<BestellKommentarBv3>();
+        for (long i = 1; i <= positionen; i++) {
+            bestellPositionen.add(BestellPositionBv3.builder()
+                .setId(new BestellPositionIdBv3(i))
+                .setArtikelId(new ArtikelIdBv3(i))
+                .setStueckzahl((int) i)
+                .setStueckPreis(PreisBv3.builder()
+                    .setBetrag(BigDecimal.valueOf(i))
+                    .setWaehrung(WaehrungEnumBv3.EUR)
+                    .build())
+                .build());
+            bestellKommentare.add(BestellKommentarBv3.builder()
+                .setId(new BestellKommentarIdBv3(i))
+                .setKommentarAm(LocalDateTime.of(2021, 1, 1, 12, 0).plusMinutes(i))
+                .setKommentarText("Kommentar " + i)
+                .build());
+        }
+        return BestellungBv3.builder()
+            .setId(bestellung.getId())
+            .setKundennummer(bestellung.getKundennummer())
+            .setPrioritaet(bestellung.getPrioritaet())
+            .setLieferadresse(bestellung.getLieferadresse())
+            .setBestellStatus(bestellung.getBestellStatus())
+            .setBestellPositionen(bestellPositionen)
+            .setBestellKommentare(bestellKommentare)
+            .build();
+    }
+}
@@ -79,6 +79,11 @@ public class DlcDeserializerModifier extends ValueDeserializerModifier {
      * the JSON-to-object transformation process.
      */
     private final EntityIdentityProvider entityIdentityProvider;
+    /**
+     * The container of precomputed deserialization plans, if entities are deserialized in streaming mode,
+     * null otherwise.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
 
     /**
      * Constructor for DlcDeserializerModifier
@@ -90,9 +95,26 @@ public class DlcDeserializerModifier extends ValueDeserializerModifier {
     public DlcDeserializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer,
                                    DomainObjectBuilderProvider domainObjectBuilderProvider,
                                    EntityIdentityProvider entityIdentityProvider) {
+        this(customizersContainer, domainObjectBuilderProvider, entityIdentityProvider, null);
+    }
+
+    /**
+     * Constructor for DlcDeserializerModifier
+     *
+     * @param customizersContainer The container for customizers.
+     * @param domainObjectBuilderProvider The provider for DomainObjectBuilders.
+     * @param entityIdentityProvider The provider for entity identities.
+     * @param planContainer The container for deserialization plans to deserialize entities in streaming mode,
+     *                      null to deserialize entities via a tree.
+     */
+    public DlcDeserializerModifier(DlcJacksonModule.CustomizerContainer customizersContainer,
+                                   DomainObjectBuilderProvider domainObjectBuilderProvider,
+                                   EntityIdentityProvider entityIdentityProvider,
+                                   DlcJacksonModule.PlanContainer planContainer) {
         this.customizersContainer = customizersContainer;
         this.domainObjectBuilderProvider = domainObjectBuilderProvider;
         this.entityIdentityProvider = entityIdentityProvider;
+        this.planContainer = planContainer;
 
     }
 
@@ -106,7 +128,8 @@ public class DlcDeserializerModifier extends ValueDeserializerModifier {
             return new EntityDeserializer(beanDescRef.getType(),
                 customizersContainer,
                 domainObjectBuilderProvider,
-                entityIdentityProvider
+                entityIdentityProvider,
+                planContainer != null ? planContainer.entityDeserializationPlan(beanDescRef.getBeanClass()) : null
             );
         }
         if (Identity.class.isAssignableFrom(beanDescRef.getBeanClass())) {
@@ -0,0 +1,137 @@
+/*
+ *     ___
+ *     │   ╲                 _
+ *     │    ╲ ___ _ __  __ _(_)_ _
+ *     |     ╲ _ ╲ '  ╲╱ _` │ │ ' ╲
+ *     |_____╱___╱_│_│_╲__,_│_│_||_|
+ *     │ │  (_)╱ _│___ __ _  _ __│ |___ ___
+ *     │ │__│ │  _╱ -_) _│ ││ ╱ _│ ╱ -_|_-<
+ *     │____│_│_│ ╲___╲__│╲_, ╲__│_╲___╱__╱
+ *                      |__╱
+ *
+ *  Copyright 2019-2024 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package io.domainlifecycles.jackson3.databind;
+
+import io.domainlifecycles.access.DlcAccess;
+import io.domainlifecycles.domain.types.Entity;
+import io.domainlifecycles.domain.types.ValueObject;
+import io.domainlifecycles.mirror.api.EntityMirror;
+import io.domainlifecycles.mirror.api.FieldMirror;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Precomputed plan for the streaming deserialization of an {@link Entity} type. It maps each JSON property name
+ * to the information needed to read the property value and to set it on the entity's builder, so that no
+ * {@link EntityMirror} lookups are necessary while reading.
+ *
+ * The plan covers the same fields as the tree based deserialization: the identity field, the non-static basic
+ * fields, the non-static value references and the entity references.
+ *
+ * @author Mario Herb
+ */
+public final class EntityDeserializationPlan {
+
+    private final String entityTypeName;
+    private final String identityFieldName;
+    private final Map<String, FieldPlan> fieldPlans;
+
+    private EntityDeserializationPlan(String entityTypeName, String identityFieldName, Map<String, FieldPlan> fieldPlans) {
+        this.entityTypeName = entityTypeName;
+        this.identityFieldName = identityFieldName;
+        this.fieldPlans = fieldPlans;
+    }
+
+    /**
+     * Creates the deserialization plan for the given {@link EntityMirror}.
+     *
+     * @param entityMirror the mirror of the entity type
+     * @return the deserialization plan
+     */
+    public static EntityDeserializationPlan of(EntityMirror entityMirror) {
+        var fieldPlans = new HashMap<String, FieldPlan>();
+        String identityFieldName = null;
+        if (entityMirror.getIdentityField().isPresent()) {
+            var idField = entityMirror.getIdentityField().get();
+            identityFieldName = idField.getName();
+            fieldPlans.put(identityFieldName, fieldPlan(idField, false));
+        }
+        entityMirror.getBasicFields().stream()
+            .filter(fm -> !fm.isStatic())
+            .forEach(fm -> fieldPlans.putIfAbsent(fm.getName(), fieldPlan(fm, false)));
+        entityMirror.getValueReferences().stream()
+            .filter(vrm -> !vrm.isStatic())
+            .forEach(vrm -> fieldPlans.putIfAbsent(vrm.getName(), fieldPlan(vrm, vrm.getType().hasCollectionContainer())));
+        entityMirror.getEntityReferences()
+            .forEach(erm -> fieldPlans.putIfAbsent(erm.getName(), fieldPlan(erm, erm.getType().hasCollectionContainer())));
+        return new EntityDeserializationPlan(entityMirror.getTypeName(), identityFieldName, Map.copyOf(fieldPlans));
+    }
+
+    private static FieldPlan fieldPlan(FieldMirror fieldMirror, boolean arrayElements) {
+        var fieldType = DlcAccess.getClassForName(fieldMirror.getType().getTypeName());
+        return new FieldPlan(
+            fieldMirror.getName(),
+            fieldType,
+            ValueObject.class.isAssignableFrom(fieldType) || Entity.class.isAssignableFrom(fieldType),
+            arrayElements,
+            fieldMirror.getType().hasCollectionContainer(),
+            Optional.class.isAssignableFrom(fieldType)
+        );
+    }
+
+    /**
+     * @return the full qualified name of the entity type
+     */
+    public String getEntityTypeName() {
+        return entityTypeName;
+    }
+
+    /**
+     * @return the name of the identity field, if the entity has one
+     */
+    public Optional<String> getIdentityFieldName() {
+        return Optional.ofNullable(identityFieldName);
+    }
+
+    /**
+     * @param propertyName the JSON property name
+     * @return the plan for the field, or null if the property is not mapped to a field
+     */
+    public FieldPlan fieldPlan(String propertyName) {
+        return fieldPlans.get(propertyName);
+    }
+
+    /**
+     * Plan for reading a single field.
+     *
+     * @param fieldName the name of the field
+     * @param fieldType the type the JSON value is read as (the element type for collections)
+     * @param domainObject whether the type is a {@link ValueObject} or an {@link Entity}
+     * @param arrayElements whether the JSON value is an array whose elements are read one by one
+     * @param collection whether read values are added to the collection of the field instead of being set
+     * @param optional whether the type is {@link Optional}, so that the value must be buffered
+     */
+    public record FieldPlan(String fieldName,
+                            Class<?> fieldType,
+                            boolean domainObject,
+                            boolean arrayElements,
+                            boolean collection,
+                            boolean optional) {
+    }
+}
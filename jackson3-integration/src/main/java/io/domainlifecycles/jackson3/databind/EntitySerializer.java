@@ -30,6 +30,7 @@ import io.domainlifecycles.access.DlcAccess;
 import io.domainlifecycles.domain.types.Entity;
 import io.domainlifecycles.jackson3.api.JacksonMappingCustomizer;
 import io.domainlifecycles.jackson3.api.MappingAction;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.api.EntityMirror;
 import io.domainlifecycles.mirror.api.EntityReferenceMirror;
@@ -43,6 +44,9 @@ import tools.jackson.databind.ser.std.StdSerializer;
 /**
  * {@link Domain} based serialization of {@link Entity} instances.
  *
+ * If cached serialization plans are enabled, the fields are written by a {@link DomainObjectSerializationPlan},
+ * which is computed once per entity type.
+ *
  * @author Leon Völlinger
  * @author Mario Herb
  * @see StdSerializer
@@ -63,14 +67,32 @@ public class EntitySerializer extends StdSerializer<Entity> {
      */
     private final JacksonMappingCustomizer<Entity> customizer;
 
+    /**
+     * The container caching the serialization plans per entity type, or null if the fields are looked up
+     * in the domain mirror on every call.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
+
     /**
      * Constructs a new EntitySerializer with the provided customizer.
      *
      * @param customizer the JacksonMappingCustomizer used for mapping customizations
      */
     public EntitySerializer(JacksonMappingCustomizer<Entity> customizer) {
+        this(customizer, null);
+    }
+
+    /**
+     * Constructs a new EntitySerializer with the provided customizer and plan container.
+     *
+     * @param customizer the JacksonMappingCustomizer used for mapping customizations
+     * @param planContainer the container caching the serialization plans, null to look up the fields
+     *                      in the domain mirror on every call
+     */
+    public EntitySerializer(JacksonMappingCustomizer<Entity> customizer, DlcJacksonModule.PlanContainer planContainer) {
         super(Entity.class);
         this.customizer = customizer;
+        this.planContainer = planContainer;
     }
 
     /**
@@ -88,7 +110,15 @@ public class EntitySerializer extends StdSerializer<Entity> {
         if (customizer != null) {
             mappingAction = customizer.beforeObjectWrite(jsonGenerator, entity);
         }
-        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction) && planContainer != null) {
+            var serializationPlan = planContainer.serializationPlan(entity.getClass());
+
+            jsonGenerator.writeStartObject();
+            for (DomainObjectSerializationPlan.FieldWriter fieldWriter : serializationPlan.getFieldWriters()) {
+                writeCustomized(jsonGenerator, fieldWriter, fieldWriter.read(entity));
+            }
+            jsonGenerator.writeEndObject();
+        } else if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
             var entityMirror = Domain.entityMirrorFor(entity);
 
             jsonGenerator.writeStartObject();
@@ -150,5 +180,18 @@ public class EntitySerializer extends StdSerializer<Entity> {
         }
     }
 
+    private void writeCustomized(JsonGenerator jsonGenerator,
+                                 DomainObjectSerializationPlan.FieldWriter fieldWriter,
+                                 Object fieldValue) throws JacksonException {
+        MappingAction mappingAction = MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+        if (customizer != null) {
+            mappingAction = customizer.beforeFieldWrite(jsonGenerator, fieldWriter.getFieldName(), fieldValue);
+        }
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+            jsonGenerator.writeName(fieldWriter.getSerializedName());
+            jsonGenerator.writePOJO(fieldValue);
+        }
+    }
+
 
 }
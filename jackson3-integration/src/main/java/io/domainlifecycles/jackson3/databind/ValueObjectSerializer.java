@@ -30,6 +30,7 @@ import io.domainlifecycles.access.DlcAccess;
 import io.domainlifecycles.domain.types.ValueObject;
 import io.domainlifecycles.jackson3.api.JacksonMappingCustomizer;
 import io.domainlifecycles.jackson3.api.MappingAction;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
 import io.domainlifecycles.mirror.api.Domain;
 import io.domainlifecycles.mirror.api.FieldMirror;
 import io.domainlifecycles.mirror.api.ValueObjectMirror;
@@ -41,6 +42,9 @@ import tools.jackson.databind.ser.std.StdSerializer;
 /**
  * {@link Domain} based serialization of {@link ValueObject} instances.
  *
+ * If cached serialization plans are enabled, the fields are written by a {@link DomainObjectSerializationPlan},
+ * which is computed once per value object type.
+ *
  * @author Leon Völlinger
  * @author Mario Herb
  * @see StdSerializer
@@ -58,14 +62,33 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
      */
     private final JacksonMappingCustomizer<ValueObject> customizer;
 
+    /**
+     * The container caching the serialization plans per value object type, or null if the fields are looked up
+     * in the domain mirror on every call.
+     */
+    private final DlcJacksonModule.PlanContainer planContainer;
+
     /**
      * Constructs a ValueObjectSerializer with the provided customizer.
      *
      * @param customizer The customizer used to customize the mapping process for ValueObject instances.
      */
     public ValueObjectSerializer(JacksonMappingCustomizer<ValueObject> customizer) {
+        this(customizer, null);
+    }
+
+    /**
+     * Constructs a ValueObjectSerializer with the provided customizer and plan container.
+     *
+     * @param customizer The customizer used to customize the mapping process for ValueObject instances.
+     * @param planContainer The container caching the serialization plans, null to look up the fields
+     *                      in the domain mirror on every call.
+     */
+    public ValueObjectSerializer(JacksonMappingCustomizer<ValueObject> customizer,
+                                 DlcJacksonModule.PlanContainer planContainer) {
         super(ValueObject.class);
         this.customizer = customizer;
+        this.planContainer = planContainer;
     }
 
     /**
@@ -84,7 +107,19 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
         if (customizer != null) {
             mappingAction = customizer.beforeObjectWrite(jsonGenerator, valueObject);
         }
-        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction) && planContainer != null) {
+            var serializationPlan = planContainer.serializationPlan(valueObject.getClass());
+            var singleValuedFieldWriter = serializationPlan.getSingleValuedFieldWriter();
+            if (singleValuedFieldWriter.isPresent() && !jsonGenerator.streamWriteContext().inRoot()) {
+                jsonGenerator.writePOJO(singleValuedFieldWriter.get().read(valueObject));
+            } else {
+                jsonGenerator.writeStartObject();
+                for (DomainObjectSerializationPlan.FieldWriter fieldWriter : serializationPlan.getFieldWriters()) {
+                    writeCustomized(jsonGenerator, fieldWriter, fieldWriter.read(valueObject));
+                }
+                jsonGenerator.writeEndObject();
+            }
+        } else if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
             var valueObjectMirror = Domain.valueObjectMirrorFor(valueObject);
             if (valueObjectMirror.isSingledValued() && !jsonGenerator.streamWriteContext().inRoot()) {
                 Object value = DlcAccess.accessorFor(valueObject).peek(
@@ -130,4 +165,17 @@ public class ValueObjectSerializer extends StdSerializer<ValueObject> {
             jsonGenerator.writePOJO(fieldValue);
         }
     }
+
+    private void writeCustomized(JsonGenerator jsonGenerator,
+                                 DomainObjectSerializationPlan.FieldWriter fieldWriter,
+                                 Object fieldValue) throws JacksonException {
+        MappingAction mappingAction = MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+        if (customizer != null) {
+            mappingAction = customizer.beforeFieldWrite(jsonGenerator, fieldWriter.getFieldName(), fieldValue);
+        }
+        if (MappingAction.CONTINUE_WITH_DEFAULT_ACTION.equals(mappingAction)) {
+            jsonGenerator.writeName(fieldWriter.getSerializedName());
+            jsonGenerator.writePOJO(fieldValue);
+        }
+    }
 }
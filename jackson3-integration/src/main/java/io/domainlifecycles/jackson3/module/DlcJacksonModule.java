@@ -28,10 +28,16 @@ package io.domainlifecycles.jackson3.module;
 
 import io.domainlifecycles.builder.DomainObjectBuilder;
 import io.domainlifecycles.builder.DomainObjectBuilderProvider;
+import io.domainlifecycles.domain.types.Entity;
 import io.domainlifecycles.domain.types.internal.DomainObject;
 import io.domainlifecycles.jackson3.api.JacksonMappingCustomizer;
 import io.domainlifecycles.jackson3.databind.DlcDeserializerModifier;
 import io.domainlifecycles.jackson3.databind.DlcSerializerModifier;
+import io.domainlifecycles.jackson3.databind.DomainObjectSerializationPlan;
+import io.domainlifecycles.jackson3.databind.EntityDeserializationPlan;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.api.EntityMirror;
+import io.domainlifecycles.mirror.api.ValueObjectMirror;
 import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
 import tools.jackson.core.Version;
 import tools.jackson.databind.module.SimpleModule;
@@ -39,6 +45,7 @@ import tools.jackson.databind.module.SimpleModule;
 import java.io.Serial;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DLC Jackson extension
@@ -78,6 +85,21 @@ public class DlcJacksonModule extends SimpleModule {
      */
     private final EntityIdentityProvider entityIdentityProvider;
 
+    /**
+     * Caches the per type plans, which are computed once from the domain mirror.
+     */
+    private final PlanContainer planContainer = new PlanContainer();
+
+    /**
+     * Whether entities are deserialized in streaming mode, see {@link #setStreamingDeserialization(boolean)}.
+     */
+    private boolean streamingDeserialization;
+
+    /**
+     * Whether entities and value objects are serialized by cached plans,
+     * see {@link #setCachedSerializationPlans(boolean)}.
+     */
+    private boolean cachedSerializationPlans;
 
     /**
      * Constructor for DlcJacksonModule.
@@ -108,8 +130,10 @@ public class DlcJacksonModule extends SimpleModule {
     public void setupModule(SetupContext context) {
         super.setupModule(context);
         context.addDeserializerModifier(
-            new DlcDeserializerModifier(customizerContainer, domainObjectBuilderProvider, entityIdentityProvider));
-        context.addSerializerModifier(new DlcSerializerModifier(customizerContainer));
+            new DlcDeserializerModifier(customizerContainer, domainObjectBuilderProvider, entityIdentityProvider,
+                streamingDeserialization ? planContainer : null));
+        context.addSerializerModifier(
+            new DlcSerializerModifier(customizerContainer, cachedSerializationPlans ? planContainer : null));
     }
 
     /**
@@ -139,6 +163,46 @@ public class DlcJacksonModule extends SimpleModule {
         customizerContainer.addCustomizer(customizer, domainObjectType);
     }
 
+    /**
+     * Enables or disables the streaming deserialization of entities. In streaming mode the JSON tokens are
+     * read directly into the entities' builders, driven by per type plans precomputed from the domain mirror,
+     * instead of reading the whole input into a tree first. Entity types with a registered
+     * {@link JacksonMappingCustomizer} are still deserialized via a tree.
+     *
+     * Missing identities are provided per entity after its properties were read, so nested entities receive
+     * their identities before their parents. Disabled by default. Must be set before the module is registered.
+     *
+     * @param streamingDeserialization true to enable streaming deserialization
+     */
+    public void setStreamingDeserialization(boolean streamingDeserialization) {
+        this.streamingDeserialization = streamingDeserialization;
+    }
+
+    /**
+     * @return whether entities are deserialized in streaming mode
+     */
+    public boolean isStreamingDeserialization() {
+        return streamingDeserialization;
+    }
+
+    /**
+     * Enables or disables the serialization of entities and value objects by cached per type plans with
+     * pre-encoded property names and field getters, instead of walking the domain mirror on every call.
+     * The written JSON is the same in both cases. Disabled by default. Must be set before the module is registered.
+     *
+     * @param cachedSerializationPlans true to serialize by cached plans
+     */
+    public void setCachedSerializationPlans(boolean cachedSerializationPlans) {
+        this.cachedSerializationPlans = cachedSerializationPlans;
+    }
+
+    /**
+     * @return whether entities and value objects are serialized by cached plans
+     */
+    public boolean isCachedSerializationPlans() {
+        return cachedSerializationPlans;
+    }
+
     /**
      * Container for registered customizers.
      */
@@ -162,4 +226,36 @@ public class DlcJacksonModule extends SimpleModule {
 
     }
 
+    /**
+     * Container for the per type plans, which are computed lazily once per domain type and cached.
+     * The serialization plans are only used if enabled, the deserialization plans only in streaming mode.
+     */
+    public static class PlanContainer {
+        private final Map<Class<?>, EntityDeserializationPlan> entityDeserializationPlans = new ConcurrentHashMap<>();
+        private final Map<Class<?>, DomainObjectSerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+        /**
+         * Retrieves the deserialization plan for the given entity type.
+         *
+         * @param entityType the entity type
+         * @return the cached or newly computed deserialization plan
+         */
+        public EntityDeserializationPlan entityDeserializationPlan(Class<?> entityType) {
+            return entityDeserializationPlans.computeIfAbsent(entityType,
+                t -> EntityDeserializationPlan.of(Domain.entityMirrorFor(t.getName())));
+        }
+
+        /**
+         * Retrieves the serialization plan for the given entity or value object type.
+         *
+         * @param domainObjectType the entity or value object type
+         * @return the cached or newly computed serialization plan
+         */
+        public DomainObjectSerializationPlan serializationPlan(Class<?> domainObjectType) {
+            return serializationPlans.computeIfAbsent(domainObjectType, t -> Entity.class.isAssignableFrom(t)
+                ? DomainObjectSerializationPlan.of(t, Domain.<EntityMirror>entityMirrorFor(t.getName()))
+                : DomainObjectSerializationPlan.of(t, Domain.<ValueObjectMirror>valueObjectMirrorFor(t.getName())));
+        }
+    }
+
 }
@@ -0,0 +1,251 @@
+package io.domainlifecycles.jackson3;
+
+import io.domainlifecycles.builder.innerclass.InnerClassDomainObjectBuilderProvider;
+import io.domainlifecycles.domain.types.Identity;
+import io.domainlifecycles.jackson3.api.JacksonMappingCustomizer;
+import io.domainlifecycles.jackson3.api.MappingAction;
+import io.domainlifecycles.jackson3.databind.DomainObjectSerializationPlan;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.api.EntityMirror;
+import io.domainlifecycles.mirror.api.FieldMirror;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import tests.shared.TestDataGenerator;
+import tests.shared.complete.onlinehandel.bestellung.BestellungBv3;
+import tests.shared.complete.onlinehandel.bestellung.PreisBv3;
+import tests.shared.complete.onlinehandel.bestellung.WaehrungEnumBv3;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the precomputed serialization plans of entities and value objects write the test domains
+ * exactly like the default mirror based serialization and compares the throughput of both for REST style responses.
+ */
+public class SerializationPlanJacksonTest {
+
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(SerializationPlanJacksonTest.class);
+
+    private static final int PREISE = 20_000;
+    private static final int WARMUP_WRITES = 200;
+    private static final int MEASURED_WRITES = 500;
+
+    private final ObjectMapper defaultObjectMapper;
+    private final ObjectMapper planBasedObjectMapper;
+
+    public SerializationPlanJacksonTest() {
+        Locale.setDefault(Locale.GERMAN);
+        Domain.initialize(new ReflectiveDomainMirrorFactory("tests"));
+        this.defaultObjectMapper = objectMapper(false);
+        this.planBasedObjectMapper = objectMapper(true);
+    }
+
+    private static ObjectMapper objectMapper(boolean cachedSerializationPlans) {
+        var entityIdentityProvider = new EntityIdentityProvider() {
+
+            @Override
+            public Identity<?> provideFor(String entityTypeName) {
+                return null;
+            }
+        };
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityIdentityProvider);
+        module.setCachedSerializationPlans(cachedSerializationPlans);
+        return JsonMapper.builder()
+            .addModule(module)
+            .build();
+    }
+
+    @Test
+    public void testCachedSerializationPlansAreDisabledByDefault() {
+        //when
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider());
+
+        //then
+        assertThat(module.isCachedSerializationPlans()).isFalse();
+    }
+
+    @Test
+    public void testIdenticalBestellung() {
+        assertIdenticalSerialization(TestDataGenerator.buildBestellungBv3());
+    }
+
+    @Test
+    public void testIdenticalManyBestellungen() {
+        assertIdenticalSerialization(TestDataGenerator.buildManyBestellungenBv3());
+    }
+
+    @Test
+    public void testIdenticalComplex() {
+        assertIdenticalSerialization(TestDataGenerator.buildTestRootComplex());
+    }
+
+    @Test
+    public void testIdenticalOptional() {
+        assertIdenticalSerialization(TestDataGenerator.buildOptionalAggregateMax());
+        assertIdenticalSerialization(TestDataGenerator.buildOptionalAggregateMin());
+    }
+
+    @Test
+    public void testIdenticalValueObjectAggregates() {
+        assertIdenticalSerialization(TestDataGenerator.buildVoAggregateMax());
+        assertIdenticalSerialization(TestDataGenerator.buildVoAggregateMaxWithEntity());
+        assertIdenticalSerialization(TestDataGenerator.buildVoPrimitiveComplete());
+        assertIdenticalSerialization(TestDataGenerator.buildVoPrimitiveEmpty());
+        assertIdenticalSerialization(TestDataGenerator.buildVoAggregateThreeLevelMax());
+        assertIdenticalSerialization(TestDataGenerator.buildVoAggregateThreeLevelMin());
+        assertIdenticalSerialization(TestDataGenerator.buildVoNestedComplete());
+        assertIdenticalSerialization(TestDataGenerator.buildVoNestedEmpty());
+    }
+
+    @Test
+    public void testIdenticalValueObjectAtRoot() {
+        assertIdenticalSerialization(new PreisBv3(WaehrungEnumBv3.EUR, BigDecimal.TEN));
+    }
+
+    @Test
+    public void testEntitySerializationPlanFieldOrder() {
+        //given
+        EntityMirror entityMirror = Domain.entityMirrorFor(BestellungBv3.class.getName());
+
+        //when
+        var plan = new DlcJacksonModule.PlanContainer().serializationPlan(BestellungBv3.class);
+
+        //then
+        var expected = Stream.of(
+                entityMirror.getIdentityField().stream(),
+                entityMirror.getBasicFields().stream(),
+                entityMirror.getValueReferences().stream(),
+                entityMirror.getEntityReferences().stream())
+            .flatMap(s -> s)
+            .filter(f -> !f.isStatic() && f.isPublicReadable())
+            .map(FieldMirror::getName)
+            .toList();
+        assertThat(plan.getFieldWriters())
+            .extracting(DomainObjectSerializationPlan.FieldWriter::getFieldName)
+            .containsExactlyElementsOf(expected);
+        assertThat(plan.getSingleValuedFieldWriter()).isEmpty();
+    }
+
+    @Test
+    public void testSerializationPlanIsCached() {
+        //given
+        var planContainer = new DlcJacksonModule.PlanContainer();
+
+        //when
+        var first = planContainer.serializationPlan(PreisBv3.class);
+        var second = planContainer.serializationPlan(PreisBv3.class);
+
+        //then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void testSerializationPlanReadsFieldValues() {
+        //given
+        var preis = new PreisBv3(WaehrungEnumBv3.EUR, BigDecimal.TEN);
+        var plan = new DlcJacksonModule.PlanContainer().serializationPlan(PreisBv3.class);
+
+        //when
+        var values = plan.getFieldWriters().stream()
+            .map(fieldWriter -> fieldWriter.read(preis))
+            .toList();
+
+        //then
+        assertThat(values).containsExactlyInAnyOrder(WaehrungEnumBv3.EUR, BigDecimal.TEN);
+    }
+
+    @Test
+    public void testCustomizedFieldWrite() {
+        //given
+        var customizedModule = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityTypeName -> null);
+        customizedModule.setCachedSerializationPlans(true);
+        customizedModule.registerCustomizer(new JacksonMappingCustomizer<>(PreisBv3.class) {
+            @Override
+            public MappingAction beforeFieldWrite(JsonGenerator jsonGenerator, String fieldName, Object fieldValue) {
+                if ("waehrung".equals(fieldName)) {
+                    jsonGenerator.writeName("currency");
+                    jsonGenerator.writeString(fieldValue.toString());
+                    return MappingAction.SKIP_DEFAULT_ACTION;
+                }
+                return MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+            }
+        }, PreisBv3.class);
+        var customizedObjectMapper = JsonMapper.builder()
+            .addModule(customizedModule)
+            .build();
+
+        //when
+        var json = customizedObjectMapper.writeValueAsString(new PreisBv3(WaehrungEnumBv3.EUR, BigDecimal.TEN));
+
+        //then
+        assertThat(json).contains("\"currency\":\"EUR\"").doesNotContain("waehrung");
+    }
+
+    @Test
+    public void testAggregateResponseSerializationThroughput() {
+        //given
+        var bestellungen = TestDataGenerator.buildManyBestellungenBv3();
+
+        //when
+        var defaultWrite = measure(defaultObjectMapper, bestellungen);
+        var planBasedWrite = measure(planBasedObjectMapper, bestellungen);
+
+        //then
+        log.info("Wrote {} BestellungBv3 aggregates: default {} writes/s, {} bytes/write; "
+                + "plan based {} writes/s, {} bytes/write",
+            bestellungen.size(), defaultWrite[0], defaultWrite[1], planBasedWrite[0], planBasedWrite[1]);
+        assertThat(planBasedObjectMapper.writeValueAsString(bestellungen)).contains("\"kundennummer\":\"7777771\"");
+    }
+
+    @Test
+    public void testValueObjectHeavySerializationThroughput() {
+        //given
+        var preise = new ArrayList<PreisBv3>();
+        for (int i = 1; i <= PREISE; i++) {
+            preise.add(new PreisBv3(i % 2 == 0 ? WaehrungEnumBv3.EUR : WaehrungEnumBv3.USD, BigDecimal.valueOf(i, 2)));
+        }
+
+        //when
+        var defaultWrite = measure(defaultObjectMapper, preise);
+        var planBasedWrite = measure(planBasedObjectMapper, preise);
+
+        //then
+        log.info("Wrote {} PreisBv3 value objects: default {} writes/s, {} bytes/write; "
+                + "plan based {} writes/s, {} bytes/write",
+            PREISE, defaultWrite[0], defaultWrite[1], planBasedWrite[0], planBasedWrite[1]);
+        assertThat(planBasedObjectMapper.writeValueAsString(List.of(preise.get(0))))
+            .isEqualTo("[{\"betrag\":0.01,\"waehrung\":\"USD\"}]");
+    }
+
+    private void assertIdenticalSerialization(Object payload) {
+        assertThat(planBasedObjectMapper.writeValueAsString(payload))
+            .isEqualTo(defaultObjectMapper.writeValueAsString(payload));
+    }
+
+    private static long[] measure(ObjectMapper objectMapper, Object payload) {
+        for (int i = 0; i < WARMUP_WRITES; i++) {
+            objectMapper.writeValueAsBytes(payload);
+        }
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_WRITES; i++) {
+            objectMapper.writeValueAsBytes(payload);
+        }
+        var durationNanos = System.nanoTime() - start;
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new long[]{MEASURED_WRITES * 1_000_000_000L / durationNanos, allocated / MEASURED_WRITES};
+    }
+}
@@ -0,0 +1,322 @@
+package io.domainlifecycles.jackson3;
+
+import io.domainlifecycles.builder.innerclass.InnerClassDomainObjectBuilderProvider;
+import io.domainlifecycles.domain.types.Identity;
+import io.domainlifecycles.jackson3.api.JacksonMappingCustomizer;
+import io.domainlifecycles.jackson3.api.MappingAction;
+import io.domainlifecycles.jackson3.databind.context.DomainObjectMappingContext;
+import io.domainlifecycles.jackson3.module.DlcJacksonModule;
+import io.domainlifecycles.mirror.api.Domain;
+import io.domainlifecycles.mirror.reflect.ReflectiveDomainMirrorFactory;
+import io.domainlifecycles.persistence.provider.EntityIdentityProvider;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import tests.shared.TestDataGenerator;
+import tests.shared.complete.onlinehandel.bestellung.ArtikelIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellKommentarBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellKommentarIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellPositionBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellPositionIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellStatusBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellStatusIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellungBv3;
+import tests.shared.complete.onlinehandel.bestellung.BestellungIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.LieferadresseBv3;
+import tests.shared.complete.onlinehandel.bestellung.LieferadresseIdBv3;
+import tests.shared.complete.onlinehandel.bestellung.PreisBv3;
+import tests.shared.complete.onlinehandel.bestellung.WaehrungEnumBv3;
+import tests.shared.persistence.domain.complex.TestRoot;
+import tests.shared.persistence.domain.multilevelvo.VoAggregateThreeLevel;
+import tests.shared.persistence.domain.optional.OptionalAggregate;
+import tests.shared.persistence.domain.simple.TestRootSimple;
+import tests.shared.persistence.domain.simple.TestRootSimpleId;
+import tests.shared.persistence.domain.valueobjects.VoAggregateRoot;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the streaming deserialization of entities reads the same domain objects as the default
+ * tree based deserialization and compares the throughput of both modes.
+ */
+public class StreamingDeserializationJacksonTest {
+
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(StreamingDeserializationJacksonTest.class);
+
+    private static final int LARGE_BESTELLUNG_POSITIONEN = 2_000;
+    private static final int WARMUP_READS = 20;
+    private static final int MEASURED_READS = 50;
+
+    private final ObjectMapper treeObjectMapper;
+    private final ObjectMapper streamingObjectMapper;
+
+    public StreamingDeserializationJacksonTest() {
+        Locale.setDefault(Locale.GERMAN);
+        Domain.initialize(new ReflectiveDomainMirrorFactory("tests"));
+        this.treeObjectMapper = objectMapper(false);
+        this.streamingObjectMapper = objectMapper(true);
+    }
+
+    private static ObjectMapper objectMapper(boolean streamingDeserialization) {
+        var entityIdentityProvider = new EntityIdentityProvider() {
+
+            @Override
+            public Identity<?> provideFor(String entityTypeName) {
+                if (entityTypeName.equals(TestRootSimple.class.getName())) {
+                    return new TestRootSimpleId(1L);
+                } else if (entityTypeName.equals(BestellungBv3.class.getName())) {
+                    return new BestellungIdBv3(1L);
+                } else if (entityTypeName.equals(BestellPositionBv3.class.getName())) {
+                    return new BestellPositionIdBv3(1L);
+                } else if (entityTypeName.equals(LieferadresseBv3.class.getName())) {
+                    return new LieferadresseIdBv3(1L);
+                } else if (entityTypeName.equals(BestellKommentarBv3.class.getName())) {
+                    return new BestellKommentarIdBv3(1L);
+                } else if (entityTypeName.equals(BestellStatusBv3.class.getName())) {
+                    return new BestellStatusIdBv3(1L);
+                }
+                return null;
+            }
+        };
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityIdentityProvider);
+        module.setStreamingDeserialization(streamingDeserialization);
+        return JsonMapper.builder()
+            .addModule(module)
+            .build();
+    }
+
+    @Test
+    public void testStreamingBestellung() {
+        //given
+        var json = treeObjectMapper.writeValueAsString(TestDataGenerator.buildBestellungBv3());
+
+        //when
+        var streamed = streamingObjectMapper.readValue(json, BestellungBv3.class);
+
+        //then
+        assertThat(streamed)
+            .usingRecursiveComparison()
+            .ignoringAllOverriddenEquals()
+            .withStrictTypeChecking()
+            .isEqualTo(treeObjectMapper.readValue(json, BestellungBv3.class));
+        assertThat(treeObjectMapper.writeValueAsString(streamed)).isEqualTo(json);
+    }
+
+    @Test
+    public void testStreamingManyBestellungen() {
+        //given
+        var json = treeObjectMapper.writeValueAsString(TestDataGenerator.buildManyBestellungenBv3());
+
+        //when
+        var streamed = streamingObjectMapper.readValue(json, new TypeReference<List<BestellungBv3>>() {
+        });
+
+        //then
+        assertThat(treeObjectMapper.writeValueAsString(streamed)).isEqualTo(json);
+    }
+
+    @Test
+    public void testStreamingComplex() {
+        //given
+        var json = treeObjectMapper.writeValueAsString(TestDataGenerator.buildTestRootComplex());
+
+        //when
+        var streamed = streamingObjectMapper.readValue(json, TestRoot.class);
+
+        //then
+        assertThat(treeObjectMapper.writeValueAsString(streamed)).isEqualTo(json);
+    }
+
+    @Test
+    public void testStreamingOptional() {
+        //given
+        var jsonMax = treeObjectMapper.writeValueAsString(TestDataGenerator.buildOptionalAggregateMax());
+        var jsonMin = treeObjectMapper.writeValueAsString(TestDataGenerator.buildOptionalAggregateMin());
+
+        //when
+        var streamedMax = streamingObjectMapper.readValue(jsonMax, OptionalAggregate.class);
+        var streamedMin = streamingObjectMapper.readValue(jsonMin, OptionalAggregate.class);
+
+        //then
+        assertThat(treeObjectMapper.writeValueAsString(streamedMax)).isEqualTo(jsonMax);
+        assertThat(treeObjectMapper.writeValueAsString(streamedMin)).isEqualTo(jsonMin);
+    }
+
+    @Test
+    public void testStreamingValueObjectAggregates() {
+        assertStreamedIdentically(TestDataGenerator.buildVoAggregateMax(), VoAggregateRoot.class);
+        assertStreamedIdentically(TestDataGenerator.buildVoAggregateMin(), VoAggregateRoot.class);
+        assertStreamedIdentically(TestDataGenerator.buildVoAggregateMaxWithEntity(), VoAggregateRoot.class);
+        assertStreamedIdentically(TestDataGenerator.buildVoAggregateThreeLevelMax(), VoAggregateThreeLevel.class);
+        assertStreamedIdentically(TestDataGenerator.buildVoAggregateThreeLevelMin(), VoAggregateThreeLevel.class);
+    }
+
+    @Test
+    public void testStreamingKeepsTreeModeForCustomizedEntity() {
+        //given
+        var objectReads = new AtomicInteger();
+        var module = new DlcJacksonModule(new InnerClassDomainObjectBuilderProvider(), entityTypeName -> null);
+        module.setStreamingDeserialization(true);
+        module.registerCustomizer(new JacksonMappingCustomizer<>(TestRootSimple.class) {
+            @Override
+            public MappingAction beforeObjectRead(DomainObjectMappingContext mappingContext,
+                                                  ObjectReadContext readContext) {
+                objectReads.incrementAndGet();
+                return MappingAction.CONTINUE_WITH_DEFAULT_ACTION;
+            }
+        }, TestRootSimple.class);
+        var customizedObjectMapper = JsonMapper.builder()
+            .addModule(module)
+            .build();
+        var json = treeObjectMapper.writeValueAsString(TestDataGenerator.buildTestRootSimple());
+
+        //when
+        var read = customizedObjectMapper.readValue(json, TestRootSimple.class);
+
+        //then
+        assertThat(objectReads).hasValue(1);
+        assertThat(treeObjectMapper.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    public void testStreamingIdProvisioning() {
+        //given
+        String json = """
+            {
+              "prioritaet" : 1,
+              "kundennummer" : "777777",
+              "unbekannt" : { "a" : [ 1, 2, { "b" : null } ] },
+              "gesamtPreis" : {
+                "betrag" : 200,
+                "waehrung" : "EUR"
+              },
+              "lieferadresse" : {
+                "name" : "Thor",
+                "strasse" : "Hammerallee 7",
+                "postleitzahl" : "77777",
+                "ort" : "Donnerberg"
+              },
+              "bestellPositionen" : [ {
+                "artikelId" : 1,
+                "stueckzahl" : 100,
+                "stueckPreis" : {
+                  "betrag" : 1,
+                  "waehrung" : "EUR"
+                }
+              } ],
+              "bestellStatus" : {
+                "statusCode" : "INITIAL",
+                "statusAenderungAm" : "2021-01-01T12:01:00"
+              },
+              "bestellKommentare" : [ ]
+            }""";
+
+        //when
+        var streamed = streamingObjectMapper.readValue(json, BestellungBv3.class);
+
+        //then
+        assertThat(streamed.getId()).isEqualTo(new BestellungIdBv3(1L));
+        assertThat(streamed.getLieferadresse().getId()).isEqualTo(new LieferadresseIdBv3(1L));
+        assertThat(streamed.getBestellPositionen()).singleElement()
+            .extracting(BestellPositionBv3::getId)
+            .isEqualTo(new BestellPositionIdBv3(1L));
+        assertThat(treeObjectMapper.writeValueAsString(streamed))
+            .isEqualTo(treeObjectMapper.writeValueAsString(treeObjectMapper.readValue(json, BestellungBv3.class)));
+    }
+
+    @Test
+    public void testStreamingNull() {
+        //when
+        var streamed = streamingObjectMapper.readValue("null", TestRootSimple.class);
+
+        //then
+        assertThat(streamed).isNull();
+    }
+
+    @Test
+    public void testStreamingLargeBestellungThroughput() {
+        //given
+        var json = treeObjectMapper.writeValueAsString(largeBestellung(LARGE_BESTELLUNG_POSITIONEN));
+        for (int i = 0; i < WARMUP_READS; i++) {
+            treeObjectMapper.readValue(json, BestellungBv3.class);
+            streamingObjectMapper.readValue(json, BestellungBv3.class);
+        }
+
+        //when
+        var tree = measure(treeObjectMapper, json);
+        var streaming = measure(streamingObjectMapper, json);
+
+        //then
+        log.info("Read a BestellungBv3 with {} positions ({} KiB): tree {} reads/s, {} KiB/read; "
+                + "streaming {} reads/s, {} KiB/read",
+            LARGE_BESTELLUNG_POSITIONEN, json.length() / 1024, tree[0], tree[1] / 1024, streaming[0],
+            streaming[1] / 1024);
+        assertThat(treeObjectMapper.writeValueAsString(streamingObjectMapper.readValue(json, BestellungBv3.class)))
+            .isEqualTo(json);
+    }
+
+    private <T> void assertStreamedIdentically(T domainObject, Class<T> type) {
+        var json = treeObjectMapper.writeValueAsString(domainObject);
+        var streamed = streamingObjectMapper.readValue(json, type);
+        assertThat(streamed)
+            .usingRecursiveComparison()
+            .ignoringAllOverriddenEquals()
+            .withStrictTypeChecking()
+            .isEqualTo(treeObjectMapper.readValue(json, type));
+        assertThat(treeObjectMapper.writeValueAsString(streamed)).isEqualTo(json);
+    }
+
+    private static long[] measure(ObjectMapper objectMapper, String json) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_READS; i++) {
+            objectMapper.readValue(json, BestellungBv3.class);
+        }
+        var durationNanos = System.nanoTime() - start;
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new long[]{MEASURED_READS * 1_000_000_000L / durationNanos, allocated / MEASURED_READS};
+    }
+
+    private static BestellungBv3 largeBestellung(int positionen) {
+        var bestellung = TestDataGenerator.buildBestellungBv3();
+        var bestellPositionen = new ArrayList<BestellPositionBv3>();
+        var bestellKommentare = new ArrayList<BestellKommentarBv3>();
+        for (long i = 1; i <= positionen; i++) {
+            bestellPositionen.add(BestellPositionBv3.builder()
+                .setId(new BestellPositionIdBv3(i))
+                .setArtikelId(new ArtikelIdBv3(i))
+                .setStueckzahl((int) i)
+                .setStueckPreis(PreisBv3.builder()
+                    .setBetrag(BigDecimal.valueOf(i))
+                    .setWaehrung(WaehrungEnumBv3.EUR)
+                    .build())
+                .build());
+            bestellKommentare.add(BestellKommentarBv3.builder()
+                .setId(new BestellKommentarIdBv3(i))
+                .setKommentarAm(LocalDateTime.of(2021, 1, 1, 12, 0).plusMinutes(i))
+                .setKommentarText("Kommentar " + i)
+                .build());
+        }
+        return BestellungBv3.builder()
+            .setId(bestellung.getId())
+            .setKundennummer(bestellung.getKundennummer())
+            .setPrioritaet(bestellung.getPrioritaet())
+            .setLieferadresse(bestellung.getLieferadresse())
+            .setBestellStatus(bestellung.getBestellStatus())
+            .setBestellPositionen(bestellPositionen)
+            .setBestellKommentare(bestellKommentare)
+            .build();
+    }
+}